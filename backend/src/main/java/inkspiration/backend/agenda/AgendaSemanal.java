@@ -0,0 +1,148 @@
+package inkspiration.backend.agenda;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Horário de atendimento semanal já compilado: para cada dia da semana, os períodos
+ * de trabalho em minutos do dia, ordenados pelo início. É montado uma única vez a partir
+ * do JSON de {@code Disponibilidade.hrAtendimento} e não faz parsing nas consultas.
+ */
+public final class AgendaSemanal {
+
+    public static final int MINUTOS_POR_DIA = 24 * 60;
+
+    private static final int ULTIMO_MINUTO = MINUTOS_POR_DIA - 1;
+    private static final long NANOS_POR_MINUTO = 60_000_000_000L;
+    private static final int[] VAZIO = new int[0];
+
+    // Por DayOfWeek.ordinal(): [inicio0, fim0, inicio1, fim1, ...] em minutos do dia
+    private final int[][] periodos;
+    // Mesmos períodos com os sobrepostos e os contíguos (fim + 1 min >= início) unidos, usados na grade de horários
+    private final int[][] periodosConsolidados;
+
+    private AgendaSemanal(int[][] periodos, int[][] periodosConsolidados) {
+        this.periodos = periodos;
+        this.periodosConsolidados = periodosConsolidados;
+    }
+
+    /**
+     * Compila o mapa "Segunda" -> [{"inicio": "08:00", "fim": "12:00"}, ...].
+     * Dias com nome desconhecido e períodos sem início ou fim são ignorados.
+     */
+    public static AgendaSemanal compilar(Map<String, List<Map<String, String>>> horarios) {
+        int[][] periodos = new int[7][];
+        int[][] consolidados = new int[7][];
+        Arrays.fill(periodos, VAZIO);
+        Arrays.fill(consolidados, VAZIO);
+
+        if (horarios != null) {
+            for (DayOfWeek dia : DayOfWeek.values()) {
+                List<Map<String, String>> periodosDia = horarios.get(nomeDia(dia));
+                if (periodosDia == null) {
+                    continue;
+                }
+                List<int[]> intervalos = new ArrayList<>();
+                for (Map<String, String> periodo : periodosDia) {
+                    if (periodo.containsKey("inicio") && periodo.containsKey("fim")) {
+                        intervalos.add(new int[] {
+                            minutoDoDia(LocalTime.parse(periodo.get("inicio"))),
+                            minutoDoDia(LocalTime.parse(periodo.get("fim")))
+                        });
+                    }
+                }
+                intervalos.sort(Comparator.comparingInt((int[] intervalo) -> intervalo[0])
+                    .thenComparingInt(intervalo -> intervalo[1]));
+                periodos[dia.ordinal()] = achatar(intervalos);
+                consolidados[dia.ordinal()] = achatar(consolidar(intervalos));
+            }
+        }
+        return new AgendaSemanal(periodos, consolidados);
+    }
+
+    /**
+     * Nome do dia usado como chave no JSON de disponibilidade.
+     */
+    public static String nomeDia(DayOfWeek dia) {
+        switch (dia) {
+            case MONDAY: return "Segunda";
+            case TUESDAY: return "Terça";
+            case WEDNESDAY: return "Quarta";
+            case THURSDAY: return "Quinta";
+            case FRIDAY: return "Sexta";
+            case SATURDAY: return "Sábado";
+            case SUNDAY: return "Domingo";
+            default: return "";
+        }
+    }
+
+    public boolean trabalhaNoDia(DayOfWeek dia) {
+        return periodos[dia.ordinal()].length > 0;
+    }
+
+    /**
+     * Indica se início e fim caem dentro de um mesmo período de trabalho do dia
+     * (limites inclusivos; um período que termina às 23:59 vale até o fim do dia).
+     */
+    public boolean cobre(DayOfWeek dia, LocalTime inicio, LocalTime fim) {
+        long inicioNanos = inicio.toNanoOfDay();
+        long fimNanos = fim.toNanoOfDay();
+        int[] intervalos = periodos[dia.ordinal()];
+        for (int i = 0; i < intervalos.length; i += 2) {
+            long periodoInicio = intervalos[i] * NANOS_POR_MINUTO;
+            long periodoFim = intervalos[i + 1] == ULTIMO_MINUTO
+                ? LocalTime.MAX.toNanoOfDay()
+                : intervalos[i + 1] * NANOS_POR_MINUTO;
+            if (periodoInicio > inicioNanos) {
+                // Ordenados pelo início: nenhum período seguinte pode conter o horário
+                return false;
+            }
+            if (inicioNanos <= periodoFim && fimNanos >= periodoInicio && fimNanos <= periodoFim) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Períodos sobrepostos ou contíguos já unidos, em minutos do dia ([inicio0, fim0, inicio1, fim1, ...]),
+     * sem interseção e em ordem crescente.
+     * O array devolvido é compartilhado e não deve ser alterado.
+     */
+    public int[] periodosConsolidados(DayOfWeek dia) {
+        return periodosConsolidados[dia.ordinal()];
+    }
+
+    private static List<int[]> consolidar(List<int[]> intervalos) {
+        List<int[]> consolidados = new ArrayList<>();
+        int[] atual = null;
+        for (int[] intervalo : intervalos) {
+            // Ordenados pelo início: basta comparar com o fim do último período unido
+            if (atual != null && intervalo[0] <= atual[1] + 1) {
+                atual[1] = Math.max(atual[1], intervalo[1]);
+            } else {
+                atual = intervalo.clone();
+                consolidados.add(atual);
+            }
+        }
+        return consolidados;
+    }
+
+    private static int[] achatar(List<int[]> intervalos) {
+        int[] resultado = new int[intervalos.size() * 2];
+        for (int i = 0; i < intervalos.size(); i++) {
+            resultado[2 * i] = intervalos.get(i)[0];
+            resultado[2 * i + 1] = intervalos.get(i)[1];
+        }
+        return resultado;
+    }
+
+    private static int minutoDoDia(LocalTime horario) {
+        return horario.getHour() * 60 + horario.getMinute();
+    }
+}
@@ -0,0 +1,92 @@
+package inkspiration.backend.agenda;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import inkspiration.backend.entities.Agendamento;
+
+/**
+ * Gera os horários de início livres de uma {@link AgendaSemanal} em um intervalo de datas.
+ * Os candidatos (de hora em hora dentro de cada período consolidado) são produzidos em ordem
+ * crescente e confrontados com os agendamentos por varredura: cada agendamento entra uma vez
+ * em um heap ordenado pelo fim e sai dele quando termina antes do candidato atual.
+ */
+public final class GradeHorarios {
+
+    private static final int PASSO_MINUTOS = 60;
+
+    private final long[] inicios;
+    private final long[] fins;
+
+    /**
+     * @param ocupados agendamentos que bloqueiam a agenda no intervalo consultado
+     */
+    public GradeHorarios(Collection<Agendamento> ocupados) {
+        long[][] intervalos = new long[ocupados.size()][];
+        int i = 0;
+        for (Agendamento agendamento : ocupados) {
+            intervalos[i++] = new long[] { segundos(agendamento.getDtInicio()), segundos(agendamento.getDtFim()) };
+        }
+        Arrays.sort(intervalos, (a, b) -> Long.compare(a[0], b[0]));
+        this.inicios = new long[intervalos.length];
+        this.fins = new long[intervalos.length];
+        for (i = 0; i < intervalos.length; i++) {
+            inicios[i] = intervalos[i][0];
+            fins[i] = intervalos[i][1];
+        }
+    }
+
+    /**
+     * Horários de início, de {@code dataInicio} a {@code dataFim} (inclusive), em que um serviço
+     * de {@code duracaoMinutos} cabe em um período de trabalho e não encosta em nenhum agendamento.
+     * Candidatos anteriores a {@code naoAntesDe} são descartados.
+     */
+    public List<LocalDateTime> horariosLivres(AgendaSemanal agenda, LocalDate dataInicio, LocalDate dataFim,
+                                              int duracaoMinutos, LocalDateTime naoAntesDe) {
+        List<LocalDateTime> livres = new ArrayList<>();
+        PriorityQueue<Long> finsAtivos = new PriorityQueue<>();
+        long limiteInferior = naoAntesDe != null ? segundos(naoAntesDe) : Long.MIN_VALUE;
+        int proximo = 0;
+
+        for (LocalDate data = dataInicio; !data.isAfter(dataFim); data = data.plusDays(1)) {
+            int[] periodos = agenda.periodosConsolidados(data.getDayOfWeek());
+            long inicioDia = segundos(data.atStartOfDay());
+
+            for (int p = 0; p < periodos.length; p += 2) {
+                // Um período que termina às 23:59 vai até a meia-noite
+                int fimTrabalho = periodos[p + 1] == AgendaSemanal.MINUTOS_POR_DIA - 1
+                    ? AgendaSemanal.MINUTOS_POR_DIA : periodos[p + 1];
+                int horarioLimite = fimTrabalho - duracaoMinutos;
+
+                for (int minuto = periodos[p]; minuto <= horarioLimite; minuto += PASSO_MINUTOS) {
+                    long inicio = inicioDia + minuto * 60L;
+                    long fim = inicio + duracaoMinutos * 60L;
+
+                    // Agendamentos que começam antes do fim do candidato entram no heap uma única vez
+                    while (proximo < inicios.length && inicios[proximo] < fim) {
+                        finsAtivos.add(fins[proximo++]);
+                    }
+                    // Os que terminaram antes do início não alcançam nenhum candidato seguinte
+                    while (!finsAtivos.isEmpty() && finsAtivos.peek() < inicio) {
+                        finsAtivos.poll();
+                    }
+
+                    if (finsAtivos.isEmpty() && inicio >= limiteInferior) {
+                        livres.add(data.atStartOfDay().plusMinutes(minuto));
+                    }
+                }
+            }
+        }
+        return livres;
+    }
+
+    private static long segundos(LocalDateTime dataHora) {
+        return dataHora.toEpochSecond(ZoneOffset.UTC);
+    }
+}
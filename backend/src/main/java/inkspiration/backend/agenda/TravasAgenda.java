@@ -0,0 +1,66 @@
+package inkspiration.backend.agenda;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Travas em faixas (striped locks) que serializam, dentro da instância, as marcações na agenda
+ * de um mesmo profissional. Profissionais que caem em faixas diferentes seguem em paralelo.
+ * Quando há transação ativa a trava só é liberada após o commit ou rollback, para que a próxima
+ * marcação já enxergue o agendamento gravado. Entre instâncias da aplicação a garantia fica
+ * por conta do bloqueio da linha do profissional no banco.
+ */
+public final class TravasAgenda {
+
+    private static final int FAIXAS_PADRAO = 256;
+
+    private final ReentrantLock[] travas;
+
+    public TravasAgenda() {
+        this(FAIXAS_PADRAO);
+    }
+
+    public TravasAgenda(int faixas) {
+        if (faixas <= 0 || Integer.bitCount(faixas) != 1) {
+            throw new IllegalArgumentException("O número de faixas deve ser uma potência de 2");
+        }
+        this.travas = new ReentrantLock[faixas];
+        for (int i = 0; i < faixas; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Executa a operação com a agenda do profissional travada.
+     */
+    public <T> T executar(Long idProfissional, Supplier<T> operacao) {
+        ReentrantLock trava = travaDe(idProfissional);
+        trava.lock();
+        boolean liberarNoCommit = false;
+        try {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        trava.unlock();
+                    }
+                });
+                liberarNoCommit = true;
+            }
+            return operacao.get();
+        } finally {
+            if (!liberarNoCommit) {
+                trava.unlock();
+            }
+        }
+    }
+
+    ReentrantLock travaDe(Long idProfissional) {
+        int hash = Long.hashCode(idProfissional);
+        hash ^= hash >>> 16;
+        return travas[hash & (travas.length - 1)];
+    }
+}
@@ -0,0 +1,29 @@
+package inkspiration.backend.armazenamento;
+
+import java.io.IOException;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * Armazenamento de conteúdo binário endereçado pelo hash SHA-256 (hexadecimal) do próprio conteúdo.
+ * Como a chave é derivada dos bytes, gravar a mesma chave duas vezes não tem efeito.
+ * Implementações para armazenamento de objetos (S3, GCS) só precisam respeitar esse contrato.
+ */
+public interface ArmazenamentoBlob {
+
+    void salvar(String hash, byte[] conteudo) throws IOException;
+
+    boolean existe(String hash);
+
+    /**
+     * Recurso para leitura do conteúdo, sem carregá-lo em memória.
+     *
+     * @throws java.io.FileNotFoundException se não houver conteúdo com esse hash
+     */
+    Resource carregar(String hash) throws IOException;
+
+    /**
+     * @return {@code true} se havia conteúdo com esse hash
+     */
+    boolean remover(String hash) throws IOException;
+}
@@ -0,0 +1,94 @@
+package inkspiration.backend.armazenamento;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Armazenamento em disco local. Cada conteúdo fica em {@code <diretorio>/ab/cd/<hash>},
+ * usando os dois primeiros bytes do hash como subdiretórios para não concentrar milhares
+ * de arquivos em uma única pasta.
+ */
+@Component
+@ConditionalOnProperty(name = "imagens.armazenamento.tipo", havingValue = "local", matchIfMissing = true)
+public class ArmazenamentoBlobLocal implements ArmazenamentoBlob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArmazenamentoBlobLocal.class);
+    private static final Pattern HASH_VALIDO = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path diretorio;
+
+    public ArmazenamentoBlobLocal(@Value("${imagens.armazenamento.diretorio:data/imagens}") String diretorio) {
+        this.diretorio = Paths.get(diretorio).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.diretorio);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível criar o diretório de imagens " + this.diretorio, e);
+        }
+        logger.info("Armazenamento local de imagens em {}", this.diretorio);
+    }
+
+    @Override
+    public void salvar(String hash, byte[] conteudo) throws IOException {
+        Path destino = caminho(hash);
+        if (Files.exists(destino)) {
+            return;
+        }
+        Files.createDirectories(destino.getParent());
+
+        // Grava em arquivo temporário no mesmo diretório e move, para que leitores nunca vejam um arquivo parcial
+        Path temporario = Files.createTempFile(destino.getParent(), hash, ".tmp");
+        try {
+            Files.write(temporario, conteudo);
+            try {
+                Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporario, destino);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // Outra requisição gravou o mesmo conteúdo ao mesmo tempo
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    @Override
+    public boolean existe(String hash) {
+        return Files.exists(caminho(hash));
+    }
+
+    @Override
+    public Resource carregar(String hash) throws IOException {
+        Path arquivo = caminho(hash);
+        if (!Files.exists(arquivo)) {
+            throw new FileNotFoundException("Conteúdo não encontrado: " + hash);
+        }
+        return new FileSystemResource(arquivo);
+    }
+
+    @Override
+    public boolean remover(String hash) throws IOException {
+        return Files.deleteIfExists(caminho(hash));
+    }
+
+    private Path caminho(String hash) {
+        if (hash == null || !HASH_VALIDO.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Hash de conteúdo inválido: " + hash);
+        }
+        return diretorio.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+}
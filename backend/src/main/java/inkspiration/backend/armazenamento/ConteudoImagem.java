@@ -0,0 +1,170 @@
+package inkspiration.backend.armazenamento;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+/**
+ * Imagem já decodificada: os bytes, o hash SHA-256 que serve de chave no armazenamento,
+ * o tipo detectado pela assinatura do arquivo e as dimensões lidas do cabeçalho.
+ */
+public final class ConteudoImagem {
+
+    private static final String PREFIXO_DATA_URI = "data:image/";
+
+    private final byte[] bytes;
+    private final String hash;
+    private final String mimeType;
+    private final Integer largura;
+    private final Integer altura;
+
+    private ConteudoImagem(byte[] bytes, String mimeType) {
+        this.bytes = bytes;
+        this.hash = calcularHash(bytes);
+        this.mimeType = mimeType;
+
+        int[] dimensoes = lerDimensoes(bytes);
+        this.largura = dimensoes != null ? dimensoes[0] : null;
+        this.altura = dimensoes != null ? dimensoes[1] : null;
+    }
+
+    /**
+     * Decodifica uma imagem no formato {@code data:image/<tipo>;base64,<dados>}.
+     *
+     * @throws IllegalArgumentException se o texto não for um data URI de imagem em base64 válido
+     */
+    public static ConteudoImagem deDataUri(String dataUri) {
+        if (dataUri == null) {
+            throw new IllegalArgumentException("Formato de imagem base64 inválido");
+        }
+        return LeitorImagem.lerDataUri(dataUri, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Tipo informado no cabeçalho de um data URI, sem decodificar os dados.
+     *
+     * @return o tipo MIME, ou {@code null} se o texto não for um data URI de imagem
+     */
+    public static String mimeTypeDeclarado(String dataUri) {
+        if (dataUri == null || !dataUri.startsWith(PREFIXO_DATA_URI)) {
+            return null;
+        }
+        int fim = dataUri.indexOf(';');
+        return fim > 0 ? dataUri.substring("data:".length(), fim) : null;
+    }
+
+    /**
+     * @param mimeDeclarado usado apenas quando a assinatura do arquivo não é reconhecida
+     */
+    public static ConteudoImagem deBytes(byte[] bytes, String mimeDeclarado) {
+        if (bytes == null || bytes.length == 0) {
+            throw new IllegalArgumentException("Dados da imagem não fornecidos");
+        }
+        String mimeDetectado = detectarMimeType(bytes);
+        return new ConteudoImagem(bytes, mimeDetectado != null ? mimeDetectado : mimeDeclarado);
+    }
+
+    /**
+     * Identifica o formato pelos primeiros bytes do arquivo.
+     *
+     * @return o tipo MIME, ou {@code null} se a assinatura não for reconhecida
+     */
+    public static String detectarMimeType(byte[] bytes) {
+        return detectarMimeType(bytes, bytes.length);
+    }
+
+    /**
+     * Como {@link #detectarMimeType(byte[])}, considerando só os primeiros {@code tamanho} bytes.
+     */
+    static String detectarMimeType(byte[] bytes, int tamanho) {
+        if (comecaCom(bytes, tamanho, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (comecaCom(bytes, tamanho, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (comecaCom(bytes, tamanho, 0, 'G', 'I', 'F', '8')) {
+            return "image/gif";
+        }
+        if (comecaCom(bytes, tamanho, 0, 'R', 'I', 'F', 'F') && comecaCom(bytes, tamanho, 8, 'W', 'E', 'B', 'P')) {
+            return "image/webp";
+        }
+        if (comecaCom(bytes, tamanho, 0, 'B', 'M')) {
+            return "image/bmp";
+        }
+        return null;
+    }
+
+    private static boolean comecaCom(byte[] bytes, int tamanho, int deslocamento, int... assinatura) {
+        if (tamanho < deslocamento + assinatura.length) {
+            return false;
+        }
+        for (int i = 0; i < assinatura.length; i++) {
+            if ((bytes[deslocamento + i] & 0xFF) != assinatura[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String calcularHash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Lê só o cabeçalho da imagem; os pixels não são decodificados.
+     */
+    private static int[] lerDimensoes(byte[] bytes) {
+        try (ImageInputStream entrada = new MemoryCacheImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> leitores = ImageIO.getImageReaders(entrada);
+            if (!leitores.hasNext()) {
+                return null;
+            }
+            ImageReader leitor = leitores.next();
+            try {
+                leitor.setInput(entrada, true, true);
+                return new int[] { leitor.getWidth(0), leitor.getHeight(0) };
+            } finally {
+                leitor.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public long getTamanho() {
+        return bytes.length;
+    }
+
+    public Integer getLargura() {
+        return largura;
+    }
+
+    public Integer getAltura() {
+        return altura;
+    }
+}
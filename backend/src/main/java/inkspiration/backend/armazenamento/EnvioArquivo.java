@@ -0,0 +1,42 @@
+package inkspiration.backend.armazenamento;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.springframework.core.io.Resource;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Envio de arquivos em disco sem passar os bytes pela JVM. Quando o conector do Tomcat
+ * suporta sendfile, basta indicar o arquivo nos atributos da requisição: o próprio conector
+ * o transfere para o socket com {@code FileChannel.transferTo}, depois que o controller retorna.
+ */
+public final class EnvioArquivo {
+
+    static final String SUPORTE_SENDFILE = "org.apache.tomcat.sendfile.support";
+    static final String ARQUIVO_SENDFILE = "org.apache.tomcat.sendfile.filename";
+    static final String INICIO_SENDFILE = "org.apache.tomcat.sendfile.start";
+    static final String FIM_SENDFILE = "org.apache.tomcat.sendfile.end";
+
+    private EnvioArquivo() {
+    }
+
+    /**
+     * Agenda o envio do recurso inteiro por sendfile.
+     *
+     * @return {@code true} se o envio foi agendado e a resposta não deve ter corpo;
+     *         {@code false} se o recurso não é um arquivo local ou o servidor não suporta sendfile
+     */
+    public static boolean agendarSendfile(HttpServletRequest request, Resource recurso) throws IOException {
+        if (!Boolean.TRUE.equals(request.getAttribute(SUPORTE_SENDFILE)) || !recurso.isFile()
+                || "HEAD".equals(request.getMethod())) {
+            return false;
+        }
+        File arquivo = recurso.getFile();
+        request.setAttribute(ARQUIVO_SENDFILE, arquivo.getAbsolutePath());
+        request.setAttribute(INICIO_SENDFILE, 0L);
+        request.setAttribute(FIM_SENDFILE, arquivo.length());
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package inkspiration.backend.armazenamento;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+/**
+ * Gera as {@link VarianteImagem variantes} de uma imagem usando apenas o ImageIO do JDK,
+ * sem depender de bibliotecas nativas nem de ambiente gráfico.
+ */
+public final class GeradorVariantes {
+
+    private static final float QUALIDADE_JPEG = 0.82f;
+
+    // Limite de pixels decodificados: imagens maiores são lidas com subamostragem
+    private static final long LIMITE_PIXELS = 3000L * 3000L;
+
+    private GeradorVariantes() {
+    }
+
+    /**
+     * Decodifica a imagem uma única vez e produz todas as variantes, da maior para a menor,
+     * cada uma reduzida a partir da anterior. Imagens mais estreitas que a variante não são ampliadas.
+     *
+     * @throws IOException se o formato não puder ser lido pelo ImageIO
+     */
+    public static Map<VarianteImagem, byte[]> gerar(InputStream original) throws IOException {
+        BufferedImage atual = paraRgb(ler(original));
+
+        Map<VarianteImagem, byte[]> variantes = new EnumMap<>(VarianteImagem.class);
+        VarianteImagem[] todas = VarianteImagem.values();
+        for (int i = todas.length - 1; i >= 0; i--) {
+            atual = reduzir(atual, todas[i].getLargura());
+            variantes.put(todas[i], codificarJpegProgressivo(atual));
+        }
+        return variantes;
+    }
+
+    private static BufferedImage ler(InputStream original) throws IOException {
+        try (ImageInputStream entrada = new MemoryCacheImageInputStream(original)) {
+            Iterator<ImageReader> leitores = ImageIO.getImageReaders(entrada);
+            if (!leitores.hasNext()) {
+                throw new IOException("Formato de imagem não suportado");
+            }
+            ImageReader leitor = leitores.next();
+            try {
+                leitor.setInput(entrada, true, true);
+                int largura = leitor.getWidth(0);
+                int altura = leitor.getHeight(0);
+
+                // Não faz sentido decodificar muito mais que o dobro da maior variante
+                int fator = Math.max(1, largura / (VarianteImagem.GRANDE.getLargura() * 2));
+                while ((long) (largura / fator) * (altura / fator) > LIMITE_PIXELS) {
+                    fator++;
+                }
+
+                ImageReadParam parametros = leitor.getDefaultReadParam();
+                parametros.setSourceSubsampling(fator, fator, 0, 0);
+                return leitor.read(0, parametros);
+            } finally {
+                leitor.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG não tem transparência: áreas transparentes ficam brancas.
+     */
+    private static BufferedImage paraRgb(BufferedImage imagem) {
+        if (imagem.getType() == BufferedImage.TYPE_INT_RGB) {
+            return imagem;
+        }
+        BufferedImage rgb = new BufferedImage(imagem.getWidth(), imagem.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            g.drawImage(imagem, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * Reduz pela metade a cada passo (interpolação bilinear) até chegar à largura desejada,
+     * o que preserva detalhes melhor que uma única redução grande.
+     */
+    private static BufferedImage reduzir(BufferedImage imagem, int larguraAlvo) {
+        BufferedImage atual = imagem;
+        while (atual.getWidth() > larguraAlvo) {
+            int largura = Math.max(larguraAlvo, atual.getWidth() / 2);
+            int altura = Math.max(1, (int) Math.round((double) atual.getHeight() * largura / atual.getWidth()));
+
+            BufferedImage menor = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = menor.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(atual, 0, 0, largura, altura, null);
+            } finally {
+                g.dispose();
+            }
+            atual = menor;
+        }
+        return atual;
+    }
+
+    private static byte[] codificarJpegProgressivo(BufferedImage imagem) throws IOException {
+        ImageWriter escritor = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream saida = new MemoryCacheImageOutputStream(bytes)) {
+            ImageWriteParam parametros = escritor.getDefaultWriteParam();
+            parametros.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parametros.setCompressionQuality(QUALIDADE_JPEG);
+            parametros.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+            escritor.setOutput(saida);
+            escritor.write(null, new IIOImage(imagem, null, null), parametros);
+        } finally {
+            escritor.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
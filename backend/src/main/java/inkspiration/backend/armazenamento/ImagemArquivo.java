@@ -0,0 +1,45 @@
+package inkspiration.backend.armazenamento;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * Conteúdo de uma imagem pronto para ser enviado ao cliente.
+ */
+public final class ImagemArquivo {
+
+    private final Resource recurso;
+    private final String mimeType;
+    private final String hash;
+    private final boolean imutavel;
+
+    public ImagemArquivo(Resource recurso, String mimeType, String hash) {
+        this(recurso, mimeType, hash, true);
+    }
+
+    /**
+     * @param imutavel {@code false} quando o conteúdo substitui provisoriamente o que foi pedido
+     *                 (ex.: original servida no lugar de uma variante ainda não gerada)
+     */
+    public ImagemArquivo(Resource recurso, String mimeType, String hash, boolean imutavel) {
+        this.recurso = recurso;
+        this.mimeType = mimeType;
+        this.hash = hash;
+        this.imutavel = imutavel;
+    }
+
+    public Resource getRecurso() {
+        return recurso;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public boolean isImutavel() {
+        return imutavel;
+    }
+}
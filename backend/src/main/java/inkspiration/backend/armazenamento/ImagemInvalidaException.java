@@ -0,0 +1,25 @@
+package inkspiration.backend.armazenamento;
+
+/**
+ * Imagem recusada pelo {@link LeitorImagem}. Cada serviço traduz o {@link Motivo} para a
+ * mensagem que expõe ao cliente.
+ */
+public class ImagemInvalidaException extends IllegalArgumentException {
+
+    public enum Motivo {
+        VAZIA,
+        FORMATO,
+        TAMANHO
+    }
+
+    private final Motivo motivo;
+
+    public ImagemInvalidaException(Motivo motivo, String message) {
+        super(message);
+        this.motivo = motivo;
+    }
+
+    public Motivo getMotivo() {
+        return motivo;
+    }
+}
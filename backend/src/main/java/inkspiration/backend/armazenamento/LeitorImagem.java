@@ -0,0 +1,241 @@
+package inkspiration.backend.armazenamento;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+
+import inkspiration.backend.armazenamento.ImagemInvalidaException.Motivo;
+
+/**
+ * Lê imagens enviadas pelo cliente sem cópias intermediárias: o base64 é decodificado em
+ * fluxo direto da String recebida, o formato é conferido pela assinatura logo nos primeiros
+ * bytes e o limite de tamanho é aplicado durante a leitura. Quando o tamanho é conhecido de
+ * antemão, a única cópia da imagem em memória é o próprio array devolvido.
+ */
+public final class LeitorImagem {
+
+    private static final String PREFIXO_DATA_URI = "data:image/";
+    private static final String MARCADOR_BASE64 = ";base64,";
+
+    // Suficiente para todas as assinaturas de ConteudoImagem.detectarMimeType (RIFF....WEBP)
+    private static final int BYTES_ASSINATURA = 12;
+    private static final int TAMANHO_BUFFER = 8192;
+    private static final int MAIOR_ARRAY = Integer.MAX_VALUE - 8;
+
+    private LeitorImagem() {
+    }
+
+    /**
+     * Decodifica um data URI {@code data:image/<tipo>;base64,<dados>}.
+     *
+     * @param tiposPermitidos tipos aceitos pela assinatura dos bytes; {@code null} aceita qualquer um
+     * @throws ImagemInvalidaException se a imagem estiver vazia, fora dos tipos ou acima do limite
+     */
+    public static ConteudoImagem lerDataUri(String dataUri, Set<String> tiposPermitidos, long tamanhoMaximo) {
+        int inicio = inicioDados(dataUri);
+        long tamanho = tamanhoDecodificado(dataUri, inicio);
+        if (tamanho > tamanhoMaximo) {
+            throw tamanhoExcedido();
+        }
+        try (InputStream entrada = decodificar(dataUri, inicio)) {
+            return ler(entrada, tamanho, ConteudoImagem.mimeTypeDeclarado(dataUri), tiposPermitidos, tamanhoMaximo);
+        } catch (IOException e) {
+            // A origem é a própria String: qualquer erro de leitura vem do base64
+            throw formatoInvalido();
+        }
+    }
+
+    /**
+     * Confere formato e tamanho de um data URI sem guardar os bytes decodificados.
+     */
+    public static void validarDataUri(String dataUri, Set<String> tiposPermitidos, long tamanhoMaximo) {
+        int inicio = inicioDados(dataUri);
+        if (tamanhoDecodificado(dataUri, inicio) > tamanhoMaximo) {
+            throw tamanhoExcedido();
+        }
+        byte[] buffer = new byte[TAMANHO_BUFFER];
+        try (InputStream entrada = decodificar(dataUri, inicio)) {
+            int lidos = entrada.readNBytes(buffer, 0, BYTES_ASSINATURA);
+            verificarFormato(buffer, lidos, tiposPermitidos);
+            while (entrada.read(buffer) >= 0) {
+                // Só percorre o restante para validar o base64
+            }
+        } catch (IOException e) {
+            throw formatoInvalido();
+        }
+    }
+
+    /**
+     * Lê os bytes de uma imagem (upload multipart ou corpo bruto).
+     *
+     * @param tamanhoInformado tamanho anunciado pelo cliente, ou {@code -1} se desconhecido; serve
+     *        apenas para dimensionar o buffer, o limite é conferido sobre o que de fato é lido
+     * @param mimeDeclarado usado apenas quando a assinatura do arquivo não é reconhecida
+     * @throws ImagemInvalidaException se a imagem estiver vazia, fora dos tipos ou acima do limite
+     */
+    public static ConteudoImagem ler(InputStream entrada, long tamanhoInformado, String mimeDeclarado,
+                                     Set<String> tiposPermitidos, long tamanhoMaximo) throws IOException {
+        if (tamanhoInformado > tamanhoMaximo) {
+            throw tamanhoExcedido();
+        }
+        long limite = Math.min(tamanhoMaximo, MAIOR_ARRAY);
+        byte[] buffer = new byte[(int) (tamanhoInformado > 0 ? tamanhoInformado : Math.min(limite, TAMANHO_BUFFER))];
+        int lidos = 0;
+        boolean formatoVerificado = false;
+
+        while (true) {
+            if (lidos == buffer.length) {
+                // Buffer cheio: só cresce se ainda houver dados, assim o tamanho exato não gera cópia
+                int proximo = entrada.read();
+                if (proximo < 0) {
+                    break;
+                }
+                if (lidos >= limite) {
+                    throw tamanhoExcedido();
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min(limite, Math.max(buffer.length * 2L, TAMANHO_BUFFER)));
+                buffer[lidos++] = (byte) proximo;
+            }
+            int n = entrada.read(buffer, lidos, buffer.length - lidos);
+            if (n < 0) {
+                break;
+            }
+            lidos += n;
+            if (!formatoVerificado && lidos >= BYTES_ASSINATURA) {
+                verificarFormato(buffer, lidos, tiposPermitidos);
+                formatoVerificado = true;
+            }
+        }
+
+        if (!formatoVerificado) {
+            verificarFormato(buffer, lidos, tiposPermitidos);
+        }
+        return ConteudoImagem.deBytes(lidos == buffer.length ? buffer : Arrays.copyOf(buffer, lidos), mimeDeclarado);
+    }
+
+    private static int inicioDados(String dataUri) {
+        if (dataUri == null || dataUri.isEmpty()) {
+            throw new ImagemInvalidaException(Motivo.VAZIA, "Dados da imagem não fornecidos");
+        }
+        if (!dataUri.startsWith(PREFIXO_DATA_URI)) {
+            throw formatoInvalido();
+        }
+        int separador = dataUri.indexOf(';');
+        if (separador < 0 || !dataUri.startsWith(MARCADOR_BASE64, separador)) {
+            throw formatoInvalido();
+        }
+        return separador + MARCADOR_BASE64.length();
+    }
+
+    /**
+     * Tamanho exato dos bytes decodificados, calculado só pelo comprimento e pelo padding.
+     */
+    private static long tamanhoDecodificado(String dataUri, int inicio) {
+        int caracteres = dataUri.length() - inicio;
+        int padding = 0;
+        for (int i = dataUri.length() - 1; i >= inicio && padding < 2 && dataUri.charAt(i) == '='; i--) {
+            padding++;
+        }
+        int resto = (caracteres - padding) % 4;
+        if (resto == 1) {
+            throw formatoInvalido();
+        }
+        return (caracteres - padding) / 4 * 3L + (resto == 0 ? 0 : resto - 1);
+    }
+
+    private static InputStream decodificar(String texto, int inicio) {
+        return new Base64EmBlocos(texto, inicio);
+    }
+
+    private static void verificarFormato(byte[] bytes, int tamanho, Set<String> tiposPermitidos) {
+        if (tamanho == 0) {
+            throw new ImagemInvalidaException(Motivo.VAZIA, "Dados da imagem não fornecidos");
+        }
+        if (tiposPermitidos == null) {
+            return;
+        }
+        String mimeType = ConteudoImagem.detectarMimeType(bytes, tamanho);
+        if (mimeType == null || !tiposPermitidos.contains(mimeType)) {
+            throw new ImagemInvalidaException(Motivo.FORMATO, "Formato de imagem não permitido");
+        }
+    }
+
+    private static ImagemInvalidaException formatoInvalido() {
+        return new ImagemInvalidaException(Motivo.FORMATO, "Formato de imagem base64 inválido");
+    }
+
+    private static ImagemInvalidaException tamanhoExcedido() {
+        return new ImagemInvalidaException(Motivo.TAMANHO, "Imagem acima do tamanho máximo permitido");
+    }
+
+    /**
+     * Decodifica o base64 direto da String, em blocos de tamanho fixo: a String não é copiada e
+     * a memória extra é a de dois buffers pequenos. Caracteres fora do ASCII viram um byte
+     * inválido para o decodificador.
+     */
+    private static final class Base64EmBlocos extends InputStream {
+
+        // Múltiplo de 4, para que só o último bloco possa ter padding
+        private static final int CARACTERES_POR_BLOCO = 8192;
+
+        private final String texto;
+        private int posicao;
+        private byte[] caracteres = new byte[CARACTERES_POR_BLOCO];
+        private final byte[] decodificados = new byte[CARACTERES_POR_BLOCO / 4 * 3];
+        private int disponivel;
+        private int lido;
+
+        Base64EmBlocos(String texto, int inicio) {
+            this.texto = texto;
+            this.posicao = inicio;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (lido == disponivel && !preencher()) {
+                return -1;
+            }
+            return decodificados[lido++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] destino, int deslocamento, int quantidade) throws IOException {
+            if (quantidade == 0) {
+                return 0;
+            }
+            if (lido == disponivel && !preencher()) {
+                return -1;
+            }
+            int n = Math.min(quantidade, disponivel - lido);
+            System.arraycopy(decodificados, lido, destino, deslocamento, n);
+            lido += n;
+            return n;
+        }
+
+        private boolean preencher() throws IOException {
+            int restantes = texto.length() - posicao;
+            if (restantes <= 0) {
+                return false;
+            }
+            int n = Math.min(restantes, CARACTERES_POR_BLOCO);
+            if (n < caracteres.length) {
+                // Último bloco: o decodificador trabalha sobre o array inteiro
+                caracteres = new byte[n];
+            }
+            for (int i = 0; i < n; i++) {
+                char c = texto.charAt(posicao + i);
+                caracteres[i] = (byte) (c < 0x80 ? c : '?');
+            }
+            posicao += n;
+            try {
+                disponivel = Base64.getDecoder().decode(caracteres, decodificados);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            lido = 0;
+            return disponivel > 0 || preencher();
+        }
+    }
+}
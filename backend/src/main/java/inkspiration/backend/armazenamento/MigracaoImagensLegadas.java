@@ -0,0 +1,73 @@
+package inkspiration.backend.armazenamento;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.service.BlobImagemService;
+import inkspiration.backend.service.ImagemService;
+import inkspiration.backend.service.UsuarioService;
+
+/**
+ * Na subida da aplicação, move para o {@link ArmazenamentoBlob} as imagens do portfólio e as
+ * fotos de perfil que ainda estão em base64 no banco, depois de criar a contagem de referências
+ * do conteúdo já gravado. Roda em segundo plano e em lotes, com uma transação por lote; enquanto
+ * não termina, essas imagens continuam sendo servidas a partir do formato antigo.
+ */
+@Component
+@ConditionalOnProperty(name = "imagens.migracao.habilitada", havingValue = "true", matchIfMissing = true)
+public class MigracaoImagensLegadas {
+
+    private static final Logger logger = LoggerFactory.getLogger(MigracaoImagensLegadas.class);
+
+    private final ImagemService imagemService;
+    private final UsuarioService usuarioService;
+    private final BlobImagemService blobImagemService;
+    private final int tamanhoLote;
+
+    public MigracaoImagensLegadas(ImagemService imagemService, UsuarioService usuarioService,
+                                  BlobImagemService blobImagemService,
+                                  @Value("${imagens.migracao.tamanho-lote:20}") int tamanhoLote) {
+        this.imagemService = imagemService;
+        this.usuarioService = usuarioService;
+        this.blobImagemService = blobImagemService;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        Thread thread = new Thread(this::migrar, "migracao-imagens");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int migrar() {
+        long inicio = System.currentTimeMillis();
+        int lotes = 0;
+        try {
+            int registrados = blobImagemService.registrarExistentes();
+            if (registrados > 0) {
+                logger.info("Contagem de referências criada para {} conteúdos de imagem", registrados);
+            }
+            Long ultimoId = 0L;
+            while ((ultimoId = imagemService.migrarLoteLegado(ultimoId, tamanhoLote)) != null) {
+                lotes++;
+            }
+            ultimoId = 0L;
+            while ((ultimoId = usuarioService.migrarLoteFotosLegadas(ultimoId, tamanhoLote)) != null) {
+                lotes++;
+            }
+        } catch (Exception e) {
+            logger.error("Migração de imagens interrompida: {}", e.getMessage(), e);
+        }
+        if (lotes > 0) {
+            logger.info("Migração de imagens para o armazenamento de blobs: {} lotes em {} ms",
+                lotes, System.currentTimeMillis() - inicio);
+        }
+        return lotes;
+    }
+}
@@ -0,0 +1,186 @@
+package inkspiration.backend.armazenamento;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Gera e guarda as variantes das imagens. Depois de cada upload as variantes são geradas em
+ * um pool pequeno com fila limitada. Uma variante pedida antes de ficar pronta também é gerada
+ * nesse pool: a requisição aguarda por um tempo limitado e, se a fila estiver cheia ou a espera
+ * acabar, recebe a imagem original. Pedidos simultâneos para a mesma imagem aguardam a mesma geração.
+ */
+@Component
+public class ProcessadorVariantes {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessadorVariantes.class);
+
+    private final ArmazenamentoBlob armazenamentoBlob;
+    private final ThreadPoolExecutor executor;
+    private final long esperaMs;
+
+    // Gerações em andamento, pelo hash da imagem original
+    private final Map<String, CompletableFuture<Boolean>> emAndamento = new ConcurrentHashMap<>();
+    // Originais que o ImageIO não consegue ler (ex.: WebP); para eles a variante é a própria imagem
+    private final Set<String> semVariantes = ConcurrentHashMap.newKeySet();
+
+    public ProcessadorVariantes(
+            ArmazenamentoBlob armazenamentoBlob,
+            @Value("${imagens.variantes.workers:1}") int workers,
+            @Value("${imagens.variantes.capacidade-fila:100}") int capacidadeFila,
+            @Value("${imagens.variantes.espera-ms:2000}") long esperaMs) {
+        this.armazenamentoBlob = armazenamentoBlob;
+        this.esperaMs = esperaMs;
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacidadeFila), runnable -> {
+                Thread thread = new Thread(runnable, "variantes-imagem-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+    }
+
+    /**
+     * Enfileira a geração das variantes. Com a fila cheia o pedido é descartado: as variantes
+     * serão geradas quando forem pedidas pela primeira vez.
+     */
+    public void agendar(String hash) {
+        try {
+            executor.execute(() -> garantir(hash));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Fila de variantes cheia; variantes da imagem {} serão geradas sob demanda", hash);
+        }
+    }
+
+    /**
+     * @return a variante, gerada agora se ainda não existir; ou {@code null} se a imagem original
+     *         não puder ser processada ou se a variante não ficar pronta dentro da espera
+     */
+    public Resource carregar(String hash, VarianteImagem variante) throws IOException {
+        String chave = variante.chave(hash);
+        if (!armazenamentoBlob.existe(chave) && !aguardarGeracao(hash)) {
+            return null;
+        }
+        return armazenamentoBlob.carregar(chave);
+    }
+
+    private boolean aguardarGeracao(String hash) {
+        if (semVariantes.contains(hash)) {
+            return false;
+        }
+        CompletableFuture<Boolean> geracao = emAndamento.get(hash);
+        if (geracao == null) {
+            try {
+                geracao = CompletableFuture.supplyAsync(() -> garantir(hash), executor);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Fila de variantes cheia; imagem {} será servida sem redução", hash);
+                return false;
+            }
+        }
+        try {
+            return geracao.get(esperaMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.debug("Variantes da imagem {} não ficaram prontas em {} ms", hash, esperaMs);
+            return false;
+        } catch (ExecutionException e) {
+            logger.warn("Falha ao gerar variantes da imagem {}: {}", hash, e.getCause().toString());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    boolean garantir(String hash) {
+        if (semVariantes.contains(hash)) {
+            return false;
+        }
+        if (todasExistem(hash)) {
+            return true;
+        }
+
+        CompletableFuture<Boolean> geracao = new CompletableFuture<>();
+        CompletableFuture<Boolean> existente = emAndamento.putIfAbsent(hash, geracao);
+        if (existente != null) {
+            return existente.join();
+        }
+        try {
+            boolean gerou = gerar(hash);
+            geracao.complete(gerou);
+            return gerou;
+        } catch (Throwable e) {
+            // Qualquer falha, inclusive Error, precisa liberar quem aguarda a mesma geração
+            geracao.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(hash, geracao);
+        }
+    }
+
+    private boolean todasExistem(String hash) {
+        for (VarianteImagem variante : VarianteImagem.values()) {
+            if (!armazenamentoBlob.existe(variante.chave(hash))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean gerar(String hash) {
+        long inicio = System.currentTimeMillis();
+        Map<VarianteImagem, byte[]> variantes;
+        try (InputStream original = armazenamentoBlob.carregar(hash).getInputStream()) {
+            variantes = GeradorVariantes.gerar(original);
+        } catch (IOException e) {
+            logger.warn("Não foi possível gerar variantes da imagem {}: {}", hash, e.getMessage());
+            semVariantes.add(hash);
+            return false;
+        }
+
+        try {
+            for (Map.Entry<VarianteImagem, byte[]> variante : variantes.entrySet()) {
+                armazenamentoBlob.salvar(variante.getKey().chave(hash), variante.getValue());
+            }
+        } catch (IOException e) {
+            logger.error("Erro ao gravar variantes da imagem {}: {}", hash, e.getMessage(), e);
+            return false;
+        }
+        logger.debug("Variantes da imagem {} geradas em {} ms", hash, System.currentTimeMillis() - inicio);
+        return true;
+    }
+
+    /**
+     * Remove as variantes de uma imagem cujo conteúdo original foi removido.
+     */
+    public void remover(String hash) throws IOException {
+        for (VarianteImagem variante : VarianteImagem.values()) {
+            armazenamentoBlob.remover(variante.chave(hash));
+        }
+        semVariantes.remove(hash);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+}
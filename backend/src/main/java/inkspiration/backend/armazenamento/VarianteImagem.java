@@ -0,0 +1,60 @@
+package inkspiration.backend.armazenamento;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Versões reduzidas de uma imagem, com largura fixa e recodificadas como JPEG progressivo.
+ */
+public enum VarianteImagem {
+    MINIATURA(160),
+    MEDIA(480),
+    GRANDE(1200);
+
+    private final int largura;
+
+    VarianteImagem(int largura) {
+        this.largura = largura;
+    }
+
+    public int getLargura() {
+        return largura;
+    }
+
+    public String getParametro() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Chave da variante no {@link ArmazenamentoBlob}, derivada do hash da imagem original.
+     * Imagens originais iguais compartilham as mesmas variantes.
+     */
+    public String chave(String hashOriginal) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest((hashOriginal + ":" + name()).getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * @return a variante, ou {@code null} se o parâmetro estiver vazio (imagem original)
+     * @throws IllegalArgumentException se o nome não corresponder a nenhuma variante
+     */
+    public static VarianteImagem deParametro(String parametro) {
+        if (parametro == null || parametro.isBlank()) {
+            return null;
+        }
+        for (VarianteImagem variante : values()) {
+            if (variante.getParametro().equalsIgnoreCase(parametro.trim())) {
+                return variante;
+            }
+        }
+        throw new IllegalArgumentException("Variante de imagem inválida: " + parametro);
+    }
+}
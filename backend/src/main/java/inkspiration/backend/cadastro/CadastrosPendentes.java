@@ -0,0 +1,30 @@
+package inkspiration.backend.cadastro;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import inkspiration.backend.entities.CadastroPendente;
+
+/**
+ * Cadastros aguardando a confirmação do email, indexados pelo email. O que fica guardado é
+ * limitado: ao passar da capacidade, os que expiram primeiro são descartados.
+ */
+public interface CadastrosPendentes {
+
+    /**
+     * Grava o cadastro, substituindo o que houver para o mesmo email.
+     */
+    void salvar(CadastroPendente cadastro);
+
+    /**
+     * Cadastro guardado para o email, mesmo que já expirado e ainda não removido.
+     */
+    Optional<CadastroPendente> buscar(String email);
+
+    void remover(String email);
+
+    /**
+     * @return quantos cadastros expirados foram removidos
+     */
+    int removerExpirados(LocalDateTime agora);
+}
@@ -0,0 +1,80 @@
+package inkspiration.backend.cadastro;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.entities.CadastroPendente;
+import inkspiration.backend.repository.CadastroPendenteRepository;
+
+/**
+ * Cadastros pendentes na tabela {@code cadastro_pendente}, compartilhada entre as instâncias: o
+ * código enviado por uma pode ser confirmado em qualquer outra, e nada se perde num reinício.
+ * Contar a tabela a cada gravação custaria uma varredura por pedido de cadastro; por isso a
+ * capacidade é conferida a cada 1% dela em gravações de cada instância, e pode ser ultrapassada
+ * momentaneamente nessa proporção até a próxima conferência.
+ */
+@Component
+@ConditionalOnProperty(name = "cadastro.pendentes.armazenamento", havingValue = "banco")
+public class CadastrosPendentesBanco implements CadastrosPendentes {
+
+    private static final Logger logger = LoggerFactory.getLogger(CadastrosPendentesBanco.class);
+
+    private final CadastroPendenteRepository repository;
+    private final int capacidade;
+    private final int gravacoesPorConferencia;
+    private final AtomicInteger gravacoes = new AtomicInteger();
+
+    public CadastrosPendentesBanco(CadastroPendenteRepository repository,
+                                   @Value("${cadastro.pendentes.capacidade:10000}") int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade de cadastros pendentes deve ser positiva");
+        }
+        this.repository = repository;
+        this.capacidade = capacidade;
+        this.gravacoesPorConferencia = Math.max(1, capacidade / 100);
+    }
+
+    @Override
+    public void salvar(CadastroPendente cadastro) {
+        repository.save(cadastro);
+        if (gravacoes.incrementAndGet() % gravacoesPorConferencia == 0) {
+            conferirCapacidade();
+        }
+    }
+
+    private void conferirCapacidade() {
+        long excedentes = repository.count() - capacidade;
+        if (excedentes > 0) {
+            excedentes -= repository.removerExpirados(LocalDateTime.now());
+        }
+        if (excedentes > 0) {
+            List<String> maisAntigos = repository.findEmailsMaisAntigos(PageRequest.of(0, (int) excedentes));
+            repository.removerPorEmails(maisAntigos);
+            logger.warn("Limite de {} cadastros pendentes atingido; {} descartados", capacidade, maisAntigos.size());
+        }
+    }
+
+    @Override
+    public Optional<CadastroPendente> buscar(String email) {
+        return repository.findById(email);
+    }
+
+    @Override
+    public void remover(String email) {
+        repository.deleteById(email);
+    }
+
+    @Override
+    public int removerExpirados(LocalDateTime agora) {
+        return repository.removerExpirados(agora);
+    }
+}
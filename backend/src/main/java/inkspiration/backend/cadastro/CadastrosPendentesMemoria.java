@@ -0,0 +1,132 @@
+package inkspiration.backend.cadastro;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.entities.CadastroPendente;
+
+/**
+ * Cadastros pendentes na memória da instância. Todo cadastro tem a mesma validade, e gravar de
+ * novo (um reenvio do código) o move para o fim; por isso a ordem de inserção é também a ordem
+ * de expiração, e tanto a limpeza quanto o descarte por capacidade só olham para o início do mapa.
+ * <p>
+ * A capacidade vale para a quantidade e para o tamanho: os dados do cadastro podem trazer a foto
+ * de perfil, então poucos cadastros grandes ocupam tanto quanto milhares de cadastros sem foto.
+ */
+@Component
+@ConditionalOnProperty(name = "cadastro.pendentes.armazenamento", havingValue = "memoria", matchIfMissing = true)
+public class CadastrosPendentesMemoria implements CadastrosPendentes {
+
+    private static final Logger logger = LoggerFactory.getLogger(CadastrosPendentesMemoria.class);
+
+    // Estimativa do que o cadastro ocupa além do texto: objeto, datas e entrada no mapa
+    private static final long BYTES_POR_CADASTRO = 256;
+
+    private final int capacidade;
+    private final long capacidadeBytes;
+    private final LinkedHashMap<String, Entrada> cadastros = new LinkedHashMap<>();
+    private long bytes;
+
+    public CadastrosPendentesMemoria(
+            @Value("${cadastro.pendentes.capacidade:10000}") int capacidade,
+            @Value("${cadastro.pendentes.capacidade-bytes:67108864}") long capacidadeBytes) {
+        if (capacidade < 1 || capacidadeBytes < 1) {
+            throw new IllegalArgumentException("Capacidade de cadastros pendentes deve ser positiva");
+        }
+        this.capacidade = capacidade;
+        this.capacidadeBytes = capacidadeBytes;
+    }
+
+    @Override
+    public synchronized void salvar(CadastroPendente cadastro) {
+        descontar(cadastros.remove(cadastro.getEmail()));
+        Entrada entrada = new Entrada(cadastro, tamanhoEmBytes(cadastro));
+        cadastros.put(cadastro.getEmail(), entrada);
+        bytes += entrada.bytes;
+
+        removerExpiradosDoInicio(LocalDateTime.now());
+        if (cadastros.size() > capacidade || bytes > capacidadeBytes) {
+            // O cadastro recém-gravado fica mesmo que sozinho passe do limite de bytes
+            Iterator<Entrada> maisAntigos = cadastros.values().iterator();
+            while (cadastros.size() > 1 && (cadastros.size() > capacidade || bytes > capacidadeBytes)) {
+                descontar(maisAntigos.next());
+                maisAntigos.remove();
+            }
+            logger.warn("Limite de {} cadastros pendentes ou {} bytes atingido; os mais antigos foram descartados",
+                capacidade, capacidadeBytes);
+        }
+    }
+
+    @Override
+    public synchronized Optional<CadastroPendente> buscar(String email) {
+        return Optional.ofNullable(cadastros.get(email)).map(entrada -> entrada.cadastro);
+    }
+
+    @Override
+    public synchronized void remover(String email) {
+        descontar(cadastros.remove(email));
+    }
+
+    @Override
+    public synchronized int removerExpirados(LocalDateTime agora) {
+        return removerExpiradosDoInicio(agora);
+    }
+
+    synchronized int tamanho() {
+        return cadastros.size();
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    private int removerExpiradosDoInicio(LocalDateTime agora) {
+        int removidos = 0;
+        Iterator<Entrada> iterador = cadastros.values().iterator();
+        while (iterador.hasNext()) {
+            Entrada entrada = iterador.next();
+            if (!entrada.cadastro.isExpirado(agora)) {
+                break;
+            }
+            descontar(entrada);
+            iterador.remove();
+            removidos++;
+        }
+        return removidos;
+    }
+
+    private void descontar(Entrada entrada) {
+        if (entrada != null) {
+            bytes -= entrada.bytes;
+        }
+    }
+
+    // Dois bytes por caractere: o pior caso das strings do Java
+    private static long tamanhoEmBytes(CadastroPendente cadastro) {
+        return BYTES_POR_CADASTRO + 2L * (comprimento(cadastro.getEmail()) + comprimento(cadastro.getDados())
+            + comprimento(cadastro.getSenhaCodificada()) + comprimento(cadastro.getCodigo()));
+    }
+
+    private static int comprimento(String texto) {
+        return texto != null ? texto.length() : 0;
+    }
+
+    private static final class Entrada {
+
+        private final CadastroPendente cadastro;
+        private final long bytes;
+
+        private Entrada(CadastroPendente cadastro, long bytes) {
+            this.cadastro = cadastro;
+            this.bytes = bytes;
+        }
+    }
+}
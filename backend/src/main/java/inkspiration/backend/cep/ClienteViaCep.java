@@ -0,0 +1,124 @@
+package inkspiration.backend.cep;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import inkspiration.backend.entities.CepConhecido;
+import inkspiration.backend.exception.endereco.CepInvalidoException;
+import inkspiration.backend.exception.endereco.ViaCepIndisponivelException;
+
+/**
+ * Consulta à API do ViaCEP protegida por um disjuntor: depois de {@code cep.disjuntor.falhas}
+ * falhas seguidas as consultas são recusadas na hora durante {@code cep.disjuntor.espera-ms}, em
+ * vez de cada validação esperar o timeout. Passada a espera, uma única consulta de teste decide
+ * se o disjuntor fecha ou volta a abrir. CEP inexistente é uma resposta válida e não conta como falha.
+ */
+@Component
+public class ClienteViaCep {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClienteViaCep.class);
+
+    static final String MENSAGEM_ERRO = "Erro ao consultar CEP na API do ViaCEP, tente novamente";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String url;
+    private final int falhasParaAbrir;
+    private final long esperaNanos;
+
+    private int falhasSeguidas;
+    private long abertoAte;
+    private boolean testando;
+
+    public ClienteViaCep(RestTemplate restTemplate,
+                         @Value("${cep.viacep.url:https://viacep.com.br/ws/}") String url,
+                         @Value("${cep.disjuntor.falhas:5}") int falhasParaAbrir,
+                         @Value("${cep.disjuntor.espera-ms:30000}") long esperaMs) {
+        this.restTemplate = restTemplate;
+        this.url = url.endsWith("/") ? url : url + "/";
+        this.falhasParaAbrir = falhasParaAbrir;
+        this.esperaNanos = TimeUnit.MILLISECONDS.toNanos(esperaMs);
+    }
+
+    /**
+     * @param cep CEP limpo (apenas números)
+     * @throws ViaCepIndisponivelException se o ViaCEP falhar ou o disjuntor estiver aberto
+     * @throws CepInvalidoException se o CEP não existir
+     */
+    public CepConhecido consultar(String cep) {
+        if (!permitirConsulta()) {
+            throw new ViaCepIndisponivelException(MENSAGEM_ERRO);
+        }
+
+        JsonNode json;
+        try {
+            String resposta = restTemplate.getForObject(url + cep + "/json/", String.class);
+            if (resposta == null) {
+                throw new IllegalStateException("resposta vazia");
+            }
+            json = objectMapper.readTree(resposta);
+            if (!json.path("erro").asBoolean(false) && (!json.hasNonNull("localidade") || !json.hasNonNull("uf"))) {
+                throw new IllegalStateException("resposta sem localidade ou UF");
+            }
+        } catch (RestClientException e) {
+            registrarFalha();
+            logger.warn("Erro REST ao consultar CEP {}: {}", cep, e.getMessage());
+            throw new ViaCepIndisponivelException(MENSAGEM_ERRO, e);
+        } catch (Exception e) {
+            registrarFalha();
+            logger.warn("Erro ao processar resposta do ViaCEP para o CEP {}: {}", cep, e.getMessage());
+            throw new ViaCepIndisponivelException(MENSAGEM_ERRO, e);
+        }
+
+        registrarSucesso();
+        if (json.path("erro").asBoolean(false)) {
+            throw new CepInvalidoException(MENSAGEM_ERRO);
+        }
+        return new CepConhecido(cep, json.path("logradouro").asText(), json.path("bairro").asText(),
+            json.get("localidade").asText(), json.get("uf").asText(), LocalDateTime.now());
+    }
+
+    synchronized boolean isAberto() {
+        return falhasSeguidas >= falhasParaAbrir;
+    }
+
+    private synchronized boolean permitirConsulta() {
+        if (falhasSeguidas < falhasParaAbrir) {
+            return true;
+        }
+        // Aberto: recusa até vencer a espera e, depois disso, deixa passar uma consulta de teste por vez
+        if (System.nanoTime() - abertoAte < 0 || testando) {
+            return false;
+        }
+        testando = true;
+        return true;
+    }
+
+    private synchronized void registrarSucesso() {
+        if (falhasSeguidas >= falhasParaAbrir) {
+            logger.info("ViaCEP voltou a responder; disjuntor fechado");
+        }
+        falhasSeguidas = 0;
+        testando = false;
+    }
+
+    private synchronized void registrarFalha() {
+        falhasSeguidas++;
+        testando = false;
+        if (falhasSeguidas >= falhasParaAbrir) {
+            abertoAte = System.nanoTime() + esperaNanos;
+            logger.warn("ViaCEP falhou {} vezes seguidas; consultas suspensas por {} ms",
+                falhasSeguidas, TimeUnit.NANOSECONDS.toMillis(esperaNanos));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package inkspiration.backend.cep;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.entities.CepConhecido;
+import inkspiration.backend.exception.endereco.ViaCepIndisponivelException;
+import inkspiration.backend.repository.CepConhecidoRepository;
+
+/**
+ * Resolve CEPs em três níveis: um cache LRU em memória com validade, a tabela
+ * {@code cep_conhecido} e, por último, o ViaCEP. Consultas simultâneas ao mesmo CEP que não
+ * estão em memória compartilham uma única leitura da tabela e uma única chamada ao ViaCEP.
+ * Se o ViaCEP estiver fora, um CEP da tabela com a validade vencida ainda é usado.
+ */
+@Component
+public class ResolvedorCep {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResolvedorCep.class);
+
+    private final ClienteViaCep clienteViaCep;
+    private final CepConhecidoRepository cepConhecidoRepository;
+    private final long ttlNanos;
+    private final Duration validade;
+
+    private final Map<String, EmCache> cache;
+    // Consultas em andamento, pelo CEP
+    private final Map<String, CompletableFuture<CepConhecido>> emAndamento = new ConcurrentHashMap<>();
+
+    public ResolvedorCep(ClienteViaCep clienteViaCep,
+                         CepConhecidoRepository cepConhecidoRepository,
+                         @Value("${cep.cache.capacidade:10000}") int capacidade,
+                         @Value("${cep.cache.ttl-minutos:1440}") long ttlMinutos,
+                         @Value("${cep.validade-dias:90}") long validadeDias) {
+        this.clienteViaCep = clienteViaCep;
+        this.cepConhecidoRepository = cepConhecidoRepository;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutos);
+        this.validade = Duration.ofDays(validadeDias);
+        this.cache = new LinkedHashMap<String, EmCache>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EmCache> eldest) {
+                return size() > capacidade;
+            }
+        };
+    }
+
+    /**
+     * @param cep CEP limpo (apenas números)
+     * @throws inkspiration.backend.exception.endereco.CepInvalidoException se o CEP não existir ou não puder ser consultado
+     */
+    public CepConhecido resolver(String cep) {
+        long agora = System.nanoTime();
+        synchronized (cache) {
+            EmCache emCache = cache.get(cep);
+            if (emCache != null && agora - emCache.expiraEm < 0) {
+                return emCache.cep;
+            }
+        }
+
+        CompletableFuture<CepConhecido> consulta = new CompletableFuture<>();
+        CompletableFuture<CepConhecido> existente = emAndamento.putIfAbsent(cep, consulta);
+        if (existente != null) {
+            try {
+                return existente.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error erro) {
+                    throw erro;
+                }
+                throw e.getCause() instanceof RuntimeException causa ? causa : e;
+            }
+        }
+        try {
+            CepConhecido resolvido = buscar(cep);
+            synchronized (cache) {
+                cache.put(cep, new EmCache(resolvido, System.nanoTime() + ttlNanos));
+            }
+            consulta.complete(resolvido);
+            return resolvido;
+        } catch (Throwable e) {
+            // Qualquer falha, inclusive Error, precisa liberar quem aguarda a mesma consulta
+            consulta.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(cep, consulta);
+        }
+    }
+
+    int tamanhoCache() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private CepConhecido buscar(String cep) {
+        CepConhecido conhecido = cepConhecidoRepository.findById(cep).orElse(null);
+        if (conhecido != null && conhecido.getConsultadoEm().isAfter(LocalDateTime.now().minus(validade))) {
+            return conhecido;
+        }
+
+        try {
+            CepConhecido consultado = clienteViaCep.consultar(cep);
+            cepConhecidoRepository.save(consultado);
+            return consultado;
+        } catch (ViaCepIndisponivelException e) {
+            if (conhecido == null) {
+                throw e;
+            }
+            logger.info("ViaCEP indisponível; usando dados de {} para o CEP {}", conhecido.getConsultadoEm(), cep);
+            return conhecido;
+        }
+    }
+
+    private record EmCache(CepConhecido cep, long expiraEm) {
+    }
+}
@@ -0,0 +1,24 @@
+package inkspiration.backend.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+
+/**
+ * Abre o EntityManager da requisição já nos filtros, depois da cadeia de segurança e antes do
+ * {@link inkspiration.backend.security.TokenResponseFilter}. Assim o usuário que o filtro carrega
+ * no {@link inkspiration.backend.security.ContextoAutenticacao} continua gerenciado nos serviços,
+ * e o interceptador open-in-view do MVC reaproveita o mesmo EntityManager.
+ */
+@Configuration
+public class PersistenciaRequisicaoConfig {
+
+    @Bean
+    public FilterRegistrationBean<OpenEntityManagerInViewFilter> openEntityManagerInViewFilter() {
+        FilterRegistrationBean<OpenEntityManagerInViewFilter> registro =
+                new FilterRegistrationBean<>(new OpenEntityManagerInViewFilter());
+        registro.setOrder(1);
+        return registro;
+    }
+}
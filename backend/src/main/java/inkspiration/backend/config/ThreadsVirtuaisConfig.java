@@ -0,0 +1,35 @@
+package inkspiration.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Registra no log o modo de execução quando {@code spring.threads.virtual.enabled} está ligado.
+ * O Spring Boot ignora a propriedade em silêncio abaixo do Java 21, o que faria a aplicação
+ * continuar no pool de threads de plataforma sem que ninguém percebesse.
+ *
+ * Com threads virtuais, o limite de requisições simultâneas passa a ser o pool de conexões do
+ * banco; os pools de relatórios e de variantes de imagem continuam em threads de plataforma, por
+ * serem trabalho de CPU.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadsVirtuaisConfig.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void informarModoExecucao() {
+        int versao = Runtime.version().feature();
+        if (versao < 21) {
+            logger.warn("spring.threads.virtual.enabled=true ignorado: a aplicação roda em Java {} e threads "
+                    + "virtuais exigem Java 21 (compile com o perfil Maven java21)", versao);
+        } else {
+            logger.info("Requisições, tarefas @Scheduled e tarefas assíncronas rodando em threads virtuais");
+        }
+    }
+}
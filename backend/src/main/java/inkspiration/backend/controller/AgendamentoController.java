@@ -20,12 +20,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import inkspiration.backend.dto.AgendamentoDTO;
 import inkspiration.backend.dto.AgendamentoCompletoDTO;
 import inkspiration.backend.dto.AgendamentoRequestDTO;
 import inkspiration.backend.dto.AgendamentoUpdateDTO;
+import inkspiration.backend.relatorio.FormatoRelatorio;
 import inkspiration.backend.service.AgendamentoService;
 
 @RestController
@@ -136,25 +138,14 @@ public class AgendamentoController {
     public ResponseEntity<?> exportarAgendamentosPDF(
             @RequestParam(required = true) Integer ano,
             Authentication authentication) {
-        
-        try {
-            byte[] pdfBytes = agendamentoService.exportarAgendamentosPDFComAutenticacao(ano, authentication);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.add("Content-Disposition", "attachment; filename=agendamentos-" + ano + ".pdf");
-            headers.add("Content-Length", String.valueOf(pdfBytes.length));
-            
-            return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
-        } catch (RuntimeException e) {
-            // Tratamento específico para mensagens de PDF sem dados
-            if (e.getMessage() != null && e.getMessage().contains("Nenhum agendamento concluído encontrado")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body("{\"error\":\"" + e.getMessage() + "\"}");
-            }
-            throw e;
-        }
+        return exportarAgendamentos(ano, FormatoRelatorio.PDF, authentication);
+    }
+
+    @GetMapping("/relatorios/exportar-csv")
+    public ResponseEntity<?> exportarAgendamentosCSV(
+            @RequestParam(required = true) Integer ano,
+            Authentication authentication) {
+        return exportarAgendamentos(ano, FormatoRelatorio.CSV, authentication);
     }
 
     @GetMapping("/profissional/meus-atendimentos/futuros")
@@ -184,24 +175,60 @@ public class AgendamentoController {
             @RequestParam(required = true) Integer ano,
             @RequestParam(required = true) Integer mes,
             Authentication authentication) {
-        
+        return exportarAtendimentos(ano, mes, FormatoRelatorio.PDF, authentication);
+    }
+
+    @GetMapping("/profissional/relatorios/exportar-csv")
+    public ResponseEntity<?> exportarAtendimentosCSV(
+            @RequestParam(required = true) Integer ano,
+            @RequestParam(required = true) Integer mes,
+            Authentication authentication) {
+        return exportarAtendimentos(ano, mes, FormatoRelatorio.CSV, authentication);
+    }
+
+    private ResponseEntity<?> exportarAgendamentos(Integer ano, FormatoRelatorio formato, Authentication authentication) {
         try {
-            byte[] pdfBytes = agendamentoService.exportarAtendimentosPDFComAutenticacao(ano, mes, authentication);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.add("Content-Disposition", "attachment; filename=atendimentos-" + String.format("%02d", mes) + "-" + ano + ".pdf");
-            headers.add("Content-Length", String.valueOf(pdfBytes.length));
-            
-            return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+            agendamentoService.verificarRelatorioAgendamentosComAutenticacao(ano, authentication);
+        } catch (RuntimeException e) {
+            // Tratamento específico para relatórios sem dados
+            if (e.getMessage() != null && e.getMessage().contains("Nenhum agendamento concluído encontrado")) {
+                return relatorioVazio(e);
+            }
+            throw e;
+        }
+
+        // O relatório é escrito direto na resposta, à medida que as linhas são lidas
+        StreamingResponseBody corpo = out ->
+            agendamentoService.exportarAgendamentosComAutenticacao(ano, formato, authentication, out);
+        return relatorio(corpo, formato, "agendamentos-" + ano);
+    }
+
+    private ResponseEntity<?> exportarAtendimentos(Integer ano, Integer mes, FormatoRelatorio formato, Authentication authentication) {
+        try {
+            agendamentoService.verificarRelatorioAtendimentosComAutenticacao(ano, mes, authentication);
         } catch (RuntimeException e) {
-            // Tratamento específico para mensagens de PDF sem dados
             if (e.getMessage() != null && e.getMessage().contains("Nenhum atendimento concluído encontrado")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body("{\"error\":\"" + e.getMessage() + "\"}");
+                return relatorioVazio(e);
             }
             throw e;
         }
+
+        StreamingResponseBody corpo = out ->
+            agendamentoService.exportarAtendimentosComAutenticacao(ano, mes, formato, authentication, out);
+        return relatorio(corpo, formato, "atendimentos-" + String.format("%02d", mes) + "-" + ano);
+    }
+
+    private ResponseEntity<StreamingResponseBody> relatorio(StreamingResponseBody corpo, FormatoRelatorio formato, String nomeArquivo) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(formato.getContentType()));
+        headers.add("Content-Disposition", "attachment; filename=" + nomeArquivo + "." + formato.getExtensao());
+
+        return new ResponseEntity<>(corpo, headers, HttpStatus.OK);
+    }
+
+    private ResponseEntity<String> relatorioVazio(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body("{\"error\":\"" + e.getMessage() + "\"}");
     }
 } 
\ No newline at end of file
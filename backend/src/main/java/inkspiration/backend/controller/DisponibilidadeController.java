@@ -81,4 +81,14 @@ public class DisponibilidadeController {
             
             return ResponseEntity.ok(horariosDisponiveis);
     }
-} 
\ No newline at end of file
+    
+    @GetMapping("/calendario")
+    public ResponseEntity<Map<String, Map<String, List<String>>>> obterCalendarioDisponivel(
+            @RequestParam Long idProfissional,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+        
+        return ResponseEntity.ok(disponibilidadeService.obterCalendarioDisponivelComValidacao(
+                idProfissional, dataInicio, dataFim));
+    }
+} 
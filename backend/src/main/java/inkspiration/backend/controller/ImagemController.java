@@ -1,19 +1,36 @@
 package inkspiration.backend.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import inkspiration.backend.armazenamento.EnvioArquivo;
+import inkspiration.backend.armazenamento.ImagemArquivo;
+import inkspiration.backend.armazenamento.VarianteImagem;
 import inkspiration.backend.dto.ImagemDTO;
 import inkspiration.backend.service.ImagemService;
 
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
 @RequestMapping("/imagens")
 public class ImagemController {
 
+    private static final CacheControl CACHE_CONTEUDO = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    // Original servida no lugar de uma variante que ainda não está pronta
+    private static final CacheControl CACHE_PROVISORIO = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
     private final ImagemService imagemService;
 
     @Autowired
@@ -33,12 +50,88 @@ public class ImagemController {
         return ResponseEntity.ok(imagem);
     }
 
+    /**
+     * Bytes da imagem. O conteúdo de um id nunca muda, então o ETag (hash do conteúdo) e o
+     * cache imutável permitem que o cliente reaproveite a cópia local; requisições com Range
+     * são atendidas pelo suporte a regiões de {@link Resource} do Spring. Com {@code variante}
+     * ({@code miniatura}, {@code media} ou {@code grande}) devolve a versão reduzida.
+     */
+    @GetMapping("/{id}/raw")
+    public ResponseEntity<Resource> conteudo(@PathVariable Long id,
+                                             @RequestParam(required = false) String variante,
+                                             HttpServletRequest request) throws IOException {
+        return enviar(imagemService.abrirConteudo(id, VarianteImagem.deParametro(variante)), request);
+    }
+
+    /**
+     * Bytes de um conteúdo pelo hash. É o caminho das fotos de perfil; imagens iguais têm o
+     * mesmo endereço e, portanto, a mesma cópia no cache do cliente.
+     */
+    @GetMapping("/conteudo/{hash}")
+    public ResponseEntity<Resource> conteudoPorHash(@PathVariable String hash,
+                                                    HttpServletRequest request) throws IOException {
+        return enviar(imagemService.abrirConteudoPorHash(hash), request);
+    }
+
+    private ResponseEntity<Resource> enviar(ImagemArquivo arquivo, HttpServletRequest request) throws IOException {
+        String etag = "\"" + arquivo.getHash() + "\"";
+        CacheControl cache = arquivo.isImutavel() ? CACHE_CONTEUDO : CACHE_PROVISORIO;
+
+        if (etagCorresponde(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cache)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cache)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.parseMediaType(arquivo.getMimeType()));
+
+        if (request.getHeader(HttpHeaders.RANGE) == null
+                && EnvioArquivo.agendarSendfile(request, arquivo.getRecurso())) {
+            return resposta.contentLength(arquivo.getRecurso().contentLength()).build();
+        }
+        return resposta.body(arquivo.getRecurso());
+    }
+
+    private static boolean etagCorresponde(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals("*") || valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @PostMapping
     public ResponseEntity<ImagemDTO> salvar(@RequestBody ImagemDTO dto) {
         ImagemDTO imagemSalva = imagemService.salvarComValidacao(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(imagemSalva);
     }
 
+    /**
+     * Upload do arquivo em bytes, sem base64. O arquivo é lido em fluxo e recusado assim que
+     * a assinatura ou o tamanho não forem aceitos.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImagemDTO> enviarArquivo(@RequestParam Long idPortfolio,
+                                                   @RequestParam("arquivo") MultipartFile arquivo) throws IOException {
+        try (InputStream entrada = arquivo.getInputStream()) {
+            ImagemDTO imagemSalva = imagemService.salvarArquivoComValidacao(idPortfolio, entrada, arquivo.getSize());
+            return ResponseEntity.status(HttpStatus.CREATED).body(imagemSalva);
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletar(@PathVariable Long id) {
         imagemService.deletarComValidacao(id);
@@ -14,7 +14,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import inkspiration.backend.dto.PaginaImagensDTO;
 import inkspiration.backend.dto.PortfolioDTO;
+import inkspiration.backend.service.ImagemService;
 import inkspiration.backend.service.PortfolioService;
 import jakarta.validation.Valid;
 
@@ -22,10 +24,12 @@ import jakarta.validation.Valid;
 public class PortfolioController {
 
     private final PortfolioService portfolioService;
+    private final ImagemService imagemService;
 
     @Autowired
-    public PortfolioController(PortfolioService portfolioService) {
+    public PortfolioController(PortfolioService portfolioService, ImagemService imagemService) {
         this.portfolioService = portfolioService;
+        this.imagemService = imagemService;
     }
 
     @GetMapping("/portfolio")
@@ -44,6 +48,20 @@ public class PortfolioController {
         return ResponseEntity.ok(portfolio);
     }
 
+    /**
+     * Metadados das imagens do portfólio, paginados por cursor. A primeira página é pedida
+     * sem {@code cursor}; as seguintes usam o {@code proximoCursor} da resposta anterior.
+     */
+    @GetMapping("/portfolio/{id}/imagens")
+    public ResponseEntity<PaginaImagensDTO> listarImagens(
+        @PathVariable Long id,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(required = false) Integer tamanho) {
+
+        PaginaImagensDTO pagina = imagemService.listarPaginaComValidacao(id, cursor, tamanho);
+        return ResponseEntity.ok(pagina);
+    }
+
     @PutMapping("/portfolio/atualizar/{id}")
     public ResponseEntity<PortfolioDTO> atualizar(@PathVariable Long id, @RequestBody @Valid PortfolioDTO dto) {
         PortfolioDTO portfolio = portfolioService.atualizarComValidacao(id, dto);
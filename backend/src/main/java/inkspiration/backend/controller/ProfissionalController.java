@@ -28,6 +28,11 @@ import jakarta.validation.Valid;
 @RestController
 public class ProfissionalController {
 
+    // A busca em memória guarda offset + size resultados; page e size vêm direto da requisição.
+    // Valores negativos continuam sendo recusados pelo PageRequest.
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+    private static final int PAGINA_MAXIMA = 10_000;
+
     private final ProfissionalService profissionalService;
 
     @Autowired
@@ -40,7 +45,7 @@ public class ProfissionalController {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size) {
             
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = paginacao(page, size);
         List<ProfissionalDTO> dtos = profissionalService.listarComAutorizacao(pageable);
         return ResponseEntity.ok(dtos);
     }
@@ -60,11 +65,16 @@ public class ProfissionalController {
             @RequestParam(required = false) String locationTerm,
             @RequestParam(defaultValue = "0") double minRating,
             @RequestParam(required = false) String[] selectedSpecialties,
-            @RequestParam(defaultValue = "melhorAvaliacao") String sortBy) {
+            @RequestParam(defaultValue = "melhorAvaliacao") String sortBy,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(defaultValue = "10") double raioKm) {
         
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Map<String, Object>> profissionais = profissionalService.listarCompletoComFiltros(
-            pageable, searchTerm, locationTerm, minRating, selectedSpecialties, sortBy);
+        Pageable pageable = paginacao(page, size);
+        Page<Map<String, Object>> profissionais = latitude != null && longitude != null
+            ? profissionalService.listarProximos(pageable, latitude, longitude, raioKm, minRating, selectedSpecialties)
+            : profissionalService.listarCompletoComFiltros(
+                pageable, searchTerm, locationTerm, minRating, selectedSpecialties, sortBy);
         
         Map<String, Object> response = new HashMap<>();
         response.put("content", profissionais.getContent());
@@ -78,6 +88,13 @@ public class ProfissionalController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/profissional/sugestoes")
+    public ResponseEntity<List<Map<String, Object>>> sugerirNomes(
+            @RequestParam String termo,
+            @RequestParam(defaultValue = "8") int limite) {
+        return ResponseEntity.ok(profissionalService.sugerirNomes(termo, limite));
+    }
+
     @GetMapping("/profissional/completo/{id}")
     public ResponseEntity<Map<String, Object>> buscarCompletoPorid(@PathVariable Long id) {
         Map<String, Object> profissionalCompleto = profissionalService.buscarCompletoComValidacao(id);
@@ -190,4 +207,8 @@ public class ProfissionalController {
         profissionalService.deletarComAutorizacao(id);
         return ResponseEntity.noContent().build();
     }
-} 
\ No newline at end of file
+
+    private static Pageable paginacao(int page, int size) {
+        return PageRequest.of(Math.min(page, PAGINA_MAXIMA), Math.min(size, TAMANHO_MAXIMO_PAGINA));
+    }
+}
@@ -0,0 +1,60 @@
+package inkspiration.backend.controller;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import inkspiration.backend.dto.RelatorioJobDTO;
+import inkspiration.backend.relatorio.FormatoRelatorio;
+import inkspiration.backend.relatorio.RelatorioJob;
+import inkspiration.backend.relatorio.TipoRelatorio;
+import inkspiration.backend.service.RelatorioJobService;
+
+@RestController
+@RequestMapping("/agendamentos/relatorios/jobs")
+public class RelatorioJobController {
+
+    private final RelatorioJobService relatorioJobService;
+
+    public RelatorioJobController(RelatorioJobService relatorioJobService) {
+        this.relatorioJobService = relatorioJobService;
+    }
+
+    @PostMapping
+    public ResponseEntity<RelatorioJobDTO> solicitarRelatorio(
+            @RequestParam TipoRelatorio tipo,
+            @RequestParam Integer ano,
+            @RequestParam(required = false) Integer mes,
+            @RequestParam(defaultValue = "PDF") FormatoRelatorio formato,
+            Authentication authentication) {
+        RelatorioJob job = relatorioJobService.solicitarComAutenticacao(tipo, formato, ano, mes, authentication);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new RelatorioJobDTO(job));
+    }
+
+    @GetMapping("/{idJob}")
+    public ResponseEntity<RelatorioJobDTO> consultarRelatorio(@PathVariable String idJob, Authentication authentication) {
+        RelatorioJob job = relatorioJobService.buscarComAutenticacao(idJob, authentication);
+        return ResponseEntity.ok(new RelatorioJobDTO(job));
+    }
+
+    @GetMapping("/{idJob}/arquivo")
+    public ResponseEntity<Resource> baixarRelatorio(@PathVariable String idJob, Authentication authentication) {
+        RelatorioJob job = relatorioJobService.buscarConcluidoComAutenticacao(idJob, authentication);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(job.getFormato().getContentType()));
+        headers.add("Content-Disposition", "attachment; filename=" + job.getNomeArquivo());
+
+        return new ResponseEntity<>(new FileSystemResource(job.getArquivo()), headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,132 @@
+package inkspiration.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import inkspiration.backend.entities.Agendamento;
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.enums.TipoServico;
+
+/**
+ * Linha dos relatórios de agendamentos e atendimentos. É lida diretamente por projeção,
+ * sem carregar entidades (e as imagens de perfil dos usuários) no contexto de persistência.
+ */
+public class AgendamentoRelatorioDTO {
+    private final Long idAgendamento;
+    private final TipoServico tipoServico;
+    private final String descricao;
+    private final LocalDateTime dtInicio;
+    private final LocalDateTime dtFim;
+    private final BigDecimal valor;
+    private final String nomeProfissional;
+    private final String nomeUsuario;
+
+    // Endereço do profissional
+    private final String rua;
+    private final String numero;
+    private final String complemento;
+    private final String bairro;
+    private final String cidade;
+    private final String estado;
+    private final String cep;
+
+    public AgendamentoRelatorioDTO(Long idAgendamento, TipoServico tipoServico, String descricao,
+            LocalDateTime dtInicio, LocalDateTime dtFim, BigDecimal valor, String nomeProfissional,
+            String nomeUsuario, String rua, String numero, String complemento, String bairro,
+            String cidade, String estado, String cep) {
+        this.idAgendamento = idAgendamento;
+        this.tipoServico = tipoServico;
+        this.descricao = descricao;
+        this.dtInicio = dtInicio;
+        this.dtFim = dtFim;
+        this.valor = valor;
+        this.nomeProfissional = nomeProfissional;
+        this.nomeUsuario = nomeUsuario;
+        this.rua = rua;
+        this.numero = numero;
+        this.complemento = complemento;
+        this.bairro = bairro;
+        this.cidade = cidade;
+        this.estado = estado;
+        this.cep = cep;
+    }
+
+    public AgendamentoRelatorioDTO(Agendamento agendamento) {
+        this(agendamento.getIdAgendamento(), agendamento.getTipoServico(), agendamento.getDescricao(),
+            agendamento.getDtInicio(), agendamento.getDtFim(), agendamento.getValor(),
+            agendamento.getProfissional() != null && agendamento.getProfissional().getUsuario() != null
+                ? agendamento.getProfissional().getUsuario().getNome() : null,
+            agendamento.getUsuario() != null ? agendamento.getUsuario().getNome() : null,
+            endereco(agendamento) != null ? endereco(agendamento).getRua() : null,
+            endereco(agendamento) != null ? endereco(agendamento).getNumero() : null,
+            endereco(agendamento) != null ? endereco(agendamento).getComplemento() : null,
+            endereco(agendamento) != null ? endereco(agendamento).getBairro() : null,
+            endereco(agendamento) != null ? endereco(agendamento).getCidade() : null,
+            endereco(agendamento) != null ? endereco(agendamento).getEstado() : null,
+            endereco(agendamento) != null ? endereco(agendamento).getCep() : null);
+    }
+
+    private static Endereco endereco(Agendamento agendamento) {
+        return agendamento.getProfissional() != null ? agendamento.getProfissional().getEndereco() : null;
+    }
+
+    public Long getIdAgendamento() {
+        return idAgendamento;
+    }
+
+    public TipoServico getTipoServico() {
+        return tipoServico;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public LocalDateTime getDtInicio() {
+        return dtInicio;
+    }
+
+    public LocalDateTime getDtFim() {
+        return dtFim;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public String getNomeProfissional() {
+        return nomeProfissional;
+    }
+
+    public String getNomeUsuario() {
+        return nomeUsuario;
+    }
+
+    public String getRua() {
+        return rua;
+    }
+
+    public String getNumero() {
+        return numero;
+    }
+
+    public String getComplemento() {
+        return complemento;
+    }
+
+    public String getBairro() {
+        return bairro;
+    }
+
+    public String getCidade() {
+        return cidade;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public String getCep() {
+        return cep;
+    }
+}
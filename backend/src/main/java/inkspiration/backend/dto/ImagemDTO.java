@@ -1,40 +1,126 @@
 package inkspiration.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * No envio, {@code imagemBase64} traz o conteúdo em data URI. Nas respostas o conteúdo
+ * não é incluído: o cliente baixa os bytes pela {@code url}, ou a versão reduzida pela
+ * {@code urlMiniatura}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ImagemDTO {
     private Long idImagem;
     private String imagemBase64;
     private Long idPortfolio;
-    
+    private String url;
+    private String urlMiniatura;
+    private String mimeType;
+    private Long tamanho;
+    private Integer largura;
+    private Integer altura;
+
     public ImagemDTO() {}
-    
+
     public ImagemDTO(Long idImagem, String imagemBase64, Long idPortfolio) {
         this.idImagem = idImagem;
         this.imagemBase64 = imagemBase64;
         this.idPortfolio = idPortfolio;
     }
-    
+
+    /**
+     * Usado pela consulta de metadados do repositório; as URLs são preenchidas pelo serviço.
+     */
+    public ImagemDTO(Long idImagem, Long idPortfolio, String mimeType, Long tamanho, Integer largura, Integer altura) {
+        this.idImagem = idImagem;
+        this.idPortfolio = idPortfolio;
+        this.mimeType = mimeType;
+        this.tamanho = tamanho;
+        this.largura = largura;
+        this.altura = altura;
+    }
+
+    public ImagemDTO(Long idImagem, Long idPortfolio, String url, String urlMiniatura, String mimeType,
+            Long tamanho, Integer largura, Integer altura) {
+        this.idImagem = idImagem;
+        this.idPortfolio = idPortfolio;
+        this.url = url;
+        this.urlMiniatura = urlMiniatura;
+        this.mimeType = mimeType;
+        this.tamanho = tamanho;
+        this.largura = largura;
+        this.altura = altura;
+    }
+
     // Getters e Setters
     public Long getIdImagem() {
         return idImagem;
     }
-    
+
     public void setIdImagem(Long idImagem) {
         this.idImagem = idImagem;
     }
-    
+
     public String getImagemBase64() {
         return imagemBase64;
     }
-    
+
     public void setImagemBase64(String imagemBase64) {
         this.imagemBase64 = imagemBase64;
     }
-    
+
     public Long getIdPortfolio() {
         return idPortfolio;
     }
-    
+
     public void setIdPortfolio(Long idPortfolio) {
         this.idPortfolio = idPortfolio;
     }
-} 
\ No newline at end of file
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUrlMiniatura() {
+        return urlMiniatura;
+    }
+
+    public void setUrlMiniatura(String urlMiniatura) {
+        this.urlMiniatura = urlMiniatura;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public Long getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(Long tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public Integer getLargura() {
+        return largura;
+    }
+
+    public void setLargura(Integer largura) {
+        this.largura = largura;
+    }
+
+    public Integer getAltura() {
+        return altura;
+    }
+
+    public void setAltura(Integer altura) {
+        this.altura = altura;
+    }
+}
@@ -0,0 +1,25 @@
+package inkspiration.backend.dto;
+
+import java.util.List;
+
+/**
+ * Página de imagens de um portfólio. {@code proximoCursor} é {@code null} na última página;
+ * caso contrário, deve ser enviado como {@code cursor} para buscar a página seguinte.
+ */
+public class PaginaImagensDTO {
+    private final List<ImagemDTO> imagens;
+    private final Long proximoCursor;
+
+    public PaginaImagensDTO(List<ImagemDTO> imagens, Long proximoCursor) {
+        this.imagens = imagens;
+        this.proximoCursor = proximoCursor;
+    }
+
+    public List<ImagemDTO> getImagens() {
+        return imagens;
+    }
+
+    public Long getProximoCursor() {
+        return proximoCursor;
+    }
+}
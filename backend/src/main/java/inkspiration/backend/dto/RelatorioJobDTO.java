@@ -0,0 +1,106 @@
+package inkspiration.backend.dto;
+
+import java.time.Instant;
+
+import inkspiration.backend.relatorio.FormatoRelatorio;
+import inkspiration.backend.relatorio.RelatorioJob;
+import inkspiration.backend.relatorio.StatusRelatorioJob;
+import inkspiration.backend.relatorio.TipoRelatorio;
+
+public class RelatorioJobDTO {
+    private String idJob;
+    private TipoRelatorio tipo;
+    private FormatoRelatorio formato;
+    private Integer ano;
+    private Integer mes;
+    private StatusRelatorioJob status;
+    private Instant criadoEm;
+    private Instant concluidoEm;
+    private String erro;
+
+    public RelatorioJobDTO() {}
+
+    public RelatorioJobDTO(RelatorioJob job) {
+        this.idJob = job.getIdJob();
+        this.tipo = job.getTipo();
+        this.formato = job.getFormato();
+        this.ano = job.getAno();
+        this.mes = job.getMes();
+        this.status = job.getStatus();
+        this.criadoEm = job.getCriadoEm();
+        this.concluidoEm = job.getConcluidoEm();
+        this.erro = job.getErro();
+    }
+
+    public String getIdJob() {
+        return idJob;
+    }
+
+    public void setIdJob(String idJob) {
+        this.idJob = idJob;
+    }
+
+    public TipoRelatorio getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoRelatorio tipo) {
+        this.tipo = tipo;
+    }
+
+    public FormatoRelatorio getFormato() {
+        return formato;
+    }
+
+    public void setFormato(FormatoRelatorio formato) {
+        this.formato = formato;
+    }
+
+    public Integer getAno() {
+        return ano;
+    }
+
+    public void setAno(Integer ano) {
+        this.ano = ano;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public void setMes(Integer mes) {
+        this.mes = mes;
+    }
+
+    public StatusRelatorioJob getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusRelatorioJob status) {
+        this.status = status;
+    }
+
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+
+    public void setCriadoEm(Instant criadoEm) {
+        this.criadoEm = criadoEm;
+    }
+
+    public Instant getConcluidoEm() {
+        return concluidoEm;
+    }
+
+    public void setConcluidoEm(Instant concluidoEm) {
+        this.concluidoEm = concluidoEm;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+}
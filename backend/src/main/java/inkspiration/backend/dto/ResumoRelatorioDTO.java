@@ -0,0 +1,24 @@
+package inkspiration.backend.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Totais de um relatório, calculados no banco antes de as linhas serem lidas.
+ */
+public class ResumoRelatorioDTO {
+    private final long quantidade;
+    private final BigDecimal valorTotal;
+
+    public ResumoRelatorioDTO(long quantidade, BigDecimal valorTotal) {
+        this.quantidade = quantidade;
+        this.valorTotal = valorTotal != null ? valorTotal : BigDecimal.ZERO;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public BigDecimal getValorTotal() {
+        return valorTotal;
+    }
+}
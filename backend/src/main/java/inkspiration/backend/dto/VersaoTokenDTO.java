@@ -0,0 +1,22 @@
+package inkspiration.backend.dto;
+
+/**
+ * Versão e valor do token atual de um usuário, lidos sem carregar a entidade inteira.
+ */
+public class VersaoTokenDTO {
+    private final int versao;
+    private final String token;
+
+    public VersaoTokenDTO(Integer versao, String token) {
+        this.versao = versao != null ? versao : 0;
+        this.token = token;
+    }
+
+    public int getVersao() {
+        return versao;
+    }
+
+    public String getToken() {
+        return token;
+    }
+}
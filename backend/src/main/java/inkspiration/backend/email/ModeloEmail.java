@@ -0,0 +1,97 @@
+package inkspiration.backend.email;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * Template de email renderizado uma única vez pelo Thymeleaf, com um marcador no lugar de cada
+ * variável. Depois disso, montar uma mensagem é só intercalar os trechos fixos já prontos com os
+ * valores, escapados para HTML da mesma forma que o {@code th:text} faria.
+ */
+public final class ModeloEmail {
+
+    private static final Pattern MARCADOR = Pattern.compile("\\{\\{(\\w+)\\}\\}");
+
+    // trechos.length == variaveis.length + 1; depois de trechos[i] vem o valor de índice variaveis[i]
+    private final String[] trechos;
+    private final int[] variaveis;
+    private final int tamanhoFixo;
+
+    private ModeloEmail(String[] trechos, int[] variaveis) {
+        this.trechos = trechos;
+        this.variaveis = variaveis;
+        this.tamanhoFixo = Arrays.stream(trechos).mapToInt(String::length).sum();
+    }
+
+    /**
+     * @param nomes variáveis do template, na ordem em que os valores serão passados a {@link #renderizar}
+     * @throws IllegalStateException se alguma variável declarada não aparecer no resultado (nome errado no
+     *         template) ou se sobrar um marcador {@code {{...}}} que não corresponde a nenhuma delas
+     */
+    public static ModeloEmail compilar(ITemplateEngine engine, String template, String... nomes) {
+        List<String> declaradas = List.of(nomes);
+        Context contexto = new Context(Locale.forLanguageTag("pt-BR"));
+        for (String nome : nomes) {
+            contexto.setVariable(nome, "{{" + nome + "}}");
+        }
+        String html = engine.process(template, contexto);
+
+        List<String> trechos = new ArrayList<>();
+        List<Integer> variaveis = new ArrayList<>();
+        Matcher marcador = MARCADOR.matcher(html);
+        int inicio = 0;
+        while (marcador.find()) {
+            int indice = declaradas.indexOf(marcador.group(1));
+            if (indice < 0) {
+                throw new IllegalStateException("Variável não declarada no template " + template + ": " + marcador.group());
+            }
+            trechos.add(html.substring(inicio, marcador.start()));
+            variaveis.add(indice);
+            inicio = marcador.end();
+        }
+        trechos.add(html.substring(inicio));
+
+        for (int i = 0; i < nomes.length; i++) {
+            if (!variaveis.contains(i)) {
+                throw new IllegalStateException("Variável " + nomes[i] + " não usada no template " + template);
+            }
+        }
+        return new ModeloEmail(trechos.toArray(String[]::new), variaveis.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @param valores valores das variáveis, na ordem declarada em {@link #compilar}; {@code null} vira vazio
+     */
+    public String renderizar(String... valores) {
+        StringBuilder html = new StringBuilder(tamanhoFixo + 64);
+        for (int i = 0; i < variaveis.length; i++) {
+            html.append(trechos[i]);
+            escapar(valores[variaveis[i]], html);
+        }
+        return html.append(trechos[variaveis.length]).toString();
+    }
+
+    private static void escapar(String valor, StringBuilder html) {
+        if (valor == null) {
+            return;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '&' -> html.append("&amp;");
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '"' -> html.append("&quot;");
+                case '\'' -> html.append("&#39;");
+                default -> html.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package inkspiration.backend.email;
+
+import org.springframework.stereotype.Component;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * Templates dos emails da aplicação ({@code templates/email/*.html}), compilados na criação do
+ * bean. O cabeçalho, o rodapé e os estilos comuns ficam em {@code base.html}; por mensagem
+ * enviada só o nome e o código são inseridos.
+ */
+@Component
+public class ModelosEmail {
+
+    private final ModeloEmail recuperacaoSenha;
+    private final ModeloEmail senhaAlterada;
+    private final ModeloEmail recuperacaoDoisFatores;
+    private final ModeloEmail verificacaoEmail;
+
+    public ModelosEmail() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+
+        this.recuperacaoSenha = ModeloEmail.compilar(engine, "email/recuperacao-senha", "nome", "codigo");
+        this.senhaAlterada = ModeloEmail.compilar(engine, "email/senha-alterada", "nome");
+        this.recuperacaoDoisFatores = ModeloEmail.compilar(engine, "email/recuperacao-2fa", "nome", "codigo");
+        this.verificacaoEmail = ModeloEmail.compilar(engine, "email/verificacao-email", "nome", "codigo");
+    }
+
+    public String recuperacaoSenha(String nome, String codigo) {
+        return recuperacaoSenha.renderizar(nome, codigo);
+    }
+
+    public String senhaAlterada(String nome) {
+        return senhaAlterada.renderizar(nome);
+    }
+
+    public String recuperacaoDoisFatores(String nome, String codigo) {
+        return recuperacaoDoisFatores.renderizar(nome, codigo);
+    }
+
+    public String verificacaoEmail(String nome, String codigo) {
+        return verificacaoEmail.renderizar(nome, codigo);
+    }
+}
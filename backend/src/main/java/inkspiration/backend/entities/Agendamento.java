@@ -10,8 +10,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -24,6 +26,11 @@ import inkspiration.backend.enums.TipoServico;
 import inkspiration.backend.enums.StatusAgendamento;
 
 @Entity
+@Table(indexes = {
+    // Verificação de conflitos por faixa de horário (dt_inicio < fim AND dt_fim > inicio)
+    @Index(name = "idx_agendamento_usuario_periodo", columnList = "usuario_id, dt_inicio, dt_fim"),
+    @Index(name = "idx_agendamento_profissional_periodo", columnList = "profissional_id, dt_inicio, dt_fim")
+})
 public class Agendamento {
     
     // Grupos de validação
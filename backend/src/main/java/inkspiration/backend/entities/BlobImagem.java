@@ -0,0 +1,81 @@
+package inkspiration.backend.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * Contagem de referências de um conteúdo no {@link inkspiration.backend.armazenamento.ArmazenamentoBlob}.
+ * Imagens do portfólio e fotos de perfil com os mesmos bytes apontam para o mesmo hash; quando
+ * a contagem chega a zero o conteúdo vira órfão e é removido depois de um período de carência.
+ */
+@Entity
+@Table(name = "blob_imagem", indexes = @Index(name = "idx_blob_imagem_orfao", columnList = "referencias, sem_referencias_desde"))
+public class BlobImagem {
+
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    @Column(name = "mime_type", length = 50)
+    private String mimeType;
+
+    @Column(name = "tamanho")
+    private Long tamanho;
+
+    @Column(name = "referencias", nullable = false)
+    private int referencias;
+
+    // Momento em que a contagem chegou a zero; nulo enquanto houver referências
+    @Column(name = "sem_referencias_desde")
+    private LocalDateTime semReferenciasDesde;
+
+    public BlobImagem() {}
+
+    /**
+     * Caminho público do conteúdo. Como o conteúdo de um hash nunca muda, pode ser guardado em cache indefinidamente.
+     */
+    public static String urlConteudo(String hash) {
+        return "/imagens/conteudo/" + hash;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public Long getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(Long tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public int getReferencias() {
+        return referencias;
+    }
+
+    public void setReferencias(int referencias) {
+        this.referencias = referencias;
+    }
+
+    public LocalDateTime getSemReferenciasDesde() {
+        return semReferenciasDesde;
+    }
+
+    public void setSemReferenciasDesde(LocalDateTime semReferenciasDesde) {
+        this.semReferenciasDesde = semReferenciasDesde;
+    }
+}
@@ -0,0 +1,86 @@
+package inkspiration.backend.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * Cadastro aguardando a confirmação do email. Os dados do formulário ficam em JSON, sem a senha,
+ * que é guardada já codificada; assim nada sensível fica em texto puro enquanto o código não é
+ * confirmado, esteja o cadastro em memória ou na tabela.
+ */
+@Entity
+@Table(name = "cadastro_pendente", indexes = @Index(name = "idx_cadastro_pendente_expira_em", columnList = "expira_em"))
+public class CadastroPendente {
+
+    @Id
+    @Column(name = "email", length = 320)
+    private String email;
+
+    // UsuarioDTO do cadastro, sem os campos de senha nem usuarioAutenticar
+    @Column(name = "dados", nullable = false, columnDefinition = "TEXT")
+    private String dados;
+
+    @Column(name = "senha_codificada", nullable = false, length = 100)
+    private String senhaCodificada;
+
+    @Column(name = "codigo", nullable = false, length = 6)
+    private String codigo;
+
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+
+    public CadastroPendente() {}
+
+    public CadastroPendente(String email, String dados, String senhaCodificada, String codigo, LocalDateTime expiraEm) {
+        this.email = email;
+        this.dados = dados;
+        this.senhaCodificada = senhaCodificada;
+        this.codigo = codigo;
+        this.expiraEm = expiraEm;
+    }
+
+    public boolean isExpirado(LocalDateTime agora) {
+        return agora.isAfter(expiraEm);
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getDados() {
+        return dados;
+    }
+
+    public void setDados(String dados) {
+        this.dados = dados;
+    }
+
+    public String getSenhaCodificada() {
+        return senhaCodificada;
+    }
+
+    public void setSenhaCodificada(String senhaCodificada) {
+        this.senhaCodificada = senhaCodificada;
+    }
+
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public void setCodigo(String codigo) {
+        this.codigo = codigo;
+    }
+
+    public LocalDateTime getExpiraEm() {
+        return expiraEm;
+    }
+
+    public void setExpiraEm(LocalDateTime expiraEm) {
+        this.expiraEm = expiraEm;
+    }
+}
@@ -0,0 +1,92 @@
+package inkspiration.backend.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * CEP já consultado no ViaCEP. CEPs quase nunca mudam, então a linha é reaproveitada entre
+ * reinícios e instâncias e só é consultada de novo depois de {@code cep.validade-dias}.
+ */
+@Entity
+@Table(name = "cep_conhecido")
+public class CepConhecido {
+
+    @Id
+    @Column(name = "cep", length = 8)
+    private String cep;
+
+    @Column(name = "logradouro")
+    private String logradouro;
+
+    @Column(name = "bairro")
+    private String bairro;
+
+    @Column(name = "localidade", nullable = false)
+    private String localidade;
+
+    @Column(name = "uf", nullable = false, length = 2)
+    private String uf;
+
+    @Column(name = "consultado_em", nullable = false)
+    private LocalDateTime consultadoEm;
+
+    public CepConhecido() {}
+
+    public CepConhecido(String cep, String logradouro, String bairro, String localidade, String uf, LocalDateTime consultadoEm) {
+        this.cep = cep;
+        this.logradouro = logradouro;
+        this.bairro = bairro;
+        this.localidade = localidade;
+        this.uf = uf;
+        this.consultadoEm = consultadoEm;
+    }
+
+    public String getCep() {
+        return cep;
+    }
+
+    public void setCep(String cep) {
+        this.cep = cep;
+    }
+
+    public String getLogradouro() {
+        return logradouro;
+    }
+
+    public void setLogradouro(String logradouro) {
+        this.logradouro = logradouro;
+    }
+
+    public String getBairro() {
+        return bairro;
+    }
+
+    public void setBairro(String bairro) {
+        this.bairro = bairro;
+    }
+
+    public String getLocalidade() {
+        return localidade;
+    }
+
+    public void setLocalidade(String localidade) {
+        this.localidade = localidade;
+    }
+
+    public String getUf() {
+        return uf;
+    }
+
+    public void setUf(String uf) {
+        this.uf = uf;
+    }
+
+    public LocalDateTime getConsultadoEm() {
+        return consultadoEm;
+    }
+
+    public void setConsultadoEm(LocalDateTime consultadoEm) {
+        this.consultadoEm = consultadoEm;
+    }
+}
@@ -0,0 +1,142 @@
+package inkspiration.backend.entities;
+
+import java.time.LocalDateTime;
+
+import inkspiration.backend.enums.StatusEmail;
+import jakarta.persistence.*;
+
+/**
+ * Email na caixa de saída. A mensagem é guardada já montada, no formato MIME, e enviada pelos
+ * workers do {@link inkspiration.backend.service.CaixaSaidaEmailService}. Enquanto pendente,
+ * {@code proximaTentativa} marca quando ela pode ser enviada; um worker que a reserva empurra
+ * esse horário para frente, e se ele cair no meio do envio a mensagem volta a ficar disponível.
+ */
+@Entity
+@Table(name = "email_saida", indexes = @Index(name = "idx_email_saida_pronto", columnList = "status, proxima_tentativa"))
+public class EmailSaida {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_email")
+    private Long idEmail;
+
+    @Column(name = "destinatario", length = 320)
+    private String destinatario;
+
+    @Column(name = "assunto")
+    private String assunto;
+
+    // Mensagem MIME completa, como gerada pelo JavaMail
+    @Column(name = "mensagem", nullable = false, columnDefinition = "TEXT")
+    private String mensagem;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusEmail status;
+
+    @Column(name = "tentativas", nullable = false)
+    private int tentativas;
+
+    @Column(name = "proxima_tentativa", nullable = false)
+    private LocalDateTime proximaTentativa;
+
+    @Column(name = "ultimo_erro", length = 500)
+    private String ultimoErro;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "enviado_em")
+    private LocalDateTime enviadoEm;
+
+    public EmailSaida() {}
+
+    public EmailSaida(String destinatario, String assunto, String mensagem, LocalDateTime agora) {
+        this.destinatario = destinatario;
+        this.assunto = assunto;
+        this.mensagem = mensagem;
+        this.status = StatusEmail.PENDENTE;
+        this.proximaTentativa = agora;
+        this.criadoEm = agora;
+    }
+
+    public Long getIdEmail() {
+        return idEmail;
+    }
+
+    public void setIdEmail(Long idEmail) {
+        this.idEmail = idEmail;
+    }
+
+    public String getDestinatario() {
+        return destinatario;
+    }
+
+    public void setDestinatario(String destinatario) {
+        this.destinatario = destinatario;
+    }
+
+    public String getAssunto() {
+        return assunto;
+    }
+
+    public void setAssunto(String assunto) {
+        this.assunto = assunto;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+
+    public StatusEmail getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEmail status) {
+        this.status = status;
+    }
+
+    public int getTentativas() {
+        return tentativas;
+    }
+
+    public void setTentativas(int tentativas) {
+        this.tentativas = tentativas;
+    }
+
+    public LocalDateTime getProximaTentativa() {
+        return proximaTentativa;
+    }
+
+    public void setProximaTentativa(LocalDateTime proximaTentativa) {
+        this.proximaTentativa = proximaTentativa;
+    }
+
+    public String getUltimoErro() {
+        return ultimoErro;
+    }
+
+    public void setUltimoErro(String ultimoErro) {
+        this.ultimoErro = ultimoErro;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public void setCriadoEm(LocalDateTime criadoEm) {
+        this.criadoEm = criadoEm;
+    }
+
+    public LocalDateTime getEnviadoEm() {
+        return enviadoEm;
+    }
+
+    public void setEnviadoEm(LocalDateTime enviadoEm) {
+        this.enviadoEm = enviadoEm;
+    }
+}
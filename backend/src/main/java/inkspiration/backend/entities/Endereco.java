@@ -1,6 +1,7 @@
 package inkspiration.backend.entities;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -11,7 +12,10 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 
+import inkspiration.backend.search.ProfissionalIndexEntityListener;
+
 @Entity
+@EntityListeners(ProfissionalIndexEntityListener.class)
 public class Endereco {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,21 +1,44 @@
 package inkspiration.backend.entities;
 
+import java.util.Set;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
-import jakarta.validation.constraints.Pattern;
 
 @Entity
-@Table(name = "imagem")
+@Table(name = "imagem", indexes = @Index(name = "idx_imagem_hash", columnList = "hash"))
 public class Imagem {
+
+    private static final String PREFIXO_DATA_URI = "data:image/";
+    private static final String MARCADOR_BASE64 = ";base64,";
+    private static final Set<String> TIPOS_DATA_URI = Set.of("jpeg", "jpg", "png", "gif", "bmp", "webp");
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id_imagem")
     private Long idImagem;
     
+    /**
+     * Hash SHA-256 do conteúdo, que é a chave no {@link inkspiration.backend.armazenamento.ArmazenamentoBlob}.
+     */
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    @Column(name = "mime_type", length = 50)
+    private String mimeType;
+
+    @Column(name = "tamanho")
+    private Long tamanho;
+
+    @Column(name = "largura")
+    private Integer largura;
+
+    @Column(name = "altura")
+    private Integer altura;
+
+    // Formato antigo: o conteúdo em base64 no próprio banco. Só é preenchido em registros
+    // que ainda não foram migrados para o armazenamento de blobs.
     @Size(min = 10, message = "A imagem deve ter pelo menos 10 caracteres quando fornecida")
-    @Pattern(regexp = "^data:image\\/(jpeg|jpg|png|gif|bmp|webp);base64,[A-Za-z0-9+/=]+$", 
-             message = "Formato de imagem base64 inválido")
     @Column(name = "imagem_base64", columnDefinition = "TEXT")
     private String imagemBase64;
     
@@ -39,6 +62,50 @@ public class Imagem {
         this.idImagem = idImagem;
     }
     
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public Long getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(Long tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public Integer getLargura() {
+        return largura;
+    }
+
+    public void setLargura(Integer largura) {
+        this.largura = largura;
+    }
+
+    public Integer getAltura() {
+        return altura;
+    }
+
+    public void setAltura(Integer altura) {
+        this.altura = altura;
+    }
+
+    public boolean isLegado() {
+        return hash == null && imagemBase64 != null;
+    }
+
     public String getImagemBase64() {
         return imagemBase64;
     }
@@ -53,7 +120,7 @@ public class Imagem {
             if (cleanImage.length() < 10) {
                 throw new IllegalArgumentException("A imagem deve ter pelo menos 10 caracteres quando fornecida");
             }
-            if (!cleanImage.matches("^data:image\\/(jpeg|jpg|png|gif|bmp|webp);base64,[A-Za-z0-9+/=]+$")) {
+            if (!dataUriValido(cleanImage)) {
                 throw new IllegalArgumentException("Formato de imagem base64 inválido");
             }
             this.imagemBase64 = cleanImage;
@@ -62,6 +129,35 @@ public class Imagem {
         }
     }
     
+    /**
+     * Mesma regra de {@code ^data:image/(jpeg|jpg|png|gif|bmp|webp);base64,[A-Za-z0-9+/=]+$},
+     * verificada em uma única passada sem compilar expressão regular.
+     */
+    private static boolean dataUriValido(String texto) {
+        if (!texto.startsWith(PREFIXO_DATA_URI)) {
+            return false;
+        }
+        int separador = texto.indexOf(';', PREFIXO_DATA_URI.length());
+        if (separador < 0 || separador - PREFIXO_DATA_URI.length() > 4
+                || !TIPOS_DATA_URI.contains(texto.substring(PREFIXO_DATA_URI.length(), separador))
+                || !texto.startsWith(MARCADOR_BASE64, separador)) {
+            return false;
+        }
+        int inicio = separador + MARCADOR_BASE64.length();
+        if (inicio == texto.length()) {
+            return false;
+        }
+        for (int i = inicio; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            boolean valido = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '+' || c == '/' || c == '=';
+            if (!valido) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Portfolio getPortfolio() {
         return portfolio;
     }
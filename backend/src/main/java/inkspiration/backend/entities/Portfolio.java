@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -15,7 +16,10 @@ import jakarta.validation.constraints.Pattern;
 import java.util.ArrayList;
 import java.util.List;
 
+import inkspiration.backend.search.ProfissionalIndexEntityListener;
+
 @Entity
+@EntityListeners(ProfissionalIndexEntityListener.class)
 public class Portfolio {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,6 +1,7 @@
 package inkspiration.backend.entities;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -22,8 +23,10 @@ import java.util.ArrayList;
 import java.util.stream.Collectors;
 
 import inkspiration.backend.enums.TipoServico;
+import inkspiration.backend.search.ProfissionalIndexEntityListener;
 
 @Entity
+@EntityListeners(ProfissionalIndexEntityListener.class)
 public class Profissional {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -9,16 +9,20 @@ import org.hibernate.validator.constraints.br.CPF;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.search.ProfissionalIndexEntityListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -27,6 +31,8 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 @Entity
+@Table(name = "usuario", indexes = @Index(name = "idx_usuario_imagem_perfil_hash", columnList = "imagem_perfil_hash"))
+@EntityListeners(ProfissionalIndexEntityListener.class)
 public class Usuario {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -54,13 +60,30 @@ public class Usuario {
             message = "Telefone inválido. Use o formato (99) 99999-9999")
     private String telefone;
     
+    // Formato antigo: a foto em base64 no próprio banco. Só é preenchido em registros que
+    // ainda não foram migrados para o armazenamento de blobs.
     @Column(length = 1000, columnDefinition = "TEXT")
     private String imagemPerfil;
 
+    /**
+     * Hash SHA-256 da foto de perfil no {@link inkspiration.backend.armazenamento.ArmazenamentoBlob}.
+     */
+    @JsonIgnore
+    @Column(name = "imagem_perfil_hash", length = 64)
+    private String imagemPerfilHash;
+
     @JsonIgnore
     @Column(length = 1000, columnDefinition = "TEXT")
     private String tokenAtual;
 
+    /**
+     * Versão do {@link #tokenAtual}, também gravada no claim {@code tokenVersion} do JWT. Avança a
+     * cada novo token, gravada junto com ele; é nula nos registros anteriores a ela.
+     */
+    @JsonIgnore
+    @Column(name = "versao_token")
+    private Integer versaoToken;
+
     // Campos para autenticação de dois fatores
     @Column(name = "two_factor_enabled")
     private Boolean twoFactorEnabled = false;
@@ -145,13 +168,33 @@ public class Usuario {
         this.telefone = telefone;
     }
     
+    /**
+     * Foto de perfil como o cliente a exibe: o caminho do conteúdo no armazenamento de blobs
+     * ou, em registros ainda não migrados, o data URI guardado no banco.
+     */
     public String getImagemPerfil() {
-        return imagemPerfil;
+        return imagemPerfilHash != null ? BlobImagem.urlConteudo(imagemPerfilHash) : imagemPerfil;
     }
     
     public void setImagemPerfil(String imagemPerfil) {
         this.imagemPerfil = imagemPerfil;
     }
+
+    /**
+     * Data URI ainda guardado no banco, ou {@code null} se a foto já está no armazenamento de blobs.
+     */
+    @JsonIgnore
+    public String getImagemPerfilLegada() {
+        return imagemPerfil;
+    }
+
+    public String getImagemPerfilHash() {
+        return imagemPerfilHash;
+    }
+
+    public void setImagemPerfilHash(String imagemPerfilHash) {
+        this.imagemPerfilHash = imagemPerfilHash;
+    }
     
     public Endereco getEndereco() {
         return endereco;
@@ -190,6 +233,15 @@ public class Usuario {
         this.tokenAtual = tokenAtual;
     }
 
+    @JsonIgnore
+    public int getVersaoToken() {
+        return versaoToken != null ? versaoToken : 0;
+    }
+
+    public void setVersaoToken(Integer versaoToken) {
+        this.versaoToken = versaoToken;
+    }
+
     public Boolean getTwoFactorEnabled() {
         return twoFactorEnabled;
     }
@@ -0,0 +1,8 @@
+package inkspiration.backend.enums;
+
+public enum StatusEmail {
+    PENDENTE,
+    ENVIADO,
+    // Esgotou as tentativas; fica na tabela para consulta e reenvio manual
+    FALHOU
+}
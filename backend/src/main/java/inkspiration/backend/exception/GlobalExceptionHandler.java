@@ -14,6 +14,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 
 import inkspiration.backend.exception.authentication.AuthenticationFailedException;
@@ -74,6 +75,10 @@ import inkspiration.backend.exception.avaliacao.AvaliacaoJaExisteException;
 import inkspiration.backend.exception.avaliacao.AvaliacaoNaoEncontradaException;
 import inkspiration.backend.exception.avaliacao.AvaliacaoNaoPermitidaException;
 import inkspiration.backend.exception.agendamento.AgendamentoNaoEncontradoException;
+import inkspiration.backend.exception.relatorio.RelatorioFilaCheiaException;
+import inkspiration.backend.exception.relatorio.RelatorioJobIndisponivelException;
+import inkspiration.backend.exception.relatorio.RelatorioJobLimiteException;
+import inkspiration.backend.exception.relatorio.RelatorioJobNaoEncontradoException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -484,6 +489,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, String>> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "Imagem muito grande. Tamanho máximo permitido: 10MB");
+        return new ResponseEntity<>(errors, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
     // Exceções de EmailVerification
     @ExceptionHandler(EmailVerificationEnvioException.class)
     public ResponseEntity<Map<String, Object>> handleEmailVerificationEnvioException(EmailVerificationEnvioException ex) {
@@ -623,4 +635,32 @@ public class GlobalExceptionHandler {
         errors.put("error", ex.getMessage());
         return new ResponseEntity<>(errors, HttpStatus.NOT_FOUND);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(RelatorioJobNaoEncontradoException.class)
+    public ResponseEntity<Map<String, String>> handleRelatorioJobNaoEncontradoException(RelatorioJobNaoEncontradoException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+        return new ResponseEntity<>(errors, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(RelatorioJobIndisponivelException.class)
+    public ResponseEntity<Map<String, String>> handleRelatorioJobIndisponivelException(RelatorioJobIndisponivelException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+        return new ResponseEntity<>(errors, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(RelatorioJobLimiteException.class)
+    public ResponseEntity<Map<String, String>> handleRelatorioJobLimiteException(RelatorioJobLimiteException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+        return new ResponseEntity<>(errors, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @ExceptionHandler(RelatorioFilaCheiaException.class)
+    public ResponseEntity<Map<String, String>> handleRelatorioFilaCheiaException(RelatorioFilaCheiaException ex) {
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", ex.getMessage());
+        return new ResponseEntity<>(errors, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,20 @@
+package inkspiration.backend.exception.endereco;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * O ViaCEP não respondeu, respondeu com erro ou está com o disjuntor aberto. Diferente de um CEP
+ * inexistente, a consulta pode dar certo mais tarde.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ViaCepIndisponivelException extends CepInvalidoException {
+
+    public ViaCepIndisponivelException(String message) {
+        super(message);
+    }
+
+    public ViaCepIndisponivelException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
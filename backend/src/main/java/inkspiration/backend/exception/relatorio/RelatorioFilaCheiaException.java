@@ -0,0 +1,7 @@
+package inkspiration.backend.exception.relatorio;
+
+public class RelatorioFilaCheiaException extends RuntimeException {
+    public RelatorioFilaCheiaException(String message) {
+        super(message);
+    }
+}
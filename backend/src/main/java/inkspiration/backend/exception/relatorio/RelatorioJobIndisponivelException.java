@@ -0,0 +1,7 @@
+package inkspiration.backend.exception.relatorio;
+
+public class RelatorioJobIndisponivelException extends RuntimeException {
+    public RelatorioJobIndisponivelException(String message) {
+        super(message);
+    }
+}
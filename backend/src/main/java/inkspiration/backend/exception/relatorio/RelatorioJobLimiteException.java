@@ -0,0 +1,7 @@
+package inkspiration.backend.exception.relatorio;
+
+public class RelatorioJobLimiteException extends RuntimeException {
+    public RelatorioJobLimiteException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package inkspiration.backend.exception.relatorio;
+
+public class RelatorioJobNaoEncontradoException extends RuntimeException {
+    public RelatorioJobNaoEncontradoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package inkspiration.backend.relatorio;
+
+import java.io.IOException;
+
+import inkspiration.backend.dto.AgendamentoRelatorioDTO;
+import inkspiration.backend.dto.ResumoRelatorioDTO;
+
+/**
+ * Escreve um relatório diretamente no stream de saída, linha a linha, sem manter o documento em memória.
+ */
+public interface EscritorRelatorio {
+
+    void iniciar(String titulo, ResumoRelatorioDTO resumo) throws IOException;
+
+    void escrever(AgendamentoRelatorioDTO linha) throws IOException;
+
+    /**
+     * Conclui o documento e descarrega o que restar no stream, sem fechá-lo.
+     */
+    void finalizar() throws IOException;
+}
@@ -0,0 +1,88 @@
+package inkspiration.backend.relatorio;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import inkspiration.backend.dto.AgendamentoRelatorioDTO;
+import inkspiration.backend.dto.ResumoRelatorioDTO;
+
+/**
+ * Relatório em CSV, no formato que o Excel em português abre direto: separador ";",
+ * vírgula decimal e UTF-8 com BOM. Cada linha é gravada assim que é lida. Campos que a planilha
+ * interpretaria como fórmula recebem um apóstrofo na frente.
+ */
+public class EscritorRelatorioCsv implements EscritorRelatorio {
+
+    private static final char SEPARADOR = ';';
+    // Início de célula que Excel e LibreOffice tratam como fórmula
+    private static final String INICIO_FORMULA = "=+-@\t\r";
+
+    private final TipoRelatorio tipo;
+    private final Writer writer;
+
+    public EscritorRelatorioCsv(TipoRelatorio tipo, OutputStream out) {
+        this.tipo = tipo;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void iniciar(String titulo, ResumoRelatorioDTO resumo) throws IOException {
+        writer.write('\uFEFF');
+        if (tipo.isExibeEndereco()) {
+            linha("Id", "Data", "Horário", tipo.getRotuloContraparte(), "Serviço", "Local", "Descrição", "Valor");
+        } else {
+            linha("Id", "Data", "Horário", tipo.getRotuloContraparte(), "Serviço", "Descrição", "Valor");
+        }
+    }
+
+    @Override
+    public void escrever(AgendamentoRelatorioDTO linha) throws IOException {
+        String id = String.valueOf(linha.getIdAgendamento());
+        String data = linha.getDtInicio() != null ? FormatacaoRelatorio.DATA.format(linha.getDtInicio()) : "";
+        String valor = linha.getValor() != null ? linha.getValor().toPlainString().replace('.', ',') : "";
+        if (tipo.isExibeEndereco()) {
+            linha(id, data, FormatacaoRelatorio.horario(linha), FormatacaoRelatorio.contraparte(tipo, linha),
+                FormatacaoRelatorio.servico(linha), FormatacaoRelatorio.endereco(linha, " - "), linha.getDescricao(), valor);
+        } else {
+            linha(id, data, FormatacaoRelatorio.horario(linha), FormatacaoRelatorio.contraparte(tipo, linha),
+                FormatacaoRelatorio.servico(linha), linha.getDescricao(), valor);
+        }
+    }
+
+    @Override
+    public void finalizar() throws IOException {
+        writer.flush();
+    }
+
+    private void linha(String... campos) throws IOException {
+        for (int i = 0; i < campos.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARADOR);
+            }
+            campo(campos[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void campo(String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (!valor.isEmpty() && INICIO_FORMULA.indexOf(valor.charAt(0)) >= 0) {
+            valor = "'" + valor;
+        }
+        boolean aspas = valor.indexOf(SEPARADOR) >= 0 || valor.indexOf('"') >= 0
+            || valor.indexOf('\n') >= 0 || valor.indexOf('\r') >= 0;
+        if (!aspas) {
+            writer.write(valor);
+            return;
+        }
+        writer.write('"');
+        writer.write(valor.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
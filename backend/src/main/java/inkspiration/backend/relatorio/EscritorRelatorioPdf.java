@@ -0,0 +1,165 @@
+package inkspiration.backend.relatorio;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+
+import inkspiration.backend.dto.AgendamentoRelatorioDTO;
+import inkspiration.backend.dto.ResumoRelatorioDTO;
+
+/**
+ * Relatório em PDF. Cada agendamento vira uma tabela própria, adicionada ao documento assim que
+ * é lida; o PdfWriter grava as páginas completas no stream, então só a página corrente fica em memória.
+ */
+public class EscritorRelatorioPdf implements EscritorRelatorio {
+
+    private static final Logger logger = LoggerFactory.getLogger(EscritorRelatorioPdf.class);
+
+    private static final Color COR_CABECALHO = new Color(44, 62, 80);
+
+    private final TipoRelatorio tipo;
+    private final OutputStream out;
+    private final Font fonteSecao = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, Color.BLACK);
+    private final Font fonteCabecalho = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, Color.WHITE);
+    private final Font fonteCelula = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.BLACK);
+
+    private Document document;
+    private PdfWriter writer;
+
+    public EscritorRelatorioPdf(TipoRelatorio tipo, OutputStream out) {
+        this.tipo = tipo;
+        this.out = out;
+    }
+
+    @Override
+    public void iniciar(String titulo, ResumoRelatorioDTO resumo) throws IOException {
+        try {
+            document = new Document(PageSize.A4);
+            writer = PdfWriter.getInstance(document, out);
+            // Quem abriu o stream (servlet ou arquivo) é quem o fecha
+            writer.setCloseStream(false);
+
+            document.addCreator("Inkspiration App");
+            document.addAuthor("Inkspiration");
+            document.addSubject("Relatório de " + tipo.getRotuloPlural());
+            document.addTitle(titulo);
+
+            document.open();
+
+            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, Color.BLACK);
+            Paragraph title = new Paragraph(titulo, titleFont);
+            title.setAlignment(Element.ALIGN_CENTER);
+            title.setSpacingAfter(20);
+            document.add(title);
+
+            String plural = tipo.getRotuloPlural().toLowerCase();
+            Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.BLACK);
+            Paragraph info = new Paragraph("Total de " + plural + " concluídos: " + resumo.getQuantidade(), normalFont);
+            info.setAlignment(Element.ALIGN_LEFT);
+            info.setSpacingAfter(10);
+            document.add(info);
+
+            Paragraph valorInfo = new Paragraph("Valor total dos " + plural + ": "
+                + FormatacaoRelatorio.moeda(resumo.getValorTotal()), normalFont);
+            valorInfo.setAlignment(Element.ALIGN_LEFT);
+            valorInfo.setSpacingAfter(20);
+            document.add(valorInfo);
+        } catch (DocumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void escrever(AgendamentoRelatorioDTO linha) throws IOException {
+        try {
+            String titleText = tipo.getRotulo() + " #" + linha.getIdAgendamento();
+            if (linha.getDtInicio() != null) {
+                titleText += " - " + FormatacaoRelatorio.DATA.format(linha.getDtInicio());
+            }
+
+            Paragraph sectionTitle = new Paragraph(titleText, fonteSecao);
+            sectionTitle.setSpacingBefore(15);
+            sectionTitle.setSpacingAfter(10);
+            document.add(sectionTitle);
+
+            PdfPTable table = new PdfPTable(2);
+            table.setWidthPercentage(100);
+            table.setSpacingBefore(10f);
+            table.setSpacingAfter(10f);
+            table.setWidths(new float[] {1f, 3f});
+
+            addTableRow(table, tipo.getRotuloContraparte(), FormatacaoRelatorio.contraparte(tipo, linha));
+            addTableRow(table, "Serviço", FormatacaoRelatorio.servico(linha));
+            if (linha.getDtInicio() != null) {
+                addTableRow(table, "Data", FormatacaoRelatorio.DATA.format(linha.getDtInicio()));
+            }
+            addTableRow(table, "Horário", FormatacaoRelatorio.horario(linha));
+
+            if (tipo.isExibeEndereco()) {
+                String endereco = FormatacaoRelatorio.endereco(linha, "\n");
+                addTableRow(table, "Local", endereco != null ? endereco : "Endereço não disponível");
+            }
+
+            if (linha.getDescricao() != null && !linha.getDescricao().isEmpty()) {
+                addTableRow(table, "Descrição", linha.getDescricao());
+            }
+            if (linha.getValor() != null) {
+                addTableRow(table, "Valor", FormatacaoRelatorio.moeda(linha.getValor()));
+            }
+
+            document.add(table);
+
+            Paragraph separator = new Paragraph("------------------------------------------------------");
+            separator.setAlignment(Element.ALIGN_CENTER);
+            document.add(separator);
+        } catch (DocumentException | RuntimeException e) {
+            logger.warn("Erro ao processar {} #{}: {}", tipo.getRotulo().toLowerCase(), linha.getIdAgendamento(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void finalizar() throws IOException {
+        try {
+            Paragraph footer = new Paragraph("Relatório gerado em: "
+                + LocalDateTime.now(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")),
+                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 10, Color.GRAY));
+            footer.setAlignment(Element.ALIGN_CENTER);
+            document.add(footer);
+        } catch (DocumentException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            document.close();
+        }
+        out.flush();
+    }
+
+    private void addTableRow(PdfPTable table, String header, String value) {
+        PdfPCell headerCell = new PdfPCell(new Phrase(header, fonteCabecalho));
+        headerCell.setBackgroundColor(COR_CABECALHO);
+        headerCell.setPadding(5);
+
+        PdfPCell valueCell = new PdfPCell(new Phrase(value, fonteCelula));
+        valueCell.setPadding(5);
+
+        table.addCell(headerCell);
+        table.addCell(valueCell);
+    }
+}
@@ -0,0 +1,88 @@
+package inkspiration.backend.relatorio;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import inkspiration.backend.dto.AgendamentoRelatorioDTO;
+
+/**
+ * Textos compartilhados pelos formatos de relatório.
+ */
+final class FormatacaoRelatorio {
+
+    static final DateTimeFormatter DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    static final DateTimeFormatter HORA = DateTimeFormatter.ofPattern("HH:mm");
+
+    private FormatacaoRelatorio() {
+    }
+
+    static String moeda(BigDecimal valor) {
+        // NumberFormat não é thread-safe
+        return NumberFormat.getCurrencyInstance(new Locale("pt", "BR")).format(valor);
+    }
+
+    static String servico(AgendamentoRelatorioDTO linha) {
+        if (linha.getTipoServico() == null) {
+            return "Não especificado";
+        }
+        switch (linha.getTipoServico()) {
+            case TATUAGEM_PEQUENA:
+                return "Tatuagem Pequena";
+            case TATUAGEM_MEDIA:
+                return "Tatuagem Média";
+            case TATUAGEM_GRANDE:
+                return "Tatuagem Grande";
+            case SESSAO:
+                return "Sessão";
+            default:
+                return linha.getTipoServico().getDescricao();
+        }
+    }
+
+    static String horario(AgendamentoRelatorioDTO linha) {
+        if (linha.getDtInicio() == null) {
+            return "Não especificado";
+        }
+        String horario = HORA.format(linha.getDtInicio());
+        if (linha.getDtFim() != null) {
+            horario += " - " + HORA.format(linha.getDtFim());
+        }
+        return horario;
+    }
+
+    static String contraparte(TipoRelatorio tipo, AgendamentoRelatorioDTO linha) {
+        String nome = tipo == TipoRelatorio.AGENDAMENTOS ? linha.getNomeProfissional() : linha.getNomeUsuario();
+        return nome != null ? nome : "Não especificado";
+    }
+
+    /**
+     * Endereço do profissional com as partes separadas por {@code separador}; nulo quando não há rua.
+     */
+    static String endereco(AgendamentoRelatorioDTO linha, String separador) {
+        if (linha.getRua() == null) {
+            return null;
+        }
+        StringBuilder endereco = new StringBuilder(linha.getRua());
+        if (linha.getNumero() != null) {
+            endereco.append(", ").append(linha.getNumero());
+        }
+        if (linha.getComplemento() != null && !linha.getComplemento().isEmpty()) {
+            endereco.append(separador).append(linha.getComplemento());
+        }
+        if (linha.getBairro() != null && !linha.getBairro().isEmpty()) {
+            endereco.append(separador).append(linha.getBairro());
+        }
+        if (linha.getCidade() != null) {
+            endereco.append(separador).append(linha.getCidade());
+            if (linha.getEstado() != null) {
+                endereco.append("/").append(linha.getEstado());
+            }
+        }
+        if (linha.getCep() != null) {
+            endereco.append(separador).append("CEP: ").append(linha.getCep());
+        }
+        return endereco.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package inkspiration.backend.relatorio;
+
+import java.io.OutputStream;
+
+/**
+ * Formatos de exportação dos relatórios. Todos consomem as mesmas linhas, lidas uma a uma do banco.
+ */
+public enum FormatoRelatorio {
+    PDF("application/pdf", "pdf"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoRelatorio(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public EscritorRelatorio criarEscritor(TipoRelatorio tipo, OutputStream out) {
+        switch (this) {
+            case CSV:
+                return new EscritorRelatorioCsv(tipo, out);
+            case PDF:
+            default:
+                return new EscritorRelatorioPdf(tipo, out);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package inkspiration.backend.relatorio;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Pedido de relatório processado em segundo plano. O estado é atualizado pela thread do worker
+ * e lido pelas requisições de consulta, por isso os campos mutáveis são voláteis.
+ */
+public class RelatorioJob {
+    private final String idJob;
+    private final Long idUsuario;
+    private final TipoRelatorio tipo;
+    private final FormatoRelatorio formato;
+    private final Integer ano;
+    private final Integer mes;
+    private final Instant criadoEm;
+
+    private volatile StatusRelatorioJob status = StatusRelatorioJob.PENDENTE;
+    private volatile Instant concluidoEm;
+    private volatile Path arquivo;
+    private volatile String erro;
+
+    public RelatorioJob(Long idUsuario, TipoRelatorio tipo, FormatoRelatorio formato, Integer ano, Integer mes, Instant criadoEm) {
+        this.idJob = UUID.randomUUID().toString();
+        this.idUsuario = idUsuario;
+        this.tipo = tipo;
+        this.formato = formato;
+        this.ano = ano;
+        this.mes = mes;
+        this.criadoEm = criadoEm;
+    }
+
+    /**
+     * Identifica pedidos iguais: o mesmo usuário pedindo o mesmo relatório no mesmo formato.
+     */
+    public String getChave() {
+        return idUsuario + ":" + tipo + ":" + formato + ":" + ano + ":" + mes;
+    }
+
+    public String getNomeArquivo() {
+        if (tipo == TipoRelatorio.ATENDIMENTOS) {
+            return "atendimentos-" + String.format("%02d", mes) + "-" + ano + "." + formato.getExtensao();
+        }
+        return "agendamentos-" + ano + "." + formato.getExtensao();
+    }
+
+    public void iniciarProcessamento() {
+        this.status = StatusRelatorioJob.PROCESSANDO;
+    }
+
+    public void concluir(Path arquivo, Instant concluidoEm) {
+        this.arquivo = arquivo;
+        this.concluidoEm = concluidoEm;
+        this.status = StatusRelatorioJob.CONCLUIDO;
+    }
+
+    public void falhar(String erro, Instant concluidoEm) {
+        this.erro = erro;
+        this.concluidoEm = concluidoEm;
+        this.status = StatusRelatorioJob.FALHOU;
+    }
+
+    public String getIdJob() {
+        return idJob;
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public TipoRelatorio getTipo() {
+        return tipo;
+    }
+
+    public FormatoRelatorio getFormato() {
+        return formato;
+    }
+
+    public Integer getAno() {
+        return ano;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+
+    public StatusRelatorioJob getStatus() {
+        return status;
+    }
+
+    public Instant getConcluidoEm() {
+        return concluidoEm;
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+}
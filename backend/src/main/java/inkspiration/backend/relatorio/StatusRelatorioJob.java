@@ -0,0 +1,12 @@
+package inkspiration.backend.relatorio;
+
+public enum StatusRelatorioJob {
+    PENDENTE,
+    PROCESSANDO,
+    CONCLUIDO,
+    FALHOU;
+
+    public boolean isEmAndamento() {
+        return this == PENDENTE || this == PROCESSANDO;
+    }
+}
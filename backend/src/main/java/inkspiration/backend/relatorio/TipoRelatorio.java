@@ -0,0 +1,40 @@
+package inkspiration.backend.relatorio;
+
+/**
+ * Relatórios de agendamentos concluídos: o do cliente (por ano) e o do profissional (por mês).
+ */
+public enum TipoRelatorio {
+    AGENDAMENTOS("Agendamento", "Agendamentos", "Profissional", true),
+    ATENDIMENTOS("Atendimento", "Atendimentos", "Cliente", false);
+
+    private final String rotulo;
+    private final String rotuloPlural;
+    private final String rotuloContraparte;
+    private final boolean exibeEndereco;
+
+    TipoRelatorio(String rotulo, String rotuloPlural, String rotuloContraparte, boolean exibeEndereco) {
+        this.rotulo = rotulo;
+        this.rotuloPlural = rotuloPlural;
+        this.rotuloContraparte = rotuloContraparte;
+        this.exibeEndereco = exibeEndereco;
+    }
+
+    public String getRotulo() {
+        return rotulo;
+    }
+
+    public String getRotuloPlural() {
+        return rotuloPlural;
+    }
+
+    /**
+     * Quem aparece do outro lado do agendamento: o profissional para o cliente e vice-versa.
+     */
+    public String getRotuloContraparte() {
+        return rotuloContraparte;
+    }
+
+    public boolean isExibeEndereco() {
+        return exibeEndereco;
+    }
+}
@@ -1,15 +1,25 @@
 package inkspiration.backend.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import inkspiration.backend.dto.AgendamentoRelatorioDTO;
+import inkspiration.backend.dto.ResumoRelatorioDTO;
 import inkspiration.backend.entities.Agendamento;
 import inkspiration.backend.entities.Profissional;
 import inkspiration.backend.entities.Usuario;
@@ -17,50 +27,172 @@ import inkspiration.backend.enums.StatusAgendamento;
 
 @Repository
 public interface AgendamentoRepository extends JpaRepository<Agendamento, Long> {
+
+    /**
+     * Projeção das linhas de relatório: só as colunas exibidas, sem montar as entidades.
+     */
+    String SELECT_RELATORIO =
+        "SELECT new inkspiration.backend.dto.AgendamentoRelatorioDTO(a.idAgendamento, a.tipoServico, a.descricao, " +
+        "a.dtInicio, a.dtFim, a.valor, pu.nome, u.nome, e.rua, e.numero, e.complemento, e.bairro, e.cidade, e.estado, e.cep) " +
+        "FROM Agendamento a JOIN a.usuario u JOIN a.profissional p JOIN p.usuario pu LEFT JOIN p.endereco e ";
+
     List<Agendamento> findByUsuario(Usuario usuario);
     List<Agendamento> findByProfissional(Profissional profissional);
     Page<Agendamento> findByUsuario(Usuario usuario, Pageable pageable);
     Page<Agendamento> findByProfissional(Profissional profissional, Pageable pageable);
     
     @Query("SELECT a FROM Agendamento a WHERE a.profissional.idProfissional = :idProfissional " +
+           "AND a.status <> inkspiration.backend.enums.StatusAgendamento.CANCELADO " +
            "AND ((a.dtInicio BETWEEN :inicio AND :fim) OR (a.dtFim BETWEEN :inicio AND :fim))")
     List<Agendamento> findByProfissionalAndPeriod(
             @Param("idProfissional") Long idProfissional,
             @Param("inicio") LocalDateTime inicio,
             @Param("fim") LocalDateTime fim);
     
+    /**
+     * Agendamentos não cancelados do profissional que sobrepõem ou encostam no início de [inicio, fim), ordenados pelo início.
+     */
+    @Query("SELECT a FROM Agendamento a WHERE a.profissional.idProfissional = :idProfissional " +
+           "AND a.status <> inkspiration.backend.enums.StatusAgendamento.CANCELADO " +
+           "AND a.dtInicio < :fim AND a.dtFim >= :inicio ORDER BY a.dtInicio")
+    List<Agendamento> findSobrepostosAoPeriodo(
+            @Param("idProfissional") Long idProfissional,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+    
+    /**
+     * Indica se o profissional tem agendamento não cancelado que sobrepõe [inicio, fim]
+     * (inicio < outroFim e fim > outroInicio).
+     */
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Agendamento a " +
            "WHERE a.profissional.idProfissional = :idProfissional " +
-           "AND ((a.dtInicio BETWEEN :inicio AND :fim) OR (a.dtFim BETWEEN :inicio AND :fim))")
+           "AND a.status <> inkspiration.backend.enums.StatusAgendamento.CANCELADO " +
+           "AND a.dtInicio < :fim AND a.dtFim > :inicio")
     boolean existsConflitingSchedule(
             @Param("idProfissional") Long idProfissional,
             @Param("inicio") LocalDateTime inicio,
             @Param("fim") LocalDateTime fim);
 
+    /**
+     * Mesma verificação de {@link #existsConflitingSchedule}, desconsiderando o agendamento informado.
+     */
+    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Agendamento a " +
+           "WHERE a.profissional.idProfissional = :idProfissional " +
+           "AND a.status <> inkspiration.backend.enums.StatusAgendamento.CANCELADO " +
+           "AND a.dtInicio < :fim AND a.dtFim > :inicio AND a.idAgendamento <> :idIgnorado")
+    boolean existsConflitoProfissionalExceto(
+            @Param("idProfissional") Long idProfissional,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("idIgnorado") Long idIgnorado);
+
+    /**
+     * Indica se o usuário tem agendamento não cancelado que sobrepõe [inicio, fim].
+     */
+    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Agendamento a " +
+           "WHERE a.usuario.idUsuario = :idUsuario " +
+           "AND a.status <> inkspiration.backend.enums.StatusAgendamento.CANCELADO " +
+           "AND a.dtInicio < :fim AND a.dtFim > :inicio")
+    boolean existsConflitoUsuario(
+            @Param("idUsuario") Long idUsuario,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+
+    /**
+     * Mesma verificação de {@link #existsConflitoUsuario}, desconsiderando o agendamento informado.
+     */
+    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Agendamento a " +
+           "WHERE a.usuario.idUsuario = :idUsuario " +
+           "AND a.status <> inkspiration.backend.enums.StatusAgendamento.CANCELADO " +
+           "AND a.dtInicio < :fim AND a.dtFim > :inicio AND a.idAgendamento <> :idIgnorado")
+    boolean existsConflitoUsuarioExceto(
+            @Param("idUsuario") Long idUsuario,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("idIgnorado") Long idIgnorado);
+
+    // Páginas de agendamentos: as associações carregadas de imediato vêm na mesma consulta, e não uma por linha
+
+    @EntityGraph(attributePaths = {"usuario", "usuario.endereco", "usuario.usuarioAutenticar",
+            "profissional", "profissional.endereco", "profissional.portfolio",
+            "profissional.usuario", "profissional.usuario.endereco", "profissional.usuario.usuarioAutenticar"})
     Page<Agendamento> findByUsuarioAndDtFimAfterOrderByDtInicioAsc(
             Usuario usuario, LocalDateTime dataReferencia, Pageable pageable);
-            
+
+    @EntityGraph(attributePaths = {"usuario", "usuario.endereco", "usuario.usuarioAutenticar",
+            "profissional", "profissional.endereco", "profissional.portfolio",
+            "profissional.usuario", "profissional.usuario.endereco", "profissional.usuario.usuarioAutenticar"})
     Page<Agendamento> findByUsuarioAndDtFimBeforeOrderByDtInicioDesc(
             Usuario usuario, LocalDateTime dataReferencia, Pageable pageable);
-            
+
+    @EntityGraph(attributePaths = {"usuario", "usuario.endereco", "usuario.usuarioAutenticar",
+            "profissional", "profissional.endereco", "profissional.portfolio",
+            "profissional.usuario", "profissional.usuario.endereco", "profissional.usuario.usuarioAutenticar"})
     Page<Agendamento> findByProfissionalAndDtFimAfterOrderByDtInicioAsc(
             Profissional profissional, LocalDateTime dataReferencia, Pageable pageable);
-            
+
+    @EntityGraph(attributePaths = {"usuario", "usuario.endereco", "usuario.usuarioAutenticar",
+            "profissional", "profissional.endereco", "profissional.portfolio",
+            "profissional.usuario", "profissional.usuario.endereco", "profissional.usuario.usuarioAutenticar"})
     Page<Agendamento> findByProfissionalAndDtFimBeforeOrderByDtInicioDesc(
             Profissional profissional, LocalDateTime dataReferencia, Pageable pageable);
 
     @Query("SELECT a FROM Agendamento a WHERE a.status = :status AND a.dtFim < :data ORDER BY a.dtFim ASC")
     List<Agendamento> findByStatusAndDtFimBefore(@Param("status") StatusAgendamento status, @Param("data") LocalDateTime data);
 
-    @Query("SELECT a FROM Agendamento a WHERE a.usuario.id = :idUsuario AND a.status = :status AND YEAR(a.dtInicio) = :ano ORDER BY a.dtInicio")
-    List<Agendamento> findByUsuarioIdAndStatusAndAno(Long idUsuario, StatusAgendamento status, Integer ano);
+    /**
+     * Linhas do relatório anual do cliente, lidas sob demanda. Deve ser consumido dentro de uma
+     * transação e fechado ao final.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query(SELECT_RELATORIO +
+           "WHERE u.idUsuario = :idUsuario AND a.status = :status AND YEAR(a.dtInicio) = :ano ORDER BY a.dtInicio")
+    Stream<AgendamentoRelatorioDTO> streamRelatorioPorUsuario(
+            @Param("idUsuario") Long idUsuario,
+            @Param("status") StatusAgendamento status,
+            @Param("ano") Integer ano);
+
+    @Query("SELECT new inkspiration.backend.dto.ResumoRelatorioDTO(COUNT(a), COALESCE(SUM(a.valor), 0)) " +
+           "FROM Agendamento a WHERE a.usuario.idUsuario = :idUsuario AND a.status = :status AND YEAR(a.dtInicio) = :ano")
+    ResumoRelatorioDTO resumirRelatorioPorUsuario(
+            @Param("idUsuario") Long idUsuario,
+            @Param("status") StatusAgendamento status,
+            @Param("ano") Integer ano);
+
+    /**
+     * Linhas do relatório mensal do profissional, lidas sob demanda. Deve ser consumido dentro de uma
+     * transação e fechado ao final.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query(SELECT_RELATORIO +
+           "WHERE p.idProfissional = :idProfissional AND a.status = :status " +
+           "AND YEAR(a.dtInicio) = :ano AND MONTH(a.dtInicio) = :mes ORDER BY a.dtInicio")
+    Stream<AgendamentoRelatorioDTO> streamRelatorioPorProfissional(
+            @Param("idProfissional") Long idProfissional,
+            @Param("status") StatusAgendamento status,
+            @Param("ano") Integer ano,
+            @Param("mes") Integer mes);
 
-    @Query("SELECT a FROM Agendamento a WHERE a.profissional.id = :idProfissional AND a.status = :status AND YEAR(a.dtInicio) = :ano AND MONTH(a.dtInicio) = :mes ORDER BY a.dtInicio")
-    List<Agendamento> findByProfissionalIdAndStatusAndAnoMes(Long idProfissional, StatusAgendamento status, Integer ano, Integer mes);
+    @Query("SELECT new inkspiration.backend.dto.ResumoRelatorioDTO(COUNT(a), COALESCE(SUM(a.valor), 0)) " +
+           "FROM Agendamento a WHERE a.profissional.idProfissional = :idProfissional AND a.status = :status " +
+           "AND YEAR(a.dtInicio) = :ano AND MONTH(a.dtInicio) = :mes")
+    ResumoRelatorioDTO resumirRelatorioPorProfissional(
+            @Param("idProfissional") Long idProfissional,
+            @Param("status") StatusAgendamento status,
+            @Param("ano") Integer ano,
+            @Param("mes") Integer mes);
     
     @Modifying
     @Query("UPDATE Agendamento a SET a.status = :novoStatus WHERE a.status = :statusAtual AND a.dtFim < :dataAtual")
     int updateStatusToConcluido(@Param("statusAtual") StatusAgendamento statusAtual, 
                                @Param("novoStatus") StatusAgendamento novoStatus, 
                                @Param("dataAtual") LocalDateTime dataAtual);
-} 
\ No newline at end of file
+
+    /**
+     * Conclui, em um único UPDATE, os agendamentos informados que ainda estão como agendados.
+     */
+    @Modifying
+    @Query("UPDATE Agendamento a SET a.status = inkspiration.backend.enums.StatusAgendamento.CONCLUIDO " +
+           "WHERE a.idAgendamento IN :ids AND a.status = inkspiration.backend.enums.StatusAgendamento.AGENDADO")
+    int concluirAgendamentos(@Param("ids") Collection<Long> ids);
+}
@@ -9,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +19,9 @@ public interface AvaliacaoRepository extends JpaRepository<Avaliacao, Long> {
     @Query("SELECT a FROM Avaliacao a WHERE a.agendamento.idAgendamento = :idAgendamento")
     Optional<Avaliacao> findByAgendamentoId(@Param("idAgendamento") Long idAgendamento);
     
+    @Query("SELECT a FROM Avaliacao a WHERE a.agendamento.idAgendamento IN :idsAgendamento")
+    List<Avaliacao> findByAgendamentoIdIn(@Param("idsAgendamento") Collection<Long> idsAgendamento);
+    
     @Query("SELECT COUNT(a) > 0 FROM Avaliacao a WHERE a.agendamento.idAgendamento = :idAgendamento")
     boolean existsByAgendamentoId(@Param("idAgendamento") Long idAgendamento);
     
@@ -0,0 +1,51 @@
+package inkspiration.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import inkspiration.backend.entities.BlobImagem;
+
+/**
+ * As contagens só mudam por UPDATE atômico no banco, nunca lendo e regravando a entidade,
+ * para que uploads e remoções simultâneos do mesmo conteúdo não percam incrementos. O registro
+ * de um conteúdo novo é criado por {@link inkspiration.backend.service.BlobImagemService}.
+ */
+@Repository
+public interface BlobImagemRepository extends JpaRepository<BlobImagem, String> {
+
+    @Modifying
+    @Query("UPDATE BlobImagem b SET b.referencias = b.referencias + 1, b.semReferenciasDesde = NULL WHERE b.hash = :hash")
+    int incrementar(@Param("hash") String hash);
+
+    @Modifying
+    @Query("UPDATE BlobImagem b SET b.referencias = b.referencias - 1, " +
+           "b.semReferenciasDesde = CASE WHEN b.referencias = 1 THEN :agora ELSE b.semReferenciasDesde END " +
+           "WHERE b.hash = :hash AND b.referencias > 0")
+    int decrementar(@Param("hash") String hash, @Param("agora") LocalDateTime agora);
+
+    @Query("SELECT b.hash FROM BlobImagem b WHERE b.referencias = 0 AND b.semReferenciasDesde <= :limite ORDER BY b.semReferenciasDesde")
+    List<String> findOrfaos(@Param("limite") LocalDateTime limite, Pageable pageable);
+
+    // Só remove se continuar órfão e nenhum registro apontar para o hash. A conferência direta
+    // protege contra contagens desatualizadas (ex.: conteúdo gravado antes da contagem existir)
+    @Modifying
+    @Query("DELETE FROM BlobImagem b WHERE b.hash = :hash AND b.referencias = 0 " +
+           "AND NOT EXISTS (SELECT 1 FROM Imagem i WHERE i.hash = b.hash) " +
+           "AND NOT EXISTS (SELECT 1 FROM Usuario u WHERE u.imagemPerfilHash = b.hash)")
+    int removerSeOrfao(@Param("hash") String hash);
+
+    // Conteúdo gravado antes da contagem de referências existir
+    @Modifying
+    @Query(value = "INSERT INTO blob_imagem (hash, mime_type, tamanho, referencias) " +
+                   "SELECT i.hash, MIN(i.mime_type), MIN(i.tamanho), COUNT(*) FROM imagem i " +
+                   "WHERE i.hash IS NOT NULL " +
+                   "AND NOT EXISTS (SELECT 1 FROM blob_imagem b WHERE b.hash = i.hash) GROUP BY i.hash", nativeQuery = true)
+    int registrarExistentes();
+}
@@ -0,0 +1,31 @@
+package inkspiration.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import inkspiration.backend.entities.CadastroPendente;
+
+@Repository
+public interface CadastroPendenteRepository extends JpaRepository<CadastroPendente, String> {
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CadastroPendente c WHERE c.expiraEm < :agora")
+    int removerExpirados(@Param("agora") LocalDateTime agora);
+
+    @Query("SELECT c.email FROM CadastroPendente c ORDER BY c.expiraEm")
+    List<String> findEmailsMaisAntigos(Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CadastroPendente c WHERE c.email IN :emails")
+    int removerPorEmails(@Param("emails") List<String> emails);
+}
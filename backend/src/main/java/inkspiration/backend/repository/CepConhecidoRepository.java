@@ -0,0 +1,10 @@
+package inkspiration.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import inkspiration.backend.entities.CepConhecido;
+
+@Repository
+public interface CepConhecidoRepository extends JpaRepository<CepConhecido, String> {
+}
@@ -0,0 +1,38 @@
+package inkspiration.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import inkspiration.backend.entities.EmailSaida;
+import inkspiration.backend.enums.StatusEmail;
+
+@Repository
+public interface EmailSaidaRepository extends JpaRepository<EmailSaida, Long> {
+
+    @Query("SELECT e.idEmail FROM EmailSaida e WHERE e.status = inkspiration.backend.enums.StatusEmail.PENDENTE " +
+           "AND e.proximaTentativa <= :agora ORDER BY e.proximaTentativa")
+    List<Long> findIdsProntos(@Param("agora") LocalDateTime agora, Pageable pageable);
+
+    // Reserva a mensagem para um worker só se ninguém a reservou desde a consulta: entre
+    // instâncias, quem atualizar primeiro fica com ela
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailSaida e SET e.proximaTentativa = :reservadoAte WHERE e.idEmail = :id " +
+           "AND e.status = inkspiration.backend.enums.StatusEmail.PENDENTE AND e.proximaTentativa <= :agora")
+    int reservar(@Param("id") Long id, @Param("agora") LocalDateTime agora, @Param("reservadoAte") LocalDateTime reservadoAte);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailSaida e WHERE e.status = inkspiration.backend.enums.StatusEmail.ENVIADO AND e.enviadoEm < :limite")
+    int removerEnviadosAntesDe(@Param("limite") LocalDateTime limite);
+
+    long countByStatus(StatusEmail status);
+}
@@ -1,8 +1,12 @@
 package inkspiration.backend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import inkspiration.backend.dto.ImagemDTO;
 import inkspiration.backend.entities.Imagem;
 
 import java.util.List;
@@ -10,4 +14,18 @@ import java.util.List;
 @Repository
 public interface ImagemRepository extends JpaRepository<Imagem, Long> {
     List<Imagem> findByPortfolioIdPortfolio(Long idPortfolio);
+
+    long countByPortfolioIdPortfolio(Long idPortfolio);
+
+    // Só os metadados, sem a coluna de conteúdo, em ordem de id a partir do cursor (exclusivo)
+    @Query("SELECT new inkspiration.backend.dto.ImagemDTO(i.idImagem, i.portfolio.idPortfolio, i.mimeType, " +
+           "i.tamanho, i.largura, i.altura) FROM Imagem i " +
+           "WHERE i.portfolio.idPortfolio = :idPortfolio AND i.idImagem > :cursor ORDER BY i.idImagem")
+    List<ImagemDTO> findMetadadosPorPortfolio(@Param("idPortfolio") Long idPortfolio,
+                                              @Param("cursor") Long cursor, Pageable pageable);
+
+    // Imagens ainda com o conteúdo em base64 no banco, para a migração ao armazenamento de blobs
+    @Query("SELECT i FROM Imagem i WHERE i.hash IS NULL AND i.imagemBase64 IS NOT NULL " +
+           "AND i.idImagem > :aPartirDe ORDER BY i.idImagem")
+    List<Imagem> findLegadas(@Param("aPartirDe") Long aPartirDe, Pageable pageable);
 } 
\ No newline at end of file
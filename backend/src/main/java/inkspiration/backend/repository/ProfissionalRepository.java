@@ -1,18 +1,25 @@
 package inkspiration.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 import inkspiration.backend.entities.Profissional;
 import inkspiration.backend.entities.Usuario;
 
 @Repository
-public interface ProfissionalRepository extends JpaRepository<Profissional, Long> {
+public interface ProfissionalRepository extends JpaRepository<Profissional, Long>, JpaSpecificationExecutor<Profissional> {
     Optional<Profissional> findByUsuario(Usuario usuario);
     Optional<Profissional> findByUsuario_IdUsuario(Long idUsuario);
     Page<Profissional> findAll(Pageable pageable);
@@ -22,4 +29,23 @@ public interface ProfissionalRepository extends JpaRepository<Profissional, Long
     // Consultas que excluem usuários com role DELETED
     List<Profissional> findByUsuarioRoleNot(String role);
     Page<Profissional> findByUsuarioRoleNot(String role, Pageable pageable);
+    
+    @Query("SELECT p FROM Profissional p JOIN FETCH p.usuario LEFT JOIN FETCH p.endereco LEFT JOIN FETCH p.portfolio " +
+           "WHERE p.idProfissional IN :ids")
+    List<Profissional> findAllComAssociacoesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Profissional p JOIN FETCH p.usuario u JOIN FETCH p.endereco e LEFT JOIN FETCH p.portfolio " +
+           "WHERE u.role <> :role AND e.latitude BETWEEN :latitudeMin AND :latitudeMax " +
+           "AND e.longitude BETWEEN :longitudeMin AND :longitudeMax")
+    List<Profissional> findAtivosNaArea(@Param("role") String role,
+                                        @Param("latitudeMin") double latitudeMin, @Param("latitudeMax") double latitudeMax,
+                                        @Param("longitudeMin") double longitudeMin, @Param("longitudeMax") double longitudeMax);
+
+    /**
+     * Bloqueia a linha do profissional (SELECT ... FOR UPDATE) até o fim da transação,
+     * serializando entre instâncias as marcações na sua agenda.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Profissional p WHERE p.idProfissional = :idProfissional")
+    Optional<Profissional> bloquearAgenda(@Param("idProfissional") Long idProfissional);
 } 
\ No newline at end of file
@@ -0,0 +1,129 @@
+package inkspiration.backend.repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Portfolio;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.UserRole;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Filtros e ordenação da listagem pública de profissionais executados no banco.
+ * Reproduz a semântica da antiga filtragem em memória: busca por trecho (case-insensitive)
+ * em nome, "cidade, estado" e especialidade, nota mínima e ordenação com desempate por ID.
+ */
+public final class ProfissionalSpecification {
+
+    private static final char ESCAPE = '\\';
+
+    private ProfissionalSpecification() {}
+
+    public static Specification<Profissional> comFiltros(String searchTerm, String locationTerm,
+                                                         double minRating, String[] selectedSpecialties, String sortBy) {
+        return (root, query, cb) -> {
+            boolean consultaContagem = Long.class == query.getResultType() || long.class == query.getResultType();
+
+            From<Profissional, Usuario> usuario;
+            From<Profissional, Endereco> endereco;
+            From<Profissional, Portfolio> portfolio;
+            if (consultaContagem) {
+                usuario = root.join("usuario", JoinType.INNER);
+                endereco = root.join("endereco", JoinType.LEFT);
+                portfolio = root.join("portfolio", JoinType.LEFT);
+            } else {
+                // Associações *-to-one: o fetch join não afeta a paginação e evita N+1 na montagem da página
+                usuario = castFetch(root.fetch("usuario", JoinType.INNER));
+                endereco = castFetch(root.fetch("endereco", JoinType.LEFT));
+                portfolio = castFetch(root.fetch("portfolio", JoinType.LEFT));
+            }
+
+            Expression<BigDecimal> nota = cb.coalesce(root.<BigDecimal>get("nota"), BigDecimal.ZERO);
+            List<Predicate> predicates = new ArrayList<>();
+
+            predicates.add(cb.notEqual(usuario.get("role"), UserRole.ROLE_DELETED.getRole()));
+
+            if (searchTerm != null && !searchTerm.trim().isEmpty()) {
+                predicates.add(contem(cb, usuario.get("nome"), searchTerm));
+            }
+
+            if (locationTerm != null && !locationTerm.trim().isEmpty()) {
+                Expression<String> localizacao = cb.concat(
+                        cb.concat(endereco.<String>get("cidade"), ", "), endereco.<String>get("estado"));
+                predicates.add(contem(cb, localizacao, locationTerm));
+            }
+
+            if (minRating > 0) {
+                predicates.add(cb.greaterThanOrEqualTo(nota, BigDecimal.valueOf(minRating)));
+            }
+
+            if (selectedSpecialties != null && selectedSpecialties.length > 0) {
+                Expression<String> especialidade = cb.coalesce(portfolio.<String>get("especialidade"), "");
+                List<Predicate> especialidades = new ArrayList<>();
+                for (String specialty : selectedSpecialties) {
+                    especialidades.add(contem(cb, especialidade, specialty));
+                }
+                predicates.add(cb.or(especialidades.toArray(new Predicate[0])));
+            }
+
+            if (!consultaContagem) {
+                query.orderBy(ordenacao(cb, root.get("idProfissional"), nota, usuario.get("nome"), sortBy));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static List<Order> ordenacao(CriteriaBuilder cb, Expression<Long> id, Expression<BigDecimal> nota,
+                                         Expression<String> nome, String sortBy) {
+        List<Order> orders = new ArrayList<>();
+        if ("melhorAvaliacao".equals(sortBy)) {
+            orders.add(cb.desc(nota));
+        } else if ("maisRecente".equals(sortBy)) {
+            orders.add(cb.desc(id));
+            return orders;
+        } else if ("maisAntigo".equals(sortBy)) {
+            orders.add(cb.asc(id));
+            return orders;
+        } else {
+            // Relevância (padrão): melhor nota e, em caso de empate, nome
+            orders.add(cb.desc(nota));
+            orders.add(cb.asc(cb.lower(cb.coalesce(nome, ""))));
+        }
+        orders.add(cb.asc(id));
+        return orders;
+    }
+
+    private static Predicate contem(CriteriaBuilder cb, Expression<String> campo, String termo) {
+        String padrao = "%" + escaparLike(termo.toLowerCase()) + "%";
+        return cb.like(cb.lower(campo), padrao, ESCAPE);
+    }
+
+    private static String escaparLike(String termo) {
+        StringBuilder sb = new StringBuilder(termo.length());
+        for (int i = 0; i < termo.length(); i++) {
+            char c = termo.charAt(i);
+            if (c == ESCAPE || c == '%' || c == '_') {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Z, X> From<Z, X> castFetch(Fetch<Z, X> fetch) {
+        return (From<Z, X>) fetch;
+    }
+}
@@ -1,6 +1,7 @@
 package inkspiration.backend.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,6 +14,8 @@ import inkspiration.backend.entities.TokenRevogado;
 @Repository
 public interface TokenRevogadoRepository extends JpaRepository<TokenRevogado, Long> {
     boolean existsByToken(String token);
+
+    List<TokenRevogado> findByDataRevogacaoAfter(LocalDateTime data);
     
     @Modifying
     @Query("DELETE FROM TokenRevogado t WHERE t.dataRevogacao <= :data")
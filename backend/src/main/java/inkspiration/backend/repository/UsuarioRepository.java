@@ -1,14 +1,18 @@
 package inkspiration.backend.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import inkspiration.backend.dto.VersaoTokenDTO;
 import inkspiration.backend.entities.Usuario;
 
 @Repository
@@ -21,4 +25,22 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     
     @Query("SELECT u FROM Usuario u WHERE LOWER(u.nome) LIKE LOWER(CONCAT('%', :nome, '%'))")
     Page<Usuario> findByNomeContainingIgnoreCase(@Param("nome") String nome, Pageable pageable);
+
+    // Fotos de perfil ainda em base64 no banco, para a migração ao armazenamento de blobs
+    @Query("SELECT u FROM Usuario u WHERE u.imagemPerfilHash IS NULL AND u.imagemPerfil IS NOT NULL AND u.imagemPerfil <> '' " +
+           "AND u.idUsuario > :aPartirDe ORDER BY u.idUsuario")
+    List<Usuario> findComFotoLegada(@Param("aPartirDe") Long aPartirDe, Pageable pageable);
+
+    @Query("SELECT new inkspiration.backend.dto.VersaoTokenDTO(u.versaoToken, u.tokenAtual) FROM Usuario u WHERE u.idUsuario = :id")
+    Optional<VersaoTokenDTO> findVersaoToken(@Param("id") Long id);
+
+    /**
+     * Grava o token atual junto com a sua versão, desde que a versão gravada ainda seja a anterior
+     * a ela; devolve 0 se outro token tiver sido gravado nesse meio tempo.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Usuario u SET u.tokenAtual = :token, u.versaoToken = :versao " +
+           "WHERE u.idUsuario = :id AND COALESCE(u.versaoToken, 0) = :versao - 1")
+    int gravarTokenAtual(@Param("id") Long id, @Param("token") String token, @Param("versao") int versao);
 } 
\ No newline at end of file
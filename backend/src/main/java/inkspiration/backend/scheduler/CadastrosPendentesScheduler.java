@@ -0,0 +1,34 @@
+package inkspiration.backend.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.cadastro.CadastrosPendentes;
+
+/**
+ * Remove periodicamente os cadastros cujo código de verificação expirou sem ser confirmado.
+ */
+@Component
+public class CadastrosPendentesScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CadastrosPendentesScheduler.class);
+
+    private final CadastrosPendentes cadastrosPendentes;
+
+    public CadastrosPendentesScheduler(CadastrosPendentes cadastrosPendentes) {
+        this.cadastrosPendentes = cadastrosPendentes;
+    }
+
+    @Scheduled(initialDelayString = "${cadastro.pendentes.limpeza-intervalo-ms:60000}",
+               fixedDelayString = "${cadastro.pendentes.limpeza-intervalo-ms:60000}")
+    public void removerExpirados() {
+        int removidos = cadastrosPendentes.removerExpirados(LocalDateTime.now());
+        if (removidos > 0) {
+            logger.debug("{} cadastros pendentes expirados removidos", removidos);
+        }
+    }
+}
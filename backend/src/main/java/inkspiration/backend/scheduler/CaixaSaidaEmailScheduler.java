@@ -0,0 +1,46 @@
+package inkspiration.backend.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.service.CaixaSaidaEmailService;
+
+/**
+ * Aciona periodicamente os workers de email, para as mensagens cuja nova tentativa venceu, as
+ * gravadas por outras instâncias e as que ficaram na tabela quando a aplicação parou. Também
+ * remove da tabela os emails enviados há mais tempo que a retenção.
+ */
+@Component
+public class CaixaSaidaEmailScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaixaSaidaEmailScheduler.class);
+
+    private final CaixaSaidaEmailService caixaSaidaEmailService;
+    private final Duration retencao;
+
+    public CaixaSaidaEmailScheduler(CaixaSaidaEmailService caixaSaidaEmailService,
+                                    @Value("${email.envio.retencao-dias:7}") long retencaoDias) {
+        this.caixaSaidaEmailService = caixaSaidaEmailService;
+        this.retencao = Duration.ofDays(retencaoDias);
+    }
+
+    @Scheduled(initialDelayString = "${email.envio.intervalo-ms:10000}",
+               fixedDelayString = "${email.envio.intervalo-ms:10000}")
+    public void enviarPendentes() {
+        caixaSaidaEmailService.acordar();
+    }
+
+    @Scheduled(initialDelay = 3_600_000, fixedDelay = 3_600_000)
+    public void removerEnviados() {
+        int removidos = caixaSaidaEmailService.removerEnviadosAntesDe(LocalDateTime.now().minus(retencao));
+        if (removidos > 0) {
+            logger.info("Caixa de saída: {} emails enviados removidos", removidos);
+        }
+    }
+}
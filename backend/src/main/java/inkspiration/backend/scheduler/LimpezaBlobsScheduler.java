@@ -0,0 +1,70 @@
+package inkspiration.backend.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.service.BlobImagemService;
+
+/**
+ * Remove do armazenamento o conteúdo de imagens que ficou sem referências. O conteúdo só é
+ * removido depois da carência, para que uma imagem apagada e enviada de novo logo em seguida
+ * reaproveite os bytes já gravados. Cada conteúdo é removido em uma transação própria.
+ */
+@Component
+public class LimpezaBlobsScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LimpezaBlobsScheduler.class);
+
+    private final BlobImagemService blobImagemService;
+    private final Duration carencia;
+    private final int tamanhoLote;
+
+    public LimpezaBlobsScheduler(BlobImagemService blobImagemService,
+                                 @Value("${imagens.limpeza.carencia-minutos:60}") long carenciaMinutos,
+                                 @Value("${imagens.limpeza.tamanho-lote:100}") int tamanhoLote) {
+        this.blobImagemService = blobImagemService;
+        this.carencia = Duration.ofMinutes(carenciaMinutos);
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Scheduled(initialDelayString = "${imagens.limpeza.intervalo-ms:900000}",
+               fixedDelayString = "${imagens.limpeza.intervalo-ms:900000}")
+    public void removerOrfaos() {
+        int removidos = limpar(LocalDateTime.now().minus(carencia));
+        if (removidos > 0) {
+            logger.info("Limpeza de imagens: {} conteúdos sem referências removidos", removidos);
+        }
+    }
+
+    /**
+     * @return quantidade de conteúdos removidos, dentre os órfãos desde antes de {@code limite}
+     */
+    public int limpar(LocalDateTime limite) {
+        int removidos = 0;
+        List<String> orfaos;
+        int removidosNoLote;
+        do {
+            orfaos = blobImagemService.listarOrfaos(limite, tamanhoLote);
+            removidosNoLote = 0;
+            for (String hash : orfaos) {
+                try {
+                    if (blobImagemService.removerSeOrfao(hash)) {
+                        removidosNoLote++;
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Não foi possível remover o conteúdo {}: {}", hash, e.getMessage());
+                }
+            }
+            removidos += removidosNoLote;
+            // Os que não puderam ser removidos voltam na próxima consulta; sem progresso, fica para a próxima execução
+        } while (orfaos.size() == tamanhoLote && removidosNoLote > 0);
+        return removidos;
+    }
+}
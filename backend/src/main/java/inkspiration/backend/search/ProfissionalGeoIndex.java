@@ -0,0 +1,298 @@
+package inkspiration.backend.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.enums.UserRole;
+
+/**
+ * Índice espacial em memória para a busca "perto de mim". Os profissionais com endereço
+ * geolocalizado são distribuídos em uma grade regular de latitude/longitude; uma consulta
+ * visita apenas as células que cobrem o círculo pedido e calcula a distância somente
+ * para os profissionais dessas células.
+ */
+@Component
+public class ProfissionalGeoIndex implements ProfissionalIndex {
+
+    public static final double RAIO_TERRA_KM = 6371.0088;
+
+    // ~2,2 km de latitude por célula: mesmo em capitais densas cada célula guarda poucos pontos
+    private static final double TAMANHO_CELULA_GRAUS = 0.02;
+    private static final int CELULAS_LONGITUDE = (int) Math.round(360.0 / TAMANHO_CELULA_GRAUS);
+    private static final double KM_POR_GRAU_LATITUDE = Math.PI * RAIO_TERRA_KM / 180.0;
+
+    private final Map<Long, Ponto> pontos = new HashMap<>();
+    private final Map<Long, List<Ponto>> celulas = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean pronto;
+
+    @Override
+    public void reconstruir(Collection<Profissional> profissionais) {
+        lock.writeLock().lock();
+        try {
+            pontos.clear();
+            celulas.clear();
+            for (Profissional profissional : profissionais) {
+                indexarSemLock(profissional);
+            }
+            pronto = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void indexar(Profissional profissional) {
+        lock.writeLock().lock();
+        try {
+            indexarSemLock(profissional);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remover(Long idProfissional) {
+        lock.writeLock().lock();
+        try {
+            removerSemLock(idProfissional);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return pontos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Profissionais a até {@code raioKm} do ponto informado, do mais próximo ao mais distante
+     * (desempate por ID), aplicando nota mínima e especialidades (qualquer uma).
+     */
+    public ResultadoProximidade buscarProximos(double latitude, double longitude, double raioKm, double minRating,
+                                               String[] selectedSpecialties, int offset, int limite) {
+        List<List<String>> especialidades = new ArrayList<>();
+        if (selectedSpecialties != null) {
+            for (String especialidade : selectedSpecialties) {
+                especialidades.add(TextoBusca.tokenizar(especialidade));
+            }
+        }
+
+        double deltaLatitude = raioKm / KM_POR_GRAU_LATITUDE;
+        double cosLatitude = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double deltaLongitude = Math.min(180.0, deltaLatitude / cosLatitude);
+        int celulaLatMin = celula(Math.max(-90.0, latitude - deltaLatitude));
+        int celulaLatMax = celula(Math.min(90.0, latitude + deltaLatitude));
+        int celulaLonMin = celula(longitude - deltaLongitude);
+        int celulaLonMax = celula(longitude + deltaLongitude);
+        if (celulaLonMax - celulaLonMin + 1 >= CELULAS_LONGITUDE) {
+            celulaLonMin = celula(-180.0);
+            celulaLonMax = celulaLonMin + CELULAS_LONGITUDE - 1;
+        }
+
+        // Compara pelo termo "a" do haversine, que cresce com a distância; o arco só é calculado para a página
+        double latitudeRad = Math.toRadians(latitude);
+        double longitudeRad = Math.toRadians(longitude);
+        double cosLatitudeRad = Math.cos(latitudeRad);
+        double senoMeioRaio = Math.sin(Math.min(Math.PI / 2, raioKm / (2 * RAIO_TERRA_KM)));
+        double limiteHaversine = senoMeioRaio * senoMeioRaio;
+
+        int quantidade = (int) Math.min((long) offset + limite, Integer.MAX_VALUE);
+        Comparator<Candidato> ordenacao = Comparator.<Candidato>comparingDouble(c -> c.haversine)
+            .thenComparingLong(c -> c.ponto.id);
+        // Capacidade padrão: o heap cresce com os candidatos encontrados, não com a página pedida
+        PriorityQueue<Candidato> melhores = new PriorityQueue<>(ordenacao.reversed());
+        int total = 0;
+
+        lock.readLock().lock();
+        try {
+            for (int celulaLat = celulaLatMin; celulaLat <= celulaLatMax; celulaLat++) {
+                for (int celulaLon = celulaLonMin; celulaLon <= celulaLonMax; celulaLon++) {
+                    List<Ponto> naCelula = celulas.get(chave(celulaLat, normalizarCelulaLongitude(celulaLon)));
+                    if (naCelula == null) {
+                        continue;
+                    }
+                    for (Ponto ponto : naCelula) {
+                        if ((minRating > 0 && ponto.nota < minRating)
+                                || Math.abs(ponto.latitude - latitude) > deltaLatitude) {
+                            continue;
+                        }
+                        double senoLat = Math.sin((ponto.latitudeRad - latitudeRad) / 2);
+                        double senoLon = Math.sin((ponto.longitudeRad - longitudeRad) / 2);
+                        double haversine = senoLat * senoLat + cosLatitudeRad * ponto.cosLatitude * senoLon * senoLon;
+                        if (haversine > limiteHaversine || !casaEspecialidade(ponto, especialidades)) {
+                            continue;
+                        }
+                        total++;
+                        if (quantidade <= 0) {
+                            continue;
+                        }
+                        if (melhores.size() < quantidade) {
+                            melhores.add(new Candidato(ponto, haversine));
+                        } else if (haversine < melhores.peek().haversine
+                                || (haversine == melhores.peek().haversine && ponto.id < melhores.peek().ponto.id)) {
+                            melhores.poll();
+                            melhores.add(new Candidato(ponto, haversine));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Candidato> ordenados = new ArrayList<>(melhores);
+        ordenados.sort(ordenacao);
+        Map<Long, Double> pagina = new LinkedHashMap<>();
+        for (int i = offset; i < ordenados.size(); i++) {
+            double haversine = ordenados.get(i).haversine;
+            pagina.put(ordenados.get(i).ponto.id, 2 * RAIO_TERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(haversine))));
+        }
+        return new ResultadoProximidade(pagina, total);
+    }
+
+    /**
+     * Distância de grande círculo (haversine) em quilômetros.
+     */
+    public static double distanciaKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static boolean casaEspecialidade(Ponto ponto, List<List<String>> especialidades) {
+        if (especialidades.isEmpty()) {
+            return true;
+        }
+        for (List<String> tokens : especialidades) {
+            if (TextoBusca.casaPorPrefixo(ponto.especialidades, tokens)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void indexarSemLock(Profissional profissional) {
+        Long id = profissional.getIdProfissional();
+        if (id == null) {
+            return;
+        }
+        removerSemLock(id);
+
+        Endereco endereco = profissional.getEndereco();
+        if (profissional.getUsuario() == null
+                || UserRole.ROLE_DELETED.getRole().equals(profissional.getUsuario().getRole())
+                || endereco == null || endereco.getLatitude() == null || endereco.getLongitude() == null) {
+            return;
+        }
+
+        BigDecimal nota = profissional.getNota();
+        String especialidade = profissional.getPortfolio() != null ? profissional.getPortfolio().getEspecialidade() : null;
+        Ponto ponto = new Ponto(id, endereco.getLatitude(), endereco.getLongitude(),
+            nota != null ? nota.doubleValue() : 0.0, TextoBusca.tokensDistintos(especialidade));
+        pontos.put(id, ponto);
+        celulas.computeIfAbsent(ponto.celula, k -> new ArrayList<>()).add(ponto);
+    }
+
+    private void removerSemLock(Long idProfissional) {
+        Ponto anterior = pontos.remove(idProfissional);
+        if (anterior == null) {
+            return;
+        }
+        List<Ponto> naCelula = celulas.get(anterior.celula);
+        if (naCelula != null) {
+            naCelula.remove(anterior);
+            if (naCelula.isEmpty()) {
+                celulas.remove(anterior.celula);
+            }
+        }
+    }
+
+    private static int celula(double graus) {
+        return (int) Math.floor(graus / TAMANHO_CELULA_GRAUS);
+    }
+
+    // Consultas que cruzam o antimeridiano continuam do outro lado da grade
+    private static int normalizarCelulaLongitude(int celulaLon) {
+        int minimo = celula(-180.0);
+        return Math.floorMod(celulaLon - minimo, CELULAS_LONGITUDE) + minimo;
+    }
+
+    private static long chave(int celulaLat, int celulaLon) {
+        return ((long) celulaLat << 32) | (celulaLon & 0xffffffffL);
+    }
+
+    private static final class Ponto {
+        private final long id;
+        private final double latitude;
+        private final double longitude;
+        private final double latitudeRad;
+        private final double longitudeRad;
+        private final double cosLatitude;
+        private final double nota;
+        private final Set<String> especialidades;
+        private final long celula;
+
+        private Ponto(long id, double latitude, double longitude, double nota, Set<String> especialidades) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.latitudeRad = Math.toRadians(latitude);
+            this.longitudeRad = Math.toRadians(longitude);
+            this.cosLatitude = Math.cos(latitudeRad);
+            this.nota = nota;
+            this.especialidades = especialidades;
+            this.celula = chave(celula(latitude), normalizarCelulaLongitude(celula(longitude)));
+        }
+    }
+
+    private static final class Candidato {
+        private final Ponto ponto;
+        private final double haversine;
+
+        private Candidato(Ponto ponto, double haversine) {
+            this.ponto = ponto;
+            this.haversine = haversine;
+        }
+    }
+
+    public static class ResultadoProximidade {
+        private final Map<Long, Double> distanciasKm;
+        private final long total;
+
+        public ResultadoProximidade(Map<Long, Double> distanciasKm, long total) {
+            this.distanciasKm = distanciasKm;
+            this.total = total;
+        }
+
+        /** IDs da página, em ordem de distância, com a distância em km. */
+        public Map<Long, Double> getDistanciasKm() { return distanciasKm; }
+        public List<Long> getIds() { return new ArrayList<>(distanciasKm.keySet()); }
+        public long getTotal() { return total; }
+    }
+}
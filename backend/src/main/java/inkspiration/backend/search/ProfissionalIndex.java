@@ -0,0 +1,26 @@
+package inkspiration.backend.search;
+
+import java.util.Collection;
+
+import inkspiration.backend.entities.Profissional;
+
+/**
+ * Índice em memória sobre os profissionais ativos. As implementações são mantidas
+ * atualizadas pelo {@link ProfissionalIndexSincronizador} após cada commit.
+ */
+public interface ProfissionalIndex {
+
+    /**
+     * Substitui todo o conteúdo do índice pelos profissionais informados.
+     */
+    void reconstruir(Collection<Profissional> profissionais);
+
+    /**
+     * Insere ou atualiza o profissional no índice.
+     */
+    void indexar(Profissional profissional);
+
+    void remover(Long idProfissional);
+
+    boolean isPronto();
+}
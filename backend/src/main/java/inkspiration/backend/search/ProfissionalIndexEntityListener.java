@@ -0,0 +1,45 @@
+package inkspiration.backend.search;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Portfolio;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA que avisa o {@link ProfissionalIndexSincronizador} sobre alterações
+ * nas entidades que compõem o documento de busca de um profissional.
+ * Instanciado pelo Hibernate através do container de beans do Spring.
+ */
+public class ProfissionalIndexEntityListener {
+
+    private final ObjectProvider<ProfissionalIndexSincronizador> sincronizador;
+
+    public ProfissionalIndexEntityListener(ObjectProvider<ProfissionalIndexSincronizador> sincronizador) {
+        this.sincronizador = sincronizador;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void aposAlteracao(Object entidade) {
+        ProfissionalIndexSincronizador sync = sincronizador.getIfAvailable();
+        if (sync == null) {
+            return;
+        }
+
+        if (entidade instanceof Profissional profissional) {
+            sync.profissionalAlterado(profissional.getIdProfissional());
+        } else if (entidade instanceof Usuario usuario) {
+            sync.usuarioAlterado(usuario.getIdUsuario());
+        } else if (entidade instanceof Portfolio portfolio) {
+            sync.portfolioAlterado(portfolio.getIdPortfolio());
+        } else if (entidade instanceof Endereco endereco) {
+            sync.enderecoAlterado(endereco.getIdEndereco());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package inkspiration.backend.search;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.repository.ProfissionalRepository;
+
+/**
+ * Mantém os {@link ProfissionalIndex} em sincronia com o banco. Os índices são construídos
+ * na subida da aplicação e, depois, cada alteração em Profissional, Usuario, Portfolio ou
+ * Endereco (capturada por {@link ProfissionalIndexEntityListener}) reindexa apenas os
+ * profissionais afetados, somente após o commit da transação.
+ */
+@Component
+public class ProfissionalIndexSincronizador {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfissionalIndexSincronizador.class);
+
+    private final ProfissionalRepository profissionalRepository;
+    private final List<ProfissionalIndex> indices;
+
+    // Referências inversas para descobrir quais profissionais uma alteração afeta
+    private final Map<Long, Long> profissionalPorUsuario = new ConcurrentHashMap<>();
+    private final Map<Long, Long> profissionalPorPortfolio = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> profissionaisPorEndereco = new ConcurrentHashMap<>();
+    private final Map<Long, Referencias> referenciasPorProfissional = new ConcurrentHashMap<>();
+
+    public ProfissionalIndexSincronizador(ProfissionalRepository profissionalRepository, List<ProfissionalIndex> indices) {
+        this.profissionalRepository = profissionalRepository;
+        this.indices = indices;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarIndices() {
+        long inicio = System.currentTimeMillis();
+        List<Profissional> ativos = profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole());
+        ativos.forEach(this::registrarReferencias);
+        for (ProfissionalIndex indice : indices) {
+            indice.reconstruir(ativos);
+        }
+        logger.info("Índices de profissionais construídos com {} profissionais em {} ms",
+            ativos.size(), System.currentTimeMillis() - inicio);
+    }
+
+    public void profissionalAlterado(Long idProfissional) {
+        if (idProfissional != null) {
+            agendar(Set.of(idProfissional));
+        }
+    }
+
+    public void usuarioAlterado(Long idUsuario) {
+        Long idProfissional = idUsuario != null ? profissionalPorUsuario.get(idUsuario) : null;
+        if (idProfissional != null) {
+            agendar(Set.of(idProfissional));
+        }
+    }
+
+    public void portfolioAlterado(Long idPortfolio) {
+        Long idProfissional = idPortfolio != null ? profissionalPorPortfolio.get(idPortfolio) : null;
+        if (idProfissional != null) {
+            agendar(Set.of(idProfissional));
+        }
+    }
+
+    public void enderecoAlterado(Long idEndereco) {
+        Set<Long> afetados = idEndereco != null ? profissionaisPorEndereco.get(idEndereco) : null;
+        if (afetados != null && !afetados.isEmpty()) {
+            agendar(new HashSet<>(afetados));
+        }
+    }
+
+    private void agendar(Collection<Long> idsProfissionais) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindexar(idsProfissionais);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pendentes = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            Set<Long> novosPendentes = new LinkedHashSet<>();
+            pendentes = novosPendentes;
+            TransactionSynchronizationManager.bindResource(this, novosPendentes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindexar(novosPendentes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProfissionalIndexSincronizador.this);
+                }
+            });
+        }
+        pendentes.addAll(idsProfissionais);
+    }
+
+    private void reindexar(Collection<Long> idsProfissionais) {
+        for (Long idProfissional : idsProfissionais) {
+            try {
+                Optional<Profissional> profissional = profissionalRepository.findById(idProfissional);
+                if (profissional.isPresent() && profissional.get().getUsuario() != null
+                        && !UserRole.ROLE_DELETED.getRole().equals(profissional.get().getUsuario().getRole())) {
+                    registrarReferencias(profissional.get());
+                    indices.forEach(indice -> indice.indexar(profissional.get()));
+                } else {
+                    removerReferencias(idProfissional);
+                    indices.forEach(indice -> indice.remover(idProfissional));
+                }
+            } catch (Exception e) {
+                logger.error("Erro ao reindexar profissional {}: {}", idProfissional, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void registrarReferencias(Profissional profissional) {
+        Long id = profissional.getIdProfissional();
+        removerReferencias(id);
+
+        Referencias referencias = new Referencias(
+            profissional.getUsuario() != null ? profissional.getUsuario().getIdUsuario() : null,
+            profissional.getPortfolio() != null ? profissional.getPortfolio().getIdPortfolio() : null,
+            profissional.getEndereco() != null ? profissional.getEndereco().getIdEndereco() : null);
+        referenciasPorProfissional.put(id, referencias);
+
+        if (referencias.idUsuario != null) {
+            profissionalPorUsuario.put(referencias.idUsuario, id);
+        }
+        if (referencias.idPortfolio != null) {
+            profissionalPorPortfolio.put(referencias.idPortfolio, id);
+        }
+        if (referencias.idEndereco != null) {
+            profissionaisPorEndereco.computeIfAbsent(referencias.idEndereco, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void removerReferencias(Long idProfissional) {
+        Referencias anteriores = referenciasPorProfissional.remove(idProfissional);
+        if (anteriores == null) {
+            return;
+        }
+        if (anteriores.idUsuario != null) {
+            profissionalPorUsuario.remove(anteriores.idUsuario, idProfissional);
+        }
+        if (anteriores.idPortfolio != null) {
+            profissionalPorPortfolio.remove(anteriores.idPortfolio, idProfissional);
+        }
+        if (anteriores.idEndereco != null) {
+            Set<Long> ids = profissionaisPorEndereco.get(anteriores.idEndereco);
+            if (ids != null) {
+                ids.remove(idProfissional);
+            }
+        }
+    }
+
+    private static final class Referencias {
+        private final Long idUsuario;
+        private final Long idPortfolio;
+        private final Long idEndereco;
+
+        private Referencias(Long idUsuario, Long idPortfolio, Long idEndereco) {
+            this.idUsuario = idUsuario;
+            this.idPortfolio = idPortfolio;
+            this.idEndereco = idEndereco;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package inkspiration.backend.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.enums.UserRole;
+
+/**
+ * Índice invertido (token -> lista de profissionais) para a busca pública de profissionais.
+ * Os termos são normalizados sem acento ({@link TextoBusca}) e cada token da consulta
+ * casa por prefixo, o que permite autocompletar enquanto o usuário digita.
+ */
+@Component
+public class ProfissionalSearchIndex implements ProfissionalIndex {
+
+    private enum Campo { NOME, LOCAL, ESPECIALIDADE }
+
+    private static final Comparator<Documento> POR_ID = Comparator.comparingLong(d -> d.id);
+    private static final Comparator<Documento> POR_NOTA = (a, b) -> Double.compare(b.nota, a.nota);
+
+    // Cada documento recebe um ordinal denso; as listas de postagem são BitSets sobre esses ordinais
+    private final Map<Long, Integer> ordinalPorId = new HashMap<>();
+    private final List<Documento> documentos = new ArrayList<>();
+    private final ArrayDeque<Integer> ordinaisLivres = new ArrayDeque<>();
+    private final BitSet ativos = new BitSet();
+    private final Map<Campo, NavigableMap<String, BitSet>> postings = new EnumMap<>(Campo.class);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean pronto;
+
+    public ProfissionalSearchIndex() {
+        for (Campo campo : Campo.values()) {
+            postings.put(campo, new TreeMap<>());
+        }
+    }
+
+    @Override
+    public void reconstruir(Collection<Profissional> profissionais) {
+        lock.writeLock().lock();
+        try {
+            ordinalPorId.clear();
+            documentos.clear();
+            ordinaisLivres.clear();
+            ativos.clear();
+            postings.values().forEach(Map::clear);
+            for (Profissional profissional : profissionais) {
+                indexarSemLock(profissional);
+            }
+            pronto = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void indexar(Profissional profissional) {
+        lock.writeLock().lock();
+        try {
+            indexarSemLock(profissional);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remover(Long idProfissional) {
+        lock.writeLock().lock();
+        try {
+            removerSemLock(idProfissional);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return ordinalPorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Executa a busca combinando nome, localização, especialidades (qualquer uma) e nota mínima,
+     * devolvendo apenas os IDs da página solicitada na mesma ordenação da listagem pública.
+     */
+    public ResultadoBusca buscar(String searchTerm, String locationTerm, double minRating,
+                                 String[] selectedSpecialties, String sortBy, int offset, int limite) {
+        lock.readLock().lock();
+        try {
+            BitSet candidatos = (BitSet) ativos.clone();
+            restringir(candidatos, Campo.NOME, searchTerm);
+            restringir(candidatos, Campo.LOCAL, locationTerm);
+
+            if (selectedSpecialties != null && selectedSpecialties.length > 0) {
+                BitSet porEspecialidade = new BitSet();
+                for (String especialidade : selectedSpecialties) {
+                    BitSet encontrados = (BitSet) candidatos.clone();
+                    restringir(encontrados, Campo.ESPECIALIDADE, especialidade);
+                    porEspecialidade.or(encontrados);
+                }
+                candidatos = porEspecialidade;
+            }
+
+            Comparator<Documento> ordenacao = ordenacao(sortBy);
+            int quantidade = (int) Math.min((long) offset + limite, Integer.MAX_VALUE);
+            // A capacidade inicial não passa do número de candidatos, qualquer que seja a página pedida
+            int capacidade = Math.max(1, Math.min(quantidade, candidatos.cardinality()));
+            PriorityQueue<Documento> melhores = new PriorityQueue<>(capacidade, ordenacao.reversed());
+            int total = 0;
+            for (int ordinal = candidatos.nextSetBit(0); ordinal >= 0; ordinal = candidatos.nextSetBit(ordinal + 1)) {
+                Documento documento = documentos.get(ordinal);
+                if (minRating > 0 && documento.nota < minRating) {
+                    continue;
+                }
+                total++;
+                if (quantidade <= 0) {
+                    continue;
+                }
+                if (melhores.size() < quantidade) {
+                    melhores.add(documento);
+                } else if (ordenacao.compare(documento, melhores.peek()) < 0) {
+                    melhores.poll();
+                    melhores.add(documento);
+                }
+            }
+
+            List<Documento> ordenados = new ArrayList<>(melhores);
+            ordenados.sort(ordenacao);
+            List<Long> pagina = new ArrayList<>();
+            for (int i = offset; i < ordenados.size(); i++) {
+                pagina.add(ordenados.get(i).id);
+            }
+            return new ResultadoBusca(pagina, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sugestões de nomes para autocompletar: todos os tokens digitados casam por prefixo.
+     */
+    public List<Map<String, Object>> sugerirNomes(String prefixo, int limite) {
+        ResultadoBusca resultado = buscar(prefixo, null, 0, null, null, 0, limite);
+        lock.readLock().lock();
+        try {
+            List<Map<String, Object>> sugestoes = new ArrayList<>();
+            for (Long id : resultado.getIds()) {
+                Integer ordinal = ordinalPorId.get(id);
+                if (ordinal != null) {
+                    Documento documento = documentos.get(ordinal);
+                    Map<String, Object> sugestao = new HashMap<>();
+                    sugestao.put("idProfissional", documento.id);
+                    sugestao.put("nome", documento.nome);
+                    sugestoes.add(sugestao);
+                }
+            }
+            return sugestoes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mantém em {@code candidatos} apenas os documentos em que cada token do termo casa,
+     * por prefixo, com algum token do campo. Termos sem tokens não restringem nada.
+     */
+    private void restringir(BitSet candidatos, Campo campo, String termo) {
+        NavigableMap<String, BitSet> indice = postings.get(campo);
+        for (String token : TextoBusca.tokenizar(termo)) {
+            if (candidatos.isEmpty()) {
+                return;
+            }
+            NavigableMap<String, BitSet> faixa = indice.subMap(token, true, token + Character.MAX_VALUE, false);
+            if (faixa.size() == 1) {
+                candidatos.and(faixa.firstEntry().getValue());
+            } else {
+                BitSet uniao = new BitSet();
+                for (BitSet ordinais : faixa.values()) {
+                    uniao.or(ordinais);
+                }
+                candidatos.and(uniao);
+            }
+        }
+    }
+
+    private static Comparator<Documento> ordenacao(String sortBy) {
+        if ("melhorAvaliacao".equals(sortBy)) {
+            return POR_NOTA.thenComparing(POR_ID);
+        } else if ("maisRecente".equals(sortBy)) {
+            return POR_ID.reversed();
+        } else if ("maisAntigo".equals(sortBy)) {
+            return POR_ID;
+        }
+        // Relevância (padrão): melhor nota e, em caso de empate, nome
+        return POR_NOTA.thenComparing(d -> d.nomeOrdenacao).thenComparing(POR_ID);
+    }
+
+    private void indexarSemLock(Profissional profissional) {
+        Long id = profissional.getIdProfissional();
+        if (id == null) {
+            return;
+        }
+        removerSemLock(id);
+
+        if (profissional.getUsuario() == null
+                || UserRole.ROLE_DELETED.getRole().equals(profissional.getUsuario().getRole())) {
+            return;
+        }
+
+        String nome = profissional.getUsuario().getNome() != null ? profissional.getUsuario().getNome() : "";
+        Endereco endereco = profissional.getEndereco();
+        String local = endereco != null ? endereco.getCidade() + " " + endereco.getEstado() : null;
+        String especialidade = profissional.getPortfolio() != null ? profissional.getPortfolio().getEspecialidade() : null;
+        BigDecimal nota = profissional.getNota();
+
+        Documento documento = new Documento(id, nome, nota != null ? nota.doubleValue() : 0.0);
+        documento.tokens.put(Campo.NOME, TextoBusca.tokensDistintos(nome));
+        documento.tokens.put(Campo.LOCAL, TextoBusca.tokensDistintos(local));
+        documento.tokens.put(Campo.ESPECIALIDADE, TextoBusca.tokensDistintos(especialidade));
+
+        int ordinal;
+        if (ordinaisLivres.isEmpty()) {
+            ordinal = documentos.size();
+            documentos.add(documento);
+        } else {
+            ordinal = ordinaisLivres.pop();
+            documentos.set(ordinal, documento);
+        }
+        ordinalPorId.put(id, ordinal);
+        ativos.set(ordinal);
+        documento.tokens.forEach((campo, tokens) -> {
+            NavigableMap<String, BitSet> indice = postings.get(campo);
+            for (String token : tokens) {
+                indice.computeIfAbsent(token, t -> new BitSet()).set(ordinal);
+            }
+        });
+    }
+
+    private void removerSemLock(Long idProfissional) {
+        Integer ordinal = ordinalPorId.remove(idProfissional);
+        if (ordinal == null) {
+            return;
+        }
+        Documento anterior = documentos.set(ordinal, null);
+        ativos.clear(ordinal);
+        ordinaisLivres.push(ordinal);
+        anterior.tokens.forEach((campo, tokens) -> {
+            NavigableMap<String, BitSet> indice = postings.get(campo);
+            for (String token : tokens) {
+                BitSet ordinais = indice.get(token);
+                if (ordinais != null) {
+                    ordinais.clear(ordinal);
+                    if (ordinais.isEmpty()) {
+                        indice.remove(token);
+                    }
+                }
+            }
+        });
+    }
+
+    private static final class Documento {
+        private final long id;
+        private final String nome;
+        private final String nomeOrdenacao;
+        private final double nota;
+        private final Map<Campo, Set<String>> tokens = new EnumMap<>(Campo.class);
+
+        private Documento(long id, String nome, double nota) {
+            this.id = id;
+            this.nome = nome;
+            this.nomeOrdenacao = nome.toLowerCase();
+            this.nota = nota;
+        }
+    }
+
+    public static class ResultadoBusca {
+        private final List<Long> ids;
+        private final long total;
+
+        public ResultadoBusca(List<Long> ids, long total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<Long> getIds() { return ids; }
+        public long getTotal() { return total; }
+    }
+}
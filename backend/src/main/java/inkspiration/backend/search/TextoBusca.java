@@ -0,0 +1,67 @@
+package inkspiration.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto para busca: remove acentos, converte para minúsculas
+ * e quebra em tokens alfanuméricos ("São Paulo, SP" -> [sao, paulo, sp]).
+ */
+public final class TextoBusca {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+
+    private TextoBusca() {}
+
+    public static String normalizar(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return "";
+        }
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        return MARCAS_DIACRITICAS.matcher(decomposto).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> tokenizar(String texto) {
+        return new ArrayList<>(tokensDistintos(texto));
+    }
+
+    public static Set<String> tokensDistintos(String texto) {
+        Set<String> tokens = new LinkedHashSet<>();
+        String normalizado = normalizar(texto);
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean alfanumerico = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (alfanumerico && inicio < 0) {
+                inicio = i;
+            } else if (!alfanumerico && inicio >= 0) {
+                tokens.add(normalizado.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Indica se cada token da consulta é prefixo de algum token do documento.
+     */
+    public static boolean casaPorPrefixo(Set<String> tokensDocumento, List<String> tokensConsulta) {
+        for (String consulta : tokensConsulta) {
+            boolean encontrado = false;
+            for (String token : tokensDocumento) {
+                if (token.startsWith(consulta)) {
+                    encontrado = true;
+                    break;
+                }
+            }
+            if (!encontrado) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
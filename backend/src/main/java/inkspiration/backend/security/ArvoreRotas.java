@@ -0,0 +1,158 @@
+package inkspiration.backend.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Árvore de segmentos compilada a partir de padrões no formato do Spring ({@code /a/{id}/b},
+ * {@code /a/**}). A busca percorre o caminho uma única vez, comparando segmentos por região da
+ * string, sem expressões regulares e sem alocar memória.
+ */
+final class ArvoreRotas {
+
+    /** O caminho não corresponde a nenhum padrão. */
+    static final long SEM_ROTA = -2;
+    /** O caminho corresponde a um padrão, mas o parâmetro extraído não está presente ou não é numérico. */
+    static final long SEM_PARAMETRO = -1;
+    /**
+     * O caminho corresponde a um padrão e o parâmetro extraído parece um número, mas não é um
+     * inteiro decimal que caiba em um long (estouro, sinal, hexadecimal, caracteres codificados).
+     */
+    static final long PARAMETRO_INVALIDO = -3;
+
+    private final No raiz = new No(null);
+    private final String parametroExtraido;
+
+    private ArvoreRotas(String parametroExtraido) {
+        this.parametroExtraido = parametroExtraido;
+    }
+
+    /**
+     * @param parametroExtraido nome do parâmetro numérico devolvido por {@link #buscar}, ou {@code null}
+     */
+    static ArvoreRotas compilar(List<String> padroes, String parametroExtraido) {
+        ArvoreRotas arvore = new ArvoreRotas(parametroExtraido);
+        padroes.forEach(arvore::adicionar);
+        return arvore;
+    }
+
+    /**
+     * @return {@link #SEM_ROTA} se nenhum padrão corresponder; senão o valor do parâmetro extraído,
+     *         {@link #SEM_PARAMETRO} se ele não estiver presente ou não for numérico, ou
+     *         {@link #PARAMETRO_INVALIDO} se parecer numérico mas não puder ser lido
+     */
+    long buscar(String caminho) {
+        if (caminho == null || caminho.isEmpty() || caminho.charAt(0) != '/') {
+            return SEM_ROTA;
+        }
+        return casar(raiz, caminho, 1, SEM_PARAMETRO);
+    }
+
+    private void adicionar(String padrao) {
+        if (!padrao.startsWith("/")) {
+            throw new IllegalArgumentException("Padrão de rota deve começar com '/': " + padrao);
+        }
+        No no = raiz;
+        String[] segmentos = padrao.substring(1).split("/", -1);
+        for (int i = 0; i < segmentos.length; i++) {
+            String segmento = segmentos[i];
+            if (segmento.equals("**")) {
+                if (i != segmentos.length - 1) {
+                    throw new IllegalArgumentException("'**' só é aceito no fim do padrão: " + padrao);
+                }
+                no.curinga = true;
+                return;
+            }
+            if (segmento.startsWith("{") && segmento.endsWith("}")) {
+                if (no.parametro == null) {
+                    no.parametro = new No(null);
+                    no.parametro.extraido = segmento.substring(1, segmento.length() - 1).equals(parametroExtraido);
+                }
+                no = no.parametro;
+            } else {
+                no = no.filho(segmento);
+            }
+        }
+        no.terminal = true;
+    }
+
+    // 'inicio' aponta para o começo do próximo segmento; passa do fim quando o caminho foi consumido.
+    // Segmentos literais têm precedência sobre parâmetros, e parâmetros sobre o curinga final.
+    private long casar(No no, String caminho, int inicio, long valor) {
+        if (inicio > caminho.length()) {
+            return no.terminal || no.curinga ? valor : SEM_ROTA;
+        }
+        int fim = caminho.indexOf('/', inicio);
+        if (fim < 0) {
+            fim = caminho.length();
+        }
+        int tamanho = fim - inicio;
+
+        // Laço por índice: o iterador seria uma alocação por nó visitado
+        for (int i = 0; i < no.literais.size(); i++) {
+            No filho = no.literais.get(i);
+            if (filho.segmento.length() == tamanho && caminho.regionMatches(inicio, filho.segmento, 0, tamanho)) {
+                long resultado = casar(filho, caminho, fim + 1, valor);
+                if (resultado != SEM_ROTA) {
+                    return resultado;
+                }
+            }
+        }
+        if (no.parametro != null && tamanho > 0) {
+            long extraido = no.parametro.extraido ? numero(caminho, inicio, fim) : valor;
+            long resultado = casar(no.parametro, caminho, fim + 1, extraido);
+            if (resultado != SEM_ROTA) {
+                return resultado;
+            }
+        }
+        return no.curinga ? valor : SEM_ROTA;
+    }
+
+    // Lê o segmento como o binding do Spring leria um Long, zeros à esquerda incluídos. Segmentos
+    // que começam com letra não são ids; os que o Spring ainda poderia converter em número por
+    // outro caminho (sinal, "0x", "#", espaço, "%xx") e os que estouram o long são inválidos.
+    private static long numero(String caminho, int inicio, int fim) {
+        char primeiro = caminho.charAt(inicio);
+        if ((primeiro < '0' || primeiro > '9') && "+-# %".indexOf(primeiro) < 0) {
+            return SEM_PARAMETRO;
+        }
+        long valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = caminho.charAt(i);
+            if (c < '0' || c > '9') {
+                return PARAMETRO_INVALIDO;
+            }
+            int digito = c - '0';
+            if (valor > (Long.MAX_VALUE - digito) / 10) {
+                return PARAMETRO_INVALIDO;
+            }
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+
+    private static final class No {
+
+        private final String segmento;
+        private final List<No> literais = new ArrayList<>();
+        private No parametro;
+        private boolean extraido;
+        private boolean terminal;
+        private boolean curinga;
+
+        private No(String segmento) {
+            this.segmento = segmento;
+        }
+
+        private No filho(String segmento) {
+            for (No filho : literais) {
+                if (filho.segmento.equals(segmento)) {
+                    return filho;
+                }
+            }
+            No filho = new No(segmento);
+            literais.add(filho);
+            return filho;
+        }
+    }
+}
@@ -25,17 +25,20 @@ public class AuthenticationService {
 
     private final JwtService jwtService;
     private final TokenRevogadoRepository tokenRevogadoRepository;
+    private final RegistroTokensRevogados registroTokensRevogados;
     private final AuthenticationManager authenticationManager;
     private final UsuarioService usuarioService;
     private final TwoFactorAuthService twoFactorAuthService;
 
     public AuthenticationService(JwtService jwtService, 
                                TokenRevogadoRepository tokenRevogadoRepository,
+                               RegistroTokensRevogados registroTokensRevogados,
                                AuthenticationManager authenticationManager,
                                UsuarioService usuarioService,
                                TwoFactorAuthService twoFactorAuthService) {
         this.jwtService = jwtService;
         this.tokenRevogadoRepository = tokenRevogadoRepository;
+        this.registroTokensRevogados = registroTokensRevogados;
         this.authenticationManager = authenticationManager;
         this.usuarioService = usuarioService;
         this.twoFactorAuthService = twoFactorAuthService;
@@ -100,15 +103,11 @@ public class AuthenticationService {
 
     private String generateAndSaveToken(Authentication authentication, Usuario usuario, UsuarioAutenticarDTO loginDTO) {
         Boolean rememberMe = loginDTO.getRememberMe() != null ? loginDTO.getRememberMe() : false;
-        String token = jwtService.generateToken(authentication, rememberMe);
+        String token = usuarioService.atualizarToken(usuario, authentication, rememberMe);
         
-        System.out.println("Token gerado para usuário com CPF: " + loginDTO.getCpf() + 
+        System.out.println("Token gerado e salvo para usuário com CPF: " + loginDTO.getCpf() + 
                           " (Remember Me: " + rememberMe + ")");
         
-        usuario.setTokenAtual(token);
-        usuarioService.salvar(usuario);
-        System.out.println("Token salvo para usuário com CPF: " + loginDTO.getCpf());
-        
         return token;
     }
 
@@ -136,21 +135,17 @@ public class AuthenticationService {
                 java.util.Collections.singletonList(new SimpleGrantedAuthority(role))
             );
             
-            // Gerar novo token com a role atualizada
-            String novoToken = jwtService.generateToken(authentication);
+            // Gerar e gravar o novo token com a role atualizada
+            String tokenAntigo = usuario.getTokenAtual();
+            String novoToken = usuarioService.atualizarToken(usuario, authentication, null);
             System.out.println("Novo token gerado para usuário ID: " + userId);
             
             // Revogar o token antigo se existir e for diferente do novo
-            String tokenAntigo = usuario.getTokenAtual();
             if (tokenAntigo != null && !tokenAntigo.equals(novoToken)) {
                 System.out.println("Revogando token antigo para usuário ID: " + userId);
                 revogarToken(tokenAntigo);
             }
             
-            // Atualizar o token no usuário
-            usuario.setTokenAtual(novoToken);
-            usuarioService.salvar(usuario);
-            
             return novoToken;
         } catch (Exception e) {
             throw new AuthenticationFailedException("Erro ao reautenticar: " + e.getMessage());
@@ -186,13 +181,14 @@ public class AuthenticationService {
     }
     
     public boolean isTokenRevoked(String token) {
-        return tokenRevogadoRepository.existsByToken(token);
+        return registroTokensRevogados.contem(token);
     }
 
     public void revogarToken(String token) {
         if (token != null && !token.isEmpty()) {
             TokenRevogado tokenRevogado = new TokenRevogado(token);
             tokenRevogadoRepository.save(tokenRevogado);
+            registroTokensRevogados.registrar(token);
         }
     }
 }
\ No newline at end of file
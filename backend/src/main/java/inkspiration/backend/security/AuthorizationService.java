@@ -3,19 +3,16 @@ package inkspiration.backend.security;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 
 import inkspiration.backend.entities.Usuario;
 import inkspiration.backend.exception.UsuarioException;
-import inkspiration.backend.repository.UsuarioRepository;
 
 @Service
 public class AuthorizationService {
 
     @Autowired
-    private UsuarioRepository usuarioRepository;
+    private ContextoAutenticacao contextoAutenticacao;
 
     /**
      * Verifica se o usuário atual é administrador
@@ -34,18 +31,7 @@ public class AuthorizationService {
      * Obtém o ID do usuário atual a partir do token JWT
      */
     public Long getCurrentUserId() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null) {
-            return null;
-        }
-
-        if (auth instanceof JwtAuthenticationToken) {
-            JwtAuthenticationToken jwtAuth = (JwtAuthenticationToken) auth;
-            Jwt jwt = jwtAuth.getToken();
-            return jwt.getClaim("userId");
-        }
-
-        return null;
+        return contextoAutenticacao.getIdUsuario();
     }
 
     /**
@@ -104,7 +90,7 @@ public class AuthorizationService {
     }
 
     /**
-     * Obtém o usuário atual
+     * Obtém o usuário atual, carregado uma única vez por requisição
      */
     public Usuario getCurrentUser() {
         String cpf = getCurrentUserCpf();
@@ -112,7 +98,7 @@ public class AuthorizationService {
             throw new UsuarioException.UsuarioNaoEncontradoException("Usuário não autenticado");
         }
 
-        return usuarioRepository.findByCpf(cpf)
+        return contextoAutenticacao.getUsuario()
                 .orElseThrow(() -> new UsuarioException.UsuarioNaoEncontradoException("Usuário não encontrado"));
     }
 
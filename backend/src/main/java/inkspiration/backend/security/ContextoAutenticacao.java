@@ -0,0 +1,142 @@
+package inkspiration.backend.security;
+
+import java.util.Optional;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.UsuarioRepository;
+
+/**
+ * Usuário autenticado da requisição atual. O JWT é o que o resource server já decodificou e
+ * validou, e o {@link Usuario} e o {@link Profissional} são carregados na primeira consulta e
+ * guardados nos atributos da requisição: filtros, {@link AuthorizationService} e serviços
+ * compartilham a mesma busca. Fora de uma requisição (tarefas agendadas) nada é guardado.
+ */
+@Component
+public class ContextoAutenticacao {
+
+    private static final String ATRIBUTO = ContextoAutenticacao.class.getName();
+
+    private final UsuarioRepository usuarioRepository;
+    private final ProfissionalRepository profissionalRepository;
+
+    public ContextoAutenticacao(UsuarioRepository usuarioRepository, ProfissionalRepository profissionalRepository) {
+        this.usuarioRepository = usuarioRepository;
+        this.profissionalRepository = profissionalRepository;
+    }
+
+    public Authentication getAutenticacao() {
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    public Jwt getJwt() {
+        return getAutenticacao() instanceof JwtAuthenticationToken jwtAuth ? jwtAuth.getToken() : null;
+    }
+
+    public Long getIdUsuario() {
+        Jwt jwt = getJwt();
+        return jwt != null ? jwt.getClaim("userId") : null;
+    }
+
+    public String getCpf() {
+        Authentication auth = getAutenticacao();
+        return auth != null ? auth.getName() : null;
+    }
+
+    public String getRole() {
+        Authentication auth = getAutenticacao();
+        if (auth == null) {
+            return null;
+        }
+        return auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(autoridade -> autoridade.startsWith("ROLE_"))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public boolean isAdmin() {
+        Authentication auth = getAutenticacao();
+        return auth != null && auth.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    /**
+     * Usuário autenticado, buscado pelo {@code userId} do token ou, sem ele, pelo CPF.
+     */
+    public Optional<Usuario> getUsuario() {
+        Estado estado = estado();
+        if (estado == null) {
+            return carregarUsuario();
+        }
+        if (estado.usuario == null) {
+            estado.usuario = carregarUsuario();
+        }
+        return estado.usuario;
+    }
+
+    public Optional<Profissional> getProfissional() {
+        Estado estado = estado();
+        if (estado == null) {
+            return carregarProfissional();
+        }
+        if (estado.profissional == null) {
+            estado.profissional = carregarProfissional();
+        }
+        return estado.profissional;
+    }
+
+    private Optional<Usuario> carregarUsuario() {
+        Long idUsuario = getIdUsuario();
+        if (idUsuario != null) {
+            return usuarioRepository.findById(idUsuario);
+        }
+        String cpf = getCpf();
+        return cpf != null ? usuarioRepository.findByCpf(cpf) : Optional.empty();
+    }
+
+    private Optional<Profissional> carregarProfissional() {
+        Long idUsuario = getIdUsuario();
+        if (idUsuario == null) {
+            idUsuario = getUsuario().map(Usuario::getIdUsuario).orElse(null);
+        }
+        return idUsuario != null ? profissionalRepository.findByUsuario_IdUsuario(idUsuario) : Optional.empty();
+    }
+
+    // O estado vale para a autenticação que o criou; se ela mudar na mesma requisição, recomeça
+    private Estado estado() {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        Authentication auth = getAutenticacao();
+        if (atributos == null || auth == null) {
+            return null;
+        }
+        Object atual = atributos.getAttribute(ATRIBUTO, RequestAttributes.SCOPE_REQUEST);
+        if (atual instanceof Estado estado && estado.autenticacao == auth) {
+            return estado;
+        }
+        Estado estado = new Estado(auth);
+        atributos.setAttribute(ATRIBUTO, estado, RequestAttributes.SCOPE_REQUEST);
+        return estado;
+    }
+
+    private static final class Estado {
+
+        private final Authentication autenticacao;
+        private Optional<Usuario> usuario;
+        private Optional<Profissional> profissional;
+
+        private Estado(Authentication autenticacao) {
+            this.autenticacao = autenticacao;
+        }
+    }
+}
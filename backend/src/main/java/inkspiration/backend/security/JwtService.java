@@ -3,6 +3,7 @@ package inkspiration.backend.security;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +18,6 @@ import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
 import inkspiration.backend.entities.Usuario;
-import inkspiration.backend.repository.TokenRevogadoRepository;
 import inkspiration.backend.repository.UsuarioRepository;
 
 @Service
@@ -25,8 +25,9 @@ public class JwtService {
 
     private final JwtEncoder encoder;
     private final JwtDecoder jwtDecoder;
-    private final TokenRevogadoRepository tokenRevogadoRepository;
+    private final RegistroTokensRevogados registroTokensRevogados;
     private final UsuarioRepository usuarioRepository;
+    private final VersoesToken versoesToken;
     
     // Configuração da duração do token padrão em minutos (padrão: 720 = 12 horas)
     @Value("${jwt.token.expiration.default:720}")
@@ -37,11 +38,13 @@ public class JwtService {
     private long rememberMeTokenExpirationMinutes;
 
     @Autowired
-    public JwtService(JwtEncoder encoder, JwtDecoder jwtDecoder, TokenRevogadoRepository tokenRevogadoRepository, UsuarioRepository usuarioRepository) {
+    public JwtService(JwtEncoder encoder, JwtDecoder jwtDecoder, RegistroTokensRevogados registroTokensRevogados, UsuarioRepository usuarioRepository,
+                      VersoesToken versoesToken) {
         this.encoder = encoder;
         this.jwtDecoder = jwtDecoder;
-        this.tokenRevogadoRepository = tokenRevogadoRepository;
+        this.registroTokensRevogados = registroTokensRevogados;
         this.usuarioRepository = usuarioRepository;
+        this.versoesToken = versoesToken;
     }
 
     public String generateToken(Authentication authentication) {
@@ -49,6 +52,14 @@ public class JwtService {
     }
     
     public String generateToken(Authentication authentication, Boolean rememberMe) {
+        return generateToken(authentication, rememberMe, null);
+    }
+
+    /**
+     * @param tokenVersion versão com que o token será gravado como atual do usuário, para o claim
+     *                     {@code tokenVersion}; nula para tokens que não são gravados
+     */
+    public String generateToken(Authentication authentication, Boolean rememberMe, Integer tokenVersion) {
         Instant now = ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toInstant();
         long expiry = (rememberMe != null && rememberMe) ? 
             rememberMeTokenExpirationMinutes * 60 : 
@@ -83,6 +94,9 @@ public class JwtService {
         if (userId != null) {
             claimsBuilder.claim("userId", userId);
         }
+        if (tokenVersion != null) {
+            claimsBuilder.claim("tokenVersion", tokenVersion);
+        }
         
         return encoder.encode(JwtEncoderParameters.from(claimsBuilder.build())).getTokenValue();
     }
@@ -93,6 +107,26 @@ public class JwtService {
     }
 
     public boolean isTokenRevogado(String token) {
-        return tokenRevogadoRepository.existsByToken(token);
+        return registroTokensRevogados.contem(token);
+    }
+
+    /**
+     * Token atual do usuário, se o token informado já tiver sido substituído por um mais novo.
+     * Tokens emitidos antes do claim {@code tokenVersion} contam como versão 0.
+     */
+    public Optional<String> getTokenMaisRecente(Jwt jwt) {
+        Long userId = jwt.getClaim("userId");
+        if (userId == null) {
+            return Optional.empty();
+        }
+        Number tokenVersion = jwt.getClaim("tokenVersion");
+        return versoesToken.tokenMaisRecente(userId, tokenVersion != null ? tokenVersion.intValue() : 0);
+    }
+
+    /**
+     * Avisa que o token atual do usuário mudou, para que a versão em cache seja relida.
+     */
+    public void tokenAtualAlterado(Long userId) {
+        versoesToken.descartar(userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package inkspiration.backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nimbusds.jwt.JWTParser;
+
+import inkspiration.backend.entities.TokenRevogado;
+import inkspiration.backend.repository.TokenRevogadoRepository;
+
+/**
+ * Tokens revogados mantidos em memória, para que a cadeia de filtros não consulte o banco a cada
+ * requisição. Cada token é guardado pela impressão SHA-256 até a própria expiração; depois disso o
+ * decodificador JWT já o rejeita. Um filtro de Bloom na frente responde "não revogado", o caso
+ * comum, sem alocar memória.
+ *
+ * <p>A tabela {@link TokenRevogado} continua sendo a fonte: é carregada ao iniciar e relida
+ * periodicamente para trazer as revogações feitas por outras instâncias.</p>
+ */
+@Component
+public class RegistroTokensRevogados implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistroTokensRevogados.class);
+
+    // 2^20 bits (128 KB): com 50 mil tokens revogados, menos de 0,1% de falsos positivos
+    private static final int BITS_FILTRO = 1 << 20;
+    private static final int FUNCOES_HASH = 4;
+
+    // Revogações gravadas por transações que ainda não tinham feito commit na leitura anterior
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofMinutes(1);
+
+    private final TokenRevogadoRepository tokenRevogadoRepository;
+    private final Duration validadeMaxima;
+    private final Map<Impressao, Revogacao> revogados = new ConcurrentHashMap<>();
+    private volatile FiltroBloom filtro = new FiltroBloom();
+    private volatile LocalDateTime ultimaSincronizacao;
+
+    public RegistroTokensRevogados(TokenRevogadoRepository tokenRevogadoRepository,
+                                   @Value("${jwt.token.expiration.remember-me:43200}") long validadeMaximaMinutos) {
+        this.tokenRevogadoRepository = tokenRevogadoRepository;
+        this.validadeMaxima = Duration.ofMinutes(validadeMaximaMinutos);
+    }
+
+    /**
+     * Carrega as revogações antes de o servidor começar a aceitar requisições.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        sincronizar();
+        logger.info("{} tokens revogados carregados", revogados.size());
+    }
+
+    public boolean contem(String token) {
+        if (token == null) {
+            return false;
+        }
+        long hash = hash(token);
+        if (!filtro.podeConter(hash)) {
+            return false;
+        }
+        Revogacao revogacao = revogados.get(Impressao.de(token));
+        return revogacao != null && revogacao.expiraEm.isAfter(Instant.now());
+    }
+
+    /**
+     * Registra um token recém-revogado. Dentro de uma transação, o registro só vale depois do
+     * commit, junto com a linha em {@link TokenRevogado}.
+     */
+    public void registrar(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adicionar(token, expiracao(token, Instant.now()));
+                }
+            });
+        } else {
+            adicionar(token, expiracao(token, Instant.now()));
+        }
+    }
+
+    @Scheduled(initialDelayString = "${tokens.revogados.sincronizacao-ms:30000}",
+               fixedDelayString = "${tokens.revogados.sincronizacao-ms:30000}")
+    public void sincronizar() {
+        LocalDateTime inicio = LocalDateTime.now();
+        Iterable<TokenRevogado> novos = ultimaSincronizacao == null
+                ? tokenRevogadoRepository.findAll()
+                : tokenRevogadoRepository.findByDataRevogacaoAfter(ultimaSincronizacao.minus(MARGEM_SINCRONIZACAO));
+        for (TokenRevogado tokenRevogado : novos) {
+            Instant revogadoEm = tokenRevogado.getDataRevogacao().atZone(ZoneId.systemDefault()).toInstant();
+            adicionar(tokenRevogado.getToken(), expiracao(tokenRevogado.getToken(), revogadoEm));
+        }
+        ultimaSincronizacao = inicio;
+        removerExpirados();
+    }
+
+    int tamanho() {
+        return revogados.size();
+    }
+
+    private synchronized void adicionar(String token, Instant expiraEm) {
+        if (!expiraEm.isAfter(Instant.now())) {
+            return;
+        }
+        long hash = hash(token);
+        revogados.put(Impressao.de(token), new Revogacao(hash, expiraEm));
+        filtro.adicionar(hash);
+    }
+
+    // O filtro de Bloom não remove entradas: é refeito só com as revogações que ainda valem
+    private synchronized void removerExpirados() {
+        Instant agora = Instant.now();
+        if (revogados.values().removeIf(revogacao -> !revogacao.expiraEm.isAfter(agora))) {
+            FiltroBloom novo = new FiltroBloom();
+            revogados.values().forEach(revogacao -> novo.adicionar(revogacao.hash));
+            filtro = novo;
+        }
+    }
+
+    /**
+     * Expiração lida do próprio token, sem validar a assinatura: só tokens emitidos aqui chegam a
+     * ser revogados. Sem ela, vale a maior validade possível a partir da revogação.
+     */
+    private Instant expiracao(String token, Instant revogadoEm) {
+        try {
+            Date exp = JWTParser.parse(token).getJWTClaimsSet().getExpirationTime();
+            if (exp != null) {
+                return exp.toInstant();
+            }
+        } catch (ParseException e) {
+            logger.debug("Token revogado sem expiração legível: {}", e.getMessage());
+        }
+        return revogadoEm.plus(validadeMaxima);
+    }
+
+    // FNV-1a de 64 bits sobre os caracteres, sem alocar
+    private static long hash(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private record Revogacao(long hash, Instant expiraEm) {
+    }
+
+    private record Impressao(long alta, long baixa) {
+
+        static Impressao de(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                long alta = 0;
+                long baixa = 0;
+                for (int i = 0; i < 8; i++) {
+                    alta = (alta << 8) | (digest[i] & 0xff);
+                    baixa = (baixa << 8) | (digest[i + 8] & 0xff);
+                }
+                return new Impressao(alta, baixa);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 indisponível", e);
+            }
+        }
+    }
+
+    private static final class FiltroBloom {
+
+        private final AtomicLongArray bits = new AtomicLongArray(BITS_FILTRO / Long.SIZE);
+
+        void adicionar(long hash) {
+            long segundo = misturar(hash);
+            for (int i = 0; i < FUNCOES_HASH; i++) {
+                int bit = posicao(hash, segundo, i);
+                // As escritas são serializadas pelo registro; o array atômico só publica os bits
+                bits.set(bit >>> 6, bits.get(bit >>> 6) | (1L << bit));
+            }
+        }
+
+        boolean podeConter(long hash) {
+            long segundo = misturar(hash);
+            for (int i = 0; i < FUNCOES_HASH; i++) {
+                int bit = posicao(hash, segundo, i);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Posições derivadas de dois hashes (Kirsch-Mitzenmacher)
+        private static int posicao(long hash, long segundo, int i) {
+            return (int) ((hash + i * segundo) & (BITS_FILTRO - 1));
+        }
+
+        // Finalizador do SplitMix64
+        private static long misturar(long hash) {
+            long z = hash + 0x9e3779b97f4a7c15L;
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return (z ^ (z >>> 31)) | 1;
+        }
+    }
+}
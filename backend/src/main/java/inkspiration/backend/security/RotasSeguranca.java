@@ -0,0 +1,85 @@
+package inkspiration.backend.security;
+
+import java.util.List;
+
+/**
+ * Tabela de rotas usada pelo {@link SecurityConfig} e pelo {@link TokenOwnershipFilter}. As rotas
+ * públicas são declaradas uma única vez aqui, para que a liberação no Spring Security e o atalho
+ * do filtro não divirjam; as árvores de busca são compiladas uma vez, na carga da classe.
+ */
+public final class RotasSeguranca {
+
+    /** Liberadas para qualquer método. */
+    public static final List<String> PUBLICAS = List.of(
+        "/auth/**",
+        "/h2-console/**"
+    );
+
+    /** Liberadas para GET. */
+    public static final List<String> GET_PUBLICAS = List.of(
+        "/profissional/publico",
+        "/profissional/{id}",
+        "/profissional/completo",
+        "/profissional/sugestoes",
+        "/profissional/completo/{id}",
+        "/profissional/completo/{id}/com-avaliacoes",
+        "/profissional/{id}/imagens",
+        "/portfolio/{id}",
+        "/portfolio/{id}/imagens",
+        "/imagens/{id}/raw",
+        "/imagens/conteudo/{hash}",
+        "/disponibilidades/profissional/{idProfissional}",
+        "/disponibilidades/profissional/{idProfissional}/verificar",
+        "/tipos-servico",
+        "/tipos-servico/{idProfissional}"
+    );
+
+    /** Rotas em que o {@code {idUsuario}} precisa ser o do token, exceto para administradores. */
+    public static final List<String> DO_USUARIO = List.of(
+        "/usuario/{idUsuario}/**",
+        "/usuario/detalhes/{idUsuario}",
+        "/usuario/atualizar/{idUsuario}",
+        "/profissional/usuario/{idUsuario}/**",
+        "/profissional/verificar/{idUsuario}"
+    );
+
+    /** Devolvido por {@link #idUsuario} quando a rota não traz o id de um usuário. */
+    public static final long SEM_ID_USUARIO = -1;
+
+    /**
+     * Devolvido por {@link #idUsuario} quando a rota é de um usuário mas o id não pode ser lido com
+     * segurança (por exemplo, estoura o long); a requisição deve ser negada.
+     */
+    public static final long ID_USUARIO_INVALIDO = -2;
+
+    private static final ArvoreRotas ARVORE_PUBLICAS = ArvoreRotas.compilar(PUBLICAS, null);
+    private static final ArvoreRotas ARVORE_GET_PUBLICAS = ArvoreRotas.compilar(GET_PUBLICAS, null);
+    private static final ArvoreRotas ARVORE_DO_USUARIO = ArvoreRotas.compilar(DO_USUARIO, "idUsuario");
+
+    private RotasSeguranca() {
+    }
+
+    public static String[] publicas() {
+        return PUBLICAS.toArray(String[]::new);
+    }
+
+    public static String[] getPublicas() {
+        return GET_PUBLICAS.toArray(String[]::new);
+    }
+
+    public static boolean isPublica(String metodo, String caminho) {
+        return ARVORE_PUBLICAS.buscar(caminho) != ArvoreRotas.SEM_ROTA
+            || ("GET".equals(metodo) && ARVORE_GET_PUBLICAS.buscar(caminho) != ArvoreRotas.SEM_ROTA);
+    }
+
+    /**
+     * @return o {@code {idUsuario}} do caminho, {@link #SEM_ID_USUARIO} ou {@link #ID_USUARIO_INVALIDO}
+     */
+    public static long idUsuario(String caminho) {
+        long id = ARVORE_DO_USUARIO.buscar(caminho);
+        if (id == ArvoreRotas.PARAMETRO_INVALIDO) {
+            return ID_USUARIO_INVALIDO;
+        }
+        return id >= 0 ? id : SEM_ID_USUARIO;
+    }
+}
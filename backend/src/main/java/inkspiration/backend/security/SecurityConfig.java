@@ -57,19 +57,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(authorize -> authorize
-                .requestMatchers("/auth/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/profissional/publico").permitAll()
-                .requestMatchers(HttpMethod.GET, "/profissional/{id}").permitAll()
-                .requestMatchers(HttpMethod.GET, "/profissional/completo").permitAll()
-                .requestMatchers(HttpMethod.GET, "/profissional/completo/{id}").permitAll()
-                .requestMatchers(HttpMethod.GET, "/profissional/completo/{id}/com-avaliacoes").permitAll()
-                .requestMatchers(HttpMethod.GET, "/profissional/{id}/imagens").permitAll()
-                .requestMatchers(HttpMethod.GET, "/portfolio/{id}").permitAll()
-                .requestMatchers(HttpMethod.GET, "/disponibilidades/profissional/{idProfissional}").permitAll()
-                .requestMatchers(HttpMethod.GET, "/disponibilidades/profissional/{idProfissional}/verificar").permitAll()
-                .requestMatchers(HttpMethod.GET, "/tipos-servico").permitAll()
-                .requestMatchers(HttpMethod.GET, "/tipos-servico/{idProfissional}").permitAll()
-                .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers(RotasSeguranca.publicas()).permitAll()
+                .requestMatchers(HttpMethod.GET, RotasSeguranca.getPublicas()).permitAll()
                 .anyRequest().authenticated()
             )
             .oauth2ResourceServer(oauth2 -> oauth2
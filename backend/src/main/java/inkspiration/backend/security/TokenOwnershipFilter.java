@@ -1,8 +1,6 @@
 package inkspiration.backend.security;
 
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,17 +17,6 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class TokenOwnershipFilter extends OncePerRequestFilter {
 
-    // Padrões de URLs que contêm IDs de usuário que precisam ser validados
-    private static final Pattern[] USER_ID_PATTERNS = {
-        Pattern.compile("/usuario/(\\d+)(?:/.*)?"),
-        Pattern.compile("/usuario/detalhes/(\\d+)"),
-        Pattern.compile("/usuario/atualizar/(\\d+)"),
-        Pattern.compile("/usuario/(\\d+)/foto-perfil"),
-        Pattern.compile("/usuario/(\\d+)/validate-token"),
-        Pattern.compile("/profissional/usuario/(\\d+)(?:/.*)?"),
-        Pattern.compile("/profissional/verificar/(\\d+)")
-    };
-
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
@@ -37,16 +24,16 @@ public class TokenOwnershipFilter extends OncePerRequestFilter {
         String requestURI = request.getRequestURI();
         String method = request.getMethod();
         
-        // Só valida para métodos que não sejam GET públicos
-        if ("GET".equals(method) && isPublicEndpoint(requestURI)) {
+        // Rotas públicas não precisam de validação
+        if (RotasSeguranca.isPublica(method, requestURI)) {
             filterChain.doFilter(request, response);
             return;
         }
         
         // Verifica se a URL contém um ID de usuário que precisa ser validado
-        Long userIdFromUrl = extractUserIdFromUrl(requestURI);
+        long userIdFromUrl = RotasSeguranca.idUsuario(requestURI);
         
-        if (userIdFromUrl != null) {
+        if (userIdFromUrl != RotasSeguranca.SEM_ID_USUARIO) {
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
             
             if (auth instanceof JwtAuthenticationToken) {
@@ -54,8 +41,9 @@ public class TokenOwnershipFilter extends OncePerRequestFilter {
                 Jwt jwt = jwtAuth.getToken();
                 Long userIdFromToken = jwt.getClaim("userId");
                 
-                // Se o token não contém userId ou não corresponde ao ID da URL
-                if (userIdFromToken == null || !userIdFromToken.equals(userIdFromUrl)) {
+                // Se o id da URL não pôde ser lido, o token não contém userId ou não corresponde ao ID da URL
+                if (userIdFromUrl == RotasSeguranca.ID_USUARIO_INVALIDO
+                        || userIdFromToken == null || userIdFromToken != userIdFromUrl) {
                     // Verifica se é admin
                     boolean isAdmin = auth.getAuthorities().stream()
                             .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
@@ -72,27 +60,4 @@ public class TokenOwnershipFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
-
-    private Long extractUserIdFromUrl(String requestURI) {
-        for (Pattern pattern : USER_ID_PATTERNS) {
-            Matcher matcher = pattern.matcher(requestURI);
-            if (matcher.matches()) {
-                try {
-                    return Long.parseLong(matcher.group(1));
-                } catch (NumberFormatException e) {
-                }
-            }
-        }
-        return null;
-    }
-
-    private boolean isPublicEndpoint(String requestURI) {
-        return requestURI.startsWith("/auth/") ||
-               requestURI.equals("/profissional/publico") ||
-               requestURI.matches("/profissional/\\d+") ||
-               requestURI.matches("/profissional/\\d+/imagens") ||
-               requestURI.matches("/portfolio/\\d+") ||
-               requestURI.matches("/disponibilidades/profissional/\\d+") ||
-               requestURI.matches("/disponibilidades/profissional/\\d+/verificar");
-    }
-} 
\ No newline at end of file
+}
@@ -3,10 +3,10 @@ package inkspiration.backend.security;
 import java.io.IOException;
 
 import org.springframework.core.annotation.Order;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import inkspiration.backend.repository.UsuarioRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,11 +17,11 @@ import jakarta.servlet.http.HttpServletResponse;
 public class TokenResponseFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
-    private final UsuarioRepository usuarioRepository;
+    private final ContextoAutenticacao contextoAutenticacao;
 
-    public TokenResponseFilter(JwtService jwtService, UsuarioRepository usuarioRepository) {
+    public TokenResponseFilter(JwtService jwtService, ContextoAutenticacao contextoAutenticacao) {
         this.jwtService = jwtService;
-        this.usuarioRepository = usuarioRepository;
+        this.contextoAutenticacao = contextoAutenticacao;
     }
 
     @Override
@@ -36,19 +36,14 @@ public class TokenResponseFilter extends OncePerRequestFilter {
             try {
                 // Verificar se o token é válido
                 if (!jwtService.isTokenRevogado(token)) {
-                    // Extrair o ID do usuário do token
-                    Long userId = jwtService.getUserIdFromToken(token);
-                    
-                    if (userId != null) {
-                        // Buscar o usuário pelo ID
-                        usuarioRepository.findById(userId).ifPresent(usuario -> {
-                            // Verificar se o token atual do usuário é diferente do token na requisição
-                            String tokenAtual = usuario.getTokenAtual();
-                            if (tokenAtual != null && !tokenAtual.equals(token)) {
-                                // Adicionar o token atualizado no header da resposta
-                                response.setHeader("New-Auth-Token", tokenAtual);
-                                response.setHeader("Access-Control-Expose-Headers", "New-Auth-Token");
-                            }
+                    // Compara a versão do token já decodificado com a versão atual em cache,
+                    // sem carregar o usuário do banco
+                    Jwt jwt = contextoAutenticacao.getJwt();
+                    if (jwt != null) {
+                        jwtService.getTokenMaisRecente(jwt).ifPresent(tokenAtual -> {
+                            // Adicionar o token atualizado no header da resposta
+                            response.setHeader("New-Auth-Token", tokenAtual);
+                            response.setHeader("Access-Control-Expose-Headers", "New-Auth-Token");
                         });
                     }
                 }
@@ -0,0 +1,98 @@
+package inkspiration.backend.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import inkspiration.backend.dto.VersaoTokenDTO;
+import inkspiration.backend.repository.UsuarioRepository;
+
+/**
+ * Versão e valor do token atual de cada usuário, em um cache LRU limitado. Permite saber se o
+ * token de uma requisição já foi substituído comparando o claim {@code tokenVersion}, sem ler
+ * o usuário do banco. A entrada é descartada quando o token do usuário muda.
+ */
+@Component
+public class VersoesToken {
+
+    static final int MAXIMO_USUARIOS_EM_CACHE = 10_000;
+
+    private final UsuarioRepository usuarioRepository;
+
+    private final Map<Long, VersaoTokenDTO> versoes = new LinkedHashMap<Long, VersaoTokenDTO>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, VersaoTokenDTO> eldest) {
+            return size() > MAXIMO_USUARIOS_EM_CACHE;
+        }
+    };
+    // Incrementada a cada descarte: uma versão lida antes de um descarte não volta para o cache
+    private final AtomicLong geracao = new AtomicLong();
+
+    public VersoesToken(UsuarioRepository usuarioRepository) {
+        this.usuarioRepository = usuarioRepository;
+    }
+
+    /**
+     * @return o token atual do usuário, se for de uma versão posterior a {@code versaoDoToken}
+     */
+    public Optional<String> tokenMaisRecente(Long idUsuario, int versaoDoToken) {
+        VersaoTokenDTO atual = obter(idUsuario, versaoDoToken);
+        if (atual == null || atual.getToken() == null || atual.getVersao() <= versaoDoToken) {
+            return Optional.empty();
+        }
+        return Optional.of(atual.getToken());
+    }
+
+    /**
+     * Descarta a versão em cache depois do commit da transação que alterou o token.
+     */
+    public void descartar(Long idUsuario) {
+        if (idUsuario == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remover(idUsuario);
+                }
+            });
+        } else {
+            remover(idUsuario);
+        }
+    }
+
+    // Um token mais novo que a versão em cache indica que ela ficou para trás (por exemplo,
+    // o token foi trocado em outra instância); nesse caso a versão é relida
+    private VersaoTokenDTO obter(Long idUsuario, int versaoMinima) {
+        synchronized (versoes) {
+            VersaoTokenDTO versao = versoes.get(idUsuario);
+            if (versao != null && versao.getVersao() >= versaoMinima) {
+                return versao;
+            }
+        }
+
+        long geracaoLida = geracao.get();
+        VersaoTokenDTO versao = usuarioRepository.findVersaoToken(idUsuario).orElse(null);
+        if (versao != null) {
+            synchronized (versoes) {
+                if (geracaoLida == geracao.get()) {
+                    versoes.put(idUsuario, versao);
+                }
+            }
+        }
+        return versao;
+    }
+
+    private void remover(Long idUsuario) {
+        synchronized (versoes) {
+            geracao.incrementAndGet();
+            versoes.remove(idUsuario);
+        }
+    }
+}
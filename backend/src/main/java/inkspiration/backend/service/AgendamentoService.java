@@ -5,7 +5,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -22,6 +22,12 @@ import inkspiration.backend.dto.AgendamentoCompletoDTO;
 import inkspiration.backend.dto.AgendamentoRequestDTO;
 import inkspiration.backend.dto.AgendamentoUpdateDTO;
 import inkspiration.backend.dto.AvaliacaoDTO;
+import inkspiration.backend.dto.AgendamentoRelatorioDTO;
+import inkspiration.backend.dto.ResumoRelatorioDTO;
+import inkspiration.backend.agenda.TravasAgenda;
+import inkspiration.backend.relatorio.EscritorRelatorio;
+import inkspiration.backend.relatorio.FormatoRelatorio;
+import inkspiration.backend.relatorio.TipoRelatorio;
 import inkspiration.backend.entities.Agendamento;
 import inkspiration.backend.entities.Profissional;
 import inkspiration.backend.entities.Usuario;
@@ -31,20 +37,10 @@ import inkspiration.backend.repository.AgendamentoRepository;
 import inkspiration.backend.repository.ProfissionalRepository;
 import inkspiration.backend.repository.UsuarioRepository;
 import java.io.ByteArrayOutputStream;
-import com.lowagie.text.Document;
-import com.lowagie.text.DocumentException;
-import com.lowagie.text.Element;
-import com.lowagie.text.Font;
-import com.lowagie.text.FontFactory;
-import com.lowagie.text.Paragraph;
-import com.lowagie.text.Phrase;
-import com.lowagie.text.pdf.PdfPCell;
-import com.lowagie.text.pdf.PdfPTable;
-import com.lowagie.text.pdf.PdfWriter;
-import java.awt.Color;
-import java.time.format.DateTimeFormatter;
-import java.text.NumberFormat;
-import java.util.Locale;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 import java.util.ArrayList;
 import inkspiration.backend.exception.agendamento.AutoAgendamentoException;
 import inkspiration.backend.exception.agendamento.DataInvalidaAgendamentoException;
@@ -64,7 +60,7 @@ public class AgendamentoService {
     private final UsuarioRepository usuarioRepository;
     private final DisponibilidadeService disponibilidadeService;
     private final AvaliacaoService avaliacaoService;
-    private final NumberFormat formatoBrasileiro = NumberFormat.getCurrencyInstance(new Locale("pt", "BR"));
+    private final TravasAgenda travasAgenda = new TravasAgenda();
     
     public AgendamentoService(
             AgendamentoRepository agendamentoRepository,
@@ -122,13 +118,7 @@ public class AgendamentoService {
         
         LocalDateTime dtFim = calcularHorarioFim(dtInicioAjustado, tipoServico);
         
-        List<Agendamento> agendamentosUsuario = agendamentoRepository.findByUsuario(usuario)
-                .stream()
-                .filter(a -> a.getStatus() != StatusAgendamento.CANCELADO)
-                .filter(a -> (a.getDtInicio().isBefore(dtFim) && a.getDtFim().isAfter(dtInicioAjustado)))
-                .collect(Collectors.toList());
-        
-        if (!agendamentosUsuario.isEmpty()) {
+        if (agendamentoRepository.existsConflitoUsuario(usuario.getIdUsuario(), dtInicioAjustado, dtFim)) {
             throw new HorarioConflitanteException("Você já possui outro agendamento nesse horário. Por favor, selecione um horário diferente.");
         }
         
@@ -141,6 +131,13 @@ public class AgendamentoService {
                         "Horário necessário: " + dtInicioAjustado.toLocalTime() + " às " + dtFim.toLocalTime() +
                         " (" + tipoServico.getDuracaoHoras() + " horas)");
             }
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao processar disponibilidade do profissional", e);
+        }
+        
+        // Verificação de conflito e gravação são atômicas por profissional: trava local e linha bloqueada no banco
+        return travasAgenda.executar(idProfissional, () -> {
+            profissionalRepository.bloquearAgenda(idProfissional);
             
             boolean existeConflito = agendamentoRepository.existsConflitingSchedule(
                     idProfissional, dtInicioAjustado, dtFim);
@@ -161,10 +158,7 @@ public class AgendamentoService {
             agendamento.setValor(valor);
             
             return agendamentoRepository.save(agendamento);
-            
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Erro ao processar disponibilidade do profissional", e);
-        }
+        });
     }
     
     public Agendamento buscarPorId(Long id) {
@@ -228,53 +222,46 @@ public class AgendamentoService {
         
         LocalDateTime dtFim = calcularHorarioFim(dtInicioAjustado, tipoServico);
         
-        if (!agendamento.getDtInicio().equals(dtInicioAjustado) || !agendamento.getDtFim().equals(dtFim)) {
-            List<Agendamento> agendamentosUsuario = agendamentoRepository.findByUsuario(agendamento.getUsuario())
-                    .stream()
-                    .filter(a -> !a.getIdAgendamento().equals(id))
-                    .filter(a -> a.getStatus() != StatusAgendamento.CANCELADO)
-                    .filter(a -> (a.getDtInicio().isBefore(dtFim) && a.getDtFim().isAfter(dtInicioAjustado)))
-                    .collect(Collectors.toList());
-            
-            if (!agendamentosUsuario.isEmpty()) {
+        boolean horarioAlterado = !agendamento.getDtInicio().equals(dtInicioAjustado) || !agendamento.getDtFim().equals(dtFim);
+        Long idProfissional = agendamento.getProfissional().getIdProfissional();
+        
+        if (horarioAlterado) {
+            if (agendamentoRepository.existsConflitoUsuarioExceto(
+                    agendamento.getUsuario().getIdUsuario(), dtInicioAjustado, dtFim, id)) {
                 throw new RuntimeException("Você já possui outro agendamento nesse horário. Por favor, selecione um horário diferente.");
             }
             try {
                 boolean estaNoHorarioDeTrabalho = disponibilidadeService.isProfissionalDisponivel(
-                        agendamento.getProfissional().getIdProfissional(), dtInicioAjustado, dtFim);
+                        idProfissional, dtInicioAjustado, dtFim);
                 
                 if (!estaNoHorarioDeTrabalho) {
                     throw new RuntimeException("O profissional não está trabalhando nesse horário. " +
                             "Horário necessário: " + dtInicioAjustado.toLocalTime() + " às " + dtFim.toLocalTime() +
                             " (" + tipoServico.getDuracaoHoras() + " horas)");
                 }
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Erro ao processar disponibilidade do profissional", e);
+            }
+        }
+        
+        return travasAgenda.executar(idProfissional, () -> {
+            if (horarioAlterado) {
+                profissionalRepository.bloquearAgenda(idProfissional);
                 
-                List<Agendamento> agendamentosConflitantes = agendamentoRepository
-                        .findByProfissionalAndPeriod(
-                                agendamento.getProfissional().getIdProfissional(), 
-                                dtInicioAjustado.minusHours(1), 
-                                dtFim.plusHours(1))
-                        .stream()
-                        .filter(a -> !a.getIdAgendamento().equals(id)) 
-                        .filter(a -> (a.getDtInicio().isBefore(dtFim) && a.getDtFim().isAfter(dtInicioAjustado)))
-                        .collect(Collectors.toList());
-                
-                if (!agendamentosConflitantes.isEmpty()) {
+                if (agendamentoRepository.existsConflitoProfissionalExceto(idProfissional, dtInicioAjustado, dtFim, id)) {
                     throw new RuntimeException("O profissional já possui outro agendamento nesse horário. " +
                             "Horário necessário: " + dtInicioAjustado.toLocalTime() + " às " + dtFim.toLocalTime() +
                             " (" + tipoServico.getDuracaoHoras() + " horas)");
                 }
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Erro ao processar disponibilidade do profissional", e);
             }
-        }
-        
-        agendamento.setTipoServico(tipoServico);
-        agendamento.setDescricao(descricao);
-        agendamento.setDtInicio(dtInicioAjustado);
-        agendamento.setDtFim(dtFim);
-        
-        return agendamentoRepository.save(agendamento);
+            
+            agendamento.setTipoServico(tipoServico);
+            agendamento.setDescricao(descricao);
+            agendamento.setDtInicio(dtInicioAjustado);
+            agendamento.setDtFim(dtFim);
+            
+            return agendamentoRepository.save(agendamento);
+        });
     }
     
     @Transactional
@@ -383,13 +370,12 @@ public class AgendamentoService {
         Page<Agendamento> agendamentosPage = agendamentoRepository.findByUsuarioAndDtFimAfterOrderByDtInicioAsc(
                 usuario, agora, pageable);
         
-        List<AgendamentoCompletoDTO> agendamentosDTO = agendamentosPage.getContent().stream()
-                .map(this::enriquecerComAvaliacao)
-                .collect(Collectors.toList());
+        List<AgendamentoCompletoDTO> agendamentosDTO = enriquecerComAvaliacoes(agendamentosPage.getContent(), idUsuario);
         
         return new PageImpl<>(agendamentosDTO, pageable, agendamentosPage.getTotalElements());
     }
     
+    @Transactional
     public Page<AgendamentoCompletoDTO> listarAgendamentosPassados(Long idUsuario, Pageable pageable) {
         Usuario usuario = usuarioRepository.findById(idUsuario)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
@@ -398,51 +384,69 @@ public class AgendamentoService {
         Page<Agendamento> agendamentosPage = agendamentoRepository.findByUsuarioAndDtFimBeforeOrderByDtInicioDesc(
                 usuario, agora, pageable);
         
-        List<Agendamento> agendamentosAtualizados = agendamentosPage.getContent().stream()
-                .map(this::atualizarStatusSeNecessario)
-                .collect(Collectors.toList());
+        atualizarStatusSeNecessario(agendamentosPage.getContent());
         
-        List<AgendamentoCompletoDTO> agendamentosDTO = agendamentosAtualizados.stream()
-                .map(this::enriquecerComAvaliacao)
-                .collect(Collectors.toList());
+        List<AgendamentoCompletoDTO> agendamentosDTO = enriquecerComAvaliacoes(agendamentosPage.getContent(), idUsuario);
         
         return new PageImpl<>(agendamentosDTO, pageable, agendamentosPage.getTotalElements());
     }
 
-    @Transactional
-    private Agendamento atualizarStatusSeNecessario(Agendamento agendamento) {
-        if (agendamento.getStatus() == StatusAgendamento.AGENDADO && 
-            agendamento.getDtFim().isBefore(LocalDateTime.now())) {
-            agendamento.setStatus(StatusAgendamento.CONCLUIDO);
-            return agendamentoRepository.save(agendamento);
+    /**
+     * Conclui os agendamentos da página que já terminaram, com um único UPDATE.
+     */
+    private void atualizarStatusSeNecessario(List<Agendamento> agendamentos) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Agendamento> encerrados = agendamentos.stream()
+                .filter(a -> a.getStatus() == StatusAgendamento.AGENDADO && a.getDtFim().isBefore(agora))
+                .collect(Collectors.toList());
+        
+        if (!encerrados.isEmpty()) {
+            agendamentoRepository.concluirAgendamentos(encerrados.stream()
+                    .map(Agendamento::getIdAgendamento)
+                    .collect(Collectors.toList()));
+            encerrados.forEach(a -> a.setStatus(StatusAgendamento.CONCLUIDO));
         }
-        return agendamento;
     }
     
-    private AgendamentoCompletoDTO enriquecerComAvaliacao(Agendamento agendamento) {
-        AgendamentoCompletoDTO dto = new AgendamentoCompletoDTO(agendamento);
-        
+    /**
+     * Monta os DTOs da página buscando todas as avaliações de uma vez. Quem consulta é sempre
+     * o cliente ou o profissional dos agendamentos listados, então a avaliação é visível e
+     * só o cliente pode avaliar um agendamento concluído ainda sem avaliação.
+     */
+    private List<AgendamentoCompletoDTO> enriquecerComAvaliacoes(List<Agendamento> agendamentos, Long idUsuarioLogado) {
+        Map<Long, AvaliacaoDTO> avaliacoes;
         try {
-            // Verificar se pode avaliar
-            boolean podeAvaliar = avaliacaoService.podeAvaliar(agendamento.getIdAgendamento());
-            dto.setPodeAvaliar(podeAvaliar);
-            
-            // Se não pode avaliar significa que já avaliou
-            if (!podeAvaliar) {
-                Optional<AvaliacaoDTO> avaliacao = avaliacaoService.buscarAvaliacaoPorAgendamento(agendamento.getIdAgendamento());
-                if (avaliacao.isPresent()) {
-                    AvaliacaoDTO avaliacaoDTO = avaliacao.get();
-                    dto.setIdAvaliacao(avaliacaoDTO.getIdAvaliacao());
-                    dto.setDescricaoAvaliacao(avaliacaoDTO.getDescricao());
-                    dto.setRatingAvaliacao(avaliacaoDTO.getRating());
-                }
-            }
+            avaliacoes = avaliacaoService.buscarAvaliacoesPorAgendamentos(agendamentos.stream()
+                    .map(Agendamento::getIdAgendamento)
+                    .collect(Collectors.toList()));
         } catch (Exception e) {
-            // Em caso de erro, não pode avaliar
-            dto.setPodeAvaliar(false);
+            // Em caso de erro, nenhum agendamento pode ser avaliado
+            return agendamentos.stream()
+                    .map(a -> {
+                        AgendamentoCompletoDTO dto = new AgendamentoCompletoDTO(a);
+                        dto.setPodeAvaliar(false);
+                        return dto;
+                    })
+                    .collect(Collectors.toList());
         }
         
-        return dto;
+        List<AgendamentoCompletoDTO> dtos = new ArrayList<>(agendamentos.size());
+        for (Agendamento agendamento : agendamentos) {
+            AgendamentoCompletoDTO dto = new AgendamentoCompletoDTO(agendamento);
+            AvaliacaoDTO avaliacao = avaliacoes.get(agendamento.getIdAgendamento());
+            
+            if (avaliacao != null) {
+                dto.setPodeAvaliar(false);
+                dto.setIdAvaliacao(avaliacao.getIdAvaliacao());
+                dto.setDescricaoAvaliacao(avaliacao.getDescricao());
+                dto.setRatingAvaliacao(avaliacao.getRating());
+            } else {
+                dto.setPodeAvaliar(agendamento.getStatus() == StatusAgendamento.CONCLUIDO
+                        && agendamento.getUsuario().getIdUsuario().equals(idUsuarioLogado));
+            }
+            dtos.add(dto);
+        }
+        return dtos;
     }
     
     public Page<AgendamentoCompletoDTO> listarAtendimentosFuturos(Long idUsuario, Pageable pageable) {
@@ -456,13 +460,12 @@ public class AgendamentoService {
         Page<Agendamento> atendimentosPage = agendamentoRepository.findByProfissionalAndDtFimAfterOrderByDtInicioAsc(
                 profissional, agora, pageable);
         
-        List<AgendamentoCompletoDTO> atendimentosDTO = atendimentosPage.getContent().stream()
-                .map(this::enriquecerComAvaliacao)
-                .collect(Collectors.toList());
+        List<AgendamentoCompletoDTO> atendimentosDTO = enriquecerComAvaliacoes(atendimentosPage.getContent(), idUsuario);
         
         return new PageImpl<>(atendimentosDTO, pageable, atendimentosPage.getTotalElements());
     }
     
+    @Transactional
     public Page<AgendamentoCompletoDTO> listarAtendimentosPassados(Long idUsuario, Pageable pageable) {
         Usuario usuario = usuarioRepository.findById(idUsuario)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
@@ -474,397 +477,95 @@ public class AgendamentoService {
         Page<Agendamento> atendimentosPage = agendamentoRepository.findByProfissionalAndDtFimBeforeOrderByDtInicioDesc(
                 profissional, agora, pageable);
         
-        List<Agendamento> atendimentosAtualizados = atendimentosPage.getContent().stream()
-                .map(this::atualizarStatusSeNecessario)
-                .collect(Collectors.toList());
+        atualizarStatusSeNecessario(atendimentosPage.getContent());
         
-        List<AgendamentoCompletoDTO> atendimentosDTO = atendimentosAtualizados.stream()
-                .map(this::enriquecerComAvaliacao)
-                .collect(Collectors.toList());
+        List<AgendamentoCompletoDTO> atendimentosDTO = enriquecerComAvaliacoes(atendimentosPage.getContent(), idUsuario);
         
         return new PageImpl<>(atendimentosDTO, pageable, atendimentosPage.getTotalElements());
     }
     
-    public byte[] gerarPDFAgendamentos(Long idUsuario, Integer ano) throws Exception {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        Document document = null;
-        PdfWriter writer = null;
+    /**
+     * Escreve em {@code out} o relatório dos agendamentos concluídos do cliente no ano. As linhas são lidas
+     * do banco e escritas uma a uma; os totais vêm de uma consulta agregada feita antes, para que o
+     * cabeçalho saia primeiro sem precisar carregar a lista inteira.
+     */
+    @Transactional(readOnly = true)
+    public void gerarRelatorioAgendamentos(Long idUsuario, Integer ano, FormatoRelatorio formato, OutputStream out) throws Exception {
+        ResumoRelatorioDTO resumo = agendamentoRepository.resumirRelatorioPorUsuario(
+            idUsuario, StatusAgendamento.CONCLUIDO, ano);
+        if (resumo == null || resumo.getQuantidade() == 0) {
+            throw new Exception("Nenhum agendamento concluído encontrado para o ano " + ano);
+        }
         
-        try {
-            List<Agendamento> agendamentos = agendamentoRepository.findByUsuarioIdAndStatusAndAno(
-                idUsuario, StatusAgendamento.CONCLUIDO, ano);
-            
-            if (agendamentos.isEmpty()) {
-                throw new Exception("Nenhum agendamento concluído encontrado para o ano " + ano);
-            }
-            
-            List<AgendamentoCompletoDTO> agendamentosDTO = agendamentos.stream()
-                .map(AgendamentoCompletoDTO::new)
-                .collect(Collectors.toList());
-            
-            document = new Document(com.lowagie.text.PageSize.A4);
-            writer = PdfWriter.getInstance(document, out);
-            
-            document.addCreator("Inkspiration App");
-            document.addAuthor("Inkspiration");
-            document.addSubject("Relatório de Agendamentos");
-            document.addTitle("Agendamentos Concluídos - " + ano);
-            
-            document.open();
-            
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, Color.BLACK);
-            Paragraph title = new Paragraph("Agendamentos Concluídos - " + ano, titleFont);
-            title.setAlignment(Element.ALIGN_CENTER);
-            title.setSpacingAfter(20);
-            document.add(title);
-            
-            Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.BLACK);
-            Paragraph info = new Paragraph("Total de agendamentos concluídos: " + agendamentosDTO.size(), normalFont);
-            info.setAlignment(Element.ALIGN_LEFT);
-            info.setSpacingAfter(10);
-            document.add(info);
-            
-            // Calcular valor total dos agendamentos
-            double valorTotal = agendamentosDTO.stream()
-                .filter(agendamento -> agendamento.getValor() != null)
-                .mapToDouble(agendamento -> agendamento.getValor().doubleValue())
-                .sum();
-            
-            Font valorFont = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.BLACK);
-            Paragraph valorInfo = new Paragraph("Valor total dos agendamentos: " + formatoBrasileiro.format(valorTotal), valorFont);
-            valorInfo.setAlignment(Element.ALIGN_LEFT);
-            valorInfo.setSpacingAfter(20);
-            document.add(valorInfo);
-            
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-            
-            for (AgendamentoCompletoDTO agendamento : agendamentosDTO) {
-                try {
-                    Font sectionFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, Color.BLACK);
-                    String titleText = "Agendamento #" + agendamento.getIdAgendamento();
-                    if (agendamento.getDtInicio() != null) {
-                        titleText += " - " + dateFormatter.format(agendamento.getDtInicio());
-                    }
-                    
-                    Paragraph sectionTitle = new Paragraph(titleText, sectionFont);
-                    sectionTitle.setSpacingBefore(15);
-                    sectionTitle.setSpacingAfter(10);
-                    document.add(sectionTitle);
-                    
-                    PdfPTable table = new PdfPTable(2);
-                    table.setWidthPercentage(100);
-                    table.setSpacingBefore(10f);
-                    table.setSpacingAfter(10f);
-                    
-                    float[] columnWidths = {1f, 3f};
-                    table.setWidths(columnWidths);
-                    
-                    Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, Color.WHITE);
-                    Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.BLACK);
-                    
-                    addTableRow(table, "Profissional", 
-                        agendamento.getNomeProfissional() != null ? agendamento.getNomeProfissional() : "Não especificado", 
-                        headerFont, cellFont);
-                    
-                    String tipoServico = "Não especificado";
-                    if (agendamento.getTipoServico() != null) {
-                        switch (agendamento.getTipoServico()) {
-                            case TATUAGEM_PEQUENA:
-                                tipoServico = "Tatuagem Pequena";
-                                break;
-                            case TATUAGEM_MEDIA:
-                                tipoServico = "Tatuagem Média";
-                                break;
-                            case TATUAGEM_GRANDE:
-                                tipoServico = "Tatuagem Grande";
-                                break;
-                            case SESSAO:
-                                tipoServico = "Sessão";
-                                break;
-                            default:
-                                tipoServico = agendamento.getTipoServico().getDescricao();
-                        }
-                    }
-                    addTableRow(table, "Serviço", tipoServico, headerFont, cellFont);
-                    
-                    if (agendamento.getDtInicio() != null) {
-                        addTableRow(table, "Data", dateFormatter.format(agendamento.getDtInicio()), headerFont, cellFont);
-                    }
-                    
-                    String horario = "Não especificado";
-                    if (agendamento.getDtInicio() != null) {
-                        horario = timeFormatter.format(agendamento.getDtInicio());
-                        if (agendamento.getDtFim() != null) {
-                            horario += " - " + timeFormatter.format(agendamento.getDtFim());
-                        }
-                    }
-                    addTableRow(table, "Horário", horario, headerFont, cellFont);
-                    
-                    String endereco = "Endereço não disponível";
-                    
-                    if (agendamento.getRua() != null) {
-                        endereco = agendamento.getRua();
-                        if (agendamento.getNumero() != null) {
-                            endereco += ", " + agendamento.getNumero();
-                        }
-                        
-                        if (agendamento.getComplemento() != null && !agendamento.getComplemento().isEmpty()) {
-                            endereco += "\n" + agendamento.getComplemento();
-                        }
-                        
-                        if (agendamento.getBairro() != null && !agendamento.getBairro().isEmpty()) {
-                            endereco += "\n" + agendamento.getBairro();
-                        }
-                        
-                        if (agendamento.getCidade() != null) {
-                            endereco += "\n" + agendamento.getCidade();
-                            if (agendamento.getEstado() != null) {
-                                endereco += "/" + agendamento.getEstado();
-                            }
-                        }
-                        
-                        if (agendamento.getCep() != null) {
-                            endereco += "\nCEP: " + agendamento.getCep();
-                        }
-                    }
-                    
-                    addTableRow(table, "Local", endereco, headerFont, cellFont);
-                    
-                    if (agendamento.getDescricao() != null && !agendamento.getDescricao().isEmpty()) {
-                        addTableRow(table, "Descrição", agendamento.getDescricao(), headerFont, cellFont);
-                    }
-                    
-                    if (agendamento.getValor() != null) {
-                        String valorFormatado = formatoBrasileiro.format(agendamento.getValor());
-                        addTableRow(table, "Valor", valorFormatado, headerFont, cellFont);
-                    }
-                    
-                    document.add(table);
-                    
-                    Paragraph separator = new Paragraph("------------------------------------------------------");
-                    separator.setAlignment(Element.ALIGN_CENTER);
-                    document.add(separator);
-                } catch (Exception e) {
-                    System.err.println("Erro ao processar agendamento #" + agendamento.getIdAgendamento() + ": " + e.getMessage());
-                }
-            }
-            
-            Paragraph footer = new Paragraph("Relatório gerado em: " + 
-                java.time.LocalDateTime.now(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")),
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 10, Color.GRAY));
-            footer.setAlignment(Element.ALIGN_CENTER);
-            document.add(footer);
-            
-            document.close();
-            writer.close();
-            
-            return out.toByteArray();
-            
-        } catch (DocumentException e) {
-            throw new Exception("Erro ao gerar PDF: " + e.getMessage());
-        } finally {
-            try {
-                if (document != null && document.isOpen()) {
-                    document.close();
-                }
-                if (writer != null) {
-                    writer.close();
-                }
-                if (out != null) {
-                    out.close();
-                }
-            } catch (Exception e) {
-                System.err.println("Erro ao fechar recursos PDF: " + e.getMessage());
-            }
+        try (Stream<AgendamentoRelatorioDTO> linhas = agendamentoRepository.streamRelatorioPorUsuario(
+                idUsuario, StatusAgendamento.CONCLUIDO, ano)) {
+            escreverRelatorio(formato.criarEscritor(TipoRelatorio.AGENDAMENTOS, out),
+                "Agendamentos Concluídos - " + ano, resumo, linhas);
         }
     }
     
-    private void addTableRow(PdfPTable table, String header, String value, Font headerFont, Font cellFont) {
-        PdfPCell headerCell = new PdfPCell(new Phrase(header, headerFont));
-        headerCell.setBackgroundColor(new Color(44, 62, 80));
-        headerCell.setPadding(5);
+    /**
+     * Escreve em {@code out} o relatório dos atendimentos concluídos do profissional no mês.
+     */
+    @Transactional(readOnly = true)
+    public void gerarRelatorioAtendimentos(Long idUsuario, Integer ano, Integer mes, FormatoRelatorio formato, OutputStream out) throws Exception {
+        Profissional profissional = buscarProfissionalDoUsuario(idUsuario);
         
-        PdfPCell valueCell = new PdfPCell(new Phrase(value, cellFont));
-        valueCell.setPadding(5);
+        ResumoRelatorioDTO resumo = agendamentoRepository.resumirRelatorioPorProfissional(
+            profissional.getIdProfissional(), StatusAgendamento.CONCLUIDO, ano, mes);
+        if (resumo == null || resumo.getQuantidade() == 0) {
+            throw new Exception("Nenhum atendimento concluído encontrado para " + String.format("%02d", mes) + "/" + ano);
+        }
         
-        table.addCell(headerCell);
-        table.addCell(valueCell);
+        String[] meses = {"", "Janeiro", "Fevereiro", "Março", "Abril", "Maio", "Junho", 
+                         "Julho", "Agosto", "Setembro", "Outubro", "Novembro", "Dezembro"};
+        String mesNome = mes >= 1 && mes <= 12 ? meses[mes] : "Mês " + mes;
+        
+        try (Stream<AgendamentoRelatorioDTO> linhas = agendamentoRepository.streamRelatorioPorProfissional(
+                profissional.getIdProfissional(), StatusAgendamento.CONCLUIDO, ano, mes)) {
+            escreverRelatorio(formato.criarEscritor(TipoRelatorio.ATENDIMENTOS, out),
+                "Atendimentos Concluídos - " + mesNome + "/" + ano, resumo, linhas);
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public byte[] gerarPDFAgendamentos(Long idUsuario, Integer ano) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            gerarRelatorioAgendamentos(idUsuario, ano, FormatoRelatorio.PDF, out);
+        } catch (IOException e) {
+            throw new Exception("Erro ao gerar PDF: " + e.getMessage());
+        }
+        return out.toByteArray();
     }
 
+    @Transactional(readOnly = true)
     public byte[] gerarPDFAtendimentos(Long idUsuario, Integer ano, Integer mes) throws Exception {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        Document document = null;
-        PdfWriter writer = null;
-        
         try {
-            Usuario usuario = usuarioRepository.findById(idUsuario)
-                    .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-            
-            Profissional profissional = profissionalRepository.findByUsuario(usuario)
-                    .orElseThrow(() -> new RuntimeException("Profissional não encontrado"));
-            
-            List<Agendamento> atendimentos = agendamentoRepository.findByProfissionalIdAndStatusAndAnoMes(
-                profissional.getIdProfissional(), StatusAgendamento.CONCLUIDO, ano, mes);
-            
-            if (atendimentos.isEmpty()) {
-                throw new Exception("Nenhum atendimento concluído encontrado para " + String.format("%02d", mes) + "/" + ano);
-            }
-            
-            List<AgendamentoCompletoDTO> atendimentosDTO = atendimentos.stream()
-                .map(AgendamentoCompletoDTO::new)
-                .collect(Collectors.toList());
-            
-            document = new Document(com.lowagie.text.PageSize.A4);
-            writer = PdfWriter.getInstance(document, out);
-            
-            document.addCreator("Inkspiration App");
-            document.addAuthor("Inkspiration");
-            document.addSubject("Relatório de Atendimentos");
-            document.addTitle("Atendimentos Concluídos - " + String.format("%02d", mes) + "/" + ano);
-            
-            document.open();
-            
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, Color.BLACK);
-            String[] meses = {"", "Janeiro", "Fevereiro", "Março", "Abril", "Maio", "Junho", 
-                             "Julho", "Agosto", "Setembro", "Outubro", "Novembro", "Dezembro"};
-            String mesNome = mes <= 12 ? meses[mes] : "Mês " + mes;
-            
-            Paragraph title = new Paragraph("Atendimentos Concluídos - " + mesNome + "/" + ano, titleFont);
-            title.setAlignment(Element.ALIGN_CENTER);
-            title.setSpacingAfter(20);
-            document.add(title);
-            
-            Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.BLACK);
-            Paragraph info = new Paragraph("Total de atendimentos concluídos: " + atendimentosDTO.size(), normalFont);
-            info.setAlignment(Element.ALIGN_LEFT);
-            info.setSpacingAfter(10);
-            document.add(info);
-            
-            // Calcular valor total dos atendimentos
-            double valorTotal = atendimentosDTO.stream()
-                .filter(atendimento -> atendimento.getValor() != null)
-                .mapToDouble(atendimento -> atendimento.getValor().doubleValue())
-                .sum();
-            
-            Font valorFont = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.BLACK);
-            Paragraph valorInfo = new Paragraph("Valor total dos atendimentos: " + formatoBrasileiro.format(valorTotal), valorFont);
-            valorInfo.setAlignment(Element.ALIGN_LEFT);
-            valorInfo.setSpacingAfter(20);
-            document.add(valorInfo);
-            
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-            
-            for (AgendamentoCompletoDTO atendimento : atendimentosDTO) {
-                try {
-                    Font sectionFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, Color.BLACK);
-                    String titleText = "Atendimento #" + atendimento.getIdAgendamento();
-                    if (atendimento.getDtInicio() != null) {
-                        titleText += " - " + dateFormatter.format(atendimento.getDtInicio());
-                    }
-                    
-                    Paragraph sectionTitle = new Paragraph(titleText, sectionFont);
-                    sectionTitle.setSpacingBefore(15);
-                    sectionTitle.setSpacingAfter(10);
-                    document.add(sectionTitle);
-                    
-                    PdfPTable table = new PdfPTable(2);
-                    table.setWidthPercentage(100);
-                    table.setSpacingBefore(10f);
-                    table.setSpacingAfter(10f);
-                    
-                    float[] columnWidths = {1f, 3f};
-                    table.setWidths(columnWidths);
-                    
-                    Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12, Color.WHITE);
-                    Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 12, Color.BLACK);
-                    
-                    addTableRow(table, "Cliente", 
-                        atendimento.getNomeUsuario() != null ? atendimento.getNomeUsuario() : "Não especificado", 
-                        headerFont, cellFont);
-                    
-                    String tipoServico = "Não especificado";
-                    if (atendimento.getTipoServico() != null) {
-                        switch (atendimento.getTipoServico()) {
-                            case TATUAGEM_PEQUENA:
-                                tipoServico = "Tatuagem Pequena";
-                                break;
-                            case TATUAGEM_MEDIA:
-                                tipoServico = "Tatuagem Média";
-                                break;
-                            case TATUAGEM_GRANDE:
-                                tipoServico = "Tatuagem Grande";
-                                break;
-                            case SESSAO:
-                                tipoServico = "Sessão";
-                                break;
-                            default:
-                                tipoServico = atendimento.getTipoServico().getDescricao();
-                        }
-                    }
-                    addTableRow(table, "Serviço", tipoServico, headerFont, cellFont);
-                    
-                    if (atendimento.getDtInicio() != null) {
-                        addTableRow(table, "Data", dateFormatter.format(atendimento.getDtInicio()), headerFont, cellFont);
-                    }
-                    
-                    String horario = "Não especificado";
-                    if (atendimento.getDtInicio() != null) {
-                        horario = timeFormatter.format(atendimento.getDtInicio());
-                        if (atendimento.getDtFim() != null) {
-                            horario += " - " + timeFormatter.format(atendimento.getDtFim());
-                        }
-                    }
-                    addTableRow(table, "Horário", horario, headerFont, cellFont);
-                    
-                    if (atendimento.getDescricao() != null && !atendimento.getDescricao().isEmpty()) {
-                        addTableRow(table, "Descrição", atendimento.getDescricao(), headerFont, cellFont);
-                    }
-                    
-                    if (atendimento.getValor() != null) {
-                        String valorFormatado = formatoBrasileiro.format(atendimento.getValor());
-                        addTableRow(table, "Valor", valorFormatado, headerFont, cellFont);
-                    }
-                    
-                    document.add(table);
-                    
-                    Paragraph separator = new Paragraph("------------------------------------------------------");
-                    separator.setAlignment(Element.ALIGN_CENTER);
-                    document.add(separator);
-                } catch (Exception e) {
-                    System.err.println("Erro ao processar atendimento #" + atendimento.getIdAgendamento() + ": " + e.getMessage());
-                }
-            }
-            
-            Paragraph footer = new Paragraph("Relatório gerado em: " + 
-                java.time.LocalDateTime.now(ZoneId.of("America/Sao_Paulo")).format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")),
-                FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 10, Color.GRAY));
-            footer.setAlignment(Element.ALIGN_CENTER);
-            document.add(footer);
-            
-            document.close();
-            writer.close();
-            
-            return out.toByteArray();
-            
-        } catch (DocumentException e) {
+            gerarRelatorioAtendimentos(idUsuario, ano, mes, FormatoRelatorio.PDF, out);
+        } catch (IOException e) {
             throw new Exception("Erro ao gerar PDF: " + e.getMessage());
-        } finally {
-            try {
-                if (document != null && document.isOpen()) {
-                    document.close();
-                }
-                if (writer != null) {
-                    writer.close();
-                }
-                if (out != null) {
-                    out.close();
-                }
-            } catch (Exception e) {
-                System.err.println("Erro ao fechar recursos PDF: " + e.getMessage());
-            }
         }
+        return out.toByteArray();
+    }
+    
+    private Profissional buscarProfissionalDoUsuario(Long idUsuario) {
+        Usuario usuario = usuarioRepository.findById(idUsuario)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+        
+        return profissionalRepository.findByUsuario(usuario)
+                .orElseThrow(() -> new RuntimeException("Profissional não encontrado"));
+    }
+    
+    private void escreverRelatorio(EscritorRelatorio escritor, String titulo, ResumoRelatorioDTO resumo,
+            Stream<AgendamentoRelatorioDTO> linhas) throws IOException {
+        escritor.iniciar(titulo, resumo);
+        Iterator<AgendamentoRelatorioDTO> iterator = linhas.iterator();
+        while (iterator.hasNext()) {
+            escritor.escrever(iterator.next());
+        }
+        escritor.finalizar();
     }
 
     public AgendamentoDTO criarAgendamentoComValidacao(AgendamentoRequestDTO request) {
@@ -975,13 +676,33 @@ public class AgendamentoService {
         }
     }
 
-    public byte[] exportarAgendamentosPDFComAutenticacao(Integer ano, Authentication authentication) {
+    /**
+     * Confere se há agendamentos para o relatório antes de a resposta começar a ser escrita,
+     * para que o controller ainda possa responder 404.
+     */
+    public void verificarRelatorioAgendamentosComAutenticacao(Integer ano, Authentication authentication) {
         Long userId = extrairUserIdDoToken(authentication);
         
+        ResumoRelatorioDTO resumo;
         try {
-            return gerarPDFAgendamentos(userId, ano);
+            resumo = agendamentoRepository.resumirRelatorioPorUsuario(userId, StatusAgendamento.CONCLUIDO, ano);
         } catch (Exception e) {
-            if (e.getMessage().contains("Nenhum agendamento concluído encontrado")) {
+            throw new RuntimeException("Erro ao gerar PDF: " + e.getMessage());
+        }
+        if (resumo == null || resumo.getQuantidade() == 0) {
+            throw new RuntimeException("Nenhum agendamento concluído encontrado para o ano " + ano);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportarAgendamentosComAutenticacao(Integer ano, FormatoRelatorio formato,
+            Authentication authentication, OutputStream out) {
+        Long userId = extrairUserIdDoToken(authentication);
+        
+        try {
+            gerarRelatorioAgendamentos(userId, ano, formato, out);
+        } catch (Exception e) {
+            if (e.getMessage() != null && e.getMessage().contains("Nenhum agendamento concluído encontrado")) {
                 throw new RuntimeException(e.getMessage());
             }
             throw new RuntimeException("Erro ao gerar PDF: " + e.getMessage());
@@ -1008,13 +729,34 @@ public class AgendamentoService {
         }
     }
 
-    public byte[] exportarAtendimentosPDFComAutenticacao(Integer ano, Integer mes, Authentication authentication) {
+    /**
+     * Confere se há atendimentos para o relatório antes de a resposta começar a ser escrita.
+     */
+    public void verificarRelatorioAtendimentosComAutenticacao(Integer ano, Integer mes, Authentication authentication) {
+        Long userId = extrairUserIdDoToken(authentication);
+        
+        ResumoRelatorioDTO resumo;
+        try {
+            Profissional profissional = buscarProfissionalDoUsuario(userId);
+            resumo = agendamentoRepository.resumirRelatorioPorProfissional(
+                profissional.getIdProfissional(), StatusAgendamento.CONCLUIDO, ano, mes);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao gerar PDF: " + e.getMessage());
+        }
+        if (resumo == null || resumo.getQuantidade() == 0) {
+            throw new RuntimeException("Nenhum atendimento concluído encontrado para " + String.format("%02d", mes) + "/" + ano);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportarAtendimentosComAutenticacao(Integer ano, Integer mes, FormatoRelatorio formato,
+            Authentication authentication, OutputStream out) {
         Long userId = extrairUserIdDoToken(authentication);
         
         try {
-            return gerarPDFAtendimentos(userId, ano, mes);
+            gerarRelatorioAtendimentos(userId, ano, mes, formato, out);
         } catch (Exception e) {
-            if (e.getMessage().contains("Nenhum atendimento concluído encontrado")) {
+            if (e.getMessage() != null && e.getMessage().contains("Nenhum atendimento concluído encontrado")) {
                 throw new RuntimeException(e.getMessage());
             }
             throw new RuntimeException("Erro ao gerar PDF: " + e.getMessage());
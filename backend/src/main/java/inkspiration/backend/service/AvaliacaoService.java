@@ -20,6 +20,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -102,6 +105,22 @@ public class AvaliacaoService {
                 .map(this::convertToDTO);
     }
 
+    /**
+     * Avaliações dos agendamentos informados, indexadas pelo id do agendamento, em uma única consulta.
+     * Não verifica permissão: o chamador deve listar apenas agendamentos do próprio usuário.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, AvaliacaoDTO> buscarAvaliacoesPorAgendamentos(Collection<Long> idsAgendamento) {
+        Map<Long, AvaliacaoDTO> avaliacoes = new HashMap<>();
+        if (idsAgendamento.isEmpty()) {
+            return avaliacoes;
+        }
+        for (Avaliacao avaliacao : avaliacaoRepository.findByAgendamentoIdIn(idsAgendamento)) {
+            avaliacoes.put(avaliacao.getAgendamento().getIdAgendamento(), convertToDTO(avaliacao));
+        }
+        return avaliacoes;
+    }
+
     @Transactional(readOnly = true)
     public boolean podeAvaliar(Long idAgendamento) {
         // Buscar o agendamento
@@ -0,0 +1,147 @@
+package inkspiration.backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import inkspiration.backend.armazenamento.ArmazenamentoBlob;
+import inkspiration.backend.armazenamento.ConteudoImagem;
+import inkspiration.backend.armazenamento.ImagemArquivo;
+import inkspiration.backend.armazenamento.ProcessadorVariantes;
+import inkspiration.backend.entities.BlobImagem;
+import inkspiration.backend.exception.imagem.ImagemNaoEncontradaException;
+import inkspiration.backend.exception.imagem.ImagemSalvamentoException;
+import inkspiration.backend.repository.BlobImagemRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Conteúdo de imagens compartilhado por contagem de referências: cada imagem do portfólio e
+ * cada foto de perfil é uma referência ao hash dos seus bytes, e bytes iguais são gravados
+ * uma única vez. A remoção do conteúdo sem referências fica a cargo da limpeza periódica.
+ */
+@Service
+public class BlobImagemService {
+
+    private static final String VIOLACAO_CHAVE = "23505";
+
+    private final BlobImagemRepository blobImagemRepository;
+    private final ArmazenamentoBlob armazenamentoBlob;
+    private final ProcessadorVariantes processadorVariantes;
+    private final EntityManager entityManager;
+
+    public BlobImagemService(BlobImagemRepository blobImagemRepository, ArmazenamentoBlob armazenamentoBlob,
+                             ProcessadorVariantes processadorVariantes, EntityManager entityManager) {
+        this.blobImagemRepository = blobImagemRepository;
+        this.armazenamentoBlob = armazenamentoBlob;
+        this.processadorVariantes = processadorVariantes;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Registra uma nova referência ao conteúdo e o grava se ainda não existir. A referência é
+     * contada antes da gravação: a partir daí a limpeza não remove mais esse hash.
+     */
+    @Transactional
+    public void adquirir(ConteudoImagem conteudo) {
+        String hash = conteudo.getHash();
+        if (blobImagemRepository.incrementar(hash) == 0) {
+            registrar(conteudo);
+            blobImagemRepository.incrementar(hash);
+        }
+        try {
+            armazenamentoBlob.salvar(hash, conteudo.getBytes());
+        } catch (IOException e) {
+            throw new ImagemSalvamentoException("Erro ao gravar o conteúdo da imagem: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cria o registro com zero referências. O INSERT roda em um savepoint: se outra requisição
+     * criar o mesmo registro ao mesmo tempo, só ele é desfeito, e não a transação inteira.
+     */
+    private void registrar(ConteudoImagem conteudo) {
+        entityManager.unwrap(Session.class).doWork(conexao -> {
+            Savepoint savepoint = conexao.setSavepoint();
+            try (PreparedStatement insert = conexao.prepareStatement(
+                    "INSERT INTO blob_imagem (hash, mime_type, tamanho, referencias) VALUES (?, ?, ?, 0)")) {
+                insert.setString(1, conteudo.getHash());
+                insert.setString(2, conteudo.getMimeType());
+                insert.setLong(3, conteudo.getTamanho());
+                insert.executeUpdate();
+                conexao.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                conexao.rollback(savepoint);
+                if (!VIOLACAO_CHAVE.equals(e.getSQLState())) {
+                    throw e;
+                }
+            }
+        });
+    }
+
+    /**
+     * Libera uma referência. O conteúdo continua disponível até a limpeza encontrá-lo órfão.
+     */
+    @Transactional
+    public void liberar(String hash) {
+        if (hash != null) {
+            blobImagemRepository.decrementar(hash, LocalDateTime.now());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ImagemArquivo abrir(String hash) {
+        BlobImagem blob = blobImagemRepository.findById(hash)
+                .orElseThrow(() -> new ImagemNaoEncontradaException("Imagem não encontrada: " + hash));
+        try {
+            String mimeType = blob.getMimeType() != null ? blob.getMimeType() : "application/octet-stream";
+            return new ImagemArquivo(armazenamentoBlob.carregar(hash), mimeType, hash);
+        } catch (IOException e) {
+            throw new ImagemNaoEncontradaException("Conteúdo da imagem não encontrado: " + hash);
+        }
+    }
+
+    /**
+     * @return hashes sem referências desde antes de {@code limite}, os mais antigos primeiro
+     */
+    public List<String> listarOrfaos(LocalDateTime limite, int quantidade) {
+        return blobImagemRepository.findOrfaos(limite, PageRequest.of(0, quantidade));
+    }
+
+    /**
+     * Remove o conteúdo e as variantes de um hash órfão. O registro é apagado antes dos arquivos
+     * e na mesma transação: um upload simultâneo do mesmo conteúdo espera o commit e grava os
+     * bytes de novo; se a remoção dos arquivos falhar, o registro volta e a limpeza tenta outra vez.
+     *
+     * @return {@code true} se o conteúdo foi removido
+     */
+    @Transactional
+    public boolean removerSeOrfao(String hash) {
+        if (blobImagemRepository.removerSeOrfao(hash) == 0) {
+            return false;
+        }
+        try {
+            processadorVariantes.remover(hash);
+            armazenamentoBlob.remover(hash);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao remover o conteúdo " + hash, e);
+        }
+        return true;
+    }
+
+    /**
+     * Cria a contagem do conteúdo gravado antes dela existir.
+     */
+    @Transactional
+    public int registrarExistentes() {
+        return blobImagemRepository.registrarExistentes();
+    }
+}
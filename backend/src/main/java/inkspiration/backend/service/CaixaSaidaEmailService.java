@@ -0,0 +1,249 @@
+package inkspiration.backend.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import inkspiration.backend.entities.EmailSaida;
+import inkspiration.backend.enums.StatusEmail;
+import inkspiration.backend.repository.EmailSaidaRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Caixa de saída de emails. A requisição só grava a mensagem na tabela {@link EmailSaida} e
+ * segue; o envio fica com um pool pequeno de workers, que reservam lotes de mensagens e mandam
+ * cada lote em uma única conexão SMTP. Falhas são tentadas de novo com espera exponencial e,
+ * esgotadas as tentativas, a mensagem fica como {@link StatusEmail#FALHOU}.
+ */
+@Service
+public class CaixaSaidaEmailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaixaSaidaEmailService.class);
+
+    // Tempo que um worker tem para enviar o lote reservado antes que outro possa pegá-lo
+    private static final Duration RESERVA = Duration.ofMinutes(5);
+    private static final Duration ESPERA_MAXIMA = Duration.ofHours(1);
+
+    private final EmailSaidaRepository emailSaidaRepository;
+    private final JavaMailSender mailSender;
+    private final int tamanhoLote;
+    private final int maxTentativas;
+    private final Duration esperaInicial;
+    private final ThreadPoolExecutor executor;
+
+    public CaixaSaidaEmailService(
+            EmailSaidaRepository emailSaidaRepository,
+            JavaMailSender mailSender,
+            @Value("${email.envio.workers:2}") int workers,
+            @Value("${email.envio.tamanho-lote:20}") int tamanhoLote,
+            @Value("${email.envio.max-tentativas:6}") int maxTentativas,
+            @Value("${email.envio.espera-inicial-ms:30000}") long esperaInicialMs) {
+        this.emailSaidaRepository = emailSaidaRepository;
+        this.mailSender = mailSender;
+        this.tamanhoLote = tamanhoLote;
+        this.maxTentativas = maxTentativas;
+        this.esperaInicial = Duration.ofMillis(esperaInicialMs);
+
+        // Cada tarefa esvazia a caixa inteira; além das que estão rodando, basta uma por worker na fila
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers), runnable -> {
+                Thread thread = new Thread(runnable, "envio-email-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Grava a mensagem na caixa de saída. Dentro de uma transação, ela só fica visível aos
+     * workers, e só é enviada, depois do commit.
+     *
+     * @throws MailPreparationException se a mensagem não puder ser convertida para MIME
+     */
+    public void enfileirar(MimeMessage mensagem) {
+        EmailSaida email;
+        try {
+            email = new EmailSaida(destinatarios(mensagem), mensagem.getSubject(), serializar(mensagem), LocalDateTime.now());
+        } catch (MessagingException | IOException e) {
+            throw new MailPreparationException("Não foi possível preparar o email para envio", e);
+        }
+        emailSaidaRepository.save(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acordar();
+                }
+            });
+        } else {
+            acordar();
+        }
+    }
+
+    /**
+     * Põe um worker para esvaziar a caixa de saída. Se todos já estiverem ocupados ou a caminho,
+     * não há o que fazer: eles vão encontrar as mensagens novas.
+     */
+    public void acordar() {
+        try {
+            executor.execute(this::esvaziar);
+        } catch (RejectedExecutionException e) {
+            logger.trace("Workers de email já acionados");
+        }
+    }
+
+    /**
+     * Reserva e envia um lote de mensagens prontas, todas pela mesma conexão SMTP.
+     *
+     * @return quantidade de mensagens reservadas, enviadas ou não
+     */
+    public int enviarLote() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Long> reservados = new ArrayList<>();
+        for (Long id : emailSaidaRepository.findIdsProntos(agora, PageRequest.of(0, tamanhoLote))) {
+            if (emailSaidaRepository.reservar(id, agora, agora.plus(RESERVA)) == 1) {
+                reservados.add(id);
+            }
+        }
+        if (reservados.isEmpty()) {
+            return 0;
+        }
+
+        List<EmailSaida> emails = emailSaidaRepository.findAllById(reservados);
+        Map<MimeMessage, EmailSaida> mensagens = new IdentityHashMap<>();
+        for (EmailSaida email : emails) {
+            try {
+                mensagens.put(mailSender.createMimeMessage(
+                        new ByteArrayInputStream(email.getMensagem().getBytes(StandardCharsets.ISO_8859_1))), email);
+            } catch (MailException e) {
+                // Mensagem ilegível não vai melhorar com novas tentativas
+                descartar(email, e);
+            }
+        }
+
+        Map<Object, Exception> falhas = Map.of();
+        if (!mensagens.isEmpty()) {
+            try {
+                mailSender.send(mensagens.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                falhas = e.getFailedMessages();
+            } catch (MailException e) {
+                falhas = new IdentityHashMap<>();
+                for (MimeMessage mensagem : mensagens.keySet()) {
+                    falhas.put(mensagem, e);
+                }
+            }
+        }
+
+        LocalDateTime fim = LocalDateTime.now();
+        for (Map.Entry<MimeMessage, EmailSaida> entrada : mensagens.entrySet()) {
+            Exception falha = falhas.get(entrada.getKey());
+            if (falha == null) {
+                entrada.getValue().setStatus(StatusEmail.ENVIADO);
+                entrada.getValue().setEnviadoEm(fim);
+            } else {
+                registrarFalha(entrada.getValue(), falha, fim);
+            }
+        }
+        emailSaidaRepository.saveAll(emails);
+
+        if (!falhas.isEmpty()) {
+            logger.warn("Envio de emails: {} de {} mensagens falharam", falhas.size(), mensagens.size());
+        }
+        return reservados.size();
+    }
+
+    /**
+     * @return quantidade de emails enviados antes de {@code limite} removidos da tabela
+     */
+    public int removerEnviadosAntesDe(LocalDateTime limite) {
+        return emailSaidaRepository.removerEnviadosAntesDe(limite);
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        executor.shutdown();
+        // Um lote interrompido no meio volta a ficar disponível quando a reserva expirar
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void esvaziar() {
+        try {
+            while (!executor.isShutdown() && enviarLote() == tamanhoLote) {
+                // lote cheio: pode haver mais mensagens prontas
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao processar a caixa de saída de emails: {}", e.getMessage());
+        }
+    }
+
+    private void registrarFalha(EmailSaida email, Exception erro, LocalDateTime agora) {
+        int tentativas = email.getTentativas() + 1;
+        email.setTentativas(tentativas);
+        email.setUltimoErro(resumir(erro));
+        if (tentativas >= maxTentativas) {
+            email.setStatus(StatusEmail.FALHOU);
+            logger.warn("Email {} para {} descartado após {} tentativas: {}",
+                email.getIdEmail(), email.getDestinatario(), tentativas, email.getUltimoErro());
+        } else {
+            email.setProximaTentativa(agora.plus(espera(tentativas)));
+        }
+    }
+
+    private void descartar(EmailSaida email, Exception erro) {
+        email.setStatus(StatusEmail.FALHOU);
+        email.setUltimoErro(resumir(erro));
+        logger.warn("Email {} para {} descartado: {}", email.getIdEmail(), email.getDestinatario(), email.getUltimoErro());
+    }
+
+    // Espera inicial depois da primeira falha, dobrando a cada nova falha, até uma hora
+    private Duration espera(int tentativas) {
+        Duration espera = esperaInicial.multipliedBy(1L << Math.min(tentativas - 1, 20));
+        return espera.compareTo(ESPERA_MAXIMA) > 0 ? ESPERA_MAXIMA : espera;
+    }
+
+    private static String destinatarios(MimeMessage mensagem) throws MessagingException {
+        String destinatarios = InternetAddress.toString(mensagem.getAllRecipients());
+        return destinatarios != null && destinatarios.length() > 320 ? destinatarios.substring(0, 320) : destinatarios;
+    }
+
+    // O JavaMail gera a mensagem em 7 bits; ISO-8859-1 preserva qualquer byte na ida e na volta
+    private static String serializar(MimeMessage mensagem) throws MessagingException, IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        mensagem.writeTo(saida);
+        return saida.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String resumir(Exception erro) {
+        String mensagem = erro.getMessage() != null ? erro.getMessage() : erro.getClass().getSimpleName();
+        return mensagem.length() > 500 ? mensagem.substring(0, 500) : mensagem;
+    }
+}
@@ -4,17 +4,23 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import inkspiration.backend.agenda.AgendaSemanal;
+import inkspiration.backend.agenda.GradeHorarios;
 import inkspiration.backend.dto.DisponibilidadeDTO;
 import inkspiration.backend.entities.Agendamento;
 import inkspiration.backend.entities.Disponibilidade;
@@ -47,16 +53,31 @@ import inkspiration.backend.repository.ProfissionalRepository;
  * 
  * Este serviço NÃO verifica conflitos com agendamentos existentes - isso é
  * responsabilidade do AgendamentoService.
+ * 
+ * As verificações de horário usam a {@link AgendaSemanal} compilada de cada profissional,
+ * mantida em um cache LRU limitado e descartada sempre que a disponibilidade é salva.
  */
 @Service
 public class DisponibilidadeService {
     
+    static final int MAXIMO_AGENDAS_EM_CACHE = 10_000;
+    static final int MAXIMO_DIAS_CALENDARIO = 62;
+    
     private final DisponibilidadeRepository disponibilidadeRepository;
     private final ProfissionalRepository profissionalRepository;
     private final AgendamentoRepository agendamentoRepository;
     private final ObjectMapper objectMapper;
     private final AuthorizationService authorizationService;
     
+    private final Map<Long, AgendaSemanal> agendas = new LinkedHashMap<Long, AgendaSemanal>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, AgendaSemanal> eldest) {
+            return size() > MAXIMO_AGENDAS_EM_CACHE;
+        }
+    };
+    // Incrementada a cada descarte: uma agenda lida antes de um descarte não volta para o cache
+    private final AtomicLong geracaoAgendas = new AtomicLong();
+    
     public DisponibilidadeService(
             DisponibilidadeRepository disponibilidadeRepository,
             ProfissionalRepository profissionalRepository,
@@ -161,7 +182,60 @@ public class DisponibilidadeService {
         disponibilidade.setProfissional(profissional);
         disponibilidade.setHrAtendimento(horarioJson);
         
-        return disponibilidadeRepository.save(disponibilidade);
+        Disponibilidade salva = disponibilidadeRepository.save(disponibilidade);
+        descartarAgenda(idProfissional);
+        return salva;
+    }
+    
+    /**
+     * Obtém a agenda semanal compilada do profissional, consultando o banco e
+     * interpretando o JSON apenas quando ela não está em cache.
+     * 
+     * @param idProfissional ID do profissional
+     * @return Agenda semanal compilada
+     * @throws JsonProcessingException Se houver erro ao converter o JSON para mapa
+     */
+    public AgendaSemanal obterAgendaSemanal(Long idProfissional) throws JsonProcessingException {
+        synchronized (agendas) {
+            AgendaSemanal agenda = agendas.get(idProfissional);
+            if (agenda != null) {
+                return agenda;
+            }
+        }
+        
+        long geracao = geracaoAgendas.get();
+        AgendaSemanal agenda = AgendaSemanal.compilar(obterDisponibilidade(idProfissional));
+        synchronized (agendas) {
+            if (geracao == geracaoAgendas.get()) {
+                agendas.put(idProfissional, agenda);
+            }
+        }
+        return agenda;
+    }
+    
+    /**
+     * Remove a agenda compilada do cache; a próxima consulta recarrega do banco. Dentro de uma
+     * transação, a remoção espera o commit: antes dele, uma leitura ainda veria as linhas antigas
+     * e as guardaria de novo.
+     */
+    public void descartarAgenda(Long idProfissional) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removerAgenda(idProfissional);
+                }
+            });
+        } else {
+            removerAgenda(idProfissional);
+        }
+    }
+
+    private void removerAgenda(Long idProfissional) {
+        synchronized (agendas) {
+            geracaoAgendas.incrementAndGet();
+            agendas.remove(idProfissional);
+        }
     }
     
     /**
@@ -205,59 +279,10 @@ public class DisponibilidadeService {
             return false;
         }
         
-        // Extrair o dia da semana e horários
-        DayOfWeek diaSemana = dataHoraInicio.getDayOfWeek();
-        LocalTime horaInicio = dataHoraInicio.toLocalTime();
-        LocalTime horaFim = dataHoraFim.toLocalTime();
+        AgendaSemanal agenda = obterAgendaSemanal(idProfissional);
         
-        // Obter a disponibilidade do profissional
-        Map<String, List<Map<String, String>>> disponibilidade = obterDisponibilidade(idProfissional);
-        
-        String nomeDia = obterNomeDiaSemana(diaSemana);
-        
-        // Verificar se o profissional trabalha nesse dia
-        if (!disponibilidade.containsKey(nomeDia)) {
-            return false;
-        }
-        
-        // Verificar se o horário está dentro do período de trabalho
-        List<Map<String, String>> horariosDia = disponibilidade.get(nomeDia);
-        for (Map<String, String> horario : horariosDia) {
-            if (horario.containsKey("inicio") && horario.containsKey("fim")) {
-                LocalTime inicioTrabalho = LocalTime.parse(horario.get("inicio"));
-                LocalTime fimTrabalho = LocalTime.parse(horario.get("fim"));
-                
-                LocalTime fimTrabalhoAjustado = fimTrabalho;
-                if (fimTrabalho.equals(LocalTime.of(23, 59))) {
-                    fimTrabalhoAjustado = LocalTime.of(23, 59, 59, 999999999); // 23:59:59.999999999
-                }
-                
-                boolean inicioValido = !horaInicio.isBefore(inicioTrabalho) && !horaInicio.isAfter(fimTrabalhoAjustado);
-                boolean fimValido = !horaFim.isBefore(inicioTrabalho) && !horaFim.isAfter(fimTrabalhoAjustado);
-                
-                if (inicioValido && fimValido) {
-                    return true;
-                }
-            }
-        }
-        
-        return false;
-    }
-    
-    /**
-     * Converte o dia da semana do enum.
-     */
-    private String obterNomeDiaSemana(DayOfWeek diaSemana) {
-        switch (diaSemana) {
-            case MONDAY: return "Segunda";
-            case TUESDAY: return "Terça";
-            case WEDNESDAY: return "Quarta";
-            case THURSDAY: return "Quinta";
-            case FRIDAY: return "Sexta";
-            case SATURDAY: return "Sábado";
-            case SUNDAY: return "Domingo";
-            default: return "";
-        }
+        // Verificar se o horário está dentro de um período de trabalho do dia
+        return agenda.cobre(dataHoraInicio.getDayOfWeek(), dataHoraInicio.toLocalTime(), dataHoraFim.toLocalTime());
     }
     
     /**
@@ -305,12 +330,10 @@ public class DisponibilidadeService {
             throws JsonProcessingException {
         List<String> horariosDisponiveis = new ArrayList<>();
         
-        Map<String, List<Map<String, String>>> disponibilidade = obterDisponibilidade(idProfissional);
+        AgendaSemanal agenda = obterAgendaSemanal(idProfissional);
         
         DayOfWeek diaSemana = data.getDayOfWeek();
-        String nomeDia = obterNomeDiaSemana(diaSemana);
-        
-        if (!disponibilidade.containsKey(nomeDia)) {
+        if (!agenda.trabalhaNoDia(diaSemana)) {
             return horariosDisponiveis;
         }
         
@@ -319,80 +342,49 @@ public class DisponibilidadeService {
         List<Agendamento> agendamentosExistentes = agendamentoRepository
                 .findByProfissionalAndPeriod(idProfissional, inicioDia, fimDia);
         
-        int duracaoHoras = tipoServico.getDuracaoHoras();
+        LocalDateTime naoAntesDe = data.isEqual(LocalDate.now()) ? LocalDateTime.now() : null;
+        new GradeHorarios(agendamentosExistentes)
+                .horariosLivres(agenda, data, data, tipoServico.getDuracaoHoras() * 60, naoAntesDe)
+                .forEach(horario -> horariosDisponiveis.add(horario.toLocalTime().toString()));
         
-        List<Map<String, String>> horariosDia = disponibilidade.get(nomeDia);
-        List<Map<String, String>> periodosConsolidados = new ArrayList<>();
+        return horariosDisponiveis;
+    }
+    
+    /**
+     * Monta o calendário de horários livres de um profissional para todos os tipos de serviço
+     * em um intervalo de datas, com uma única consulta aos agendamentos do intervalo.
+     * 
+     * @param idProfissional ID do profissional
+     * @param dataInicio Primeiro dia do calendário
+     * @param dataFim Último dia do calendário (inclusive)
+     * @return Para cada dia (yyyy-MM-dd), os horários livres ("HH:mm") por descrição do tipo de serviço
+     * @throws JsonProcessingException Se houver erro ao processar a disponibilidade
+     */
+    public Map<String, Map<String, List<String>>> obterCalendarioDisponivel(Long idProfissional, LocalDate dataInicio,
+            LocalDate dataFim) throws JsonProcessingException {
+        AgendaSemanal agenda = obterAgendaSemanal(idProfissional);
         
-        if (!horariosDia.isEmpty()) {
-            Map<String, String> periodoAtual = new HashMap<>(horariosDia.get(0));
-            
-            for (int i = 1; i < horariosDia.size(); i++) {
-                Map<String, String> proximoPeriodo = horariosDia.get(i);
-                LocalTime fimAtual = LocalTime.parse(periodoAtual.get("fim"));
-                LocalTime inicioProximo = LocalTime.parse(proximoPeriodo.get("inicio"));
-                
-                if (inicioProximo.minusMinutes(1).equals(fimAtual) || inicioProximo.equals(fimAtual)) {
-                    periodoAtual.put("fim", proximoPeriodo.get("fim"));
-                } else {
-                    periodosConsolidados.add(new HashMap<>(periodoAtual));
-                    periodoAtual = new HashMap<>(proximoPeriodo);
-                }
-            }
-            periodosConsolidados.add(periodoAtual);
-        }
+        List<Agendamento> agendamentos = agendamentoRepository.findSobrepostosAoPeriodo(
+                idProfissional, dataInicio.atStartOfDay(), dataFim.plusDays(1).atStartOfDay());
+        GradeHorarios grade = new GradeHorarios(agendamentos);
         
-        for (Map<String, String> periodo : periodosConsolidados) {
-            if (periodo.containsKey("inicio") && periodo.containsKey("fim")) {
-                LocalTime inicioTrabalho = LocalTime.parse(periodo.get("inicio"));
-                LocalTime fimTrabalho = LocalTime.parse(periodo.get("fim"));
-                
-                LocalTime fimTrabalhoAjustado = fimTrabalho;
-                if (fimTrabalho.equals(LocalTime.of(23, 59))) {
-                    fimTrabalhoAjustado = LocalTime.of(0, 0); 
-                }
-                
-                LocalTime horarioLimite = fimTrabalhoAjustado.minusHours(duracaoHoras);
-                
-                if (inicioTrabalho.isAfter(horarioLimite)) {
-                    continue;
-                }
-                
-                LocalTime horaAtual = inicioTrabalho;
-                while (!horaAtual.isAfter(horarioLimite)) {
-                    LocalDateTime inicioServico = data.atTime(horaAtual);
-                    LocalDateTime fimServico = inicioServico.plusHours(duracaoHoras).minusSeconds(1);
-                    
-                    boolean temConflito = agendamentosExistentes.stream()
-                            .anyMatch(agendamento -> 
-                                agendamento.getDtInicio().isBefore(fimServico.plusSeconds(1)) && 
-                                agendamento.getDtFim().isAfter(inicioServico.minusSeconds(1)));
-                    
-                    if (!temConflito) {
-                        horariosDisponiveis.add(horaAtual.toString());
-                    }
-                    
-                    horaAtual = horaAtual.plusHours(1);
-                    
-                    if (fimTrabalhoAjustado.equals(LocalTime.of(0, 0))) {
-                        if (horaAtual.isAfter(horarioLimite)) {
-                            break;
-                        }
-                    } else {
-                        if (horaAtual.isAfter(fimTrabalho)) {
-                            break;
-                        }
-                    }
-                }
+        Map<String, Map<String, List<String>>> calendario = new LinkedHashMap<>();
+        for (LocalDate data = dataInicio; !data.isAfter(dataFim); data = data.plusDays(1)) {
+            Map<String, List<String>> porTipo = new LinkedHashMap<>();
+            for (TipoServico tipo : TipoServico.values()) {
+                porTipo.put(tipo.getDescricao(), new ArrayList<>());
             }
+            calendario.put(data.toString(), porTipo);
         }
         
-        if (data.isEqual(LocalDate.now())) {
-            LocalTime horaAtual = LocalTime.now();
-            horariosDisponiveis.removeIf(horario -> LocalTime.parse(horario).isBefore(horaAtual));
+        LocalDateTime agora = LocalDateTime.now();
+        for (TipoServico tipo : TipoServico.values()) {
+            for (LocalDateTime horario : grade.horariosLivres(agenda, dataInicio, dataFim, tipo.getDuracaoHoras() * 60, agora)) {
+                calendario.get(horario.toLocalDate().toString()).get(tipo.getDescricao())
+                        .add(horario.toLocalTime().toString());
+            }
         }
-        
-        return horariosDisponiveis;
+        return calendario;
     }
 
     // Métodos com validação para uso pelos controllers
@@ -455,4 +447,21 @@ public class DisponibilidadeService {
             throw new DisponibilidadeConsultaException("Erro ao consultar horários disponíveis: " + e.getMessage());
         }
     }
-} 
\ No newline at end of file
+
+    public Map<String, Map<String, List<String>>> obterCalendarioDisponivelComValidacao(Long idProfissional,
+            LocalDate dataInicio, LocalDate dataFim) {
+        if (dataFim.isBefore(dataInicio)) {
+            throw new DisponibilidadeConsultaException("A data final deve ser igual ou posterior à data inicial");
+        }
+        if (ChronoUnit.DAYS.between(dataInicio, dataFim) + 1 > MAXIMO_DIAS_CALENDARIO) {
+            throw new DisponibilidadeConsultaException("O calendário pode ter no máximo " + MAXIMO_DIAS_CALENDARIO + " dias");
+        }
+        try {
+            return obterCalendarioDisponivel(idProfissional, dataInicio, dataFim);
+        } catch (JsonProcessingException e) {
+            throw new DisponibilidadeConsultaException("Erro ao processar JSON: " + e.getMessage());
+        } catch (RuntimeException e) {
+            throw new DisponibilidadeConsultaException("Erro ao consultar calendário de horários: " + e.getMessage());
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package inkspiration.backend.service;
 
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import inkspiration.backend.cadastro.CadastrosPendentes;
 import inkspiration.backend.dto.UsuarioDTO;
+import inkspiration.backend.entities.CadastroPendente;
 import inkspiration.backend.entities.Usuario;
 import inkspiration.backend.exception.UsuarioException;
+import inkspiration.backend.exception.UsuarioValidationException;
 import inkspiration.backend.exception.emailverification.EmailVerificationCriacaoUsuarioException;
 import inkspiration.backend.exception.emailverification.EmailVerificationEnvioException;
 import inkspiration.backend.exception.emailverification.EmailVerificationReenvioException;
 import inkspiration.backend.exception.emailverification.EmailVerificationValidacaoException;
+import inkspiration.backend.exception.usuario.InvalidProfileImageException;
 
 @Service
 public class EmailVerificationService {
@@ -24,8 +31,14 @@ public class EmailVerificationService {
     @Autowired
     private UsuarioService usuarioService;
 
-    // Armazenamento em memória para dados temporários de verificação
-    private final Map<String, PendingRegistration> pendingRegistrations = new ConcurrentHashMap<>();
+    @Autowired
+    private CadastrosPendentes cadastrosPendentes;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     public void requestEmailVerificationComValidacao(UsuarioDTO usuarioDTO) {
         try {
@@ -34,6 +47,9 @@ public class EmailVerificationService {
             throw new EmailVerificationValidacaoException("Email já cadastrado");
         } catch (UsuarioException.CpfJaExisteException e) {
             throw new EmailVerificationValidacaoException("CPF já cadastrado");
+        } catch (UsuarioValidationException.SenhaObrigatoriaException | UsuarioValidationException.SenhaInvalidaException
+                | InvalidProfileImageException e) {
+            throw new EmailVerificationValidacaoException(e.getMessage());
         } catch (Exception e) {
             throw new EmailVerificationEnvioException("Erro ao enviar email de verificação: " + e.getMessage());
         }
@@ -50,25 +66,31 @@ public class EmailVerificationService {
             throw new UsuarioException.CpfJaExisteException("CPF já cadastrado");
         }
 
+        // A senha não fica guardada em texto puro; por isso é validada já aqui, e não na criação
+        usuarioService.validarSenha(usuarioDTO.getSenha());
+        // A foto fica retida junto com o cadastro: só é aceita dentro do limite da foto de perfil
+        if (usuarioDTO.getImagemPerfil() != null && !usuarioDTO.getImagemPerfil().isEmpty()) {
+            usuarioService.validarImagemPerfil(usuarioDTO.getImagemPerfil());
+        }
+
         // Gerar código de verificação único
         String verificationCode = generateVerificationCode();
         
-        // Armazenar dados temporários por 15 minutos
-        PendingRegistration pendingReg = new PendingRegistration(
-            usuarioDTO, 
-            verificationCode, 
+        // Armazenar dados temporários por 15 minutos, usando o email como chave
+        cadastrosPendentes.salvar(new CadastroPendente(
+            usuarioDTO.getEmail(),
+            dadosSemSenha(usuarioDTO),
+            passwordEncoder.encode(usuarioDTO.getSenha()),
+            verificationCode,
             LocalDateTime.now().plusMinutes(15)
-        );
-        
-        // Usar o email como chave primária
-        pendingRegistrations.put(usuarioDTO.getEmail(), pendingReg);
+        ));
         
         // Enviar email de verificação
         try {
             emailService.sendEmailVerification(usuarioDTO.getEmail(), usuarioDTO.getNome(), verificationCode);
         } catch (Exception e) {
-            // Remover da memória se falhar ao enviar email
-            pendingRegistrations.remove(usuarioDTO.getEmail());
+            // Descartar o cadastro se falhar ao enviar email
+            cadastrosPendentes.remover(usuarioDTO.getEmail());
             throw new RuntimeException("Erro ao enviar email de verificação: " + e.getMessage());
         }
     }
@@ -90,33 +112,32 @@ public class EmailVerificationService {
     }
 
     public Usuario verifyEmailAndCreateUser(String email, String code) {
-        cleanExpiredRegistrations();
-        
-        PendingRegistration pendingReg = pendingRegistrations.get(email);
+        CadastroPendente pendente = cadastrosPendentes.buscar(email).orElse(null);
         
-        if (pendingReg == null) {
+        if (pendente == null) {
             throw new RuntimeException("Código de verificação não encontrado ou expirado");
         }
         
-        if (pendingReg.isExpired()) {
-            pendingRegistrations.remove(email);
+        if (pendente.isExpirado(LocalDateTime.now())) {
+            cadastrosPendentes.remover(email);
             throw new RuntimeException("Código de verificação expirado");
         }
         
-        if (!pendingReg.getVerificationCode().equals(code)) {
+        if (!pendente.getCodigo().equals(code)) {
             throw new RuntimeException("Código de verificação inválido");
         }
         
         // Criar o usuário
         try {
-            Usuario usuario = usuarioService.criar(pendingReg.getUsuarioDTO());
+            UsuarioDTO usuarioDTO = objectMapper.readValue(pendente.getDados(), UsuarioDTO.class);
+            Usuario usuario = usuarioService.criarComSenhaCodificada(usuarioDTO, pendente.getSenhaCodificada());
             
             // Definir data de criação
             usuario.setCreatedAt(LocalDateTime.now());
             usuarioService.salvar(usuario);
             
             // Remover dados temporários após sucesso
-            pendingRegistrations.remove(email);
+            cadastrosPendentes.remover(email);
             
             return usuario;
         } catch (Exception e) {
@@ -140,20 +161,21 @@ public class EmailVerificationService {
     }
 
     public void resendVerificationCode(String email) {
-        PendingRegistration pendingReg = pendingRegistrations.get(email);
+        CadastroPendente pendente = cadastrosPendentes.buscar(email).orElse(null);
         
-        if (pendingReg == null) {
+        if (pendente == null) {
             throw new RuntimeException("Nenhuma solicitação de verificação encontrada para este email");
         }
         
         String newCode = generateVerificationCode();
         
-        pendingReg.setVerificationCode(newCode);
-        pendingReg.setExpiresAt(LocalDateTime.now().plusMinutes(15));
+        pendente.setCodigo(newCode);
+        pendente.setExpiraEm(LocalDateTime.now().plusMinutes(15));
+        cadastrosPendentes.salvar(pendente);
         
         emailService.sendEmailVerification(
             email, 
-            pendingReg.getUsuarioDTO().getNome(), 
+            nomeDoCadastro(pendente), 
             newCode
         );
     }
@@ -162,42 +184,19 @@ public class EmailVerificationService {
         return String.format("%06d", (int) (Math.random() * 1000000));
     }
 
-    private void cleanExpiredRegistrations() {
-        pendingRegistrations.entrySet().removeIf(entry -> {
-            PendingRegistration reg = entry.getValue();
-            return reg.isExpired();
-        });
+    private String dadosSemSenha(UsuarioDTO usuarioDTO) {
+        ObjectNode dados = objectMapper.valueToTree(usuarioDTO);
+        dados.remove("senha");
+        dados.remove("senhaAtual");
+        dados.remove("usuarioAutenticar");
+        return dados.toString();
     }
 
-    private static class PendingRegistration {
-        private final UsuarioDTO usuarioDTO;
-        private String verificationCode;
-        private LocalDateTime expiresAt;
-
-        public PendingRegistration(UsuarioDTO usuarioDTO, String verificationCode, LocalDateTime expiresAt) {
-            this.usuarioDTO = usuarioDTO;
-            this.verificationCode = verificationCode;
-            this.expiresAt = expiresAt;
-        }
-
-        public UsuarioDTO getUsuarioDTO() {
-            return usuarioDTO;
-        }
-
-        public String getVerificationCode() {
-            return verificationCode;
-        }
-
-        public void setVerificationCode(String verificationCode) {
-            this.verificationCode = verificationCode;
-        }
-
-        public void setExpiresAt(LocalDateTime expiresAt) {
-            this.expiresAt = expiresAt;
-        }
-
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expiresAt);
+    private String nomeDoCadastro(CadastroPendente pendente) {
+        try {
+            return objectMapper.readTree(pendente.getDados()).path("nome").asText(null);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Dados do cadastro pendente ilegíveis: " + e.getMessage());
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,12 +1,10 @@
 package inkspiration.backend.service;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.RestClientException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import inkspiration.backend.cep.ResolvedorCep;
+import inkspiration.backend.entities.CepConhecido;
 import inkspiration.backend.entities.Endereco;
 import inkspiration.backend.exception.endereco.CepInvalidoException;
 import inkspiration.backend.exception.endereco.EstadoInvalidoException;
@@ -16,13 +14,11 @@ import inkspiration.backend.exception.endereco.EnderecoValidacaoException;
 @Service
 public class EnderecoService {
     
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final ResolvedorCep resolvedorCep;
     
     @Autowired
-    public EnderecoService(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
-        this.objectMapper = new ObjectMapper();
+    public EnderecoService(ResolvedorCep resolvedorCep) {
+        this.resolvedorCep = resolvedorCep;
     }
     
     /**
@@ -45,8 +41,8 @@ public class EnderecoService {
             throw new CepInvalidoException("CEP deve conter exatamente 8 dígitos");
         }
         
-        // Buscar dados do CEP na API ViaCEP
-        DadosViaCep dadosViaCep = buscarDadosCep(cepLimpo);
+        // Buscar dados do CEP (cache, tabela de CEPs conhecidos ou API ViaCEP)
+        CepConhecido dadosViaCep = resolvedorCep.resolver(cepLimpo);
         
         // Validar estado
         if (endereco.getEstado() == null || endereco.getEstado().trim().isEmpty()) {
@@ -94,73 +90,4 @@ public class EnderecoService {
             }
         }
     }
-    
-    /**
-     * Busca dados de um CEP na API ViaCEP
-     * @param cep CEP limpo (apenas números)
-     * @return Dados do CEP
-     * @throws CepInvalidoException se o CEP não for encontrado ou for inválido
-     */
-    private DadosViaCep buscarDadosCep(String cep) {
-        try {
-            String url = "https://viacep.com.br/ws/" + cep + "/json/";
-            String response = restTemplate.getForObject(url, String.class);
-            
-            if (response == null) {
-                throw new CepInvalidoException("Erro ao consultar CEP na API ViaCEP");
-            }
-            
-            JsonNode jsonNode = objectMapper.readTree(response);
-            
-            // Verificar se o CEP foi encontrado
-            if (jsonNode.has("erro") && jsonNode.get("erro").asBoolean()) {
-                throw new CepInvalidoException("CEP não encontrado");
-            }
-            
-            // Extrair dados necessários
-            DadosViaCep dados = new DadosViaCep();
-            dados.setLogradouro(jsonNode.get("logradouro").asText());
-            dados.setBairro(jsonNode.get("bairro").asText());
-            dados.setLocalidade(jsonNode.get("localidade").asText());
-            dados.setUf(jsonNode.get("uf").asText());
-            
-            return dados;
-            
-        } catch (RestClientException e) {
-            // Log do erro para debug (apenas para desenvolvedores)
-            System.err.println("Erro REST ao consultar CEP " + cep + ": " + e.getMessage());
-            
-            // Mensagem amigável para o usuário final
-            throw new CepInvalidoException("Erro ao consultar CEP na API do ViaCEP, tente novamente");
-        } catch (Exception e) {
-            // Log do erro para debug (apenas para desenvolvedores)
-            System.err.println("Erro ao processar resposta da API ViaCEP: " + e.getMessage());
-            
-            // Mensagem amigável para o usuário final
-            throw new CepInvalidoException("Erro ao consultar CEP na API do ViaCEP, tente novamente");
-        }
-    }
-    
-    /**
-     * Classe interna para representar os dados retornados pela API ViaCEP
-     */
-    private static class DadosViaCep {
-        private String logradouro;
-        private String bairro;
-        private String localidade;
-        private String uf;
-        
-        // Getters e Setters
-        public String getLogradouro() { return logradouro; }
-        public void setLogradouro(String logradouro) { this.logradouro = logradouro; }
-        
-        public String getBairro() { return bairro; }
-        public void setBairro(String bairro) { this.bairro = bairro; }
-        
-        public String getLocalidade() { return localidade; }
-        public void setLocalidade(String localidade) { this.localidade = localidade; }
-        
-        public String getUf() { return uf; }
-        public void setUf(String uf) { this.uf = uf; }
-    }
-}
\ No newline at end of file
+}
@@ -1,10 +1,25 @@
 package inkspiration.backend.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import inkspiration.backend.armazenamento.ArmazenamentoBlob;
+import inkspiration.backend.armazenamento.ConteudoImagem;
+import inkspiration.backend.armazenamento.ImagemArquivo;
+import inkspiration.backend.armazenamento.ImagemInvalidaException;
+import inkspiration.backend.armazenamento.LeitorImagem;
+import inkspiration.backend.armazenamento.ProcessadorVariantes;
+import inkspiration.backend.armazenamento.VarianteImagem;
 import inkspiration.backend.dto.ImagemDTO;
+import inkspiration.backend.dto.PaginaImagensDTO;
 import inkspiration.backend.entities.Imagem;
 import inkspiration.backend.entities.Portfolio;
 import inkspiration.backend.exception.portfolio.PortfolioNaoEncontradoException;
@@ -15,19 +30,47 @@ import inkspiration.backend.exception.imagem.ImagemSalvamentoException;
 import inkspiration.backend.repository.ImagemRepository;
 import inkspiration.backend.repository.PortfolioRepository;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 public class ImagemService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ImagemService.class);
+
+    public static final int TAMANHO_PAGINA_PADRAO = 12;
+    private static final long TAMANHO_MAXIMO_PORTFOLIO = 10L * 1024 * 1024;
+    private static final Set<String> TIPOS_PORTFOLIO = Set.of("image/jpeg", "image/png");
+    private static final int TAMANHO_PAGINA_MAXIMO = 50;
+    private static final Pattern HASH_VALIDO = Pattern.compile("[0-9a-f]{64}");
+
     private final ImagemRepository imagemRepository;
     private final PortfolioRepository portfolioRepository;
+    private final ArmazenamentoBlob armazenamentoBlob;
+    private final ProcessadorVariantes processadorVariantes;
+    private final BlobImagemService blobImagemService;
 
     @Autowired
-    public ImagemService(ImagemRepository imagemRepository, PortfolioRepository portfolioRepository) {
+    public ImagemService(ImagemRepository imagemRepository, PortfolioRepository portfolioRepository,
+                         ArmazenamentoBlob armazenamentoBlob, ProcessadorVariantes processadorVariantes,
+                         BlobImagemService blobImagemService) {
         this.imagemRepository = imagemRepository;
         this.portfolioRepository = portfolioRepository;
+        this.armazenamentoBlob = armazenamentoBlob;
+        this.processadorVariantes = processadorVariantes;
+        this.blobImagemService = blobImagemService;
+    }
+
+    public static String urlConteudo(Long idImagem) {
+        return "/imagens/" + idImagem + "/raw";
+    }
+
+    public static String urlConteudo(Long idImagem, VarianteImagem variante) {
+        return urlConteudo(idImagem) + "?variante=" + variante.getParametro();
     }
 
     public List<ImagemDTO> listarPorPortfolio(Long idPortfolio) {
@@ -35,6 +78,40 @@ public class ImagemService {
         return imagens.stream().map(this::converterParaDto).collect(Collectors.toList());
     }
 
+    /**
+     * Página de metadados das imagens do portfólio, paginada por cursor (id da última imagem
+     * recebida). A consulta não lê o conteúdo das imagens.
+     */
+    public PaginaImagensDTO listarPagina(Long idPortfolio, Long cursor, int tamanho) {
+        // Busca um item a mais só para saber se existe próxima página
+        List<ImagemDTO> imagens = imagemRepository.findMetadadosPorPortfolio(
+                idPortfolio, cursor != null ? cursor : 0L, PageRequest.of(0, tamanho + 1));
+
+        Long proximoCursor = null;
+        if (imagens.size() > tamanho) {
+            imagens = imagens.subList(0, tamanho);
+            proximoCursor = imagens.get(tamanho - 1).getIdImagem();
+        }
+        for (ImagemDTO imagem : imagens) {
+            imagem.setUrl(urlConteudo(imagem.getIdImagem()));
+            imagem.setUrlMiniatura(urlConteudo(imagem.getIdImagem(), VarianteImagem.MINIATURA));
+        }
+        return new PaginaImagensDTO(imagens, proximoCursor);
+    }
+
+    public long contarPorPortfolio(Long idPortfolio) {
+        return imagemRepository.countByPortfolioIdPortfolio(idPortfolio);
+    }
+
+    public PaginaImagensDTO listarPaginaComValidacao(Long idPortfolio, Long cursor, Integer tamanho) {
+        if (!portfolioRepository.existsById(idPortfolio)) {
+            throw new PortfolioNaoEncontradoException("Portifólio não encontrado com ID: " + idPortfolio);
+        }
+        int tamanhoPagina = tamanho == null ? TAMANHO_PAGINA_PADRAO
+                : Math.max(1, Math.min(tamanho, TAMANHO_PAGINA_MAXIMO));
+        return listarPagina(idPortfolio, cursor, tamanhoPagina);
+    }
+
     public ImagemDTO buscarPorId(Long id) {
         Imagem imagem = imagemRepository.findById(id)
                 .orElseThrow(() -> new ImagemNaoEncontradaException("Imagem não encontrada com ID: " + id));
@@ -43,31 +120,148 @@ public class ImagemService {
 
     @Transactional
     public ImagemDTO salvar(ImagemDTO dto) {
-        Portfolio portfolio = portfolioRepository.findById(dto.getIdPortfolio())
-                .orElseThrow(() -> new PortfolioNaoEncontradoException("Portifólio não encontrado com ID: " + dto.getIdPortfolio()));
-        
+        Portfolio portfolio = buscarPortfolio(dto.getIdPortfolio());
+
+        // Decodifica uma única vez: daqui em diante só os bytes e os metadados circulam
+        return salvar(portfolio, ConteudoImagem.deDataUri(dto.getImagemBase64()));
+    }
+
+    private Portfolio buscarPortfolio(Long idPortfolio) {
+        return portfolioRepository.findById(idPortfolio)
+                .orElseThrow(() -> new PortfolioNaoEncontradoException("Portifólio não encontrado com ID: " + idPortfolio));
+    }
+
+    private ImagemDTO salvar(Portfolio portfolio, ConteudoImagem conteudo) {
+        blobImagemService.adquirir(conteudo);
+
         Imagem imagem = new Imagem();
-        imagem.setImagemBase64(dto.getImagemBase64());
+        preencherMetadados(imagem, conteudo);
         imagem.setPortfolio(portfolio);
         
         imagem = imagemRepository.save(imagem);
+        agendarVariantes(imagem.getHash());
         
         return converterParaDto(imagem);
     }
 
+    public ImagemArquivo abrirConteudo(Long id) {
+        return abrirConteudo(id, null);
+    }
+
+    /**
+     * Conteúdo binário da imagem ou de uma de suas variantes. Registros ainda no formato antigo
+     * são decodificados na hora e não têm variantes; para eles, e para formatos que não podem
+     * ser reduzidos, a variante é a própria imagem original. Quando a variante de uma imagem
+     * armazenada não está disponível a original é devolvida sem cache imutável, para que o
+     * cliente volte a pedir a variante depois.
+     */
+    @Transactional(readOnly = true)
+    public ImagemArquivo abrirConteudo(Long id, VarianteImagem variante) {
+        Imagem imagem = imagemRepository.findById(id)
+                .orElseThrow(() -> new ImagemNaoEncontradaException("Imagem não encontrada com ID: " + id));
+
+        if (imagem.isLegado()) {
+            ConteudoImagem conteudo = ConteudoImagem.deDataUri(imagem.getImagemBase64());
+            return new ImagemArquivo(new ByteArrayResource(conteudo.getBytes()), conteudo.getMimeType(), conteudo.getHash());
+        }
+        if (imagem.getHash() == null) {
+            throw new ImagemNaoEncontradaException("Imagem não encontrada com ID: " + id);
+        }
+        try {
+            if (variante != null) {
+                Resource reduzida = processadorVariantes.carregar(imagem.getHash(), variante);
+                if (reduzida != null) {
+                    return new ImagemArquivo(reduzida, "image/jpeg", variante.chave(imagem.getHash()));
+                }
+                return new ImagemArquivo(armazenamentoBlob.carregar(imagem.getHash()), imagem.getMimeType(),
+                        imagem.getHash(), false);
+            }
+            return new ImagemArquivo(armazenamentoBlob.carregar(imagem.getHash()), imagem.getMimeType(), imagem.getHash());
+        } catch (IOException e) {
+            throw new ImagemNaoEncontradaException("Conteúdo da imagem não encontrado com ID: " + id);
+        }
+    }
+
+    public ImagemArquivo abrirConteudoPorHash(String hash) {
+        if (hash == null || !HASH_VALIDO.matcher(hash).matches()) {
+            throw new ImagemNaoEncontradaException("Imagem não encontrada: " + hash);
+        }
+        return blobImagemService.abrir(hash);
+    }
+
+    /**
+     * Move para o armazenamento de blobs um lote de imagens ainda guardadas em base64 no banco,
+     * em ordem de id a partir de {@code aPartirDe} (exclusivo).
+     *
+     * @return o maior id processado, ou {@code null} se não restarem imagens no formato antigo
+     */
+    @Transactional
+    public Long migrarLoteLegado(Long aPartirDe, int tamanhoLote) {
+        List<Imagem> legadas = imagemRepository.findLegadas(aPartirDe, PageRequest.of(0, tamanhoLote));
+        if (legadas.isEmpty()) {
+            return null;
+        }
+        for (Imagem imagem : legadas) {
+            try {
+                ConteudoImagem conteudo = ConteudoImagem.deDataUri(imagem.getImagemBase64());
+                blobImagemService.adquirir(conteudo);
+                preencherMetadados(imagem, conteudo);
+                imagem.setImagemBase64(null);
+                agendarVariantes(imagem.getHash());
+            } catch (RuntimeException e) {
+                // Registro corrompido continua no formato antigo; não deve impedir o restante
+                logger.warn("Não foi possível migrar a imagem {}: {}", imagem.getIdImagem(), e.getMessage());
+            }
+        }
+        return legadas.get(legadas.size() - 1).getIdImagem();
+    }
+
+    /**
+     * As variantes só são geradas depois do commit, quando a imagem já está visível.
+     */
+    private void agendarVariantes(String hash) {
+        if (hash == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            processadorVariantes.agendar(hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                processadorVariantes.agendar(hash);
+            }
+        });
+    }
+
+    private void preencherMetadados(Imagem imagem, ConteudoImagem conteudo) {
+        imagem.setHash(conteudo.getHash());
+        imagem.setMimeType(conteudo.getMimeType());
+        imagem.setTamanho(conteudo.getTamanho());
+        imagem.setLargura(conteudo.getLargura());
+        imagem.setAltura(conteudo.getAltura());
+    }
+
     @Transactional
     public void deletar(Long id) {
         Imagem imagem = imagemRepository.findById(id)
                 .orElseThrow(() -> new ImagemNaoEncontradaException("Imagem não encontrada com ID: " + id));
         
         imagemRepository.delete(imagem);
+        blobImagemService.liberar(imagem.getHash());
     }
     
     private ImagemDTO converterParaDto(Imagem imagem) {
         return new ImagemDTO(
             imagem.getIdImagem(),
-            imagem.getImagemBase64(),
-            imagem.getPortfolio().getIdPortfolio()
+            imagem.getPortfolio().getIdPortfolio(),
+            urlConteudo(imagem.getIdImagem()),
+            urlConteudo(imagem.getIdImagem(), VarianteImagem.MINIATURA),
+            imagem.isLegado() ? ConteudoImagem.mimeTypeDeclarado(imagem.getImagemBase64()) : imagem.getMimeType(),
+            imagem.getTamanho(),
+            imagem.getLargura(),
+            imagem.getAltura()
         );
     }
 
@@ -83,55 +277,50 @@ public class ImagemService {
         return buscarPorId(id);
     }
 
+    @Transactional
     public ImagemDTO salvarComValidacao(ImagemDTO dto) {
         try {
-            // Validar tamanho da imagem do portfólio (10MB)
-            validarTamanhoImagemPortfolio(dto.getImagemBase64());
-            
-            // Validar formato da imagem do portfólio
-            validarFormatoImagemPortfolio(dto.getImagemBase64());
-            
-            return salvar(dto);
+            ConteudoImagem conteudo = LeitorImagem.lerDataUri(dto.getImagemBase64(), TIPOS_PORTFOLIO, TAMANHO_MAXIMO_PORTFOLIO);
+            return salvar(buscarPortfolio(dto.getIdPortfolio()), conteudo);
+        } catch (ImagemInvalidaException e) {
+            throw new ImagemSalvamentoException("Erro ao salvar imagem: " + mensagemImagemInvalida(e));
         } catch (PortfolioNaoEncontradoException e) {
             throw new ImagemSalvamentoException("Portfólio não encontrado com ID: " + dto.getIdPortfolio());
         } catch (Exception e) {
             throw new ImagemSalvamentoException("Erro ao salvar imagem: " + e.getMessage());
         }
     }
-    
-    private void validarTamanhoImagemPortfolio(String imagemBase64) {
-        if (imagemBase64 == null || imagemBase64.isEmpty()) {
-            throw new ImagemProcessamentoException("Dados da imagem não fornecidos");
-        }
-        
-        String base64Data = imagemBase64;
-        if (base64Data.contains(",")) {
-            base64Data = base64Data.substring(base64Data.indexOf(",") + 1);
-        }
-        
-        long sizeInBytes = (base64Data.length() * 3) / 4;
-        
-        long maxSizeInBytes = 10 * 1024 * 1024;
-        
-        if (sizeInBytes > maxSizeInBytes) {
-            throw new ImagemProcessamentoException("Imagem do portfólio muito grande. Tamanho máximo permitido: 10MB");
+
+    /**
+     * Upload em bytes (multipart), lido em fluxo: o formato é conferido pelos primeiros bytes e o
+     * limite de tamanho durante a leitura, sem esperar o arquivo inteiro.
+     *
+     * @param tamanho tamanho informado pelo cliente, ou {@code -1} se desconhecido
+     */
+    @Transactional
+    public ImagemDTO salvarArquivoComValidacao(Long idPortfolio, InputStream entrada, long tamanho) {
+        try {
+            // O portfólio é conferido antes, para não ler o arquivo à toa
+            Portfolio portfolio = buscarPortfolio(idPortfolio);
+            ConteudoImagem conteudo = LeitorImagem.ler(entrada, tamanho, null, TIPOS_PORTFOLIO, TAMANHO_MAXIMO_PORTFOLIO);
+            return salvar(portfolio, conteudo);
+        } catch (ImagemInvalidaException e) {
+            throw new ImagemSalvamentoException("Erro ao salvar imagem: " + mensagemImagemInvalida(e));
+        } catch (PortfolioNaoEncontradoException e) {
+            throw new ImagemSalvamentoException("Portfólio não encontrado com ID: " + idPortfolio);
+        } catch (Exception e) {
+            throw new ImagemSalvamentoException("Erro ao salvar imagem: " + e.getMessage());
         }
     }
-    
 
-    private void validarFormatoImagemPortfolio(String imagemBase64) {
-        if (imagemBase64 == null || imagemBase64.isEmpty()) {
-            throw new ImagemProcessamentoException("Dados da imagem não fornecidos");
-        }
-        
-        if (!imagemBase64.startsWith("data:image/")) {
-            throw new ImagemProcessamentoException("Formato de imagem inválido. Apenas PNG, JPG, JPEG e JFIF são permitidos");
-        }
-        
-        String mimeType = imagemBase64.substring(5, imagemBase64.indexOf(";"));
-        
-        if (!mimeType.equals("image/jpeg") && !mimeType.equals("image/png")) {
-            throw new ImagemProcessamentoException("Formato de imagem inválido. Apenas PNG, JPG, JPEG e JFIF são permitidos");
+    private static String mensagemImagemInvalida(ImagemInvalidaException e) {
+        switch (e.getMotivo()) {
+            case VAZIA:
+                return "Dados da imagem não fornecidos";
+            case TAMANHO:
+                return "Imagem do portfólio muito grande. Tamanho máximo permitido: 10MB";
+            default:
+                return "Formato de imagem inválido. Apenas PNG, JPG, JPEG e JFIF são permitidos";
         }
     }
 
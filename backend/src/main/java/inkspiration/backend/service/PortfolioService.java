@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import inkspiration.backend.dto.PortfolioDTO;
+import inkspiration.backend.entities.Imagem;
 import inkspiration.backend.entities.Portfolio;
 import inkspiration.backend.entities.Profissional;
 import inkspiration.backend.exception.profissional.ProfissionalNaoEncontradoException;
@@ -25,14 +26,17 @@ public class PortfolioService {
     private final PortfolioRepository portfolioRepository;
     private final ProfissionalRepository profissionalRepository;
     private final AuthorizationService authorizationService;
+    private final BlobImagemService blobImagemService;
 
     @Autowired
     public PortfolioService(PortfolioRepository portfolioRepository, 
                             ProfissionalRepository profissionalRepository,
-                            AuthorizationService authorizationService) {
+                            AuthorizationService authorizationService,
+                            BlobImagemService blobImagemService) {
         this.portfolioRepository = portfolioRepository;
         this.profissionalRepository = profissionalRepository;
         this.authorizationService = authorizationService;
+        this.blobImagemService = blobImagemService;
     }
 
     public Page<Portfolio> listarTodos(Pageable pageable) {
@@ -102,6 +106,14 @@ public class PortfolioService {
         }
         
         portfolioRepository.delete(portfolio);
+        liberarImagens(portfolio);
+    }
+
+    // As imagens são removidas junto com o portfólio (cascade); o conteúdo é liberado aqui
+    private void liberarImagens(Portfolio portfolio) {
+        for (Imagem imagem : portfolio.getImagens()) {
+            blobImagemService.liberar(imagem.getHash());
+        }
     }
 
     private void preencherPortfolio(Portfolio portfolio, PortfolioDTO dto) {
@@ -190,6 +202,7 @@ public class PortfolioService {
         }
         
         portfolioRepository.delete(portfolio);
+        liberarImagens(portfolio);
     }
     
     public void deletarPorUsuarioIdComValidacao(Long idUsuario) {
@@ -3,14 +3,17 @@ package inkspiration.backend.service;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,11 +39,15 @@ import inkspiration.backend.exception.profissional.ProfissionalNaoEncontradoExce
 import inkspiration.backend.exception.profissional.TipoServicoInvalidoProfissionalException;
 import inkspiration.backend.security.AuthorizationService;
 import inkspiration.backend.dto.ImagemDTO;
+import inkspiration.backend.dto.PaginaImagensDTO;
 import java.util.Arrays;
 import java.util.Collections;
 import inkspiration.backend.repository.EnderecoRepository;
 import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.ProfissionalSpecification;
 import inkspiration.backend.repository.UsuarioRepository;
+import inkspiration.backend.search.ProfissionalGeoIndex;
+import inkspiration.backend.search.ProfissionalSearchIndex;
 import inkspiration.backend.dto.DisponibilidadeDTO;
 import inkspiration.backend.repository.AvaliacaoRepository;
 import inkspiration.backend.dto.AvaliacaoDTO;
@@ -58,6 +65,10 @@ public class ProfissionalService {
     private final EnderecoService enderecoService;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final AvaliacaoRepository avaliacaoRepository;
+    private final ProfissionalSearchIndex profissionalSearchIndex;
+    private final ProfissionalGeoIndex profissionalGeoIndex;
+
+    public static final double RAIO_MAXIMO_KM = 200.0;
 
     @Autowired
     public ProfissionalService(ProfissionalRepository profissionalRepository, 
@@ -69,7 +80,9 @@ public class ProfissionalService {
                               AuthorizationService authorizationService,
                               ImagemService imagemService,
                               EnderecoService enderecoService,
-                              AvaliacaoRepository avaliacaoRepository) {
+                              AvaliacaoRepository avaliacaoRepository,
+                              ProfissionalSearchIndex profissionalSearchIndex,
+                              ProfissionalGeoIndex profissionalGeoIndex) {
         this.profissionalRepository = profissionalRepository;
         this.usuarioRepository = usuarioRepository;
         this.enderecoRepository = enderecoRepository;
@@ -79,6 +92,8 @@ public class ProfissionalService {
         this.imagemService = imagemService;
         this.enderecoService = enderecoService;
         this.avaliacaoRepository = avaliacaoRepository;
+        this.profissionalSearchIndex = profissionalSearchIndex;
+        this.profissionalGeoIndex = profissionalGeoIndex;
     }
 
     /**
@@ -354,110 +369,19 @@ public class ProfissionalService {
         return profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole(), pageable);
     }
 
+    /**
+     * Lista profissionais aplicando filtros, ordenação e paginação diretamente no banco.
+     * Apenas os profissionais da página retornada têm os preços de serviço carregados.
+     */
     public Page<Profissional> listarComFiltros(Pageable pageable, String searchTerm, String locationTerm, 
                                              double minRating, String[] selectedSpecialties, String sortBy) {
-        List<Profissional> allProfissionais = profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole());
-        allProfissionais.forEach(this::carregarTiposServicoPrecos);
-        
-        // Aplicar filtros manualmente
-        List<Profissional> filteredProfissionais = allProfissionais.stream()
-            .filter(profissional -> {
-                // Filtro para excluir usuários com role DELETED (segurança extra)
-                if (profissional.getUsuario() != null && UserRole.ROLE_DELETED.getRole().equals(profissional.getUsuario().getRole())) {
-                    return false;
-                }
-                
-                // Filtro por nome (searchTerm)
-                if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-                    String nome = profissional.getUsuario() != null ? profissional.getUsuario().getNome() : "";
-                    if (!nome.toLowerCase().contains(searchTerm.toLowerCase())) {
-                        return false;
-                    }
-                }
-                
-                // Filtro por localização (locationTerm)
-                if (locationTerm != null && !locationTerm.trim().isEmpty()) {
-                    String location = "";
-                    if (profissional.getEndereco() != null) {
-                        location = profissional.getEndereco().getCidade() + ", " + profissional.getEndereco().getEstado();
-                    }
-                    if (!location.toLowerCase().contains(locationTerm.toLowerCase())) {
-                        return false;
-                    }
-                }
-                
-                // Filtro por avaliação mínima
-                if (minRating > 0) {
-                    double rating = profissional.getNota() != null ? profissional.getNota().doubleValue() : 0.0;
-                    if (rating < minRating) {
-                        return false;
-                    }
-                }
-                
-                // Filtro por especialidades
-                if (selectedSpecialties != null && selectedSpecialties.length > 0) {
-                    String especialidades = "";
-                    if (profissional.getPortfolio() != null && profissional.getPortfolio().getEspecialidade() != null) {
-                        especialidades = profissional.getPortfolio().getEspecialidade().toLowerCase();
-                    }
-                    
-                    boolean hasSpecialty = false;
-                    for (String specialty : selectedSpecialties) {
-                        if (especialidades.contains(specialty.toLowerCase())) {
-                            hasSpecialty = true;
-                            break;
-                        }
-                    }
-                    if (!hasSpecialty) {
-                        return false;
-                    }
-                }
-                
-                return true;
-            })
-            .collect(Collectors.toList());
-        
-        // Aplicar ordenação
-        if ("melhorAvaliacao".equals(sortBy)) {
-            filteredProfissionais.sort((a, b) -> {
-                double ratingA = a.getNota() != null ? a.getNota().doubleValue() : 0.0;
-                double ratingB = b.getNota() != null ? b.getNota().doubleValue() : 0.0;
-                return Double.compare(ratingB, ratingA);
-            });
-        } else if ("maisRecente".equals(sortBy)) {
-            filteredProfissionais.sort((a, b) -> 
-                Long.compare(b.getIdProfissional(), a.getIdProfissional()));
-        } else if ("maisAntigo".equals(sortBy)) {
-            filteredProfissionais.sort((a, b) -> 
-                Long.compare(a.getIdProfissional(), b.getIdProfissional()));
-        } else {
-            // Ordenação por relevância (padrão)
-            filteredProfissionais.sort((a, b) -> {
-                double ratingA = a.getNota() != null ? a.getNota().doubleValue() : 0.0;
-                double ratingB = b.getNota() != null ? b.getNota().doubleValue() : 0.0;
-                int ratingComparison = Double.compare(ratingB, ratingA);
-                if (ratingComparison != 0) {
-                    return ratingComparison;
-                }
-                // Em caso de empate, ordenar por nome
-                String nameA = a.getUsuario() != null ? a.getUsuario().getNome() : "";
-                String nameB = b.getUsuario() != null ? b.getUsuario().getNome() : "";
-                return nameA.compareToIgnoreCase(nameB);
-            });
-        }
-        
-        // Implementar paginação manual nos resultados filtrados
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), filteredProfissionais.size());
-        
-        // Verificar se o índice start está dentro dos limites
-        if (start >= filteredProfissionais.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, filteredProfissionais.size());
-        }
-        
-        List<Profissional> pagedProfissionais = filteredProfissionais.subList(start, end);
+        Pageable paginacao = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Profissional> profissionais = profissionalRepository.findAll(
+            ProfissionalSpecification.comFiltros(searchTerm, locationTerm, minRating, selectedSpecialties, sortBy),
+            paginacao);
+        profissionais.getContent().forEach(this::carregarTiposServicoPrecos);
         
-        return new PageImpl<>(pagedProfissionais, pageable, filteredProfissionais.size());
+        return new PageImpl<>(profissionais.getContent(), pageable, profissionais.getTotalElements());
     }
 
     @Transactional
@@ -534,15 +458,107 @@ public class ProfissionalService {
 
     public Page<Map<String, Object>> listarCompletoComFiltros(Pageable pageable, String searchTerm, String locationTerm,
                                                         double minRating, String[] selectedSpecialties, String sortBy) {
-        Page<Profissional> profissionais = listarComFiltros(pageable, searchTerm, locationTerm, minRating, selectedSpecialties, sortBy);
+        Page<Profissional> profissionais = profissionalSearchIndex.isPronto()
+                ? buscarNoIndice(pageable, searchTerm, locationTerm, minRating, selectedSpecialties, sortBy)
+                : listarComFiltros(pageable, searchTerm, locationTerm, minRating, selectedSpecialties, sortBy);
         
         List<Map<String, Object>> profissionaisCompletos = profissionais.getContent().stream()
-                .map(this::montarProfissionalCompleto)
+                .map(this::montarProfissionalListagem)
                 .collect(Collectors.toList());
         
         return new PageImpl<>(profissionaisCompletos, pageable, profissionais.getTotalElements());
     }
 
+    /**
+     * Resolve a página no índice de busca em memória e carrega do banco apenas os profissionais dela,
+     * preservando a ordem devolvida pelo índice.
+     */
+    private Page<Profissional> buscarNoIndice(Pageable pageable, String searchTerm, String locationTerm,
+                                              double minRating, String[] selectedSpecialties, String sortBy) {
+        ProfissionalSearchIndex.ResultadoBusca resultado = profissionalSearchIndex.buscar(
+            searchTerm, locationTerm, minRating, selectedSpecialties, sortBy,
+            (int) pageable.getOffset(), pageable.getPageSize());
+        
+        Map<Long, Profissional> carregados = new HashMap<>();
+        if (!resultado.getIds().isEmpty()) {
+            profissionalRepository.findAllComAssociacoesByIdIn(resultado.getIds())
+                .forEach(p -> carregados.put(p.getIdProfissional(), p));
+        }
+        
+        List<Profissional> pagina = new ArrayList<>();
+        for (Long id : resultado.getIds()) {
+            Profissional profissional = carregados.get(id);
+            if (profissional != null) {
+                carregarTiposServicoPrecos(profissional);
+                pagina.add(profissional);
+            }
+        }
+        return new PageImpl<>(pagina, pageable, resultado.getTotal());
+    }
+
+    /**
+     * Listagem "perto de mim": profissionais a até {@code raioKm} do ponto, ordenados por distância,
+     * com os mesmos filtros de nota e especialidade da listagem pública.
+     */
+    public Page<Map<String, Object>> listarProximos(Pageable pageable, double latitude, double longitude, double raioKm,
+                                                    double minRating, String[] selectedSpecialties) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordenadas inválidas");
+        }
+        if (raioKm <= 0 || raioKm > RAIO_MAXIMO_KM) {
+            throw new IllegalArgumentException("O raio deve ser maior que 0 e no máximo " + (int) RAIO_MAXIMO_KM + " km");
+        }
+
+        ProfissionalGeoIndex indice = profissionalGeoIndex;
+        if (!indice.isPronto()) {
+            // Antes do índice ficar pronto, indexa apenas os profissionais do retângulo que cobre o raio
+            indice = new ProfissionalGeoIndex();
+            indice.reconstruir(carregarNaAreaDoRaio(latitude, longitude, raioKm));
+        }
+        ProfissionalGeoIndex.ResultadoProximidade resultado = indice.buscarProximos(
+            latitude, longitude, raioKm, minRating, selectedSpecialties,
+            (int) pageable.getOffset(), pageable.getPageSize());
+
+        Map<Long, Profissional> carregados = new HashMap<>();
+        if (!resultado.getIds().isEmpty()) {
+            profissionalRepository.findAllComAssociacoesByIdIn(resultado.getIds())
+                .forEach(p -> carregados.put(p.getIdProfissional(), p));
+        }
+
+        List<Map<String, Object>> pagina = new ArrayList<>();
+        resultado.getDistanciasKm().forEach((id, distancia) -> {
+            Profissional profissional = carregados.get(id);
+            if (profissional != null) {
+                carregarTiposServicoPrecos(profissional);
+                Map<String, Object> completo = montarProfissionalListagem(profissional);
+                completo.put("distanciaKm", Math.round(distancia * 100.0) / 100.0);
+                pagina.add(completo);
+            }
+        });
+        return new PageImpl<>(pagina, pageable, resultado.getTotal());
+    }
+
+    private List<Profissional> carregarNaAreaDoRaio(double latitude, double longitude, double raioKm) {
+        double deltaLatitude = Math.toDegrees(raioKm / ProfissionalGeoIndex.RAIO_TERRA_KM);
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        double deltaLongitude = cosLatitude > 1e-6 ? deltaLatitude / cosLatitude : 360.0;
+        double longitudeMin = longitude - deltaLongitude;
+        double longitudeMax = longitude + deltaLongitude;
+        if (longitudeMin < -180 || longitudeMax > 180) {
+            longitudeMin = -180;
+            longitudeMax = 180;
+        }
+        return profissionalRepository.findAtivosNaArea(UserRole.ROLE_DELETED.getRole(),
+            latitude - deltaLatitude, latitude + deltaLatitude, longitudeMin, longitudeMax);
+    }
+
+    public List<Map<String, Object>> sugerirNomes(String termo, int limite) {
+        if (termo == null || termo.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return profissionalSearchIndex.sugerirNomes(termo, Math.min(Math.max(limite, 1), 20));
+    }
+
     public Map<String, Object> buscarCompletoComValidacao(Long id) {
         Profissional profissional = buscarPorId(id);
         return montarProfissionalCompleto(profissional);
@@ -763,13 +779,23 @@ public class ProfissionalService {
             if (imagensData != null && profissional.getPortfolio() != null) {
                 Long portfolioId = profissional.getPortfolio().getIdPortfolio();
                 
+                // Imagens já salvas voltam só com o id (as respostas não trazem o conteúdo) e são mantidas
+                Set<Long> idsMantidos = new HashSet<>();
+                for (Map<String, Object> imagemData : imagensData) {
+                    if (imagemData.get("imagemBase64") == null && imagemData.get("idImagem") instanceof Number id) {
+                        idsMantidos.add(id.longValue());
+                    }
+                }
+
                 List<ImagemDTO> imagensAtuais = imagemService.listarPorPortfolio(portfolioId);
                 for (ImagemDTO imagem : imagensAtuais) {
-                    imagemService.deletar(imagem.getIdImagem());
+                    if (!idsMantidos.contains(imagem.getIdImagem())) {
+                        imagemService.deletar(imagem.getIdImagem());
+                    }
                 }
                 
                 for (Map<String, Object> imagemData : imagensData) {
-                    if (imagemData.containsKey("imagemBase64")) {
+                    if (imagemData.get("imagemBase64") != null) {
                         ImagemDTO imagemDto = new ImagemDTO();
                         imagemDto.setImagemBase64((String) imagemData.get("imagemBase64"));
                         imagemDto.setIdPortfolio(portfolioId);
@@ -799,6 +825,25 @@ public class ProfissionalService {
         deletar(id);
     }
 
+    /**
+     * Versão para páginas de listagem: as imagens só referenciam a miniatura.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> montarProfissionalListagem(Profissional profissional) {
+        Map<String, Object> profissionalCompleto = montarProfissionalCompleto(profissional);
+        List<ImagemDTO> imagens = (List<ImagemDTO>) profissionalCompleto.get("imagens");
+        profissionalCompleto.put("imagens", imagens.stream()
+                .map(imagem -> {
+                    ImagemDTO miniatura = new ImagemDTO();
+                    miniatura.setIdImagem(imagem.getIdImagem());
+                    miniatura.setIdPortfolio(imagem.getIdPortfolio());
+                    miniatura.setUrlMiniatura(imagem.getUrlMiniatura());
+                    return miniatura;
+                })
+                .collect(Collectors.toList()));
+        return profissionalCompleto;
+    }
+
     private Map<String, Object> montarProfissionalCompleto(Profissional profissional) {
         Map<String, Object> profissionalCompleto = new HashMap<>();
         
@@ -840,11 +885,20 @@ public class ProfissionalService {
         }
         profissionalCompleto.put("portfolio", portfolioDto);
         
+        // Só a primeira página de metadados; as demais vêm de /portfolio/{id}/imagens
         List<ImagemDTO> imagens = Collections.emptyList();
+        Long proximoCursorImagens = null;
+        long totalImagens = 0;
         if (profissional.getPortfolio() != null) {
-            imagens = imagemService.listarPorPortfolio(profissional.getPortfolio().getIdPortfolio());
+            Long idPortfolio = profissional.getPortfolio().getIdPortfolio();
+            PaginaImagensDTO pagina = imagemService.listarPagina(idPortfolio, null, ImagemService.TAMANHO_PAGINA_PADRAO);
+            imagens = pagina.getImagens();
+            proximoCursorImagens = pagina.getProximoCursor();
+            totalImagens = proximoCursorImagens == null ? imagens.size() : imagemService.contarPorPortfolio(idPortfolio);
         }
         profissionalCompleto.put("imagens", imagens);
+        profissionalCompleto.put("totalImagens", totalImagens);
+        profissionalCompleto.put("proximoCursorImagens", proximoCursorImagens);
         
         Map<String, List<Map<String, String>>> disponibilidades = Collections.emptyMap();
         try {
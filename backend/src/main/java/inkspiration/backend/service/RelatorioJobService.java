@@ -0,0 +1,263 @@
+package inkspiration.backend.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+import inkspiration.backend.exception.agendamento.TokenInvalidoException;
+import inkspiration.backend.exception.relatorio.RelatorioFilaCheiaException;
+import inkspiration.backend.exception.relatorio.RelatorioJobIndisponivelException;
+import inkspiration.backend.exception.relatorio.RelatorioJobLimiteException;
+import inkspiration.backend.exception.relatorio.RelatorioJobNaoEncontradoException;
+import inkspiration.backend.relatorio.FormatoRelatorio;
+import inkspiration.backend.relatorio.RelatorioJob;
+import inkspiration.backend.relatorio.StatusRelatorioJob;
+import inkspiration.backend.relatorio.TipoRelatorio;
+
+/**
+ * Fila de relatórios gerados fora da thread da requisição. Os pedidos vão para um pool fixo de
+ * workers com fila limitada; cada usuário tem um limite de pedidos em andamento e pedidos iguais
+ * em andamento são atendidos pelo mesmo job. Os arquivos prontos ficam em disco até expirarem.
+ */
+@Service
+public class RelatorioJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelatorioJobService.class);
+
+    // Nome dos arquivos gravados pelos jobs: <idJob>.<extensão>, com idJob sendo um UUID
+    private static final Pattern ARQUIVO_JOB = Pattern.compile(
+        "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.(" +
+        Stream.of(FormatoRelatorio.values()).map(f -> Pattern.quote(f.getExtensao())).collect(Collectors.joining("|")) +
+        ")");
+
+    private final AgendamentoService agendamentoService;
+    private final ThreadPoolExecutor executor;
+    private final int limitePorUsuario;
+    private final Duration ttl;
+    private final Path diretorio;
+
+    private final Map<String, RelatorioJob> jobs = new ConcurrentHashMap<>();
+    // Jobs pendentes ou em processamento, pela chave do pedido; protegido por this
+    private final Map<String, RelatorioJob> emAndamento = new HashMap<>();
+
+    public RelatorioJobService(
+            AgendamentoService agendamentoService,
+            @Value("${relatorios.jobs.workers:2}") int workers,
+            @Value("${relatorios.jobs.capacidade-fila:50}") int capacidadeFila,
+            @Value("${relatorios.jobs.limite-por-usuario:2}") int limitePorUsuario,
+            @Value("${relatorios.jobs.ttl-minutos:30}") long ttlMinutos,
+            @Value("${relatorios.jobs.diretorio:${java.io.tmpdir}/inkspiration-relatorios}") String diretorio) {
+        this.agendamentoService = agendamentoService;
+        this.limitePorUsuario = limitePorUsuario;
+        this.ttl = Duration.ofMinutes(ttlMinutos);
+        this.diretorio = Paths.get(diretorio);
+        try {
+            Files.createDirectories(this.diretorio);
+            // Arquivos de execuções anteriores não têm mais job associado; o resto do diretório não é nosso
+            try (Stream<Path> antigos = Files.list(this.diretorio)) {
+                antigos.filter(RelatorioJobService::arquivoDeJob).forEach(this::apagar);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível criar o diretório de relatórios " + diretorio, e);
+        }
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacidadeFila), runnable -> {
+                Thread thread = new Thread(runnable, "relatorio-job-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    public RelatorioJob solicitarComAutenticacao(TipoRelatorio tipo, FormatoRelatorio formato, Integer ano, Integer mes,
+            Authentication authentication) {
+        return solicitar(extrairUserIdDoToken(authentication), tipo, formato, ano, mes);
+    }
+
+    public RelatorioJob buscarComAutenticacao(String idJob, Authentication authentication) {
+        return buscar(idJob, extrairUserIdDoToken(authentication));
+    }
+
+    public RelatorioJob buscarConcluidoComAutenticacao(String idJob, Authentication authentication) {
+        return buscarConcluido(idJob, extrairUserIdDoToken(authentication));
+    }
+
+    /**
+     * Enfileira o relatório, ou devolve o job já em andamento para o mesmo pedido.
+     */
+    public synchronized RelatorioJob solicitar(Long idUsuario, TipoRelatorio tipo, FormatoRelatorio formato, Integer ano, Integer mes) {
+        if (tipo == null) {
+            throw new IllegalArgumentException("O tipo do relatório é obrigatório");
+        }
+        if (ano == null) {
+            throw new IllegalArgumentException("O ano é obrigatório");
+        }
+        if (tipo == TipoRelatorio.ATENDIMENTOS) {
+            if (mes == null || mes < 1 || mes > 12) {
+                throw new IllegalArgumentException("O mês deve estar entre 1 e 12");
+            }
+        } else {
+            mes = null;
+        }
+
+        RelatorioJob job = new RelatorioJob(idUsuario, tipo, formato != null ? formato : FormatoRelatorio.PDF, ano, mes, Instant.now());
+        RelatorioJob existente = emAndamento.get(job.getChave());
+        if (existente != null) {
+            return existente;
+        }
+
+        long doUsuario = emAndamento.values().stream()
+            .filter(emAndamentoDoUsuario -> emAndamentoDoUsuario.getIdUsuario().equals(idUsuario))
+            .count();
+        if (doUsuario >= limitePorUsuario) {
+            throw new RelatorioJobLimiteException("Você já tem " + doUsuario
+                + " relatórios em processamento. Aguarde a conclusão antes de solicitar outro.");
+        }
+
+        try {
+            executor.execute(() -> processar(job));
+        } catch (RejectedExecutionException e) {
+            throw new RelatorioFilaCheiaException("A fila de relatórios está cheia. Tente novamente em alguns minutos.");
+        }
+        emAndamento.put(job.getChave(), job);
+        jobs.put(job.getIdJob(), job);
+        logger.debug("Relatório {} enfileirado para o usuário {}: {}", job.getIdJob(), idUsuario, job.getChave());
+        return job;
+    }
+
+    public RelatorioJob buscar(String idJob, Long idUsuario) {
+        RelatorioJob job = idJob != null ? jobs.get(idJob) : null;
+        // Jobs de outros usuários são tratados como inexistentes
+        if (job == null || !job.getIdUsuario().equals(idUsuario)) {
+            throw new RelatorioJobNaoEncontradoException("Relatório não encontrado");
+        }
+        return job;
+    }
+
+    /**
+     * Retorna o job com o arquivo pronto para download.
+     */
+    public RelatorioJob buscarConcluido(String idJob, Long idUsuario) {
+        RelatorioJob job = buscar(idJob, idUsuario);
+        if (job.getStatus() == StatusRelatorioJob.FALHOU) {
+            throw new RelatorioJobIndisponivelException("O relatório não pôde ser gerado: " + job.getErro());
+        }
+        if (job.getStatus() != StatusRelatorioJob.CONCLUIDO) {
+            throw new RelatorioJobIndisponivelException("O relatório ainda está sendo gerado");
+        }
+        if (!Files.exists(job.getArquivo())) {
+            throw new RelatorioJobNaoEncontradoException("Relatório expirado");
+        }
+        return job;
+    }
+
+    /**
+     * Remove os jobs concluídos há mais que o TTL e apaga seus arquivos.
+     */
+    @Scheduled(fixedDelayString = "${relatorios.jobs.limpeza-ms:60000}")
+    public int limparExpirados() {
+        Instant limite = Instant.now().minus(ttl);
+        int removidos = 0;
+        Iterator<RelatorioJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            RelatorioJob job = iterator.next();
+            if (job.getConcluidoEm() != null && !job.getConcluidoEm().isAfter(limite)) {
+                iterator.remove();
+                apagar(job.getArquivo());
+                removidos++;
+            }
+        }
+        if (removidos > 0) {
+            logger.debug("{} relatórios expirados removidos", removidos);
+        }
+        return removidos;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    private void processar(RelatorioJob job) {
+        job.iniciarProcessamento();
+        Path arquivo = diretorio.resolve(job.getIdJob() + "." + job.getFormato().getExtensao());
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(arquivo))) {
+                if (job.getTipo() == TipoRelatorio.ATENDIMENTOS) {
+                    agendamentoService.gerarRelatorioAtendimentos(job.getIdUsuario(), job.getAno(), job.getMes(), job.getFormato(), out);
+                } else {
+                    agendamentoService.gerarRelatorioAgendamentos(job.getIdUsuario(), job.getAno(), job.getFormato(), out);
+                }
+            }
+            job.concluir(arquivo, Instant.now());
+        } catch (Exception e) {
+            apagar(arquivo);
+            job.falhar(e.getMessage(), Instant.now());
+            logger.warn("Falha ao gerar o relatório {}: {}", job.getIdJob(), e.getMessage());
+        } finally {
+            synchronized (this) {
+                emAndamento.remove(job.getChave(), job);
+            }
+        }
+    }
+
+    private static boolean arquivoDeJob(Path arquivo) {
+        return Files.isRegularFile(arquivo) && ARQUIVO_JOB.matcher(arquivo.getFileName().toString()).matches();
+    }
+
+    private void apagar(Path arquivo) {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            logger.warn("Não foi possível apagar o relatório {}: {}", arquivo, e.getMessage());
+        }
+    }
+
+    private Long extrairUserIdDoToken(Authentication authentication) {
+        if (!(authentication instanceof JwtAuthenticationToken)) {
+            throw new TokenInvalidoException("Autenticação inválida");
+        }
+        
+        Jwt jwt = ((JwtAuthenticationToken) authentication).getToken();
+        Long userId = jwt.getClaim("userId");
+        
+        if (userId == null) {
+            throw new TokenInvalidoException("Token não contém informações do usuário");
+        }
+        
+        return userId;
+    }
+}
@@ -10,9 +10,11 @@ import inkspiration.backend.exception.twofactor.QRCodeGeracaoException;
 import inkspiration.backend.exception.twofactor.TwoFactorAtivacaoException;
 import inkspiration.backend.exception.twofactor.TwoFactorDesativacaoException;
 import inkspiration.backend.exception.twofactor.TwoFactorStatusException;
+import inkspiration.backend.security.ContextoAutenticacao;
 import inkspiration.backend.security.JwtService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
 import com.warrenstrange.googleauth.GoogleAuthenticator;
@@ -47,6 +49,9 @@ public class TwoFactorAuthService {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private ContextoAutenticacao contextoAutenticacao;
+
     private final GoogleAuthenticator gAuth = new GoogleAuthenticator();
 
     /**
@@ -297,10 +302,19 @@ public class TwoFactorAuthService {
         return Base64.getEncoder().encodeToString(imageBytes);
     }
 
+    // O cabeçalho traz o mesmo token que o resource server já decodificou nesta requisição
+    private Long idUsuarioDoToken(String authHeader) {
+        String token = authHeader.replace("Bearer ", "");
+        Jwt jwt = contextoAutenticacao.getJwt();
+        if (jwt != null && token.equals(jwt.getTokenValue())) {
+            return jwt.getClaim("userId");
+        }
+        return jwtService.getUserIdFromToken(token);
+    }
+
     public Map<String, String> gerarQRCodeComValidacao(String authHeader) {
         try {
-            String token = authHeader.replace("Bearer ", "");
-            Long userId = jwtService.getUserIdFromToken(token);
+            Long userId = idUsuarioDoToken(authHeader);
 
             return generateQRCodeAndSecret(userId);
         } catch (Exception e) {
@@ -314,8 +328,7 @@ public class TwoFactorAuthService {
         }
 
         try {
-            String token = authHeader.replace("Bearer ", "");
-            Long userId = jwtService.getUserIdFromToken(token);
+            Long userId = idUsuarioDoToken(authHeader);
 
             boolean success = enableTwoFactor(userId, verificationCode);
             
@@ -337,8 +350,7 @@ public class TwoFactorAuthService {
         }
 
         try {
-            String token = authHeader.replace("Bearer ", "");
-            Long userId = jwtService.getUserIdFromToken(token);
+            Long userId = idUsuarioDoToken(authHeader);
 
             boolean success = disableTwoFactor(userId, verificationCode);
             
@@ -356,8 +368,7 @@ public class TwoFactorAuthService {
 
     public boolean obterStatusTwoFactorComValidacao(String authHeader) {
         try {
-            String token = authHeader.replace("Bearer ", "");
-            Long userId = jwtService.getUserIdFromToken(token);
+            Long userId = idUsuarioDoToken(authHeader);
 
             return isTwoFactorEnabled(userId);
         } catch (Exception e) {
@@ -371,8 +382,7 @@ public class TwoFactorAuthService {
         }
 
         try {
-            String token = authHeader.replace("Bearer ", "");
-            Long userId = jwtService.getUserIdFromToken(token);
+            Long userId = idUsuarioDoToken(authHeader);
 
             return validateCode(userId, verificationCode);
         } catch (Exception e) {
@@ -382,8 +392,7 @@ public class TwoFactorAuthService {
 
     public boolean enviarCodigoRecuperacaoComValidacao(String authHeader) {
         try {
-            String token = authHeader.replace("Bearer ", "");
-            Long userId = jwtService.getUserIdFromToken(token);
+            Long userId = idUsuarioDoToken(authHeader);
 
             boolean success = sendRecoveryCodeByEmail(userId);
             
@@ -405,8 +414,7 @@ public class TwoFactorAuthService {
         }
 
         try {
-            String token = authHeader.replace("Bearer ", "");
-            Long userId = jwtService.getUserIdFromToken(token);
+            Long userId = idUsuarioDoToken(authHeader);
 
             boolean success = disableTwoFactorWithRecoveryCode(userId, recoveryCode);
             
@@ -2,10 +2,14 @@ package inkspiration.backend.service;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,8 +17,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import inkspiration.backend.armazenamento.ConteudoImagem;
+import inkspiration.backend.armazenamento.ImagemInvalidaException;
+import inkspiration.backend.armazenamento.LeitorImagem;
 import inkspiration.backend.dto.UsuarioDTO;
 import inkspiration.backend.dto.UsuarioResponseDTO;
+import inkspiration.backend.dto.VersaoTokenDTO;
 import inkspiration.backend.entities.Endereco;
 import inkspiration.backend.entities.TokenRevogado;
 import inkspiration.backend.entities.Usuario;
@@ -25,6 +33,7 @@ import inkspiration.backend.exception.UsuarioValidationException;
 import inkspiration.backend.repository.TokenRevogadoRepository;
 import inkspiration.backend.repository.UsuarioRepository;
 import inkspiration.backend.security.JwtService;
+import inkspiration.backend.security.RegistroTokensRevogados;
 import inkspiration.backend.util.CpfValidator;
 import inkspiration.backend.util.DateValidator;
 import inkspiration.backend.util.EmailValidator;
@@ -42,13 +51,21 @@ import inkspiration.backend.util.PasswordValidator;
 @Service
 public class UsuarioService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UsuarioService.class);
+
+    private static final long TAMANHO_MAXIMO_IMAGEM_PERFIL = 5L * 1024 * 1024;
+    private static final Set<String> TIPOS_IMAGEM_PERFIL = Set.of("image/jpeg", "image/png");
+    private static final int MAXIMO_TENTATIVAS_TOKEN = 5;
+
     private final UsuarioRepository repository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final ProfissionalRepository profissionalRepository;
     private final TokenRevogadoRepository tokenRevogadoRepository;
+    private final RegistroTokensRevogados registroTokensRevogados;
     private final AuthorizationService authorizationService;
     private final EnderecoService enderecoService;
+    private final BlobImagemService blobImagemService;
 
     @Autowired
     public UsuarioService(UsuarioRepository repository, 
@@ -57,21 +74,39 @@ public class UsuarioService {
                          JwtService jwtService,
                          HttpServletRequest request,
                          TokenRevogadoRepository tokenRevogadoRepository,
+                         RegistroTokensRevogados registroTokensRevogados,
                          AuthorizationService authorizationService,
-                         EnderecoService enderecoService) {
+                         EnderecoService enderecoService,
+                         BlobImagemService blobImagemService) {
         this.repository = repository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.profissionalRepository = profissionalRepository;
         this.tokenRevogadoRepository = tokenRevogadoRepository;
+        this.registroTokensRevogados = registroTokensRevogados;
         this.authorizationService = authorizationService;
         this.enderecoService = enderecoService;
+        this.blobImagemService = blobImagemService;
     }
 
     @Transactional
     public Usuario criar(UsuarioDTO dto) {
-        validarCamposObrigatorios(dto);
-        
+        validarCamposObrigatorios(dto, true);
+        return criarValidado(dto, null);
+    }
+
+    /**
+     * Cria o usuário de um cadastro pendente, cuja senha foi validada e codificada quando o
+     * cadastro foi solicitado.
+     */
+    @Transactional
+    public Usuario criarComSenhaCodificada(UsuarioDTO dto, String senhaCodificada) {
+        validarCamposObrigatorios(dto, false);
+        return criarValidado(dto, senhaCodificada);
+    }
+
+    // senhaCodificada nula: codifica a senha do DTO, só depois de conferir email e CPF
+    private Usuario criarValidado(UsuarioDTO dto, String senhaCodificada) {
         String cpfLimpo = dto.getCpf().replaceAll("[^0-9]", "");
         
         if (repository.existsByEmail(dto.getEmail())) {
@@ -90,7 +125,7 @@ public class UsuarioService {
         // Cria o objeto UsuarioAutenticar
         UsuarioAutenticar usuarioAuth = new UsuarioAutenticar();
         usuarioAuth.setCpf(cpfLimpo);
-        usuarioAuth.setSenha(passwordEncoder.encode(dto.getSenha()));
+        usuarioAuth.setSenha(senhaCodificada != null ? senhaCodificada : passwordEncoder.encode(dto.getSenha()));
         usuarioAuth.setRole(usuario.getRole());
         
         // Configura o endereço se fornecido
@@ -266,8 +301,8 @@ public class UsuarioService {
         
         // Revoga o token atual e gera um novo
         if (precisaRevogarToken) {
-            String novoToken = jwtService.generateToken(SecurityContextHolder.getContext().getAuthentication());
-            atualizarToken(usuarioExistente, novoToken);
+            revogarTokenAtual(usuarioExistente);
+            atualizarToken(usuarioExistente, SecurityContextHolder.getContext().getAuthentication(), null);
         }
         
         return usuarioExistente;
@@ -282,7 +317,9 @@ public class UsuarioService {
         if (usuario.getTokenAtual() != null) {
             TokenRevogado tokenRevogado = new TokenRevogado(usuario.getTokenAtual());
             tokenRevogadoRepository.save(tokenRevogado);
+            registroTokensRevogados.registrar(usuario.getTokenAtual());
             usuario.setTokenAtual(null);
+            jwtService.tokenAtualAlterado(usuario.getIdUsuario());
         }
 
         if (usuario.getUsuarioAutenticar() != null) {
@@ -328,9 +365,12 @@ public class UsuarioService {
         if (usuario.getTokenAtual() != null) {
             TokenRevogado tokenRevogado = new TokenRevogado(usuario.getTokenAtual());
             tokenRevogadoRepository.save(tokenRevogado);
+            registroTokensRevogados.registrar(usuario.getTokenAtual());
         }
 
         repository.delete(usuario);
+        blobImagemService.liberar(usuario.getImagemPerfilHash());
+        jwtService.tokenAtualAlterado(usuario.getIdUsuario());
     }
 
     private void validarCamposObrigatoriosParaEdicao(UsuarioDTO dto) {
@@ -374,7 +414,7 @@ public class UsuarioService {
         }
     }
 
-    private void validarCamposObrigatorios(UsuarioDTO dto) {
+    private void validarCamposObrigatorios(UsuarioDTO dto, boolean validarSenha) {
         if (dto.getNome() == null || dto.getNome().trim().isEmpty()) {
             throw new UsuarioValidationException.NomeObrigatorioException();
         }
@@ -399,11 +439,8 @@ public class UsuarioService {
         if (!DateValidator.hasMinimumAge(dto.getDataNascimento(), 18)) {
             throw new UsuarioValidationException.IdadeMinimaException(18);
         }
-        if (dto.getSenha() == null || dto.getSenha().trim().isEmpty()) {
-            throw new UsuarioValidationException.SenhaObrigatoriaException();
-        }
-        if (!PasswordValidator.isValid(dto.getSenha())) {
-            throw new UsuarioValidationException.SenhaInvalidaException(PasswordValidator.getPasswordRequirements());
+        if (validarSenha) {
+            validarSenha(dto.getSenha());
         }
         if (dto.getTelefone() == null || dto.getTelefone().trim().isEmpty()) {
             throw new UsuarioValidationException.TelefoneObrigatorioException();
@@ -413,6 +450,15 @@ public class UsuarioService {
         }
     }
 
+    public void validarSenha(String senha) {
+        if (senha == null || senha.trim().isEmpty()) {
+            throw new UsuarioValidationException.SenhaObrigatoriaException();
+        }
+        if (!PasswordValidator.isValid(senha)) {
+            throw new UsuarioValidationException.SenhaInvalidaException(PasswordValidator.getPasswordRequirements());
+        }
+    }
+
     private void preencherUsuario(Usuario usuario, UsuarioDTO dto) {
         String cpfLimpo = dto.getCpf().replaceAll("[^0-9]", "");
         usuario.setNome(dto.getNome());
@@ -421,14 +467,31 @@ public class UsuarioService {
         usuario.setDataNascimento(DateValidator.parseDate(dto.getDataNascimento()));
         usuario.setTelefone(dto.getTelefone());
         
-        // Só atualiza a imagem de perfil se ela for fornecida no DTO
-        if (dto.getImagemPerfil() != null) {
-            validarTamanhoImagem(dto.getImagemPerfil());
-            usuario.setImagemPerfil(dto.getImagemPerfil());
+        // Só atualiza a imagem de perfil se ela for fornecida no DTO. O cliente pode devolver o
+        // caminho da foto atual, que também significa manter a imagem existente
+        String imagemPerfil = dto.getImagemPerfil();
+        if (imagemPerfil != null && imagemPerfil.isEmpty()) {
+            blobImagemService.liberar(usuario.getImagemPerfilHash());
+            usuario.setImagemPerfilHash(null);
+            usuario.setImagemPerfil(null);
+        } else if (imagemPerfil != null && !imagemPerfil.equals(usuario.getImagemPerfil())) {
+            definirImagemPerfil(usuario, lerImagemPerfil(imagemPerfil));
         }
         // Se for null, mantém a imagem existente
     }
 
+    /**
+     * Guarda a foto no armazenamento de blobs e libera a anterior. Fotos iguais, inclusive
+     * iguais a imagens de portfólio, compartilham o mesmo conteúdo.
+     */
+    private void definirImagemPerfil(Usuario usuario, ConteudoImagem conteudo) {
+        String anterior = usuario.getImagemPerfilHash();
+        blobImagemService.adquirir(conteudo);
+        usuario.setImagemPerfilHash(conteudo.getHash());
+        usuario.setImagemPerfil(null);
+        blobImagemService.liberar(anterior);
+    }
+
     private String determinarRole(String role) {
         if (role != null) {
             try {
@@ -454,14 +517,36 @@ public class UsuarioService {
         enderecoAtual.setNumero(novoEndereco.getNumero());
     }
 
-    private void atualizarToken(Usuario usuario, String novoToken) {
+    private void revogarTokenAtual(Usuario usuario) {
         if (usuario.getTokenAtual() != null) {
             TokenRevogado tokenRevogado = new TokenRevogado(usuario.getTokenAtual());
             tokenRevogadoRepository.save(tokenRevogado);
+            registroTokensRevogados.registrar(usuario.getTokenAtual());
         }
-        
-        usuario.setTokenAtual(novoToken);
-        repository.save(usuario);
+    }
+
+    /**
+     * Gera um novo token e o grava como atual do usuário junto com a sua versão, que vai no claim
+     * {@code tokenVersion}. A versão parte da gravada no banco e só é usada se nenhum outro token
+     * for gravado antes; nesse caso o token é gerado de novo na versão seguinte, de modo que
+     * logins simultâneos nunca recebem a mesma versão.
+     *
+     * @return o token gravado
+     */
+    @Transactional
+    public String atualizarToken(Usuario usuario, Authentication authentication, Boolean rememberMe) {
+        Long idUsuario = usuario.getIdUsuario();
+        for (int tentativa = 0; tentativa < MAXIMO_TENTATIVAS_TOKEN; tentativa++) {
+            int versao = repository.findVersaoToken(idUsuario).map(VersaoTokenDTO::getVersao).orElse(0) + 1;
+            String token = jwtService.generateToken(authentication, rememberMe, versao);
+            if (repository.gravarTokenAtual(idUsuario, token, versao) == 1) {
+                usuario.setTokenAtual(token);
+                usuario.setVersaoToken(versao);
+                jwtService.tokenAtualAlterado(idUsuario);
+                return token;
+            }
+        }
+        throw new IllegalStateException("Não foi possível gravar o token do usuário " + idUsuario);
     }
 
     public Usuario buscarPorEmail(String email) {
@@ -489,10 +574,33 @@ public class UsuarioService {
     @Transactional
     public void atualizarFotoPerfil(Long id, String imagemBase64) {
         Usuario usuario = buscarPorId(id);
-        usuario.setImagemPerfil(imagemBase64);
+        definirImagemPerfil(usuario, lerImagemPerfil(imagemBase64));
         repository.save(usuario);
     }
 
+    /**
+     * Move para o armazenamento de blobs um lote de fotos de perfil ainda guardadas em base64
+     * no banco, em ordem de id a partir de {@code aPartirDe} (exclusivo).
+     *
+     * @return o maior id processado, ou {@code null} se não restarem fotos no formato antigo
+     */
+    @Transactional
+    public Long migrarLoteFotosLegadas(Long aPartirDe, int tamanhoLote) {
+        List<Usuario> usuarios = repository.findComFotoLegada(aPartirDe, PageRequest.of(0, tamanhoLote));
+        if (usuarios.isEmpty()) {
+            return null;
+        }
+        for (Usuario usuario : usuarios) {
+            try {
+                definirImagemPerfil(usuario, ConteudoImagem.deDataUri(usuario.getImagemPerfilLegada()));
+            } catch (RuntimeException e) {
+                // Foto corrompida continua no formato antigo; não deve impedir o restante
+                logger.warn("Não foi possível migrar a foto de perfil do usuário {}: {}", usuario.getIdUsuario(), e.getMessage());
+            }
+        }
+        return usuarios.get(usuarios.size() - 1).getIdUsuario();
+    }
+
     public List<UsuarioResponseDTO> listarTodosComAutorizacao(Pageable pageable) {
         authorizationService.requireAdmin();
         return listarTodosResponse(pageable);
@@ -560,49 +668,35 @@ public class UsuarioService {
             throw new InvalidProfileImageException("Imagem não fornecida");
         }
         
-        validarTamanhoImagem(imagemBase64);
         atualizarFotoPerfil(id, imagemBase64);
     }
 
-    private void validarTamanhoImagem(String imagemBase64) {
-        if (imagemBase64 == null || imagemBase64.isEmpty()) {
-            return;
+    /**
+     * Confere formato e tamanho da foto de perfil sem guardá-la; usado antes de a foto
+     * ficar retida em um cadastro pendente.
+     */
+    public void validarImagemPerfil(String imagemBase64) {
+        try {
+            LeitorImagem.validarDataUri(imagemBase64, TIPOS_IMAGEM_PERFIL, TAMANHO_MAXIMO_IMAGEM_PERFIL);
+        } catch (ImagemInvalidaException e) {
+            throw imagemPerfilInvalida(e);
         }
+    }
 
-        validarFormatoImagem(imagemBase64);
-        
-        // Remove o prefixo data:image/...;base64
-        String base64Data = imagemBase64;
-        if (imagemBase64.contains(",")) {
-            base64Data = imagemBase64.split(",")[1];
-        }
-        
-        // Calcula o tamanho em bytes da imagem base64
-        // Base64 adiciona ~33% ao tamanho original, então dividimos por 1.33 para obter o tamanho aproximado
-        long imagemTamanhoBytes = (long) (base64Data.length() * 0.75);
-        
-        // Limite de 5MB em bytes (definido no código)
-        long limiteTamanhoBytes = 5 * 1024 * 1024;
-        
-        if (imagemTamanhoBytes > limiteTamanhoBytes) {
-            throw new InvalidProfileImageException("Imagem muito grande. Tamanho máximo permitido: 5MB");
+    private ConteudoImagem lerImagemPerfil(String imagemBase64) {
+        // Decodifica em fluxo conferindo assinatura e tamanho; os bytes seguem direto para o armazenamento
+        try {
+            return LeitorImagem.lerDataUri(imagemBase64, TIPOS_IMAGEM_PERFIL, TAMANHO_MAXIMO_IMAGEM_PERFIL);
+        } catch (ImagemInvalidaException e) {
+            throw imagemPerfilInvalida(e);
         }
     }
-    
-    private void validarFormatoImagem(String imagemBase64) {
-        if (imagemBase64 == null || imagemBase64.isEmpty()) {
-            return;
-        }
-        
-        // Verifica se é um formato válido (PNG ou JPG)
-        if (!imagemBase64.startsWith("data:image/")) {
-            throw new InvalidProfileImageException("Formato de imagem inválido. Apenas PNG e JPG são permitidos");
-        }
-        
-        String mimeType = imagemBase64.substring(5, imagemBase64.indexOf(";"));
-        if (!mimeType.equals("image/jpeg") && !mimeType.equals("image/jpg") && !mimeType.equals("image/png")) {
-            throw new InvalidProfileImageException("Formato de imagem inválido. Apenas PNG e JPG são permitidos");
+
+    private static InvalidProfileImageException imagemPerfilInvalida(ImagemInvalidaException e) {
+        if (e.getMotivo() == ImagemInvalidaException.Motivo.TAMANHO) {
+            return new InvalidProfileImageException("Imagem muito grande. Tamanho máximo permitido: 5MB");
         }
+        return new InvalidProfileImageException("Formato de imagem inválido. Apenas PNG e JPG são permitidos");
     }
 
     public boolean validateTokenComplete(Long id, String token) {
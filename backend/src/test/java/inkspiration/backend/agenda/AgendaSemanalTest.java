@@ -0,0 +1,79 @@
+package inkspiration.backend.agenda;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AgendaSemanal - Testes da agenda compilada")
+class AgendaSemanalTest {
+
+    private AgendaSemanal agenda;
+
+    @BeforeEach
+    void setUp() {
+        agenda = AgendaSemanal.compilar(Map.of(
+            "Segunda", List.of(
+                Map.of("inicio", "13:00", "fim", "18:00"),
+                Map.of("inicio", "08:00", "fim", "12:00")),
+            "Terça", List.of(
+                Map.of("inicio", "08:00", "fim", "11:59"),
+                Map.of("inicio", "12:00", "fim", "23:59")),
+            "Sábado", List.of(Map.of("inicio", "09:00"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Deve resolver os nomes dos dias em português")
+    void deveResolverNomesDosDias() {
+        assertEquals("Terça", AgendaSemanal.nomeDia(DayOfWeek.TUESDAY));
+        assertEquals("Sábado", AgendaSemanal.nomeDia(DayOfWeek.SATURDAY));
+        assertTrue(agenda.trabalhaNoDia(DayOfWeek.MONDAY));
+        assertFalse(agenda.trabalhaNoDia(DayOfWeek.WEDNESDAY));
+        assertFalse(agenda.trabalhaNoDia(DayOfWeek.SATURDAY));
+    }
+
+    @Test
+    @DisplayName("Deve exigir que início e fim estejam no mesmo período")
+    void deveExigirMesmoPeriodo() {
+        assertTrue(agenda.cobre(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(12, 0)));
+        assertTrue(agenda.cobre(DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(16, 0)));
+        assertFalse(agenda.cobre(DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(14, 0)));
+        assertFalse(agenda.cobre(DayOfWeek.MONDAY, LocalTime.of(7, 59), LocalTime.of(9, 0)));
+        assertFalse(agenda.cobre(DayOfWeek.MONDAY, LocalTime.of(17, 0), LocalTime.of(18, 0, 1)));
+    }
+
+    @Test
+    @DisplayName("Deve estender até o fim do dia os períodos que terminam às 23:59")
+    void deveEstenderAteFimDoDia() {
+        assertTrue(agenda.cobre(DayOfWeek.TUESDAY, LocalTime.of(22, 0), LocalTime.of(23, 59, 59)));
+        assertFalse(agenda.cobre(DayOfWeek.MONDAY, LocalTime.of(17, 0), LocalTime.of(23, 59, 59)));
+    }
+
+    @Test
+    @DisplayName("Deve unir períodos contíguos para a grade de horários")
+    void deveUnirPeriodosContiguos() {
+        assertArrayEquals(new int[] {8 * 60, 12 * 60, 13 * 60, 18 * 60}, agenda.periodosConsolidados(DayOfWeek.MONDAY));
+        assertArrayEquals(new int[] {8 * 60, 23 * 60 + 59}, agenda.periodosConsolidados(DayOfWeek.TUESDAY));
+        assertEquals(0, agenda.periodosConsolidados(DayOfWeek.SUNDAY).length);
+    }
+
+    @Test
+    @DisplayName("Deve unir períodos sobrepostos para a grade de horários")
+    void deveUnirPeriodosSobrepostos() {
+        AgendaSemanal sobrepostos = AgendaSemanal.compilar(Map.of("Quarta", List.of(
+            Map.of("inicio", "10:00", "fim", "14:00"),
+            Map.of("inicio", "08:00", "fim", "12:00"),
+            Map.of("inicio", "09:00", "fim", "11:00"),
+            Map.of("inicio", "16:00", "fim", "18:00"))));
+
+        assertArrayEquals(new int[] {8 * 60, 14 * 60, 16 * 60, 18 * 60},
+            sobrepostos.periodosConsolidados(DayOfWeek.WEDNESDAY));
+    }
+}
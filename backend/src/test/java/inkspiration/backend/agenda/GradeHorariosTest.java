@@ -0,0 +1,123 @@
+package inkspiration.backend.agenda;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import inkspiration.backend.entities.Agendamento;
+
+@DisplayName("GradeHorarios - Testes da varredura de horários livres")
+class GradeHorariosTest {
+
+    // 24/06/2024 é uma segunda-feira
+    private static final LocalDate SEGUNDA = LocalDate.of(2024, 6, 24);
+
+    private AgendaSemanal agenda;
+
+    @BeforeEach
+    void setUp() {
+        List<Map<String, String>> periodos = List.of(
+            Map.of("inicio", "08:00", "fim", "12:00"),
+            Map.of("inicio", "13:00", "fim", "23:59"));
+        agenda = AgendaSemanal.compilar(Map.of(
+            "Segunda", periodos, "Terça", periodos, "Quarta", periodos, "Quinta", periodos, "Sexta", periodos));
+    }
+
+    @Test
+    @DisplayName("Deve gerar os horários de hora em hora que cabem em cada período")
+    void deveGerarHorariosDoPeriodo() {
+        List<LocalDateTime> livres = new GradeHorarios(Collections.emptyList())
+            .horariosLivres(agenda, SEGUNDA, SEGUNDA, 120, null);
+
+        List<LocalDateTime> esperado = new ArrayList<>();
+        for (int hora : new int[] {8, 9, 10, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22}) {
+            esperado.add(SEGUNDA.atTime(hora, 0));
+        }
+        assertEquals(esperado, livres);
+    }
+
+    @Test
+    @DisplayName("Deve bloquear horários que sobrepõem ou começam no fim de um agendamento")
+    void deveBloquearHorariosOcupados() {
+        List<Agendamento> ocupados = List.of(
+            agendamento(SEGUNDA.atTime(10, 0), SEGUNDA.atTime(11, 0)),
+            agendamento(SEGUNDA.atTime(14, 0), SEGUNDA.atTime(15, 0)));
+        List<LocalDateTime> livres = new GradeHorarios(ocupados).horariosLivres(agenda, SEGUNDA, SEGUNDA, 120, null);
+
+        // Terminar quando um agendamento começa é permitido; começar quando outro termina, não
+        assertTrue(livres.contains(SEGUNDA.atTime(8, 0)));
+        assertFalse(livres.contains(SEGUNDA.atTime(9, 0)));
+        assertFalse(livres.contains(SEGUNDA.atTime(10, 0)));
+        assertFalse(livres.contains(SEGUNDA.atTime(13, 0)));
+        assertFalse(livres.contains(SEGUNDA.atTime(15, 0)));
+        assertTrue(livres.contains(SEGUNDA.atTime(16, 0)));
+    }
+
+    @Test
+    @DisplayName("Deve bloquear agendamentos dentro da sobreposição de períodos, sem repetir horários")
+    void deveBloquearAgendamentoEmPeriodosSobrepostos() {
+        AgendaSemanal sobrepostos = AgendaSemanal.compilar(Map.of("Segunda", List.of(
+            Map.of("inicio", "08:00", "fim", "12:00"),
+            Map.of("inicio", "10:00", "fim", "14:00"))));
+        List<Agendamento> ocupados = List.of(agendamento(SEGUNDA.atTime(10, 30), SEGUNDA.atTime(11, 30)));
+
+        List<LocalDateTime> livres = new GradeHorarios(ocupados).horariosLivres(sobrepostos, SEGUNDA, SEGUNDA, 60, null);
+
+        assertEquals(List.of(SEGUNDA.atTime(8, 0), SEGUNDA.atTime(9, 0), SEGUNDA.atTime(12, 0), SEGUNDA.atTime(13, 0)), livres);
+    }
+
+    @Test
+    @DisplayName("Deve descartar horários anteriores ao limite informado")
+    void deveDescartarHorariosPassados() {
+        List<LocalDateTime> livres = new GradeHorarios(Collections.emptyList())
+            .horariosLivres(agenda, SEGUNDA, SEGUNDA.plusDays(1), 120, SEGUNDA.plusDays(1).atTime(15, 30));
+        assertEquals(SEGUNDA.plusDays(1).atTime(16, 0), livres.get(0));
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a verificação individual de cada horário em um mês")
+    void deveCoincidirComVerificacaoIndividual() {
+        Random random = new Random(11);
+        List<Agendamento> ocupados = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            LocalDateTime inicio = SEGUNDA.atStartOfDay().plusMinutes(30L * random.nextInt(31 * 48));
+            ocupados.add(agendamento(inicio, inicio.plusHours(1 + random.nextInt(6)).minusSeconds(random.nextInt(2))));
+        }
+        GradeHorarios grade = new GradeHorarios(ocupados);
+        LocalDate fim = SEGUNDA.plusDays(30);
+
+        for (int duracao : new int[] {120, 240, 360, 480}) {
+            List<LocalDateTime> obtido = grade.horariosLivres(agenda, SEGUNDA, fim, duracao, null);
+            List<LocalDateTime> forcaBruta = new ArrayList<>();
+            for (LocalDate data = SEGUNDA; !data.isAfter(fim); data = data.plusDays(1)) {
+                for (LocalDateTime candidato : new GradeHorarios(Collections.emptyList())
+                        .horariosLivres(agenda, data, data, duracao, null)) {
+                    LocalDateTime fimServico = candidato.plusMinutes(duracao).minusSeconds(1);
+                    boolean conflito = ocupados.stream().anyMatch(a ->
+                        a.getDtInicio().isBefore(fimServico.plusSeconds(1)) && a.getDtFim().isAfter(candidato.minusSeconds(1)));
+                    if (!conflito) {
+                        forcaBruta.add(candidato);
+                    }
+                }
+            }
+            assertEquals(forcaBruta, obtido, "duracao=" + duracao);
+        }
+    }
+
+    private static Agendamento agendamento(LocalDateTime inicio, LocalDateTime fim) {
+        Agendamento agendamento = new Agendamento();
+        agendamento.setDtInicio(inicio);
+        agendamento.setDtFim(fim);
+        return agendamento;
+    }
+}
@@ -0,0 +1,87 @@
+package inkspiration.backend.agenda;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("TravasAgenda - Testes das travas por profissional")
+class TravasAgendaTest {
+
+    private final TravasAgenda travas = new TravasAgenda(16);
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve permitir marcações em paralelo para profissionais de faixas diferentes")
+    void devePermitirProfissionaisDiferentesEmParalelo() throws Exception {
+        assertNotSame(travas.travaDe(1L), travas.travaDe(2L));
+
+        CountDownLatch dentro = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Void> ocupada = CompletableFuture.runAsync(() -> travas.executar(1L, () -> {
+            dentro.countDown();
+            aguardar(liberar);
+            return null;
+        }), executor);
+        assertTrue(dentro.await(5, TimeUnit.SECONDS));
+
+        // Outro profissional não espera; o mesmo profissional espera a liberação
+        assertEquals("livre", CompletableFuture.supplyAsync(() -> travas.executar(2L, () -> "livre"), executor)
+            .get(5, TimeUnit.SECONDS));
+        CompletableFuture<String> mesmoProfissional = CompletableFuture.supplyAsync(() -> travas.executar(1L, () -> "depois"), executor);
+        assertThrows(TimeoutException.class, () -> mesmoProfissional.get(200, TimeUnit.MILLISECONDS));
+
+        liberar.countDown();
+        ocupada.get(5, TimeUnit.SECONDS);
+        assertEquals("depois", mesmoProfissional.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve manter a trava até o fim da transação")
+    void deveManterTravaAteFimDaTransacao() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        travas.executar(1L, () -> null);
+        assertTrue(travas.travaDe(1L).isLocked());
+
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        assertFalse(travas.travaDe(1L).isLocked());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a trava quando a operação falha fora de transação")
+    void deveLiberarTravaQuandoOperacaoFalha() {
+        assertThrows(IllegalStateException.class, () -> travas.executar(1L, () -> {
+            throw new IllegalStateException("falha");
+        }));
+        assertFalse(travas.travaDe(1L).isLocked());
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package inkspiration.backend.armazenamento;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ArmazenamentoBlobLocal")
+class ArmazenamentoBlobLocalTest {
+
+    @TempDir
+    Path diretorio;
+
+    private ArmazenamentoBlobLocal armazenamento;
+
+    @BeforeEach
+    void setUp() {
+        armazenamento = new ArmazenamentoBlobLocal(diretorio.toString());
+    }
+
+    @Test
+    @DisplayName("Deve gravar, ler e remover conteúdo pelo hash")
+    void deveGravarLerERemover() throws Exception {
+        ConteudoImagem conteudo = ConteudoImagem.deBytes("conteudo".getBytes(StandardCharsets.UTF_8), "image/png");
+
+        armazenamento.salvar(conteudo.getHash(), conteudo.getBytes());
+        armazenamento.salvar(conteudo.getHash(), conteudo.getBytes());
+
+        assertTrue(armazenamento.existe(conteudo.getHash()));
+        assertTrue(Files.exists(diretorio.resolve(conteudo.getHash().substring(0, 2))
+            .resolve(conteudo.getHash().substring(2, 4)).resolve(conteudo.getHash())));
+        try (InputStream entrada = armazenamento.carregar(conteudo.getHash()).getInputStream()) {
+            assertArrayEquals(conteudo.getBytes(), entrada.readAllBytes());
+        }
+
+        assertTrue(armazenamento.remover(conteudo.getHash()));
+        assertFalse(armazenamento.existe(conteudo.getHash()));
+        assertThrows(FileNotFoundException.class, () -> armazenamento.carregar(conteudo.getHash()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar chaves que não são hashes SHA-256")
+    void deveRecusarChaveInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> armazenamento.existe("../../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> armazenamento.salvar("abc", new byte[] { 1 }));
+    }
+
+    @Test
+    @DisplayName("Deve detectar o tipo pela assinatura do arquivo e não pelo data URI")
+    void deveDetectarTipoPelaAssinatura() {
+        // Cabeçalho JPEG declarado como PNG
+        ConteudoImagem conteudo = ConteudoImagem.deDataUri("data:image/png;base64,/9j/4AAQSkZJRgABAQ==");
+
+        assertEquals("image/jpeg", conteudo.getMimeType());
+        assertEquals(64, conteudo.getHash().length());
+        assertNull(conteudo.getLargura());
+        assertThrows(IllegalArgumentException.class, () -> ConteudoImagem.deDataUri("data:image/png;base64,@@@"));
+        assertThrows(IllegalArgumentException.class, () -> ConteudoImagem.deDataUri("texto qualquer"));
+    }
+}
@@ -0,0 +1,71 @@
+package inkspiration.backend.armazenamento;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GeradorVariantes")
+class GeradorVariantesTest {
+
+    @Test
+    @DisplayName("Deve gerar todas as variantes em JPEG com a largura de cada uma")
+    void deveGerarVariantes() throws IOException {
+        Map<VarianteImagem, byte[]> variantes = GeradorVariantes.gerar(
+            new ByteArrayInputStream(gerar(3000, 1500, BufferedImage.TYPE_INT_ARGB, "png")));
+
+        assertEquals(3, variantes.size());
+        for (VarianteImagem variante : VarianteImagem.values()) {
+            byte[] bytes = variantes.get(variante);
+            assertEquals("image/jpeg", ConteudoImagem.detectarMimeType(bytes));
+            BufferedImage lida = ImageIO.read(new ByteArrayInputStream(bytes));
+            assertEquals(variante.getLargura(), lida.getWidth(), variante.name());
+            assertEquals(variante.getLargura() / 2, lida.getHeight(), variante.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve ampliar imagens menores que a variante")
+    void naoDeveAmpliar() throws IOException {
+        Map<VarianteImagem, byte[]> variantes = GeradorVariantes.gerar(
+            new ByteArrayInputStream(gerar(300, 200, BufferedImage.TYPE_INT_RGB, "jpeg")));
+
+        assertEquals(160, ImageIO.read(new ByteArrayInputStream(variantes.get(VarianteImagem.MINIATURA))).getWidth());
+        assertEquals(300, ImageIO.read(new ByteArrayInputStream(variantes.get(VarianteImagem.MEDIA))).getWidth());
+        assertEquals(300, ImageIO.read(new ByteArrayInputStream(variantes.get(VarianteImagem.GRANDE))).getWidth());
+    }
+
+    @Test
+    @DisplayName("Deve recusar formatos que o ImageIO não lê")
+    void deveRecusarFormatoDesconhecido() {
+        assertThrows(IOException.class,
+            () -> GeradorVariantes.gerar(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 })));
+    }
+
+    @Test
+    @DisplayName("Deve derivar chaves distintas e estáveis para cada variante")
+    void deveDerivarChaves() {
+        String hash = "a".repeat(64);
+
+        assertEquals(VarianteImagem.MINIATURA.chave(hash), VarianteImagem.MINIATURA.chave(hash));
+        assertNotEquals(VarianteImagem.MINIATURA.chave(hash), VarianteImagem.MEDIA.chave(hash));
+        assertTrue(VarianteImagem.GRANDE.chave(hash).matches("[0-9a-f]{64}"));
+        assertNull(VarianteImagem.deParametro(null));
+        assertEquals(VarianteImagem.MEDIA, VarianteImagem.deParametro("media"));
+        assertThrows(IllegalArgumentException.class, () -> VarianteImagem.deParametro("gigante"));
+    }
+
+    private static byte[] gerar(int largura, int altura, int tipo, String formato) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(largura, altura, tipo), formato, saida);
+        return saida.toByteArray();
+    }
+}
@@ -0,0 +1,151 @@
+package inkspiration.backend.armazenamento;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import inkspiration.backend.armazenamento.ImagemInvalidaException.Motivo;
+
+@DisplayName("LeitorImagem")
+class LeitorImagemTest {
+
+    private static final Set<String> PNG_JPEG = Set.of("image/png", "image/jpeg");
+    private static final byte[] ASSINATURA_PNG = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A };
+
+    @Test
+    @DisplayName("Deve decodificar o data URI em um array do tamanho exato")
+    void deveDecodificarDataUri() {
+        for (int tamanho = 8; tamanho < 12; tamanho++) {
+            byte[] png = png(tamanho);
+            String dataUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(png);
+
+            ConteudoImagem conteudo = LeitorImagem.lerDataUri(dataUri, PNG_JPEG, 100);
+
+            assertArrayEquals(png, conteudo.getBytes());
+            assertEquals("image/png", conteudo.getMimeType());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar pelo tamanho antes de decodificar")
+    void deveRecusarDataUriGrande() {
+        String dataUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(png(101));
+
+        ImagemInvalidaException e = assertThrows(ImagemInvalidaException.class,
+            () -> LeitorImagem.lerDataUri(dataUri, PNG_JPEG, 100));
+        assertEquals(Motivo.TAMANHO, e.getMotivo());
+    }
+
+    @Test
+    @DisplayName("Deve recusar pela assinatura, mesmo com o tipo declarado permitido")
+    void deveRecusarAssinaturaNaoPermitida() {
+        String gif = "data:image/png;base64," + Base64.getEncoder().encodeToString("GIF89a-conteudo".getBytes());
+
+        assertEquals(Motivo.FORMATO, assertThrows(ImagemInvalidaException.class,
+            () -> LeitorImagem.lerDataUri(gif, PNG_JPEG, 100)).getMotivo());
+        assertEquals(Motivo.FORMATO, assertThrows(ImagemInvalidaException.class,
+            () -> LeitorImagem.validarDataUri(gif, PNG_JPEG, 100)).getMotivo());
+    }
+
+    @Test
+    @DisplayName("Deve recusar base64 malformado e cabeçalho inválido")
+    void deveRecusarDataUriMalformado() {
+        for (String invalido : new String[] {
+                "data:image/png;base64,iVBO@#$%", "data:image/png;base64,AAAAA",
+                "data:image/png,iVBORw0KGgo=", "image/png;base64,iVBORw0KGgo=" }) {
+            assertEquals(Motivo.FORMATO, assertThrows(ImagemInvalidaException.class,
+                () -> LeitorImagem.lerDataUri(invalido, null, 100)).getMotivo(), invalido);
+        }
+        assertEquals(Motivo.VAZIA, assertThrows(ImagemInvalidaException.class,
+            () -> LeitorImagem.lerDataUri("data:image/png;base64,", null, 100)).getMotivo());
+    }
+
+    @Test
+    @DisplayName("Deve validar sem guardar os bytes")
+    void deveValidarDataUri() {
+        String dataUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(png(50));
+
+        assertDoesNotThrow(() -> LeitorImagem.validarDataUri(dataUri, PNG_JPEG, 50));
+        assertEquals(Motivo.TAMANHO, assertThrows(ImagemInvalidaException.class,
+            () -> LeitorImagem.validarDataUri(dataUri, PNG_JPEG, 49)).getMotivo());
+    }
+
+    @Test
+    @DisplayName("Deve ler o fluxo sem cópia quando o tamanho informado é o real")
+    void deveLerFluxoComTamanhoInformado() throws IOException {
+        byte[] png = png(20_000);
+
+        ConteudoImagem conteudo = LeitorImagem.ler(new ByteArrayInputStream(png), png.length, null, PNG_JPEG, 20_000);
+
+        assertArrayEquals(png, conteudo.getBytes());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o limite durante a leitura quando o tamanho é desconhecido ou falso")
+    void deveAplicarLimiteDuranteLeitura() {
+        for (long informado : new long[] { -1, 10 }) {
+            FluxoContado entrada = new FluxoContado(png(1_000_000));
+
+            ImagemInvalidaException e = assertThrows(ImagemInvalidaException.class,
+                () -> LeitorImagem.ler(entrada, informado, null, PNG_JPEG, 50_000));
+
+            assertEquals(Motivo.TAMANHO, e.getMotivo());
+            assertTrue(entrada.lidos <= 50_001, "leu " + entrada.lidos + " bytes");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar o formato logo nos primeiros bytes")
+    void deveRecusarFormatoNoInicio() {
+        byte[] pdf = new byte[1_000_000];
+        System.arraycopy("%PDF-1.7".getBytes(), 0, pdf, 0, 8);
+        FluxoContado entrada = new FluxoContado(pdf);
+
+        assertEquals(Motivo.FORMATO, assertThrows(ImagemInvalidaException.class,
+            () -> LeitorImagem.ler(entrada, -1, null, PNG_JPEG, 10_000_000)).getMotivo());
+        assertTrue(entrada.lidos <= 8192, "leu " + entrada.lidos + " bytes");
+    }
+
+    private static byte[] png(int tamanho) {
+        byte[] bytes = new byte[tamanho];
+        Arrays.fill(bytes, (byte) 7);
+        System.arraycopy(ASSINATURA_PNG, 0, bytes, 0, Math.min(tamanho, ASSINATURA_PNG.length));
+        return bytes;
+    }
+
+    /**
+     * Entrega poucos bytes por leitura, como um upload pela rede, e conta quanto foi lido.
+     */
+    private static final class FluxoContado extends InputStream {
+        private final byte[] dados;
+        private int lidos;
+
+        FluxoContado(byte[] dados) {
+            this.dados = dados;
+        }
+
+        @Override
+        public int read() {
+            return lidos < dados.length ? dados[lidos++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] destino, int deslocamento, int quantidade) {
+            if (lidos >= dados.length) {
+                return -1;
+            }
+            int n = Math.min(Math.min(quantidade, 4096), dados.length - lidos);
+            System.arraycopy(dados, lidos, destino, deslocamento, n);
+            lidos += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package inkspiration.backend.armazenamento;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProcessadorVariantes")
+class ProcessadorVariantesTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    private final ArmazenamentoBlob armazenamento = mock(ArmazenamentoBlob.class);
+    private final ExecutorService threads = Executors.newFixedThreadPool(2);
+    private ProcessadorVariantes processador;
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+        if (processador != null) {
+            processador.encerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar a variante no pool e servir a original quando a espera acaba")
+    void deveServirOriginalQuandoEsperaAcaba() throws Exception {
+        processador = new ProcessadorVariantes(armazenamento, 1, 10, 100);
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicReference<String> threadGeracao = new AtomicReference<>();
+        when(armazenamento.existe(anyString())).thenReturn(false);
+        when(armazenamento.carregar(HASH)).thenAnswer(invocacao -> {
+            threadGeracao.set(Thread.currentThread().getName());
+            liberar.await();
+            throw new IOException("interrompido");
+        });
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+            () -> assertNull(processador.carregar(HASH, VarianteImagem.MEDIA)));
+        liberar.countDown();
+        assertTrue(threadGeracao.get().startsWith("variantes-imagem-"));
+    }
+
+    @Test
+    @DisplayName("Deve servir a original sem gerar na requisição quando a fila está cheia")
+    void deveServirOriginalQuandoFilaCheia() throws Exception {
+        processador = new ProcessadorVariantes(armazenamento, 1, 1, 10_000);
+        String outro = "b".repeat(64);
+        String terceiro = "c".repeat(64);
+        CountDownLatch gerando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(armazenamento.existe(anyString())).thenReturn(false);
+        when(armazenamento.carregar(HASH)).thenAnswer(invocacao -> {
+            gerando.countDown();
+            liberar.await();
+            throw new IOException("interrompido");
+        });
+
+        processador.agendar(HASH);
+        assertTrue(gerando.await(5, TimeUnit.SECONDS));
+        processador.agendar(outro);
+
+        assertNull(processador.carregar(terceiro, VarianteImagem.MINIATURA));
+        verify(armazenamento, never()).carregar(terceiro);
+        liberar.countDown();
+    }
+
+    @Test
+    @DisplayName("Deve liberar quem aguarda a mesma geração quando ela falha com Error")
+    void deveLiberarAguardandoQuandoGeracaoFalhaComError() throws Exception {
+        processador = new ProcessadorVariantes(armazenamento, 1, 10, 10_000);
+        CountDownLatch gerando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(armazenamento.existe(anyString())).thenReturn(false);
+        when(armazenamento.carregar(HASH)).thenAnswer(invocacao -> {
+            gerando.countDown();
+            liberar.await();
+            throw new OutOfMemoryError("simulado");
+        });
+
+        Future<Boolean> primeira = threads.submit(() -> processador.garantir(HASH));
+        assertTrue(gerando.await(5, TimeUnit.SECONDS));
+        Future<Boolean> segunda = threads.submit(() -> processador.garantir(HASH));
+        // Garante que a segunda chamada encontrou a geração em andamento
+        Thread.sleep(100);
+        liberar.countDown();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            Throwable primeiraFalha = assertThrows(Exception.class, primeira::get).getCause();
+            assertInstanceOf(OutOfMemoryError.class, primeiraFalha);
+            Throwable segundaFalha = assertThrows(Exception.class, segunda::get).getCause();
+            assertInstanceOf(CompletionException.class, segundaFalha);
+            assertInstanceOf(OutOfMemoryError.class, segundaFalha.getCause());
+        });
+    }
+}
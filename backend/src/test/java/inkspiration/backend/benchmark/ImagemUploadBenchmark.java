@@ -0,0 +1,101 @@
+package inkspiration.backend.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import inkspiration.backend.armazenamento.ConteudoImagem;
+import inkspiration.backend.armazenamento.LeitorImagem;
+
+/**
+ * Memória alocada por upload de imagem do portfólio: a validação antiga sobre a String em
+ * base64 (substring, split e regex sobre o conteúdo inteiro, depois a decodificação) contra a
+ * leitura em fluxo do data URI e do upload multipart. O número a comparar é o
+ * {@code gc.alloc.rate.norm} (bytes por operação) do profiler de GC.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ImagemUploadBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class ImagemUploadBenchmark {
+
+    private static final Set<String> TIPOS = Set.of("image/jpeg", "image/png");
+    private static final long LIMITE = 10L * 1024 * 1024;
+
+    @Param({ "1048576", "7340032" })
+    private int tamanho;
+
+    private byte[] bytes;
+    private String dataUri;
+
+    @Setup
+    public void setUp() {
+        bytes = new byte[tamanho];
+        new Random(42).nextBytes(bytes);
+        byte[] assinatura = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A };
+        System.arraycopy(assinatura, 0, bytes, 0, assinatura.length);
+        dataUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(bytes);
+    }
+
+    @Benchmark
+    public byte[] validacaoAntiga() {
+        validarTamanhoAntigo(dataUri);
+        validarFormatoAntigo(dataUri);
+        if (!dataUri.matches("^data:image\\/(jpeg|jpg|png|gif|bmp|webp);base64,[A-Za-z0-9+/=]+$")) {
+            throw new IllegalArgumentException("Formato de imagem base64 inválido");
+        }
+        return Base64.getDecoder().decode(dataUri.split(",")[1]);
+    }
+
+    @Benchmark
+    public ConteudoImagem dataUriEmFluxo() {
+        return LeitorImagem.lerDataUri(dataUri, TIPOS, LIMITE);
+    }
+
+    @Benchmark
+    public ConteudoImagem multipart() throws IOException {
+        return LeitorImagem.ler(new ByteArrayInputStream(bytes), bytes.length, null, TIPOS, LIMITE);
+    }
+
+    // Cópias fiéis da validação que existia em ImagemService antes da leitura em fluxo
+
+    private static void validarTamanhoAntigo(String imagemBase64) {
+        String base64Data = imagemBase64;
+        if (base64Data.contains(",")) {
+            base64Data = base64Data.substring(base64Data.indexOf(",") + 1);
+        }
+        long sizeInBytes = (base64Data.length() * 3) / 4;
+        if (sizeInBytes > LIMITE) {
+            throw new IllegalArgumentException("Imagem do portfólio muito grande");
+        }
+    }
+
+    private static void validarFormatoAntigo(String imagemBase64) {
+        if (!imagemBase64.startsWith("data:image/")) {
+            throw new IllegalArgumentException("Formato de imagem inválido");
+        }
+        String mimeType = imagemBase64.substring(5, imagemBase64.indexOf(";"));
+        if (!mimeType.equals("image/jpeg") && !mimeType.equals("image/png")) {
+            throw new IllegalArgumentException("Formato de imagem inválido");
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package inkspiration.backend.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import inkspiration.backend.email.ModelosEmail;
+
+/**
+ * Custo de montar o HTML de um email de verificação: o {@code String.format} sobre o texto
+ * inteiro que o EmailService usava, o Thymeleaf processando o template a cada envio (com o
+ * template já em cache) e o {@link ModelosEmail}, que só intercala o nome e o código nos
+ * trechos pré-renderizados.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ModelosEmailBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelosEmailBenchmark {
+
+    private static final String NOME = "Maria Silva";
+    private static final String CODIGO = "123456";
+
+    private SpringTemplateEngine engine;
+    private ModelosEmail modelos;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        modelos = new ModelosEmail();
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return createEmailVerificationTemplate(NOME, CODIGO);
+    }
+
+    @Benchmark
+    public String thymeleafPorEnvio() {
+        Context contexto = new Context(Locale.forLanguageTag("pt-BR"));
+        contexto.setVariable("nome", NOME);
+        contexto.setVariable("codigo", CODIGO);
+        return engine.process("email/verificacao-email", contexto);
+    }
+
+    @Benchmark
+    public String modeloCompilado() {
+        return modelos.verificacaoEmail(NOME, CODIGO);
+    }
+
+    // Cópia fiel do que existia em EmailService antes dos templates (sem o truncamento do nome)
+
+    private String createEmailVerificationTemplate(String userName, String code) {
+        return String.format("""
+            <!DOCTYPE html>
+            <html lang=\"pt-BR\">
+            <head>
+                <meta charset=\"UTF-8\">
+                <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">
+                <title>Verificação de Email - Inkspiration</title>
+            </head>
+            <body style=\"margin: 0; padding: 0; font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif; background-color: #fff;\">
+                <div style=\"max-width: 600px; margin: 0 auto; background-color: #fff; border: 1px solid #eee;\">
+                    <!-- Header -->
+                    <div style=\"background: #111; padding: 32px 30px; text-align: center; border-radius: 8px 8px 0 0;\">
+                        <h1 style=\"color: #fff; margin: 0; font-size: 28px; font-weight: 700; letter-spacing: 1px;\">
+                             Inkspiration
+                        </h1>
+                    </div>
+                    
+                    <!-- Content -->
+                    <div style=\"padding: 40px 30px;\">
+                        <h2 style=\"color: #111; margin: 0 0 20px 0; font-size: 22px; font-weight: 600; word-break: break-word; overflow-wrap: break-word;\">
+                            Bem-vindo, %s!
+                        </h2>
+                        
+                        <p style=\"color: #222; font-size: 16px; line-height: 1.6; margin: 0 0 30px 0;\">
+                            Obrigado por se cadastrar no Inkspiration! Para finalizar seu cadastro, insira o código de verificação abaixo no aplicativo.
+                        </p>
+                        
+                        <!-- Code Box -->
+                        <div style=\"background-color: #fafafa; border: 2px solid #111; border-radius: 10px; padding: 28px; text-align: center; margin: 30px 0;\">
+                            <p style=\"color: #111; font-size: 13px; margin: 0 0 15px 0; text-transform: uppercase; letter-spacing: 1px; font-weight: 600;\">
+                                SEU CÓDIGO DE VERIFICAÇÃO
+                            </p>
+                            <div style=\"background-color: #111; color: #fff; font-size: 32px; font-weight: bold; padding: 18px; border-radius: 8px; letter-spacing: 8px; font-family: 'Courier New', monospace; display: inline-block; min-width: 180px;\">
+                                %s
+                            </div>
+                            <p style=\"color: #888; font-size: 12px; margin: 15px 0 0 0;\">
+                                ⏰ Este código expira em <strong>15 minutos</strong>
+                            </p>
+                        </div>
+                        
+                        <div style=\"background-color: #f6f6f6; border-left: 4px solid #111; padding: 15px; margin: 30px 0; border-radius: 4px;\">
+                            <p style=\"color: #222; font-size: 14px; margin: 0; line-height: 1.5;\">
+                                <strong>⚠️ Importante:</strong> Se você não criou uma conta no Inkspiration, ignore este email.
+                            </p>
+                        </div>
+                    </div>
+                    
+                    <!-- Footer -->
+                    <div style=\"background-color: #fafafa; padding: 24px; text-align: center; border-top: 1px solid #eee; border-radius: 0 0 8px 8px;\">
+                        <p style=\"color: #888; font-size: 14px; margin: 0 0 10px 0;\">
+                            Atenciosamente,<br>
+                            <strong>Equipe Inkspiration</strong>
+                        </p>
+                        <p style=\"color: #bbb; font-size: 12px; margin: 0;\">
+                            Este é um email automático, não responda a esta mensagem.
+                        </p>
+                    </div>
+                </div>
+            </body>
+            </html>
+            """, userName, code);
+    }
+}
@@ -0,0 +1,134 @@
+package inkspiration.backend.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Portfolio;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.search.ProfissionalSearchIndex;
+
+/**
+ * Compara a busca combinada (nome + localização + especialidade + nota mínima) no índice
+ * invertido com o filtro por streams usado anteriormente em listarComFiltros.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ProfissionalBuscaBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProfissionalBuscaBenchmark {
+
+    private static final String[] NOMES = { "João", "Maria", "Ana", "Pedro", "Lucas", "Beatriz", "Carlos", "Joana" };
+    private static final String[] SOBRENOMES = { "Silva", "Souza", "Oliveira", "Lima", "Araújo", "Costa", "Pereira" };
+    private static final String[][] CIDADES = {
+        {"São Paulo", "SP"}, {"Rio de Janeiro", "RJ"}, {"Belo Horizonte", "MG"}, {"Curitiba", "PR"},
+        {"Porto Alegre", "RS"}, {"Salvador", "BA"}, {"Florianópolis", "SC"}, {"Santos", "SP"}
+    };
+    private static final String[] ESPECIALIDADES = {
+        "Realismo", "Old School", "Fineline", "Aquarela", "Blackwork", "Tribal", "Pontilhismo", "Lettering"
+    };
+
+    @Param({ "10000" })
+    private int quantidade;
+
+    private List<Profissional> profissionais;
+    private ProfissionalSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        profissionais = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            Usuario usuario = new Usuario();
+            usuario.setIdUsuario((long) i);
+            usuario.setNome(NOMES[random.nextInt(NOMES.length)] + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)]);
+            usuario.setRole(UserRole.ROLE_PROF.getRole());
+
+            String[] cidade = CIDADES[random.nextInt(CIDADES.length)];
+            Endereco endereco = new Endereco();
+            endereco.setCidade(cidade[0]);
+            endereco.setEstado(cidade[1]);
+
+            Portfolio portfolio = new Portfolio();
+            portfolio.setEspecialidade(ESPECIALIDADES[random.nextInt(ESPECIALIDADES.length)] + ", "
+                + ESPECIALIDADES[random.nextInt(ESPECIALIDADES.length)]);
+
+            Profissional profissional = new Profissional();
+            profissional.setIdProfissional((long) i);
+            profissional.setUsuario(usuario);
+            profissional.setEndereco(endereco);
+            profissional.setPortfolio(portfolio);
+            profissional.setNota(BigDecimal.valueOf(random.nextInt(51), 1));
+            profissionais.add(profissional);
+        }
+        index = new ProfissionalSearchIndex();
+        index.reconstruir(profissionais);
+    }
+
+    @Benchmark
+    public List<Long> indiceInvertido() {
+        return index.buscar("jo", "sao paulo", 3.5, new String[] {"realismo", "fineline"}, "melhorAvaliacao", 0, 9).getIds();
+    }
+
+    @Benchmark
+    public List<Long> indiceInvertidoSemFiltros() {
+        return index.buscar(null, null, 0, null, "melhorAvaliacao", 0, 9).getIds();
+    }
+
+    @Benchmark
+    public List<Long> filtroStream() {
+        return filtrarComStream("jo", "são paulo", 3.5, new String[] {"realismo", "fineline"});
+    }
+
+    @Benchmark
+    public List<Long> filtroStreamSemFiltros() {
+        return filtrarComStream(null, null, 0, null);
+    }
+
+    private List<Long> filtrarComStream(String searchTerm, String locationTerm, double minRating, String[] specialties) {
+        List<Profissional> filtrados = profissionais.stream()
+            .filter(p -> searchTerm == null || p.getUsuario().getNome().toLowerCase().contains(searchTerm.toLowerCase()))
+            .filter(p -> locationTerm == null || (p.getEndereco().getCidade() + ", " + p.getEndereco().getEstado())
+                .toLowerCase().contains(locationTerm.toLowerCase()))
+            .filter(p -> minRating <= 0 || p.getNota().doubleValue() >= minRating)
+            .filter(p -> {
+                if (specialties == null) {
+                    return true;
+                }
+                String especialidades = p.getPortfolio().getEspecialidade().toLowerCase();
+                for (String specialty : specialties) {
+                    if (especialidades.contains(specialty.toLowerCase())) {
+                        return true;
+                    }
+                }
+                return false;
+            })
+            .collect(Collectors.toList());
+        filtrados.sort((a, b) -> Double.compare(b.getNota().doubleValue(), a.getNota().doubleValue()));
+        return filtrados.subList(0, Math.min(9, filtrados.size())).stream()
+            .map(Profissional::getIdProfissional)
+            .collect(Collectors.toList());
+    }
+}
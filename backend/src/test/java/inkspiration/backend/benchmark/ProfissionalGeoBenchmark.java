@@ -0,0 +1,113 @@
+package inkspiration.backend.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Portfolio;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.search.ProfissionalGeoIndex;
+
+/**
+ * Compara a busca "perto de mim" no índice espacial em grade com o cálculo de haversine
+ * sobre todos os profissionais. Os endereços ficam concentrados em capitais brasileiras,
+ * como na base real.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ProfissionalGeoBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProfissionalGeoBenchmark {
+
+    private static final double[][] CAPITAIS = {
+        {-23.5505, -46.6333}, {-22.9068, -43.1729}, {-19.9167, -43.9345}, {-25.4284, -49.2733},
+        {-30.0346, -51.2177}, {-12.9714, -38.5014}, {-27.5954, -48.5480}, {-3.7319, -38.5267}
+    };
+    private static final String[] ESPECIALIDADES = { "Realismo", "Old School", "Fineline", "Aquarela", "Blackwork" };
+
+    @Param({ "10000", "100000" })
+    private int quantidade;
+
+    private List<Profissional> profissionais;
+    private ProfissionalGeoIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        profissionais = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            Usuario usuario = new Usuario();
+            usuario.setIdUsuario((long) i);
+            usuario.setNome("Profissional " + i);
+            usuario.setRole(UserRole.ROLE_PROF.getRole());
+
+            // Espalhados em até ~40 km ao redor de uma capital
+            double[] capital = CAPITAIS[random.nextInt(CAPITAIS.length)];
+            Endereco endereco = new Endereco();
+            endereco.setLatitude(capital[0] + random.nextGaussian() * 0.15);
+            endereco.setLongitude(capital[1] + random.nextGaussian() * 0.15);
+
+            Portfolio portfolio = new Portfolio();
+            portfolio.setEspecialidade(ESPECIALIDADES[random.nextInt(ESPECIALIDADES.length)]);
+
+            Profissional profissional = new Profissional();
+            profissional.setIdProfissional((long) i);
+            profissional.setUsuario(usuario);
+            profissional.setEndereco(endereco);
+            profissional.setPortfolio(portfolio);
+            profissional.setNota(BigDecimal.valueOf(random.nextInt(51), 1));
+            profissionais.add(profissional);
+        }
+        index = new ProfissionalGeoIndex();
+        index.reconstruir(profissionais);
+    }
+
+    @Benchmark
+    public List<Long> indiceGrade5Km() {
+        return index.buscarProximos(-23.5614, -46.6559, 5, 0, null, 0, 9).getIds();
+    }
+
+    @Benchmark
+    public List<Long> indiceGrade25KmComFiltros() {
+        return index.buscarProximos(-23.5614, -46.6559, 25, 3.5, new String[] {"realismo", "fineline"}, 0, 9).getIds();
+    }
+
+    @Benchmark
+    public List<Long> varreduraHaversine5Km() {
+        return varrer(-23.5614, -46.6559, 5);
+    }
+
+    private List<Long> varrer(double latitude, double longitude, double raioKm) {
+        return profissionais.stream()
+            .map(p -> new Object[] { p, ProfissionalGeoIndex.distanciaKm(latitude, longitude,
+                p.getEndereco().getLatitude(), p.getEndereco().getLongitude()) })
+            .filter(par -> (double) par[1] <= raioKm)
+            .sorted(Comparator.comparingDouble(par -> (double) par[1]))
+            .limit(9)
+            .map(par -> ((Profissional) par[0]).getIdProfissional())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,104 @@
+package inkspiration.backend.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatVirtualThreadsWebServerFactoryCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Vazão do Tomcat embarcado com 2.000 requisições lentas simultâneas (o tempo de uma chamada
+ * SMTP ou ao ViaCEP), no pool padrão de 200 threads de plataforma e com a mesma customização que
+ * o Spring Boot aplica com {@code spring.threads.virtual.enabled=true}. Cada operação dispara a
+ * rajada inteira e espera todas as respostas: a vazão é {@code requisicoes / tempo}.
+ *
+ * O modo virtual exige Java 21:
+ * JAVA_HOME=<jdk 21> mvn -Pbenchmark,java21 test-compile exec:exec -Dbenchmark=RequisicoesLentasBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class RequisicoesLentasBenchmark {
+
+    @Param({ "plataforma", "virtual" })
+    private String modo;
+
+    @Param({ "2000" })
+    private int requisicoes;
+
+    @Param({ "200" })
+    private int atrasoMs;
+
+    private WebServer servidor;
+    private HttpClient cliente;
+    private HttpRequest requisicao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(modo) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("O modo virtual exige Java 21; rode com JAVA_HOME apontando para um JDK 21");
+        }
+        TomcatServletWebServerFactory fabrica = new TomcatServletWebServerFactory(0);
+        if ("virtual".equals(modo)) {
+            new TomcatVirtualThreadsWebServerFactoryCustomizer().customize(fabrica);
+        }
+        int atraso = atrasoMs;
+        fabrica.addInitializers(contexto -> contexto.addServlet("lento", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                try {
+                    Thread.sleep(atraso);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                resp.getWriter().write("ok");
+            }
+        }).addMapping("/lento"));
+        servidor = fabrica.getWebServer();
+        servidor.start();
+
+        cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + servidor.getPort() + "/lento")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        servidor.stop();
+    }
+
+    @Benchmark
+    public int rajada() {
+        CompletableFuture<?>[] respostas = new CompletableFuture<?>[requisicoes];
+        for (int i = 0; i < requisicoes; i++) {
+            respostas[i] = cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(respostas).join();
+        return respostas.length;
+    }
+}
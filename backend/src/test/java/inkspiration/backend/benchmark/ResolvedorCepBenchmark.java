@@ -0,0 +1,97 @@
+package inkspiration.backend.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+import inkspiration.backend.cep.ClienteViaCep;
+import inkspiration.backend.cep.ResolvedorCep;
+import inkspiration.backend.entities.CepConhecido;
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.repository.CepConhecidoRepository;
+import inkspiration.backend.service.EnderecoService;
+
+/**
+ * Custo de {@link EnderecoService#validarEndereco}: com o CEP em cache contra a consulta HTTP
+ * que toda validação fazia, aqui a um ViaCEP local. O ViaCEP real ainda soma a latência de rede,
+ * então a diferença em produção é maior.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ResolvedorCepBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolvedorCepBenchmark {
+
+    private static final String RESPOSTA = "{\"cep\":\"88137-074\",\"logradouro\":\"Rua Francisco Mariano\","
+        + "\"bairro\":\"Pedra Branca\",\"localidade\":\"Palhoça\",\"uf\":\"SC\"}";
+
+    private HttpServer viaCep;
+    private ClienteViaCep cliente;
+    private EnderecoService enderecoService;
+    private Endereco endereco;
+
+    @Setup
+    public void setUp() throws IOException {
+        viaCep = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 50);
+        viaCep.createContext("/ws/", troca -> {
+            byte[] corpo = RESPOSTA.getBytes(StandardCharsets.UTF_8);
+            troca.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            troca.sendResponseHeaders(200, corpo.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        });
+        viaCep.start();
+
+        cliente = new ClienteViaCep(new RestTemplate(), "http://localhost:" + viaCep.getAddress().getPort() + "/ws/", 5, 30_000);
+        enderecoService = new EnderecoService(
+            new ResolvedorCep(cliente, Mockito.mock(CepConhecidoRepository.class), 10_000, 1440, 90));
+
+        endereco = new Endereco();
+        endereco.setCep("88137074");
+        endereco.setRua("Rua Francisco Mariano");
+        endereco.setBairro("Pedra Branca");
+        endereco.setCidade("Palhoça");
+        endereco.setEstado("SC");
+        enderecoService.validarEndereco(endereco);
+    }
+
+    @TearDown
+    public void tearDown() {
+        viaCep.stop(0);
+    }
+
+    @Benchmark
+    public CepConhecido consultaViaCep() {
+        return cliente.consultar("88137074");
+    }
+
+    @Benchmark
+    public Endereco validacaoComCache() {
+        enderecoService.validarEndereco(endereco);
+        return endereco;
+    }
+}
@@ -0,0 +1,114 @@
+package inkspiration.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import inkspiration.backend.security.RotasSeguranca;
+
+/**
+ * Custo do {@link inkspiration.backend.security.TokenOwnershipFilter} por requisição: as
+ * expressões regulares que ele usava contra a árvore de rotas compilada, sobre uma mistura de
+ * URIs parecida com o tráfego real (páginas públicas, rotas do usuário e demais rotas
+ * autenticadas). Cada operação processa a mistura inteira.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=RotasSegurancaBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RotasSegurancaBenchmark {
+
+    private static final String[][] REQUISICOES = {
+        { "GET", "/profissional/completo" },
+        { "GET", "/profissional/completo/42/com-avaliacoes" },
+        { "GET", "/profissional/42/imagens" },
+        { "GET", "/portfolio/42/imagens" },
+        { "GET", "/imagens/conteudo/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08" },
+        { "GET", "/disponibilidades/profissional/42/verificar" },
+        { "GET", "/usuario/1234" },
+        { "GET", "/usuario/1234/validate-token" },
+        { "PUT", "/usuario/atualizar/1234" },
+        { "GET", "/usuario/detalhes/1234" },
+        { "GET", "/profissional/usuario/1234" },
+        { "GET", "/profissional/verificar/1234" },
+        { "GET", "/agendamentos/profissional" },
+        { "POST", "/agendamentos" },
+        { "GET", "/avaliacoes/agendamento/77" },
+        { "POST", "/auth/login" }
+    };
+
+    @Benchmark
+    public void expressoesRegulares(Blackhole bh) {
+        for (String[] requisicao : REQUISICOES) {
+            if ("GET".equals(requisicao[0]) && isPublicEndpoint(requisicao[1])) {
+                bh.consume(true);
+                continue;
+            }
+            bh.consume(extractUserIdFromUrl(requisicao[1]));
+        }
+    }
+
+    @Benchmark
+    public void arvoreCompilada(Blackhole bh) {
+        for (String[] requisicao : REQUISICOES) {
+            if (RotasSeguranca.isPublica(requisicao[0], requisicao[1])) {
+                bh.consume(true);
+                continue;
+            }
+            bh.consume(RotasSeguranca.idUsuario(requisicao[1]));
+        }
+    }
+
+    // Cópias fiéis do que existia em TokenOwnershipFilter antes da árvore de rotas
+
+    private static final Pattern[] USER_ID_PATTERNS = {
+        Pattern.compile("/usuario/(\\d+)(?:/.*)?"),
+        Pattern.compile("/usuario/detalhes/(\\d+)"),
+        Pattern.compile("/usuario/atualizar/(\\d+)"),
+        Pattern.compile("/usuario/(\\d+)/foto-perfil"),
+        Pattern.compile("/usuario/(\\d+)/validate-token"),
+        Pattern.compile("/profissional/usuario/(\\d+)(?:/.*)?"),
+        Pattern.compile("/profissional/verificar/(\\d+)")
+    };
+
+    private static Long extractUserIdFromUrl(String requestURI) {
+        for (Pattern pattern : USER_ID_PATTERNS) {
+            Matcher matcher = pattern.matcher(requestURI);
+            if (matcher.matches()) {
+                try {
+                    return Long.parseLong(matcher.group(1));
+                } catch (NumberFormatException e) {
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPublicEndpoint(String requestURI) {
+        return requestURI.startsWith("/auth/") ||
+               requestURI.equals("/profissional/publico") ||
+               requestURI.matches("/profissional/\\d+") ||
+               requestURI.matches("/profissional/\\d+/imagens") ||
+               requestURI.matches("/portfolio/\\d+") ||
+               requestURI.matches("/portfolio/\\d+/imagens") ||
+               requestURI.matches("/imagens/\\d+/raw") ||
+               requestURI.matches("/imagens/conteudo/[0-9a-f]{64}") ||
+               requestURI.matches("/disponibilidades/profissional/\\d+") ||
+               requestURI.matches("/disponibilidades/profissional/\\d+/verificar");
+    }
+}
@@ -0,0 +1,114 @@
+package inkspiration.backend.cadastro;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import inkspiration.backend.entities.CadastroPendente;
+import inkspiration.backend.repository.CadastroPendenteRepository;
+
+/**
+ * Duas instâncias de {@link CadastrosPendentesBanco} sobre a mesma tabela fazem o papel de dois
+ * nós do backend.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CadastrosPendentesBanco")
+class CadastrosPendentesBancoTest {
+
+    @Autowired
+    private CadastroPendenteRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve enxergar em uma instância o cadastro gravado por outra")
+    void deveCompartilharEntreInstancias() {
+        CadastrosPendentesBanco instanciaA = new CadastrosPendentesBanco(repository, 100);
+        CadastrosPendentesBanco instanciaB = new CadastrosPendentesBanco(repository, 100);
+
+        instanciaA.salvar(cadastro("ana@email.com", "123456", LocalDateTime.now().plusMinutes(15)));
+
+        CadastroPendente lido = instanciaB.buscar("ana@email.com").orElseThrow();
+        assertEquals("123456", lido.getCodigo());
+
+        // Reenvio pela instância B substitui o código visto pela A
+        lido.setCodigo("654321");
+        instanciaB.salvar(lido);
+        assertEquals("654321", instanciaA.buscar("ana@email.com").orElseThrow().getCodigo());
+        assertEquals(1, repository.count());
+
+        instanciaA.remover("ana@email.com");
+        assertTrue(instanciaB.buscar("ana@email.com").isEmpty());
+        assertDoesNotThrow(() -> instanciaB.remover("ana@email.com"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar primeiro os expirados e depois os que expiram antes")
+    void deveRespeitarCapacidade() {
+        CadastrosPendentesBanco cadastros = new CadastrosPendentesBanco(repository, 3);
+        LocalDateTime agora = LocalDateTime.now();
+        cadastros.salvar(cadastro("expirado@email.com", "111111", agora.minusMinutes(1)));
+        cadastros.salvar(cadastro("ana@email.com", "222222", agora.plusMinutes(5)));
+        cadastros.salvar(cadastro("bia@email.com", "333333", agora.plusMinutes(10)));
+
+        cadastros.salvar(cadastro("carla@email.com", "444444", agora.plusMinutes(15)));
+        assertEquals(3, repository.count());
+        assertTrue(cadastros.buscar("expirado@email.com").isEmpty());
+
+        cadastros.salvar(cadastro("diana@email.com", "555555", agora.plusMinutes(15)));
+        assertEquals(3, repository.count());
+        assertTrue(cadastros.buscar("ana@email.com").isEmpty());
+        assertTrue(cadastros.buscar("bia@email.com").isPresent());
+        assertTrue(cadastros.buscar("diana@email.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve contar a tabela só a cada 1% da capacidade em gravações")
+    void deveContarTabelaPeriodicamente() {
+        CadastroPendenteRepository repositorio = mock(CadastroPendenteRepository.class);
+        when(repositorio.count()).thenReturn(0L);
+        CadastrosPendentesBanco cadastros = new CadastrosPendentesBanco(repositorio, 1000);
+        LocalDateTime expiraEm = LocalDateTime.now().plusMinutes(15);
+
+        for (int i = 0; i < 25; i++) {
+            cadastros.salvar(cadastro("usuario" + i + "@email.com", "123456", expiraEm));
+        }
+
+        verify(repositorio, times(25)).save(any(CadastroPendente.class));
+        verify(repositorio, times(2)).count();
+        verify(repositorio, never()).removerExpirados(any());
+    }
+
+    @Test
+    @DisplayName("Deve remover os cadastros expirados")
+    void deveRemoverExpirados() {
+        CadastrosPendentesBanco cadastros = new CadastrosPendentesBanco(repository, 100);
+        LocalDateTime agora = LocalDateTime.now();
+        cadastros.salvar(cadastro("ana@email.com", "111111", agora.minusMinutes(2)));
+        cadastros.salvar(cadastro("bia@email.com", "222222", agora.minusMinutes(1)));
+        cadastros.salvar(cadastro("carla@email.com", "333333", agora.plusMinutes(15)));
+
+        assertEquals(2, cadastros.removerExpirados(agora));
+        assertEquals(1, repository.count());
+        assertTrue(cadastros.buscar("carla@email.com").isPresent());
+    }
+
+    private static CadastroPendente cadastro(String email, String codigo, LocalDateTime expiraEm) {
+        return new CadastroPendente(email, "{\"email\":\"" + email + "\"}", "$2a$10$hash", codigo, expiraEm);
+    }
+}
@@ -0,0 +1,100 @@
+package inkspiration.backend.cadastro;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import inkspiration.backend.entities.CadastroPendente;
+
+@DisplayName("CadastrosPendentesMemoria")
+class CadastrosPendentesMemoriaTest {
+
+    @Test
+    @DisplayName("Deve descartar o cadastro mais antigo ao passar da capacidade")
+    void deveDescartarMaisAntigoAoPassarDaCapacidade() {
+        CadastrosPendentesMemoria cadastros = new CadastrosPendentesMemoria(3, 1_000_000);
+        LocalDateTime expiraEm = LocalDateTime.now().plusMinutes(15);
+
+        for (int i = 1; i <= 1000; i++) {
+            cadastros.salvar(cadastro("cliente" + i + "@email.com", expiraEm));
+        }
+
+        assertEquals(3, cadastros.tamanho());
+        assertTrue(cadastros.buscar("cliente1@email.com").isEmpty());
+        assertTrue(cadastros.buscar("cliente998@email.com").isPresent());
+        assertTrue(cadastros.buscar("cliente1000@email.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve mover para o fim o cadastro gravado de novo")
+    void deveMoverParaOFimAoGravarDeNovo() {
+        CadastrosPendentesMemoria cadastros = new CadastrosPendentesMemoria(2, 1_000_000);
+        LocalDateTime expiraEm = LocalDateTime.now().plusMinutes(15);
+        CadastroPendente ana = cadastro("ana@email.com", expiraEm);
+        cadastros.salvar(ana);
+        cadastros.salvar(cadastro("bia@email.com", expiraEm));
+
+        // Reenvio do código para a Ana: ela passa a ser a última a expirar
+        ana.setCodigo("654321");
+        ana.setExpiraEm(expiraEm.plusMinutes(1));
+        cadastros.salvar(ana);
+        cadastros.salvar(cadastro("carla@email.com", expiraEm.plusMinutes(2)));
+
+        assertTrue(cadastros.buscar("bia@email.com").isEmpty());
+        assertEquals("654321", cadastros.buscar("ana@email.com").orElseThrow().getCodigo());
+        assertTrue(cadastros.buscar("carla@email.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve remover só os cadastros expirados")
+    void deveRemoverExpirados() {
+        CadastrosPendentesMemoria cadastros = new CadastrosPendentesMemoria(10, 1_000_000);
+        LocalDateTime agora = LocalDateTime.now();
+        cadastros.salvar(cadastro("ana@email.com", agora.plusMinutes(1)));
+        cadastros.salvar(cadastro("bia@email.com", agora.plusMinutes(2)));
+        cadastros.salvar(cadastro("carla@email.com", agora.plusMinutes(3)));
+
+        assertEquals(2, cadastros.removerExpirados(agora.plusMinutes(2).plusSeconds(1)));
+
+        assertEquals(1, cadastros.tamanho());
+        assertTrue(cadastros.buscar("carla@email.com").isPresent());
+        assertEquals(0, cadastros.removerExpirados(agora.plusMinutes(2).plusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("Deve recusar capacidade não positiva")
+    void deveRecusarCapacidadeInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> new CadastrosPendentesMemoria(0, 1_000_000));
+        assertThrows(IllegalArgumentException.class, () -> new CadastrosPendentesMemoria(10, 0));
+    }
+
+    @Test
+    @DisplayName("Deve descartar os mais antigos ao passar do limite de bytes")
+    void deveDescartarAoPassarDoLimiteDeBytes() {
+        CadastrosPendentesMemoria cadastros = new CadastrosPendentesMemoria(10_000, 3_000_000);
+        LocalDateTime expiraEm = LocalDateTime.now().plusMinutes(15);
+        String foto = "A".repeat(500_000);
+
+        for (int i = 1; i <= 100; i++) {
+            cadastros.salvar(new CadastroPendente("cliente" + i + "@email.com",
+                "{\"imagemPerfil\":\"" + foto + "\"}", "$2a$10$hash", "123456", expiraEm));
+        }
+
+        // Cada cadastro ocupa ~1 MB na estimativa: cabem só os dois mais recentes
+        assertEquals(2, cadastros.tamanho());
+        assertTrue(cadastros.bytes() <= 3_000_000);
+        assertTrue(cadastros.buscar("cliente100@email.com").isPresent());
+        assertTrue(cadastros.buscar("cliente98@email.com").isEmpty());
+
+        cadastros.remover("cliente100@email.com");
+        cadastros.remover("cliente99@email.com");
+        assertEquals(0, cadastros.bytes());
+    }
+
+    private static CadastroPendente cadastro(String email, LocalDateTime expiraEm) {
+        return new CadastroPendente(email, "{\"email\":\"" + email + "\"}", "$2a$10$hash", "123456", expiraEm);
+    }
+}
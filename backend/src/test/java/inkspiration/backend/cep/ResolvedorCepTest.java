@@ -0,0 +1,229 @@
+package inkspiration.backend.cep;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+import inkspiration.backend.entities.CepConhecido;
+import inkspiration.backend.exception.endereco.CepInvalidoException;
+import inkspiration.backend.exception.endereco.ViaCepIndisponivelException;
+import inkspiration.backend.repository.CepConhecidoRepository;
+
+/**
+ * Resolução de CEPs sobre o banco H2 e um ViaCEP local: cache em memória, tabela de CEPs
+ * conhecidos, consultas simultâneas compartilhadas e disjuntor.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ResolvedorCep")
+class ResolvedorCepTest {
+
+    private static final int FALHAS_PARA_ABRIR = 3;
+    private static final long ESPERA_MS = 300;
+
+    @Autowired
+    private CepConhecidoRepository cepConhecidoRepository;
+
+    private ServidorViaCepLocal viaCep;
+    private ClienteViaCep cliente;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cepConhecidoRepository.deleteAll();
+        viaCep = new ServidorViaCepLocal();
+        viaCep.cadastrar("88137074", "Rua Francisco Mariano", "Pedra Branca", "Palhoça", "SC");
+        viaCep.cadastrar("01310100", "Avenida Paulista", "Bela Vista", "São Paulo", "SP");
+        viaCep.cadastrar("20040002", "Rua da Assembleia", "Centro", "Rio de Janeiro", "RJ");
+        cliente = new ClienteViaCep(new RestTemplate(), viaCep.getUrl(), FALHAS_PARA_ABRIR, ESPERA_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        viaCep.close();
+        cepConhecidoRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve consultar o ViaCEP uma vez e responder as seguintes do cache")
+    void deveResponderDoCache() {
+        ResolvedorCep resolvedor = resolvedor(100);
+
+        CepConhecido primeiro = resolvedor.resolver("88137074");
+        CepConhecido segundo = resolvedor.resolver("88137074");
+
+        assertEquals("Palhoça", primeiro.getLocalidade());
+        assertEquals("SC", primeiro.getUf());
+        assertEquals("Pedra Branca", primeiro.getBairro());
+        assertEquals("Rua Francisco Mariano", primeiro.getLogradouro());
+        assertSame(primeiro, segundo);
+        assertEquals(1, viaCep.getConsultas());
+        assertTrue(cepConhecidoRepository.existsById("88137074"));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a tabela depois de um reinício, sem consultar o ViaCEP")
+    void deveReaproveitarTabelaAposReinicio() {
+        resolvedor(100).resolver("01310100");
+        viaCep.setForaDoAr(true);
+
+        CepConhecido depoisDoReinicio = resolvedor(100).resolver("01310100");
+
+        assertEquals("São Paulo", depoisDoReinicio.getLocalidade());
+        assertEquals(1, viaCep.getConsultas());
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar uma única consulta entre chamadas simultâneas ao mesmo CEP")
+    void deveCompartilharConsultaSimultanea() throws Exception {
+        ResolvedorCep resolvedor = resolvedor(100);
+        viaCep.reter();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CepConhecido>> resultados = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                resultados.add(executor.submit(() -> resolvedor.resolver("20040002")));
+            }
+            long limite = System.currentTimeMillis() + 5_000;
+            while (viaCep.getConsultas() == 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+            // Dá tempo às demais chamadas de encontrarem a consulta em andamento
+            Thread.sleep(200);
+            viaCep.liberar();
+
+            CepConhecido primeiro = resultados.get(0).get();
+            for (Future<CepConhecido> resultado : resultados) {
+                assertSame(primeiro, resultado.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, viaCep.getConsultas());
+    }
+
+    @Test
+    @DisplayName("Deve liberar as chamadas simultâneas quando a consulta compartilhada falha com Error")
+    void deveLiberarChamadasQuandoConsultaFalhaComError() throws Exception {
+        CepConhecidoRepository repositorio = mock(CepConhecidoRepository.class);
+        CountDownLatch consultando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(repositorio.findById("20040002")).thenAnswer(invocacao -> {
+            consultando.countDown();
+            liberar.await();
+            throw new OutOfMemoryError("simulado");
+        });
+        ResolvedorCep resolvedor = new ResolvedorCep(cliente, repositorio, 100, 60, 90);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CepConhecido> primeira = executor.submit(() -> resolvedor.resolver("20040002"));
+            assertTrue(consultando.await(5, TimeUnit.SECONDS));
+            Future<CepConhecido> segunda = executor.submit(() -> resolvedor.resolver("20040002"));
+            // Dá tempo à segunda chamada de encontrar a consulta em andamento
+            Thread.sleep(100);
+            liberar.countDown();
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertInstanceOf(OutOfMemoryError.class,
+                    assertThrows(ExecutionException.class, primeira::get).getCause());
+                assertInstanceOf(OutOfMemoryError.class,
+                    assertThrows(ExecutionException.class, segunda::get).getCause());
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(repositorio, times(1)).findById("20040002");
+    }
+
+    @Test
+    @DisplayName("Deve abrir o disjuntor após falhas seguidas e fechá-lo quando o ViaCEP voltar")
+    void deveAbrirEFecharDisjuntor() throws Exception {
+        ResolvedorCep resolvedor = resolvedor(100);
+        viaCep.setForaDoAr(true);
+
+        for (String cep : List.of("88137074", "01310100", "20040002")) {
+            assertThrows(ViaCepIndisponivelException.class, () -> resolvedor.resolver(cep));
+        }
+        assertTrue(cliente.isAberto());
+
+        // Aberto: recusa sem chamar o ViaCEP
+        assertThrows(ViaCepIndisponivelException.class, () -> resolvedor.resolver("88137074"));
+        assertEquals(FALHAS_PARA_ABRIR, viaCep.getConsultas());
+
+        viaCep.setForaDoAr(false);
+        Thread.sleep(ESPERA_MS + 50);
+
+        assertEquals("Palhoça", resolvedor.resolver("88137074").getLocalidade());
+        assertFalse(cliente.isAberto());
+        assertEquals(FALHAS_PARA_ABRIR + 1, viaCep.getConsultas());
+    }
+
+    @Test
+    @DisplayName("Não deve contar CEP inexistente como falha nem guardá-lo")
+    void naoDeveContarCepInexistenteComoFalha() {
+        ResolvedorCep resolvedor = resolvedor(100);
+
+        for (int i = 0; i < FALHAS_PARA_ABRIR + 1; i++) {
+            CepInvalidoException erro = assertThrows(CepInvalidoException.class, () -> resolvedor.resolver("99999999"));
+            assertFalse(erro instanceof ViaCepIndisponivelException);
+        }
+
+        assertFalse(cliente.isAberto());
+        assertEquals(0, cepConhecidoRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve usar o CEP vencido da tabela enquanto o ViaCEP estiver fora e atualizá-lo depois")
+    void deveUsarCepVencidoQuandoViaCepFora() {
+        LocalDateTime antigo = LocalDateTime.now().minusDays(120);
+        cepConhecidoRepository.save(new CepConhecido("88137074", "Rua Antiga", "Pedra Branca", "Palhoça", "SC", antigo));
+        viaCep.setForaDoAr(true);
+
+        assertEquals("Rua Antiga", resolvedor(100).resolver("88137074").getLogradouro());
+        assertEquals(1, viaCep.getConsultas());
+
+        viaCep.setForaDoAr(false);
+        assertEquals("Rua Francisco Mariano", resolvedor(100).resolver("88137074").getLogradouro());
+        assertTrue(cepConhecidoRepository.findById("88137074").orElseThrow().getConsultadoEm().isAfter(antigo));
+    }
+
+    @Test
+    @DisplayName("Deve manter em memória no máximo a capacidade do cache")
+    void deveLimitarCache() {
+        ResolvedorCep resolvedor = resolvedor(2);
+
+        resolvedor.resolver("88137074");
+        resolvedor.resolver("01310100");
+        resolvedor.resolver("20040002");
+
+        assertEquals(2, resolvedor.tamanhoCache());
+        // O descartado da memória volta pela tabela, sem nova consulta ao ViaCEP
+        assertEquals("Palhoça", resolvedor.resolver("88137074").getLocalidade());
+        assertEquals(3, viaCep.getConsultas());
+    }
+
+    private ResolvedorCep resolvedor(int capacidade) {
+        return new ResolvedorCep(cliente, cepConhecidoRepository, capacidade, 60, 90);
+    }
+}
@@ -0,0 +1,94 @@
+package inkspiration.backend.cep;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Servidor HTTP local que imita o ViaCEP ({@code /ws/<cep>/json/}). Responde com os CEPs
+ * cadastrados, {@code {"erro": true}} para os demais, ou 503 enquanto estiver fora do ar. Pode
+ * segurar as respostas até {@link #liberar()}, para manter consultas em andamento.
+ */
+class ServidorViaCepLocal implements AutoCloseable {
+
+    private final HttpServer servidor;
+    private final Map<String, String> ceps = new ConcurrentHashMap<>();
+    private final AtomicInteger consultas = new AtomicInteger();
+    private volatile boolean foraDoAr;
+    private volatile CountDownLatch retencao = new CountDownLatch(0);
+
+    ServidorViaCepLocal() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 50);
+        servidor.createContext("/ws/", this::responder);
+        servidor.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "viacep-local");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        servidor.start();
+    }
+
+    String getUrl() {
+        return "http://localhost:" + servidor.getAddress().getPort() + "/ws/";
+    }
+
+    int getConsultas() {
+        return consultas.get();
+    }
+
+    void cadastrar(String cep, String logradouro, String bairro, String localidade, String uf) {
+        ceps.put(cep, String.format(
+            "{\"cep\":\"%s-%s\",\"logradouro\":\"%s\",\"bairro\":\"%s\",\"localidade\":\"%s\",\"uf\":\"%s\"}",
+            cep.substring(0, 5), cep.substring(5), logradouro, bairro, localidade, uf));
+    }
+
+    void setForaDoAr(boolean foraDoAr) {
+        this.foraDoAr = foraDoAr;
+    }
+
+    void reter() {
+        retencao = new CountDownLatch(1);
+    }
+
+    void liberar() {
+        retencao.countDown();
+    }
+
+    @Override
+    public void close() {
+        liberar();
+        servidor.stop(0);
+    }
+
+    private void responder(HttpExchange troca) throws IOException {
+        consultas.incrementAndGet();
+        try {
+            retencao.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String[] partes = troca.getRequestURI().getPath().split("/");
+        String cep = partes.length > 2 ? partes[2] : "";
+        int status = foraDoAr ? 503 : 200;
+        String corpo = foraDoAr ? "Serviço indisponível" : ceps.getOrDefault(cep, "{\"erro\": true}");
+
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().set("Content-Type", foraDoAr ? "text/plain" : "application/json; charset=utf-8");
+        troca.sendResponseHeaders(status, bytes.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(bytes);
+        }
+    }
+}
@@ -5,6 +5,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.withSettings;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -21,8 +24,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import inkspiration.backend.controller.AgendamentoController;
 import inkspiration.backend.dto.AgendamentoDTO;
@@ -31,6 +36,7 @@ import inkspiration.backend.dto.AgendamentoRequestDTO;
 import inkspiration.backend.dto.AgendamentoUpdateDTO;
 import inkspiration.backend.enums.StatusAgendamento;
 import inkspiration.backend.enums.TipoServico;
+import inkspiration.backend.relatorio.FormatoRelatorio;
 import inkspiration.backend.service.AgendamentoService;
 
 @ExtendWith(MockitoExtension.class)
@@ -260,12 +266,14 @@ class AgendamentoControllerCoreTest {
 
     @Test
     @DisplayName("Deve exportar agendamentos PDF com sucesso")
-    void deveExportarAgendamentosPDFComSucesso() {
+    void deveExportarAgendamentosPDFComSucesso() throws Exception {
         // Arrange
         Integer ano = 2024;
         byte[] pdfBytes = "PDF content".getBytes();
-        when(agendamentoService.exportarAgendamentosPDFComAutenticacao(ano, authentication))
-            .thenReturn(pdfBytes);
+        doAnswer(invocation -> {
+            invocation.getArgument(3, OutputStream.class).write(pdfBytes);
+            return null;
+        }).when(agendamentoService).exportarAgendamentosComAutenticacao(eq(ano), eq(FormatoRelatorio.PDF), eq(authentication), any(OutputStream.class));
 
         // Act
         ResponseEntity<?> response = agendamentoController.exportarAgendamentosPDF(ano, authentication);
@@ -273,12 +281,30 @@ class AgendamentoControllerCoreTest {
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(pdfBytes, response.getBody());
-        assertNotNull(response.getHeaders().getContentType());
+        assertArrayEquals(pdfBytes, escreverCorpo(response));
+        assertEquals(MediaType.APPLICATION_PDF, response.getHeaders().getContentType());
         assertTrue(response.getHeaders().getFirst("Content-Disposition").contains("attachment"));
 
-        verify(agendamentoService).exportarAgendamentosPDFComAutenticacao(ano, authentication);
+        verify(agendamentoService).verificarRelatorioAgendamentosComAutenticacao(ano, authentication);
+        verify(agendamentoService).exportarAgendamentosComAutenticacao(eq(ano), eq(FormatoRelatorio.PDF), eq(authentication), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("Deve exportar agendamentos CSV com sucesso")
+    void deveExportarAgendamentosCSVComSucesso() throws Exception {
+        // Arrange
+        Integer ano = 2024;
+
+        // Act
+        ResponseEntity<?> response = agendamentoController.exportarAgendamentosCSV(ano, authentication);
+        escreverCorpo(response);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("csv", response.getHeaders().getContentType().getSubtype());
+        assertTrue(response.getHeaders().getFirst("Content-Disposition").contains("agendamentos-2024.csv"));
+
+        verify(agendamentoService).exportarAgendamentosComAutenticacao(eq(ano), eq(FormatoRelatorio.CSV), eq(authentication), any(OutputStream.class));
     }
 
     @Test
@@ -323,13 +349,15 @@ class AgendamentoControllerCoreTest {
 
     @Test
     @DisplayName("Deve exportar atendimentos PDF com sucesso")
-    void deveExportarAtendimentosPDFComSucesso() {
+    void deveExportarAtendimentosPDFComSucesso() throws Exception {
         // Arrange
         Integer ano = 2024;
         Integer mes = 6;
         byte[] pdfBytes = "PDF content".getBytes();
-        when(agendamentoService.exportarAtendimentosPDFComAutenticacao(ano, mes, authentication))
-            .thenReturn(pdfBytes);
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write(pdfBytes);
+            return null;
+        }).when(agendamentoService).exportarAtendimentosComAutenticacao(eq(ano), eq(mes), eq(FormatoRelatorio.PDF), eq(authentication), any(OutputStream.class));
 
         // Act
         ResponseEntity<?> response = agendamentoController.exportarAtendimentosPDF(ano, mes, authentication);
@@ -337,13 +365,48 @@ class AgendamentoControllerCoreTest {
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(pdfBytes, response.getBody());
+        assertArrayEquals(pdfBytes, escreverCorpo(response));
         assertNotNull(response.getHeaders().getContentType());
         assertTrue(response.getHeaders().getFirst("Content-Disposition").contains("attachment"));
         assertTrue(response.getHeaders().getFirst("Content-Disposition").contains("atendimentos-06-2024.pdf"));
 
-        verify(agendamentoService).exportarAtendimentosPDFComAutenticacao(ano, mes, authentication);
+        verify(agendamentoService).verificarRelatorioAtendimentosComAutenticacao(ano, mes, authentication);
+        verify(agendamentoService).exportarAtendimentosComAutenticacao(eq(ano), eq(mes), eq(FormatoRelatorio.PDF), eq(authentication), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("Deve exportar atendimentos CSV com sucesso")
+    void deveExportarAtendimentosCSVComSucesso() throws Exception {
+        // Arrange
+        Integer ano = 2024;
+        Integer mes = 6;
+
+        // Act
+        ResponseEntity<?> response = agendamentoController.exportarAtendimentosCSV(ano, mes, authentication);
+        escreverCorpo(response);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getHeaders().getFirst("Content-Disposition").contains("atendimentos-06-2024.csv"));
+
+        verify(agendamentoService).exportarAtendimentosComAutenticacao(eq(ano), eq(mes), eq(FormatoRelatorio.CSV), eq(authentication), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 quando não há agendamentos para o relatório")
+    void deveRetornar404QuandoNaoHaAgendamentosParaRelatorio() {
+        // Arrange
+        Integer ano = 2024;
+        doThrow(new RuntimeException("Nenhum agendamento concluído encontrado para o ano 2024"))
+            .when(agendamentoService).verificarRelatorioAgendamentosComAutenticacao(ano, authentication);
+
+        // Act
+        ResponseEntity<?> response = agendamentoController.exportarAgendamentosCSV(ano, authentication);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertTrue(response.getBody().toString().contains("Nenhum agendamento concluído encontrado"));
+        verify(agendamentoService, never()).exportarAgendamentosComAutenticacao(any(), any(), any(), any());
     }
 
     @Test
@@ -420,4 +483,10 @@ class AgendamentoControllerCoreTest {
         when(dto.getCep()).thenReturn("01234-567");
         return dto;
     }
-} 
\ No newline at end of file
+
+    private static byte[] escreverCorpo(ResponseEntity<?> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(out);
+        return out.toByteArray();
+    }
+}
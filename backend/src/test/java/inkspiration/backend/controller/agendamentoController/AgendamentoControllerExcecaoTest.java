@@ -315,15 +315,15 @@ class AgendamentoControllerExcecaoTest {
     void deveLancarExcecaoAoExportarPDFComTokenInvalido() {
         // Arrange
         Integer ano = 2024;
-        when(agendamentoService.exportarAgendamentosPDFComAutenticacao(ano, authentication))
-            .thenThrow(new TokenInvalidoException("Token inválido"));
+        doThrow(new TokenInvalidoException("Token inválido"))
+            .when(agendamentoService).verificarRelatorioAgendamentosComAutenticacao(ano, authentication);
 
         // Act & Assert
         assertThrows(TokenInvalidoException.class, () -> {
             agendamentoController.exportarAgendamentosPDF(ano, authentication);
         });
 
-        verify(agendamentoService).exportarAgendamentosPDFComAutenticacao(ano, authentication);
+        verify(agendamentoService).verificarRelatorioAgendamentosComAutenticacao(ano, authentication);
     }
 
     @Test
@@ -362,15 +362,15 @@ class AgendamentoControllerExcecaoTest {
         // Arrange
         Integer ano = 2024;
         Integer mes = 6;
-        when(agendamentoService.exportarAtendimentosPDFComAutenticacao(ano, mes, authentication))
-            .thenThrow(new TokenInvalidoException("Token inválido"));
+        doThrow(new TokenInvalidoException("Token inválido"))
+            .when(agendamentoService).verificarRelatorioAtendimentosComAutenticacao(ano, mes, authentication);
 
         // Act & Assert
         assertThrows(TokenInvalidoException.class, () -> {
             agendamentoController.exportarAtendimentosPDF(ano, mes, authentication);
         });
 
-        verify(agendamentoService).exportarAtendimentosPDFComAutenticacao(ano, mes, authentication);
+        verify(agendamentoService).verificarRelatorioAtendimentosComAutenticacao(ano, mes, authentication);
     }
 
     @Test
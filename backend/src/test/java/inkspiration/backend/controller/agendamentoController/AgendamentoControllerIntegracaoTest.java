@@ -5,6 +5,8 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.withSettings;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,6 +25,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import inkspiration.backend.controller.AgendamentoController;
 import inkspiration.backend.dto.AgendamentoDTO;
@@ -31,6 +34,7 @@ import inkspiration.backend.dto.AgendamentoRequestDTO;
 import inkspiration.backend.dto.AgendamentoUpdateDTO;
 import inkspiration.backend.enums.StatusAgendamento;
 import inkspiration.backend.enums.TipoServico;
+import inkspiration.backend.relatorio.FormatoRelatorio;
 import inkspiration.backend.service.AgendamentoService;
 
 @ExtendWith(MockitoExtension.class)
@@ -238,32 +242,40 @@ class AgendamentoControllerIntegracaoTest {
 
     @Test
     @DisplayName("Deve realizar fluxo completo de exportação de relatórios")
-    void deveRealizarFluxoCompletoDeExportacaoDeRelatorios() {
+    void deveRealizarFluxoCompletoDeExportacaoDeRelatorios() throws Exception {
         // Arrange
         Integer ano = 2024;
         Integer mes = 6;
         byte[] pdfAgendamentos = "PDF agendamentos".getBytes();
         byte[] pdfAtendimentos = "PDF atendimentos".getBytes();
 
-        when(agendamentoService.exportarAgendamentosPDFComAutenticacao(ano, authentication))
-            .thenReturn(pdfAgendamentos);
-        when(agendamentoService.exportarAtendimentosPDFComAutenticacao(ano, mes, authentication))
-            .thenReturn(pdfAtendimentos);
+        doAnswer(invocation -> {
+            invocation.getArgument(3, OutputStream.class).write(pdfAgendamentos);
+            return null;
+        }).when(agendamentoService).exportarAgendamentosComAutenticacao(eq(ano), eq(FormatoRelatorio.PDF), eq(authentication), any(OutputStream.class));
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write(pdfAtendimentos);
+            return null;
+        }).when(agendamentoService).exportarAtendimentosComAutenticacao(eq(ano), eq(mes), eq(FormatoRelatorio.PDF), eq(authentication), any(OutputStream.class));
 
         // Act
         ResponseEntity<?> responseAgendamentos = agendamentoController.exportarAgendamentosPDF(ano, authentication);
         ResponseEntity<?> responseAtendimentos = agendamentoController.exportarAtendimentosPDF(ano, mes, authentication);
+        ByteArrayOutputStream corpoAgendamentos = new ByteArrayOutputStream();
+        ByteArrayOutputStream corpoAtendimentos = new ByteArrayOutputStream();
+        ((StreamingResponseBody) responseAgendamentos.getBody()).writeTo(corpoAgendamentos);
+        ((StreamingResponseBody) responseAtendimentos.getBody()).writeTo(corpoAtendimentos);
 
         // Assert
         assertEquals(HttpStatus.OK, responseAgendamentos.getStatusCode());
         assertEquals(HttpStatus.OK, responseAtendimentos.getStatusCode());
-        assertEquals(pdfAgendamentos, responseAgendamentos.getBody());
-        assertEquals(pdfAtendimentos, responseAtendimentos.getBody());
+        assertArrayEquals(pdfAgendamentos, corpoAgendamentos.toByteArray());
+        assertArrayEquals(pdfAtendimentos, corpoAtendimentos.toByteArray());
         assertTrue(responseAgendamentos.getHeaders().getFirst("Content-Disposition").contains("agendamentos-2024.pdf"));
         assertTrue(responseAtendimentos.getHeaders().getFirst("Content-Disposition").contains("atendimentos-06-2024.pdf"));
 
-        verify(agendamentoService).exportarAgendamentosPDFComAutenticacao(ano, authentication);
-        verify(agendamentoService).exportarAtendimentosPDFComAutenticacao(ano, mes, authentication);
+        verify(agendamentoService).verificarRelatorioAgendamentosComAutenticacao(ano, authentication);
+        verify(agendamentoService).verificarRelatorioAtendimentosComAutenticacao(ano, mes, authentication);
     }
 
     @Test
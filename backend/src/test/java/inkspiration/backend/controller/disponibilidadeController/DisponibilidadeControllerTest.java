@@ -452,4 +452,26 @@ class DisponibilidadeControllerTest {
 
         verify(disponibilidadeService).obterDisponibilidadeComValidacao(idProfissional);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve obter calendário de horários disponíveis do período")
+    void deveObterCalendarioDisponivel() {
+        // Arrange
+        Long idProfissional = 1L;
+        LocalDate dataInicio = LocalDate.of(2024, 6, 24);
+        LocalDate dataFim = dataInicio.plusDays(29);
+        Map<String, Map<String, List<String>>> calendario = new HashMap<>();
+        calendario.put("2024-06-24", Map.of("pequena", Arrays.asList("08:00", "09:00")));
+        when(disponibilidadeService.obterCalendarioDisponivelComValidacao(idProfissional, dataInicio, dataFim))
+                .thenReturn(calendario);
+
+        // Act
+        ResponseEntity<Map<String, Map<String, List<String>>>> response =
+                disponibilidadeController.obterCalendarioDisponivel(idProfissional, dataInicio, dataFim);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(calendario, response.getBody());
+        verify(disponibilidadeService).obterCalendarioDisponivelComValidacao(idProfissional, dataInicio, dataFim);
+    }
+}
@@ -7,19 +7,37 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import inkspiration.backend.armazenamento.ImagemArquivo;
+import inkspiration.backend.armazenamento.VarianteImagem;
 import inkspiration.backend.controller.ImagemController;
 import inkspiration.backend.service.ImagemService;
 import inkspiration.backend.dto.ImagemDTO;
 import inkspiration.backend.exception.imagem.*;
 import inkspiration.backend.exception.portfolio.PortfolioNaoEncontradoException;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Collections;
@@ -197,6 +215,165 @@ class ImagemControllerTest {
         verify(imagemService).buscarPorIdComValidacao(idNulo);
     }
 
+    // Testes para conteudo
+    @Test
+    @DisplayName("Deve devolver o conteúdo da imagem com ETag e cache imutável")
+    void deveDevolverConteudoDaImagem() throws Exception {
+        // Arrange
+        ByteArrayResource recurso = new ByteArrayResource(new byte[] { 1, 2, 3 });
+        when(imagemService.abrirConteudo(ID_IMAGEM, null))
+            .thenReturn(new ImagemArquivo(recurso, "image/png", "abc"));
+
+        // Act
+        ResponseEntity<Resource> response = imagemController.conteudo(ID_IMAGEM, null, new MockHttpServletRequest());
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.IMAGE_PNG, response.getHeaders().getContentType());
+        assertEquals("\"abc\"", response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getCacheControl().contains("immutable"));
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertSame(recurso, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando o cliente já tem o conteúdo")
+    void deveResponderNaoModificado() throws Exception {
+        // Arrange
+        when(imagemService.abrirConteudo(ID_IMAGEM, null))
+            .thenReturn(new ImagemArquivo(new ByteArrayResource(new byte[] { 1 }), "image/png", "abc"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"outro\", W/\"abc\"");
+
+        // Act
+        ResponseEntity<Resource> response = imagemController.conteudo(ID_IMAGEM, null, request);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"abc\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    @DisplayName("Deve delegar o envio de arquivos ao sendfile do servidor quando disponível")
+    void deveUsarSendfileQuandoDisponivel(@TempDir Path diretorio) throws Exception {
+        // Arrange
+        Path arquivo = Files.write(diretorio.resolve("imagem"), new byte[] { 1, 2, 3, 4 });
+        when(imagemService.abrirConteudo(ID_IMAGEM, null))
+            .thenReturn(new ImagemArquivo(new FileSystemResource(arquivo), "image/jpeg", "abc"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/imagens/1/raw");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        // Act
+        ResponseEntity<Resource> response = imagemController.conteudo(ID_IMAGEM, null, request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(4, response.getHeaders().getContentLength());
+        assertEquals(arquivo.toAbsolutePath().toString(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(4L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    @DisplayName("Deve atender requisições com Range com 206 e apenas o trecho pedido")
+    void deveAtenderRange() throws Exception {
+        // Arrange
+        when(imagemService.abrirConteudo(ID_IMAGEM, null))
+            .thenReturn(new ImagemArquivo(new ByteArrayResource(new byte[] { 1, 2, 3, 4 }), "image/png", "abc"));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(imagemController).build();
+
+        // Act & Assert
+        mockMvc.perform(get("/imagens/{id}/raw", ID_IMAGEM).header(HttpHeaders.RANGE, "bytes=1-2"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1-2/4"))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+            .andExpect(content().bytes(new byte[] { 2, 3 }));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o conteúdo pelo hash com o hash como ETag")
+    void deveDevolverConteudoPorHash() throws Exception {
+        // Arrange
+        String hash = "ab".repeat(32);
+        when(imagemService.abrirConteudoPorHash(hash))
+            .thenReturn(new ImagemArquivo(new ByteArrayResource(new byte[] { 1, 2 }), "image/jpeg", hash));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(imagemController).build();
+
+        // Act & Assert
+        mockMvc.perform(get("/imagens/conteudo/{hash}", hash))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+            .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+            .andExpect(content().bytes(new byte[] { 1, 2 }));
+    }
+
+    @Test
+    @DisplayName("Deve repassar a variante pedida e recusar nomes desconhecidos")
+    void deveRepassarVariante() throws Exception {
+        // Arrange
+        when(imagemService.abrirConteudo(ID_IMAGEM, VarianteImagem.MINIATURA))
+            .thenReturn(new ImagemArquivo(new ByteArrayResource(new byte[] { 1 }), "image/jpeg", "mini"));
+
+        // Act
+        ResponseEntity<Resource> response = imagemController.conteudo(ID_IMAGEM, "Miniatura", new MockHttpServletRequest());
+
+        // Assert
+        assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
+        assertEquals("\"mini\"", response.getHeaders().getETag());
+        assertThrows(IllegalArgumentException.class,
+            () -> imagemController.conteudo(ID_IMAGEM, "enorme", new MockHttpServletRequest()));
+    }
+
+    @Test
+    @DisplayName("Deve usar cache curto e não imutável quando a original substitui a variante")
+    void deveUsarCacheCurtoParaOriginalNoLugarDaVariante() throws Exception {
+        // Arrange
+        when(imagemService.abrirConteudo(ID_IMAGEM, VarianteImagem.MEDIA))
+            .thenReturn(new ImagemArquivo(new ByteArrayResource(new byte[] { 1 }), "image/png", "abc", false));
+
+        // Act
+        ResponseEntity<Resource> response = imagemController.conteudo(ID_IMAGEM, "media", new MockHttpServletRequest());
+
+        // Assert
+        String cacheControl = response.getHeaders().getCacheControl();
+        assertFalse(cacheControl.contains("immutable"));
+        assertTrue(cacheControl.contains("max-age=60"));
+        assertEquals("\"abc\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Deve propagar ImagemNaoEncontradaException ao buscar conteúdo inexistente")
+    void devePropagarExcecaoAoBuscarConteudoInexistente() {
+        // Arrange
+        when(imagemService.abrirConteudo(ID_IMAGEM, null))
+            .thenThrow(new ImagemNaoEncontradaException("Imagem não encontrada com ID: " + ID_IMAGEM));
+
+        // Act & Assert
+        assertThrows(ImagemNaoEncontradaException.class,
+            () -> imagemController.conteudo(ID_IMAGEM, null, new MockHttpServletRequest()));
+    }
+
+    @Test
+    @DisplayName("Deve receber upload multipart e repassar o fluxo com o tamanho do arquivo")
+    void deveReceberUploadMultipart() throws Exception {
+        // Arrange
+        byte[] bytes = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 1, 2 };
+        when(imagemService.salvarArquivoComValidacao(eq(ID_PORTFOLIO), any(InputStream.class), eq((long) bytes.length)))
+            .thenAnswer(invocacao -> {
+                assertArrayEquals(bytes, invocacao.getArgument(1, InputStream.class).readAllBytes());
+                return mockImagemDTO;
+            });
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(imagemController).build();
+
+        // Act & Assert
+        mockMvc.perform(multipart("/imagens")
+                .file(new MockMultipartFile("arquivo", "foto.png", "image/png", bytes))
+                .param("idPortfolio", ID_PORTFOLIO.toString()))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.idImagem").value(ID_IMAGEM));
+    }
+
     // Testes para salvar
     @Test
     @DisplayName("Deve salvar imagem com sucesso")
@@ -16,7 +16,10 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import inkspiration.backend.controller.PortfolioController;
+import inkspiration.backend.service.ImagemService;
 import inkspiration.backend.service.PortfolioService;
+import inkspiration.backend.dto.ImagemDTO;
+import inkspiration.backend.dto.PaginaImagensDTO;
 import inkspiration.backend.dto.PortfolioDTO;
 import inkspiration.backend.exception.portfolio.*;
 
@@ -30,6 +33,9 @@ class PortfolioControllerTest {
     @Mock
     private PortfolioService portfolioService;
 
+    @Mock
+    private ImagemService imagemService;
+
     @InjectMocks
     private PortfolioController portfolioController;
 
@@ -134,6 +140,36 @@ class PortfolioControllerTest {
         verify(portfolioService).buscarPorIdComValidacao(id);
     }
 
+    // Testes para listarImagens()
+    @Test
+    @DisplayName("Deve listar página de imagens do portfolio")
+    void deveListarPaginaDeImagens() {
+        // Arrange
+        PaginaImagensDTO pagina = new PaginaImagensDTO(
+            Arrays.asList(new ImagemDTO(13L, 1L, "image/png", 10L, 4, 4)), 13L);
+        when(imagemService.listarPaginaComValidacao(1L, 12L, 1)).thenReturn(pagina);
+
+        // Act
+        ResponseEntity<PaginaImagensDTO> response = portfolioController.listarImagens(1L, 12L, 1);
+
+        // Assert
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(pagina, response.getBody());
+        assertEquals(13L, response.getBody().getProximoCursor());
+    }
+
+    @Test
+    @DisplayName("Deve propagar exceção ao listar imagens de portfolio inexistente")
+    void deveLancarExcecaoAoListarImagensDePortfolioInexistente() {
+        // Arrange
+        when(imagemService.listarPaginaComValidacao(999L, null, null))
+            .thenThrow(new PortfolioNaoEncontradoException("Portfolio não encontrado"));
+
+        // Act & Assert
+        assertThrows(PortfolioNaoEncontradoException.class,
+            () -> portfolioController.listarImagens(999L, null, null));
+    }
+
     // Testes para atualizar()
     @Test
     @DisplayName("Deve atualizar portfolio com sucesso")
@@ -103,7 +103,7 @@ class ProfissionalControllerCoreTest {
 
         // Act
         ResponseEntity<Map<String, Object>> response = profissionalController.listarCompleto(
-            0, 9, "João", "São Paulo", 4.0, new String[]{"TATUAGEM_PEQUENA"}, "melhorAvaliacao");
+            0, 9, "João", "São Paulo", 4.0, new String[]{"TATUAGEM_PEQUENA"}, "melhorAvaliacao", null, null, 10);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -114,6 +114,54 @@ class ProfissionalControllerCoreTest {
             any(Pageable.class), anyString(), anyString(), anyDouble(), any(String[].class), anyString());
     }
 
+    @Test
+    @DisplayName("Deve listar profissionais próximos quando latitude e longitude forem informadas")
+    void deveListarProfissionaisProximos() {
+        // Arrange
+        Map<String, Object> profissionalMap = new HashMap<>();
+        profissionalMap.put("profissional", profissionalDTO);
+        profissionalMap.put("distanciaKm", 1.2);
+        Page<Map<String, Object>> page = new PageImpl<>(Arrays.asList(profissionalMap), pageable, 1);
+
+        when(profissionalService.listarProximos(
+            any(Pageable.class), eq(-23.55), eq(-46.63), eq(5.0), eq(4.0), any(String[].class)))
+            .thenReturn(page);
+
+        // Act
+        ResponseEntity<Map<String, Object>> response = profissionalController.listarCompleto(
+            0, 9, null, null, 4.0, new String[]{"realismo"}, "melhorAvaliacao", -23.55, -46.63, 5.0);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1L, response.getBody().get("totalElements"));
+        verify(profissionalService, never()).listarCompletoComFiltros(
+            any(), any(), any(), anyDouble(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve limitar página e tamanho da listagem completa")
+    void deveLimitarPaginacaoDaListagemCompleta() {
+        // Arrange
+        when(profissionalService.listarCompletoComFiltros(
+            any(Pageable.class), any(), any(), anyDouble(), any(), anyString()))
+            .thenReturn(new PageImpl<>(new ArrayList<>(), pageable, 0));
+        when(profissionalService.listarProximos(
+            any(Pageable.class), anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
+            .thenReturn(new PageImpl<>(new ArrayList<>(), pageable, 0));
+
+        // Act
+        profissionalController.listarCompleto(
+            Integer.MAX_VALUE, Integer.MAX_VALUE, null, null, 0, null, "melhorAvaliacao", null, null, 10);
+        profissionalController.listarCompleto(
+            3, 500, null, null, 0, null, "melhorAvaliacao", -23.55, -46.63, 5.0);
+
+        // Assert
+        verify(profissionalService).listarCompletoComFiltros(
+            eq(PageRequest.of(10_000, 100)), isNull(), isNull(), eq(0.0), isNull(), eq("melhorAvaliacao"));
+        verify(profissionalService).listarProximos(
+            eq(PageRequest.of(3, 100)), eq(-23.55), eq(-46.63), eq(5.0), eq(0.0), isNull());
+    }
+
     @Test
     @DisplayName("Deve buscar profissional completo por ID")
     void deveBuscarProfissionalCompletoPorId() {
@@ -280,7 +280,7 @@ class ProfissionalControllerExcecaoTest {
         // Act & Assert - PageRequest.of(-1, 0) lança IllegalArgumentException diretamente
         assertThrows(IllegalArgumentException.class, () -> {
             profissionalController.listarCompleto(
-                -1, 0, null, null, -1.0, null, "ordenacaoInvalida");
+                -1, 0, null, null, -1.0, null, "ordenacaoInvalida", null, null, 10);
         });
         
         // Não há verificação de service pois a exceção é lançada antes de chegar ao service
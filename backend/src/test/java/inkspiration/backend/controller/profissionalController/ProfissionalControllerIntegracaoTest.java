@@ -98,7 +98,7 @@ class ProfissionalControllerIntegracaoTest {
 
         // Act
         ResponseEntity<Map<String, Object>> response = profissionalController.listarCompleto(
-            0, 9, "João Silva", "São Paulo", 4.0, new String[]{"TATUAGEM_PEQUENA"}, "melhorAvaliacao");
+            0, 9, "João Silva", "São Paulo", 4.0, new String[]{"TATUAGEM_PEQUENA"}, "melhorAvaliacao", null, null, 10);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -0,0 +1,88 @@
+package inkspiration.backend.controller.relatorioJobController;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+
+import inkspiration.backend.controller.RelatorioJobController;
+import inkspiration.backend.dto.RelatorioJobDTO;
+import inkspiration.backend.exception.relatorio.RelatorioJobIndisponivelException;
+import inkspiration.backend.relatorio.FormatoRelatorio;
+import inkspiration.backend.relatorio.RelatorioJob;
+import inkspiration.backend.relatorio.StatusRelatorioJob;
+import inkspiration.backend.relatorio.TipoRelatorio;
+import inkspiration.backend.service.RelatorioJobService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RelatorioJobController - Testes dos relatórios em segundo plano")
+class RelatorioJobControllerTest {
+
+    @Mock
+    private RelatorioJobService relatorioJobService;
+
+    @Mock
+    private Authentication authentication;
+
+    @InjectMocks
+    private RelatorioJobController relatorioJobController;
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve aceitar o pedido e devolver o id do job")
+    void deveAceitarPedido() {
+        RelatorioJob job = new RelatorioJob(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 6, Instant.now());
+        when(relatorioJobService.solicitarComAutenticacao(TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 6, authentication))
+            .thenReturn(job);
+
+        ResponseEntity<RelatorioJobDTO> response = relatorioJobController.solicitarRelatorio(
+            TipoRelatorio.ATENDIMENTOS, 2024, 6, FormatoRelatorio.PDF, authentication);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job.getIdJob(), response.getBody().getIdJob());
+        assertEquals(StatusRelatorioJob.PENDENTE, response.getBody().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o arquivo do job concluído")
+    void deveDevolverArquivo() throws Exception {
+        RelatorioJob job = new RelatorioJob(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.CSV, 2024, 6, Instant.now());
+        Path arquivo = Files.writeString(diretorio.resolve("relatorio.csv"), "Id;Data");
+        job.concluir(arquivo, Instant.now());
+        when(relatorioJobService.buscarConcluidoComAutenticacao(job.getIdJob(), authentication)).thenReturn(job);
+
+        ResponseEntity<Resource> response = relatorioJobController.baixarRelatorio(job.getIdJob(), authentication);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType("text/csv;charset=UTF-8"), response.getHeaders().getContentType());
+        assertTrue(response.getHeaders().getFirst("Content-Disposition").contains("atendimentos-06-2024.csv"));
+        assertEquals(7, response.getBody().contentLength());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção quando o relatório ainda não está pronto")
+    void devePropagarQuandoNaoPronto() {
+        when(relatorioJobService.buscarConcluidoComAutenticacao("job", authentication))
+            .thenThrow(new RelatorioJobIndisponivelException("O relatório ainda está sendo gerado"));
+
+        assertThrows(RelatorioJobIndisponivelException.class, () ->
+            relatorioJobController.baixarRelatorio("job", authentication));
+    }
+}
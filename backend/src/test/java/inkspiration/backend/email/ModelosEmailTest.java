@@ -0,0 +1,93 @@
+package inkspiration.backend.email;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+/**
+ * Compara os templates com o HTML que o EmailService montava por concatenação
+ * ({@code src/test/resources/email}), ignorando apenas espaços entre tags e comentários.
+ */
+@DisplayName("ModelosEmail")
+class ModelosEmailTest {
+
+    private static ModelosEmail modelos;
+
+    @BeforeAll
+    static void setUp() {
+        modelos = new ModelosEmail();
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo conteúdo do email de recuperação de senha")
+    void deveGerarRecuperacaoSenha() throws IOException {
+        assertMesmoConteudo("recuperacao-senha.html", modelos.recuperacaoSenha("Maria Silva", "123456"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo conteúdo do email de senha alterada")
+    void deveGerarSenhaAlterada() throws IOException {
+        assertMesmoConteudo("senha-alterada.html", modelos.senhaAlterada("Maria Silva"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo conteúdo do email de recuperação 2FA")
+    void deveGerarRecuperacaoDoisFatores() throws IOException {
+        assertMesmoConteudo("recuperacao-2fa.html", modelos.recuperacaoDoisFatores("Maria Silva", "123456"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo conteúdo do email de verificação")
+    void deveGerarVerificacaoEmail() throws IOException {
+        assertMesmoConteudo("verificacao-email.html", modelos.verificacaoEmail("Maria Silva", "123456"));
+    }
+
+    @Test
+    @DisplayName("Deve escapar os valores como o th:text")
+    void deveEscaparValores() {
+        String html = modelos.verificacaoEmail("<b>Ana & \"Bia\"</b>", "1'2");
+
+        assertTrue(html.contains("&lt;b&gt;Ana &amp; &quot;Bia&quot;&lt;/b&gt;"));
+        assertTrue(html.contains("1&#39;2"));
+        assertFalse(html.contains("<b>Ana"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar template com variável não declarada ou não usada")
+    void deveRecusarVariaveisInconsistentes() {
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(new StringTemplateResolver());
+
+        assertThrows(IllegalStateException.class,
+            () -> ModeloEmail.compilar(engine, "<p th:text=\"${nome}\"></p><p>{{codigo}}</p>", "nome"));
+        assertThrows(IllegalStateException.class,
+            () -> ModeloEmail.compilar(engine, "<p th:text=\"${nome}\"></p><p th:text=\"${cdigo}\"></p>", "nome", "codigo"));
+
+        ModeloEmail modelo = ModeloEmail.compilar(engine, "<p th:text=\"${nome}\"></p><i th:text=\"${nome}\"></i>", "nome");
+        assertEquals("<p>Ana</p><i>Ana</i>", modelo.renderizar("Ana"));
+    }
+
+    private static void assertMesmoConteudo(String esperado, String html) throws IOException {
+        try (InputStream entrada = ModelosEmailTest.class.getResourceAsStream("/email/" + esperado)) {
+            assertNotNull(entrada, esperado);
+            assertEquals(normalizar(new String(entrada.readAllBytes(), StandardCharsets.UTF_8)), normalizar(html));
+        }
+    }
+
+    private static String normalizar(String html) {
+        return html.replaceAll("<!--.*?-->", "")
+            .replaceAll("\\s+", " ")
+            .replaceAll(">\\s+<", "><")
+            .replaceAll(">\\s+", ">")
+            .replaceAll("\\s+<", "<")
+            .trim();
+    }
+}
@@ -0,0 +1,71 @@
+package inkspiration.backend.relatorio;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import inkspiration.backend.dto.AgendamentoRelatorioDTO;
+import inkspiration.backend.dto.ResumoRelatorioDTO;
+import inkspiration.backend.enums.TipoServico;
+
+@DisplayName("EscritorRelatorioCsv - Testes do relatório em CSV")
+class EscritorRelatorioCsvTest {
+
+    @Test
+    @DisplayName("Deve escapar separadores, aspas e quebras de linha")
+    void deveEscaparCamposEspeciais() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EscritorRelatorio escritor = FormatoRelatorio.CSV.criarEscritor(TipoRelatorio.ATENDIMENTOS, out);
+
+        escritor.iniciar("Atendimentos", new ResumoRelatorioDTO(1, new BigDecimal("99.90")));
+        escritor.escrever(new AgendamentoRelatorioDTO(7L, TipoServico.SESSAO, "Braço; \"fechado\"\nsegunda parte",
+            LocalDateTime.of(2024, 6, 3, 14, 0), LocalDateTime.of(2024, 6, 3, 18, 0), new BigDecimal("99.90"),
+            "Profissional", "Cliente Teste", null, null, null, null, null, null, null));
+        escritor.finalizar();
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals("\uFEFFId;Data;Horário;Cliente;Serviço;Descrição;Valor\r\n"
+            + "7;03/06/2024;14:00 - 18:00;Cliente Teste;Sessão;\"Braço; \"\"fechado\"\"\nsegunda parte\";99,90\r\n", csv);
+    }
+
+    @Test
+    @DisplayName("Deve neutralizar campos que a planilha leria como fórmula")
+    void deveNeutralizarFormulas() throws Exception {
+        String[] perigosos = {"=HYPERLINK(\"http://x\")", "+1+1", "-2+3", "@SUM(A1)", "\tcmd", "\rcmd"};
+        String[] esperados = {"\"'=HYPERLINK(\"\"http://x\"\")\"", "'+1+1", "'-2+3", "'@SUM(A1)", "'\tcmd", "\"'\rcmd\""};
+
+        for (int i = 0; i < perigosos.length; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            EscritorRelatorio escritor = FormatoRelatorio.CSV.criarEscritor(TipoRelatorio.ATENDIMENTOS, out);
+            escritor.iniciar("Atendimentos", new ResumoRelatorioDTO(1, new BigDecimal("99.90")));
+            escritor.escrever(new AgendamentoRelatorioDTO(7L, TipoServico.SESSAO, perigosos[i],
+                LocalDateTime.of(2024, 6, 3, 14, 0), LocalDateTime.of(2024, 6, 3, 18, 0), new BigDecimal("99.90"),
+                "Profissional", perigosos[i], null, null, null, null, null, null, null));
+            escritor.finalizar();
+
+            String[] linhas = out.toString(StandardCharsets.UTF_8).split("\r\n");
+            assertEquals("7;03/06/2024;14:00 - 18:00;" + esperados[i] + ";Sessão;" + esperados[i] + ";99,90", linhas[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve deixar vazios os campos nulos")
+    void deveDeixarVaziosCamposNulos() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EscritorRelatorio escritor = FormatoRelatorio.CSV.criarEscritor(TipoRelatorio.AGENDAMENTOS, out);
+
+        escritor.iniciar("Agendamentos", new ResumoRelatorioDTO(1, null));
+        escritor.escrever(new AgendamentoRelatorioDTO(1L, null, null, null, null, null,
+            null, null, null, null, null, null, null, null, null));
+        escritor.finalizar();
+
+        String[] linhas = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("1;;Não especificado;Não especificado;Não especificado;;;", linhas[1]);
+    }
+}
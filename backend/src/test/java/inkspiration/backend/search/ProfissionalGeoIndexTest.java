@@ -0,0 +1,134 @@
+package inkspiration.backend.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import inkspiration.backend.entities.Profissional;
+
+@DisplayName("ProfissionalGeoIndex - Testes do índice de proximidade")
+class ProfissionalGeoIndexTest {
+
+    // Praça da Sé, São Paulo
+    private static final double LATITUDE = -23.5503;
+    private static final double LONGITUDE = -46.6339;
+
+    private ProfissionalGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProfissionalGeoIndex();
+        index.reconstruir(Arrays.asList(
+            criarProfissional(1L, -23.5614, -46.6559, "Realismo, Blackwork", "4.5"),   // Av. Paulista, ~2,5 km
+            criarProfissional(2L, -23.5505, -46.6333, "Old School", "5.0"),            // Sé, ~0,1 km
+            criarProfissional(3L, -23.9608, -46.3336, "Fineline", "3.0"),              // Santos, ~55 km
+            criarProfissional(4L, -22.9068, -43.1729, "Realismo", "4.8"),              // Rio de Janeiro
+            criarProfissional(5L, null, null, "Realismo", "5.0")                       // Sem coordenadas
+        ));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar profissionais sem coordenadas")
+    void deveIgnorarSemCoordenadas() {
+        assertTrue(index.isPronto());
+        assertEquals(4, index.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas os profissionais dentro do raio, do mais próximo ao mais distante")
+    void deveOrdenarPorDistancia() {
+        ProfissionalGeoIndex.ResultadoProximidade resultado =
+            index.buscarProximos(LATITUDE, LONGITUDE, 10, 0, null, 0, 10);
+        assertEquals(List.of(2L, 1L), resultado.getIds());
+        assertEquals(2, resultado.getTotal());
+        assertTrue(resultado.getDistanciasKm().get(2L) < 0.2);
+        assertEquals(2.5, resultado.getDistanciasKm().get(1L), 0.3);
+
+        resultado = index.buscarProximos(LATITUDE, LONGITUDE, 100, 0, null, 0, 10);
+        assertEquals(List.of(2L, 1L, 3L), resultado.getIds());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar nota mínima e especialidades")
+    void deveAplicarFiltros() {
+        assertEquals(List.of(1L), index.buscarProximos(LATITUDE, LONGITUDE, 100, 4.0,
+            new String[] {"realismo", "fineline"}, 0, 10).getIds());
+        assertEquals(List.of(2L, 3L), index.buscarProximos(LATITUDE, LONGITUDE, 100, 0,
+            new String[] {"old", "fine"}, 0, 10).getIds());
+    }
+
+    @Test
+    @DisplayName("Deve paginar mantendo a contagem total")
+    void devePaginar() {
+        ProfissionalGeoIndex.ResultadoProximidade segunda = index.buscarProximos(LATITUDE, LONGITUDE, 500, 0, null, 2, 2);
+        assertEquals(List.of(3L, 4L), segunda.getIds());
+        assertEquals(4, segunda.getTotal());
+    }
+
+    @Test
+    @DisplayName("Deve refletir mudança de endereço e remoção")
+    void deveAtualizarPosicao() {
+        index.indexar(criarProfissional(4L, -23.5510, -46.6340, "Realismo", "4.8"));
+        assertEquals(List.of(2L, 4L, 1L), index.buscarProximos(LATITUDE, LONGITUDE, 10, 0, null, 0, 10).getIds());
+
+        index.remover(2L);
+        assertEquals(List.of(4L, 1L), index.buscarProximos(LATITUDE, LONGITUDE, 10, 0, null, 0, 10).getIds());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar os mesmos profissionais de uma varredura completa por haversine")
+    void deveCoincidirComVarreduraCompleta() {
+        Random random = new Random(7);
+        List<Profissional> profissionais = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            profissionais.add(criarProfissional(id, LATITUDE + (random.nextDouble() - 0.5) * 4,
+                LONGITUDE + (random.nextDouble() - 0.5) * 4, "Realismo", "4.0"));
+        }
+        index.reconstruir(profissionais);
+
+        for (double raio : new double[] {1, 15, 60, 200}) {
+            List<Long> esperado = profissionais.stream()
+                .filter(p -> distancia(p) <= raio)
+                .sorted(Comparator.comparingDouble(ProfissionalGeoIndexTest::distancia)
+                    .thenComparing(Profissional::getIdProfissional))
+                .map(Profissional::getIdProfissional)
+                .collect(Collectors.toList());
+            ProfissionalGeoIndex.ResultadoProximidade resultado =
+                index.buscarProximos(LATITUDE, LONGITUDE, raio, 0, null, 0, 3000);
+            assertEquals(esperado, resultado.getIds(), "raio=" + raio);
+            assertEquals(esperado.size(), resultado.getTotal());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve considerar profissionais do outro lado do antimeridiano")
+    void deveCruzarAntimeridiano() {
+        index.reconstruir(List.of(
+            criarProfissional(1L, -17.0, 179.98, null, null),
+            criarProfissional(2L, -17.0, -179.98, null, null)));
+        assertEquals(List.of(2L, 1L), index.buscarProximos(-17.0, -179.99, 10, 0, null, 0, 10).getIds());
+    }
+
+    private static double distancia(Profissional profissional) {
+        return ProfissionalGeoIndex.distanciaKm(LATITUDE, LONGITUDE,
+            profissional.getEndereco().getLatitude(), profissional.getEndereco().getLongitude());
+    }
+
+    private static Profissional criarProfissional(Long id, Double latitude, Double longitude,
+                                                  String especialidade, String nota) {
+        Profissional profissional = ProfissionalSearchIndexTest.criarProfissional(
+            id, "Profissional " + id, "Cidade", "SP", especialidade, nota);
+        profissional.getEndereco().setLatitude(latitude);
+        profissional.getEndereco().setLongitude(longitude);
+        return profissional;
+    }
+}
@@ -0,0 +1,73 @@
+package inkspiration.backend.search;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.repository.ProfissionalRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProfissionalIndexSincronizador - Testes de sincronização")
+class ProfissionalIndexSincronizadorTest {
+
+    @Mock
+    private ProfissionalRepository profissionalRepository;
+
+    @Mock
+    private ProfissionalIndex indice;
+
+    private ProfissionalIndexSincronizador sincronizador;
+    private Profissional profissional;
+
+    @BeforeEach
+    void setUp() {
+        sincronizador = new ProfissionalIndexSincronizador(profissionalRepository, List.of(indice));
+        profissional = ProfissionalSearchIndexTest.criarProfissional(1L, "João Silva", "São Paulo", "SP", "Realismo", "4.5");
+    }
+
+    @Test
+    @DisplayName("Deve construir os índices com os profissionais ativos na subida")
+    void deveConstruirIndicesNaSubida() {
+        when(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole())).thenReturn(List.of(profissional));
+
+        sincronizador.carregarIndices();
+
+        verify(indice).reconstruir(List.of(profissional));
+    }
+
+    @Test
+    @DisplayName("Deve reindexar o profissional afetado por alterações de usuário, portfólio e endereço")
+    void deveReindexarPorReferencias() {
+        when(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole())).thenReturn(List.of(profissional));
+        when(profissionalRepository.findById(1L)).thenReturn(Optional.of(profissional));
+        sincronizador.carregarIndices();
+
+        sincronizador.usuarioAlterado(10L);
+        sincronizador.portfolioAlterado(1000L);
+        sincronizador.enderecoAlterado(100L);
+        sincronizador.usuarioAlterado(999L);
+
+        verify(indice, times(3)).indexar(profissional);
+    }
+
+    @Test
+    @DisplayName("Deve remover do índice profissional excluído ou deletado")
+    void deveRemoverProfissionalExcluido() {
+        when(profissionalRepository.findById(2L)).thenReturn(Optional.empty());
+
+        sincronizador.profissionalAlterado(2L);
+
+        verify(indice).remover(2L);
+        verify(indice, never()).indexar(any());
+    }
+}
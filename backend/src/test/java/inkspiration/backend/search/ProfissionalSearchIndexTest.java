@@ -0,0 +1,147 @@
+package inkspiration.backend.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Portfolio;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.UserRole;
+
+@DisplayName("ProfissionalSearchIndex - Testes do índice de busca")
+class ProfissionalSearchIndexTest {
+
+    private ProfissionalSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProfissionalSearchIndex();
+        index.reconstruir(Arrays.asList(
+            criarProfissional(1L, "João Silva", "São Paulo", "SP", "Realismo, Blackwork", "4.5"),
+            criarProfissional(2L, "Maria Souza", "Rio de Janeiro", "RJ", "Old School", "5.0"),
+            criarProfissional(3L, "Joana Araújo", "Santos", "SP", "Fineline e Aquarela", "3.0"),
+            criarProfissional(4L, "Pedro Lima", "Curitiba", "PR", null, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("Deve ficar pronto após a reconstrução")
+    void deveFicarProntoAposReconstrucao() {
+        assertTrue(index.isPronto());
+        assertEquals(4, index.tamanho());
+        assertFalse(new ProfissionalSearchIndex().isPronto());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e maiúsculas na localização")
+    void deveIgnorarAcentosNaLocalizacao() {
+        List<Long> ids = index.buscar(null, "sao paulo", 0, null, "maisAntigo", 0, 10).getIds();
+        assertEquals(List.of(1L), ids);
+
+        ids = index.buscar(null, "SÃO PAULO, sp", 0, null, "maisAntigo", 0, 10).getIds();
+        assertEquals(List.of(1L), ids);
+    }
+
+    @Test
+    @DisplayName("Deve casar tokens por prefixo para autocompletar")
+    void deveCasarPorPrefixo() {
+        List<Long> ids = index.buscar("jo", null, 0, null, "maisAntigo", 0, 10).getIds();
+        assertEquals(List.of(1L, 3L), ids);
+
+        ids = index.buscar("jo ara", null, 0, null, "maisAntigo", 0, 10).getIds();
+        assertEquals(List.of(3L), ids);
+    }
+
+    @Test
+    @DisplayName("Deve combinar nome, localização, especialidade e nota mínima")
+    void deveCombinarFiltros() {
+        ProfissionalSearchIndex.ResultadoBusca resultado = index.buscar(
+            "jo", "sp", 4.0, new String[] {"realismo", "aquarela"}, "melhorAvaliacao", 0, 10);
+        assertEquals(List.of(1L), resultado.getIds());
+        assertEquals(1, resultado.getTotal());
+
+        resultado = index.buscar(null, null, 0, new String[] {"old school", "aquarela"}, "maisAntigo", 0, 10);
+        assertEquals(List.of(2L, 3L), resultado.getIds());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar e paginar como a listagem pública")
+    void deveOrdenarEPaginar() {
+        ProfissionalSearchIndex.ResultadoBusca primeira = index.buscar(null, null, 0, null, "melhorAvaliacao", 0, 2);
+        ProfissionalSearchIndex.ResultadoBusca segunda = index.buscar(null, null, 0, null, "melhorAvaliacao", 2, 2);
+
+        assertEquals(List.of(2L, 1L), primeira.getIds());
+        assertEquals(List.of(3L, 4L), segunda.getIds());
+        assertEquals(4, primeira.getTotal());
+        assertEquals(List.of(4L, 3L, 2L, 1L), index.buscar(null, null, 0, null, "maisRecente", 0, 10).getIds());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar incrementalmente e remover profissionais deletados")
+    void deveAtualizarIncrementalmente() {
+        index.indexar(criarProfissional(4L, "Pedro Lima", "Belo Horizonte", "MG", "Tribal", "4.9"));
+        assertEquals(List.of(4L), index.buscar(null, "belo", 0, null, null, 0, 10).getIds());
+        assertTrue(index.buscar(null, "curitiba", 0, null, null, 0, 10).getIds().isEmpty());
+
+        Profissional deletado = criarProfissional(2L, "Maria Souza", "Rio de Janeiro", "RJ", "Old School", "5.0");
+        deletado.getUsuario().setRole(UserRole.ROLE_DELETED.getRole());
+        index.indexar(deletado);
+        assertTrue(index.buscar("maria", null, 0, null, null, 0, 10).getIds().isEmpty());
+
+        index.remover(1L);
+        assertEquals(2, index.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve sugerir nomes pelo prefixo digitado")
+    void deveSugerirNomes() {
+        List<Map<String, Object>> sugestoes = index.sugerirNomes("jo", 5);
+
+        assertEquals(2, sugestoes.size());
+        assertEquals("João Silva", sugestoes.get(0).get("nome"));
+        assertEquals(1L, sugestoes.get(0).get("idProfissional"));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar texto removendo acentos")
+    void deveNormalizarTexto() {
+        assertEquals(List.of("sao", "paulo", "sp"), TextoBusca.tokenizar("São Paulo, SP"));
+        assertEquals("acao", TextoBusca.normalizar("AÇÃO"));
+        assertTrue(TextoBusca.tokenizar("  %  ").isEmpty());
+        assertTrue(TextoBusca.tokenizar(null).isEmpty());
+    }
+
+    static Profissional criarProfissional(Long id, String nome, String cidade, String estado,
+                                          String especialidade, String nota) {
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(id * 10);
+        usuario.setNome(nome);
+        usuario.setRole(UserRole.ROLE_PROF.getRole());
+
+        Endereco endereco = new Endereco();
+        endereco.setIdEndereco(id * 100);
+        endereco.setCidade(cidade);
+        endereco.setEstado(estado);
+
+        Portfolio portfolio = new Portfolio();
+        portfolio.setIdPortfolio(id * 1000);
+        portfolio.setEspecialidade(especialidade);
+
+        Profissional profissional = new Profissional();
+        profissional.setIdProfissional(id);
+        profissional.setUsuario(usuario);
+        profissional.setEndereco(endereco);
+        profissional.setPortfolio(portfolio);
+        profissional.setNota(nota != null ? new BigDecimal(nota) : null);
+        return profissional;
+    }
+}
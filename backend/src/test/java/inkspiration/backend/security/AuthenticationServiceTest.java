@@ -42,6 +42,9 @@ class AuthenticationServiceTest {
     @Mock
     private TokenRevogadoRepository tokenRevogadoRepository;
 
+    @Mock
+    private RegistroTokensRevogados registroTokensRevogados;
+
     @Mock
     private AuthenticationManager authenticationManager;
 
@@ -87,7 +90,7 @@ class AuthenticationServiceTest {
         when(authenticationManager.authenticate(any(Authentication.class))).thenReturn(authentication);
         when(usuarioService.buscarPorCpf(loginDTO.getCpf())).thenReturn(usuario);
         when(twoFactorAuthService.isTwoFactorEnabled(usuario.getIdUsuario())).thenReturn(false);
-        when(jwtService.generateToken(any(Authentication.class), anyBoolean())).thenReturn("token");
+        when(usuarioService.atualizarToken(eq(usuario), any(Authentication.class), anyBoolean())).thenReturn("token");
 
         // Act
         String token = authenticationService.login(loginDTO);
@@ -95,7 +98,7 @@ class AuthenticationServiceTest {
         // Assert
         assertNotNull(token);
         assertEquals("token", token);
-        verify(usuarioService).salvar(usuario);
+        verify(usuarioService).atualizarToken(eq(usuario), any(Authentication.class), eq(false));
     }
 
     @Test
@@ -107,7 +110,7 @@ class AuthenticationServiceTest {
         when(usuarioService.buscarPorCpf(loginDTO.getCpf())).thenReturn(usuario);
         when(twoFactorAuthService.isTwoFactorEnabled(usuario.getIdUsuario())).thenReturn(true);
         when(twoFactorAuthService.validateCode(eq(usuario.getIdUsuario()), eq(123456))).thenReturn(true);
-        when(jwtService.generateToken(any(Authentication.class), anyBoolean())).thenReturn("token");
+        when(usuarioService.atualizarToken(eq(usuario), any(Authentication.class), anyBoolean())).thenReturn("token");
 
         // Act
         String token = authenticationService.login(loginDTO);
@@ -115,7 +118,7 @@ class AuthenticationServiceTest {
         // Assert
         assertNotNull(token);
         assertEquals("token", token);
-        verify(usuarioService).salvar(usuario);
+        verify(usuarioService).atualizarToken(eq(usuario), any(Authentication.class), anyBoolean());
     }
 
     @Test
@@ -179,7 +182,7 @@ class AuthenticationServiceTest {
     void deveReautenticarUsuarioComSucesso() {
         // Arrange
         when(usuarioService.buscarPorId(1L)).thenReturn(usuario);
-        when(jwtService.generateToken(any(Authentication.class))).thenReturn("novoToken");
+        when(usuarioService.atualizarToken(eq(usuario), any(Authentication.class), isNull())).thenReturn("novoToken");
 
         // Act
         String novoToken = authenticationService.reautenticar(1L);
@@ -187,7 +190,7 @@ class AuthenticationServiceTest {
         // Assert
         assertNotNull(novoToken);
         assertEquals("novoToken", novoToken);
-        verify(usuarioService).salvar(usuario);
+        verify(usuarioService).atualizarToken(eq(usuario), any(Authentication.class), isNull());
     }
 
     @Test
@@ -218,6 +221,7 @@ class AuthenticationServiceTest {
         verify(tokenRevogadoRepository).save(tokenRevogadoCaptor.capture());
         TokenRevogado tokenRevogadoSalvo = tokenRevogadoCaptor.getValue();
         assertEquals(token, tokenRevogadoSalvo.getToken());
+        verify(registroTokensRevogados).registrar(token);
     }
 
     @Test
@@ -225,13 +229,14 @@ class AuthenticationServiceTest {
     void deveVerificarSeTokenEstaRevogado() {
         // Arrange
         String token = "token";
-        when(tokenRevogadoRepository.existsByToken(token)).thenReturn(true);
+        when(registroTokensRevogados.contem(token)).thenReturn(true);
 
         // Act
         boolean isRevoked = authenticationService.isTokenRevoked(token);
 
         // Assert
         assertTrue(isRevoked);
-        verify(tokenRevogadoRepository).existsByToken(token);
+        verify(registroTokensRevogados).contem(token);
+        verifyNoInteractions(tokenRevogadoRepository);
     }
 } 
\ No newline at end of file
@@ -19,9 +19,11 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import inkspiration.backend.entities.Usuario;
 import inkspiration.backend.exception.UsuarioException;
+import inkspiration.backend.repository.ProfissionalRepository;
 import inkspiration.backend.repository.UsuarioRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +33,9 @@ class AuthorizationServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private ProfissionalRepository profissionalRepository;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -43,6 +48,8 @@ class AuthorizationServiceTest {
     @BeforeEach
     void setUp() {
         SecurityContextHolder.setContext(securityContext);
+        ReflectionTestUtils.setField(authorizationService, "contextoAutenticacao",
+            new ContextoAutenticacao(usuarioRepository, profissionalRepository));
     }
 
     @Test
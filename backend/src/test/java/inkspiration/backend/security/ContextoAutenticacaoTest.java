@@ -0,0 +1,140 @@
+package inkspiration.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.UsuarioRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContextoAutenticacao - Testes Unitários")
+class ContextoAutenticacaoTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private ProfissionalRepository profissionalRepository;
+
+    private ContextoAutenticacao contexto;
+
+    @BeforeEach
+    void setUp() {
+        contexto = new ContextoAutenticacao(usuarioRepository, profissionalRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve expor os dados do token já decodificado")
+    void deveExporDadosDoToken() {
+        autenticar(7L, "ROLE_ADMIN");
+
+        assertEquals(7L, contexto.getIdUsuario());
+        assertEquals("12345678900", contexto.getCpf());
+        assertEquals("ROLE_ADMIN", contexto.getRole());
+        assertTrue(contexto.isAdmin());
+        assertEquals("token", contexto.getJwt().getTokenValue());
+    }
+
+    @Test
+    @DisplayName("Deve carregar usuário e profissional uma única vez por requisição")
+    void deveCarregarUmaVezPorRequisicao() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        autenticar(7L, "ROLE_PROF");
+        Usuario usuario = new Usuario();
+        Profissional profissional = new Profissional();
+        when(usuarioRepository.findById(7L)).thenReturn(Optional.of(usuario));
+        when(profissionalRepository.findByUsuario_IdUsuario(7L)).thenReturn(Optional.of(profissional));
+
+        assertSame(usuario, contexto.getUsuario().orElseThrow());
+        assertSame(usuario, contexto.getUsuario().orElseThrow());
+        assertSame(profissional, contexto.getProfissional().orElseThrow());
+        assertSame(profissional, contexto.getProfissional().orElseThrow());
+
+        verify(usuarioRepository, times(1)).findById(7L);
+        verify(profissionalRepository, times(1)).findByUsuario_IdUsuario(7L);
+    }
+
+    @Test
+    @DisplayName("Deve lembrar também que o usuário não existe")
+    void deveLembrarUsuarioInexistente() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        autenticar(7L, "ROLE_USER");
+        when(usuarioRepository.findById(7L)).thenReturn(Optional.empty());
+
+        assertTrue(contexto.getUsuario().isEmpty());
+        assertTrue(contexto.getUsuario().isEmpty());
+
+        verify(usuarioRepository, times(1)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("Deve buscar pelo CPF quando a autenticação não é um JWT")
+    void deveBuscarPeloCpfSemJwt() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            "12345678900", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        Usuario usuario = new Usuario();
+        when(usuarioRepository.findByCpf("12345678900")).thenReturn(Optional.of(usuario));
+
+        assertSame(usuario, contexto.getUsuario().orElseThrow());
+        assertNull(contexto.getIdUsuario());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar nada fora de uma requisição")
+    void naoDeveGuardarForaDeRequisicao() {
+        autenticar(7L, "ROLE_USER");
+        when(usuarioRepository.findById(7L)).thenReturn(Optional.of(new Usuario()));
+
+        contexto.getUsuario();
+        contexto.getUsuario();
+
+        verify(usuarioRepository, times(2)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio sem autenticação")
+    void deveRetornarVazioSemAutenticacao() {
+        assertNull(contexto.getJwt());
+        assertNull(contexto.getIdUsuario());
+        assertFalse(contexto.isAdmin());
+        assertTrue(contexto.getUsuario().isEmpty());
+        verifyNoInteractions(usuarioRepository);
+    }
+
+    private static void autenticar(Long idUsuario, String role) {
+        Jwt jwt = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("12345678900")
+            .claim("userId", idUsuario)
+            .build();
+        SecurityContextHolder.getContext().setAuthentication(
+            new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority(role))));
+    }
+}
@@ -29,7 +29,6 @@ import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import inkspiration.backend.entities.Usuario;
-import inkspiration.backend.repository.TokenRevogadoRepository;
 import inkspiration.backend.repository.UsuarioRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,11 +42,14 @@ class JwtServiceTest {
     private JwtDecoder jwtDecoder;
 
     @Mock
-    private TokenRevogadoRepository tokenRevogadoRepository;
+    private RegistroTokensRevogados registroTokensRevogados;
 
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private VersoesToken versoesToken;
+
     @Mock
     private Authentication authentication;
 
@@ -61,7 +63,7 @@ class JwtServiceTest {
     }
 
     @Test
-    @DisplayName("Deve gerar token com configurações padrão")
+    @DisplayName("Deve gerar token com configurações padrão e a versão informada")
     void deveGerarTokenComConfiguracoesPadrao() {
         // Arrange
         String cpf = "12345678900";
@@ -78,7 +80,7 @@ class JwtServiceTest {
             .thenReturn(mock(org.springframework.security.oauth2.jwt.Jwt.class));
 
         // Act
-        jwtService.generateToken(authentication);
+        jwtService.generateToken(authentication, null, 7);
 
         // Assert
         ArgumentCaptor<JwtEncoderParameters> parametersCaptor = ArgumentCaptor.forClass(JwtEncoderParameters.class);
@@ -88,6 +90,7 @@ class JwtServiceTest {
         assertEquals(cpf, claims.getSubject());
         assertEquals("ROLE_USER", claims.getClaim("scope"));
         assertEquals(userId, claims.getClaim("userId"));
+        assertEquals(7, (Integer) claims.getClaim("tokenVersion"));
         assertNotNull(claims.getIssuedAt());
         assertNotNull(claims.getExpiresAt());
     }
@@ -142,11 +145,35 @@ class JwtServiceTest {
     void deveVerificarSeTokenEstaRevogado() {
         // Arrange
         String token = "token";
-        when(tokenRevogadoRepository.existsByToken(token)).thenReturn(true);
+        when(registroTokensRevogados.contem(token)).thenReturn(true);
 
         // Act & Assert
         assertTrue(jwtService.isTokenRevogado(token));
-        verify(tokenRevogadoRepository).existsByToken(token);
+        verify(registroTokensRevogados).contem(token);
+    }
+
+    @Test
+    @DisplayName("Deve informar o token atual quando o token é de uma versão anterior")
+    void deveInformarTokenMaisRecente() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("antigo").header("alg", "RS256")
+            .claim("userId", 123L).claim("tokenVersion", 2L).build();
+        when(versoesToken.tokenMaisRecente(123L, 2)).thenReturn(Optional.of("novo"));
+
+        // Act & Assert
+        assertEquals(Optional.of("novo"), jwtService.getTokenMaisRecente(jwt));
+    }
+
+    @Test
+    @DisplayName("Deve tratar token sem versão como versão 0")
+    void deveTratarTokenSemVersaoComoVersaoZero() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("legado").header("alg", "RS256").claim("userId", 123L).build();
+        when(versoesToken.tokenMaisRecente(123L, 0)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(jwtService.getTokenMaisRecente(jwt).isEmpty());
+        verify(versoesToken).tokenMaisRecente(123L, 0);
     }
 
     @Test
@@ -170,6 +197,7 @@ class JwtServiceTest {
 
         JwtClaimsSet claims = parametersCaptor.getValue().getClaims();
         assertNull(claims.getClaim("userId"));
+        assertNull(claims.getClaim("tokenVersion"));
     }
 
     @Test
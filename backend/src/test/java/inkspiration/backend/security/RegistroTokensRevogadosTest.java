@@ -0,0 +1,135 @@
+package inkspiration.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import inkspiration.backend.entities.TokenRevogado;
+import inkspiration.backend.repository.TokenRevogadoRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegistroTokensRevogados - Testes Unitários")
+class RegistroTokensRevogadosTest {
+
+    @Mock
+    private TokenRevogadoRepository tokenRevogadoRepository;
+
+    private RegistroTokensRevogados registro;
+
+    @BeforeEach
+    void setUp() {
+        registro = new RegistroTokensRevogados(tokenRevogadoRepository, 43200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer token registrado sem consultar o banco")
+    void deveReconhecerTokenRegistrado() {
+        String revogado = token(Instant.now().plusSeconds(3600), "a");
+        String valido = token(Instant.now().plusSeconds(3600), "b");
+
+        registro.registrar(revogado);
+
+        assertTrue(registro.contem(revogado));
+        assertFalse(registro.contem(valido));
+        assertFalse(registro.contem(null));
+        verifyNoInteractions(tokenRevogadoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve carregar ao iniciar os tokens revogados ainda não expirados")
+    void deveCarregarTokensDoBanco() {
+        String ativo = token(Instant.now().plusSeconds(3600), "a");
+        String expirado = token(Instant.now().minusSeconds(60), "b");
+        when(tokenRevogadoRepository.findAll()).thenReturn(List.of(new TokenRevogado(ativo), new TokenRevogado(expirado)));
+
+        registro.afterSingletonsInstantiated();
+
+        assertTrue(registro.contem(ativo));
+        assertFalse(registro.contem(expirado));
+        assertEquals(1, registro.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve trazer nas sincronizações seguintes só as revogações recentes")
+    void deveSincronizarRevogacoesRecentes() {
+        String outraInstancia = token(Instant.now().plusSeconds(3600), "a");
+        when(tokenRevogadoRepository.findAll()).thenReturn(List.of());
+        when(tokenRevogadoRepository.findByDataRevogacaoAfter(any(LocalDateTime.class)))
+            .thenReturn(List.of(new TokenRevogado(outraInstancia)));
+
+        registro.sincronizar();
+        assertFalse(registro.contem(outraInstancia));
+        registro.sincronizar();
+
+        assertTrue(registro.contem(outraInstancia));
+        verify(tokenRevogadoRepository).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve usar a validade máxima quando o token não tem expiração legível")
+    void deveUsarValidadeMaximaParaTokenIlegivel() {
+        String ilegivel = "token-sem-formato-jwt";
+
+        registro.registrar(ilegivel);
+
+        assertTrue(registro.contem(ilegivel));
+    }
+
+    @Test
+    @DisplayName("Deve registrar dentro de uma transação só depois do commit")
+    void deveRegistrarSomenteAposCommit() {
+        String token = token(Instant.now().plusSeconds(3600), "a");
+        TransactionSynchronizationManager.initSynchronization();
+
+        registro.registrar(token);
+
+        assertFalse(registro.contem(token));
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        sincronizacoes.forEach(TransactionSynchronization::afterCommit);
+        assertTrue(registro.contem(token));
+    }
+
+    @Test
+    @DisplayName("Não deve registrar token de transação desfeita")
+    void naoDeveRegistrarAposRollback() {
+        String token = token(Instant.now().plusSeconds(3600), "a");
+        TransactionSynchronizationManager.initSynchronization();
+
+        registro.registrar(token);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(registro.contem(token));
+    }
+
+    private static String token(Instant expiracao, String sujeito) {
+        Base64.Encoder codificador = Base64.getUrlEncoder().withoutPadding();
+        String cabecalho = codificador.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8));
+        String corpo = codificador.encodeToString(("{\"sub\":\"" + sujeito + "\",\"exp\":" + expiracao.getEpochSecond() + "}")
+            .getBytes(StandardCharsets.UTF_8));
+        return cabecalho + "." + corpo + ".assinatura";
+    }
+}
@@ -0,0 +1,82 @@
+package inkspiration.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RotasSeguranca - Testes Unitários")
+class RotasSegurancaTest {
+
+    @Test
+    @DisplayName("Deve liberar as rotas públicas de GET apenas para GET")
+    void deveLiberarRotasPublicasDeGet() {
+        assertTrue(RotasSeguranca.isPublica("GET", "/profissional/publico"));
+        assertTrue(RotasSeguranca.isPublica("GET", "/profissional/15"));
+        assertTrue(RotasSeguranca.isPublica("GET", "/profissional/completo/15/com-avaliacoes"));
+        assertTrue(RotasSeguranca.isPublica("GET", "/imagens/conteudo/ab12cd"));
+        assertTrue(RotasSeguranca.isPublica("GET", "/disponibilidades/profissional/3/verificar"));
+        assertTrue(RotasSeguranca.isPublica("GET", "/tipos-servico"));
+
+        assertFalse(RotasSeguranca.isPublica("POST", "/profissional/15"));
+        assertFalse(RotasSeguranca.isPublica("DELETE", "/portfolio/2"));
+        assertFalse(RotasSeguranca.isPublica("GET", "/profissional/15/agendamentos"));
+        assertFalse(RotasSeguranca.isPublica("GET", "/usuario/1"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar as rotas de autenticação para qualquer método")
+    void deveLiberarAutenticacaoParaQualquerMetodo() {
+        assertTrue(RotasSeguranca.isPublica("POST", "/auth/login"));
+        assertTrue(RotasSeguranca.isPublica("GET", "/auth/2fa/status"));
+        assertTrue(RotasSeguranca.isPublica("POST", "/auth"));
+        assertTrue(RotasSeguranca.isPublica("GET", "/h2-console/login.do"));
+
+        assertFalse(RotasSeguranca.isPublica("POST", "/autenticacao/login"));
+    }
+
+    @Test
+    @DisplayName("Deve extrair o id do usuário de todas as rotas do usuário")
+    void deveExtrairIdUsuario() {
+        assertEquals(123L, RotasSeguranca.idUsuario("/usuario/123"));
+        assertEquals(123L, RotasSeguranca.idUsuario("/usuario/123/foto-perfil"));
+        assertEquals(123L, RotasSeguranca.idUsuario("/usuario/123/validate-token"));
+        assertEquals(123L, RotasSeguranca.idUsuario("/usuario/detalhes/123"));
+        assertEquals(123L, RotasSeguranca.idUsuario("/usuario/atualizar/123"));
+        assertEquals(123L, RotasSeguranca.idUsuario("/profissional/usuario/123"));
+        assertEquals(123L, RotasSeguranca.idUsuario("/profissional/usuario/123/portfolio"));
+        assertEquals(123L, RotasSeguranca.idUsuario("/profissional/verificar/123"));
+    }
+
+    @Test
+    @DisplayName("Deve ler ids com zeros à esquerda como o Spring")
+    void deveLerIdComZerosAEsquerda() {
+        assertEquals(5L, RotasSeguranca.idUsuario("/usuario/0000000000000000005/foto-perfil"));
+        assertEquals(5L, RotasSeguranca.idUsuario("/profissional/usuario/00000000000000000000000005"));
+        assertEquals(Long.MAX_VALUE, RotasSeguranca.idUsuario("/usuario/" + Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Deve marcar como inválidos ids que parecem numéricos mas não podem ser lidos")
+    void deveMarcarIdInvalido() {
+        assertEquals(RotasSeguranca.ID_USUARIO_INVALIDO, RotasSeguranca.idUsuario("/usuario/12345678901234567890"));
+        assertEquals(RotasSeguranca.ID_USUARIO_INVALIDO, RotasSeguranca.idUsuario("/usuario/9223372036854775808"));
+        assertEquals(RotasSeguranca.ID_USUARIO_INVALIDO, RotasSeguranca.idUsuario("/usuario/0x5/foto-perfil"));
+        assertEquals(RotasSeguranca.ID_USUARIO_INVALIDO, RotasSeguranca.idUsuario("/usuario/+5"));
+        assertEquals(RotasSeguranca.ID_USUARIO_INVALIDO, RotasSeguranca.idUsuario("/usuario/%35"));
+        assertEquals(RotasSeguranca.ID_USUARIO_INVALIDO, RotasSeguranca.idUsuario("/profissional/verificar/-5"));
+    }
+
+    @Test
+    @DisplayName("Não deve extrair id de rotas sem id numérico ou fora das rotas do usuário")
+    void naoDeveExtrairIdInvalido() {
+        assertEquals(RotasSeguranca.SEM_ID_USUARIO, RotasSeguranca.idUsuario("/usuario/abc"));
+        assertEquals(RotasSeguranca.SEM_ID_USUARIO, RotasSeguranca.idUsuario("/usuario/detalhes"));
+        assertEquals(RotasSeguranca.SEM_ID_USUARIO, RotasSeguranca.idUsuario("/usuario/detalhes/abc"));
+        assertEquals(RotasSeguranca.SEM_ID_USUARIO, RotasSeguranca.idUsuario("/usuario"));
+        assertEquals(RotasSeguranca.SEM_ID_USUARIO, RotasSeguranca.idUsuario("/profissional/15"));
+        assertEquals(RotasSeguranca.SEM_ID_USUARIO, RotasSeguranca.idUsuario("/profissional/verificar/1/extra"));
+        assertEquals(RotasSeguranca.SEM_ID_USUARIO, RotasSeguranca.idUsuario(""));
+        assertEquals(RotasSeguranca.SEM_ID_USUARIO, RotasSeguranca.idUsuario(null));
+    }
+}
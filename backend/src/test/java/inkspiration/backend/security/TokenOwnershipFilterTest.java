@@ -133,6 +133,50 @@ class TokenOwnershipFilterTest {
         verify(filterChain, never()).doFilter(request, response);
     }
 
+    @Test
+    @DisplayName("Deve negar acesso a id de outro usuário com zeros à esquerda")
+    void deveNegarAcessoComIdComZerosAEsquerda() throws ServletException, IOException {
+        // Arrange
+        when(request.getMethod()).thenReturn("PUT");
+        when(request.getRequestURI()).thenReturn("/usuario/0000000000000000005/foto-perfil");
+
+        JwtAuthenticationToken jwtAuth = mock(JwtAuthenticationToken.class);
+        when(jwtAuth.getToken()).thenReturn(jwt);
+        when(jwt.getClaim("userId")).thenReturn(456L);
+        when(jwtAuth.getAuthorities()).thenReturn(Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
+        when(securityContext.getAuthentication()).thenReturn(jwtAuth);
+        when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+
+        // Act
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(response).setStatus(HttpServletResponse.SC_FORBIDDEN);
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("Deve negar acesso quando o id da URL não pode ser lido")
+    void deveNegarAcessoQuandoIdInvalido() throws ServletException, IOException {
+        // Arrange
+        when(request.getMethod()).thenReturn("PUT");
+        when(request.getRequestURI()).thenReturn("/usuario/99999999999999999999/foto-perfil");
+
+        JwtAuthenticationToken jwtAuth = mock(JwtAuthenticationToken.class);
+        when(jwtAuth.getToken()).thenReturn(jwt);
+        when(jwt.getClaim("userId")).thenReturn(456L);
+        when(jwtAuth.getAuthorities()).thenReturn(Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
+        when(securityContext.getAuthentication()).thenReturn(jwtAuth);
+        when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+
+        // Act
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(response).setStatus(HttpServletResponse.SC_FORBIDDEN);
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
     @Test
     @DisplayName("Deve permitir acesso quando URL não contém ID de usuário")
     void devePermitirAcessoQuandoUrlNaoContemIdUsuario() throws ServletException, IOException {
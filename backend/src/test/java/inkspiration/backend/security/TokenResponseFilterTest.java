@@ -12,9 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
 
-import inkspiration.backend.entities.Usuario;
-import inkspiration.backend.repository.UsuarioRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,7 +27,7 @@ class TokenResponseFilterTest {
     private JwtService jwtService;
 
     @Mock
-    private UsuarioRepository usuarioRepository;
+    private ContextoAutenticacao contextoAutenticacao;
 
     @Mock
     private HttpServletRequest request;
@@ -96,15 +95,13 @@ class TokenResponseFilterTest {
         // Arrange
         String token = "abc123";
         String novoToken = "xyz789";
-        Long userId = 1L;
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
         when(jwtService.isTokenRevogado(token)).thenReturn(false);
-        when(jwtService.getUserIdFromToken(token)).thenReturn(userId);
 
-        Usuario usuario = new Usuario();
-        usuario.setTokenAtual(novoToken);
-        when(usuarioRepository.findById(userId)).thenReturn(Optional.of(usuario));
+        Jwt jwt = jwt(token);
+        when(contextoAutenticacao.getJwt()).thenReturn(jwt);
+        when(jwtService.getTokenMaisRecente(jwt)).thenReturn(Optional.of(novoToken));
 
         // Act
         filter.doFilterInternal(request, response, filterChain);
@@ -113,22 +110,22 @@ class TokenResponseFilterTest {
         verify(response).setHeader("New-Auth-Token", novoToken);
         verify(response).setHeader("Access-Control-Expose-Headers", "New-Auth-Token");
         verify(filterChain).doFilter(request, response);
+        verify(jwtService, never()).getUserIdFromToken(any());
+        verify(contextoAutenticacao, never()).getUsuario();
     }
 
     @Test
-    @DisplayName("Não deve adicionar novo token quando token atual é igual")
+    @DisplayName("Não deve adicionar novo token quando a versão do token é a atual")
     void naoDeveAdicionarNovoTokenQuandoTokenAtualIgual() throws ServletException, IOException {
         // Arrange
         String token = "abc123";
-        Long userId = 1L;
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
         when(jwtService.isTokenRevogado(token)).thenReturn(false);
-        when(jwtService.getUserIdFromToken(token)).thenReturn(userId);
 
-        Usuario usuario = new Usuario();
-        usuario.setTokenAtual(token);
-        when(usuarioRepository.findById(userId)).thenReturn(Optional.of(usuario));
+        Jwt jwt = jwt(token);
+        when(contextoAutenticacao.getJwt()).thenReturn(jwt);
+        when(jwtService.getTokenMaisRecente(jwt)).thenReturn(Optional.empty());
 
         // Act
         filter.doFilterInternal(request, response, filterChain);
@@ -140,16 +137,14 @@ class TokenResponseFilterTest {
     }
 
     @Test
-    @DisplayName("Deve continuar chain quando usuário não é encontrado")
-    void deveContinuarChainQuandoUsuarioNaoEncontrado() throws ServletException, IOException {
+    @DisplayName("Deve continuar chain quando a requisição não foi autenticada por JWT")
+    void deveContinuarChainSemJwt() throws ServletException, IOException {
         // Arrange
         String token = "abc123";
-        Long userId = 1L;
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
         when(jwtService.isTokenRevogado(token)).thenReturn(false);
-        when(jwtService.getUserIdFromToken(token)).thenReturn(userId);
-        when(usuarioRepository.findById(userId)).thenReturn(Optional.empty());
+        when(contextoAutenticacao.getJwt()).thenReturn(null);
 
         // Act
         filter.doFilterInternal(request, response, filterChain);
@@ -158,6 +153,7 @@ class TokenResponseFilterTest {
         verify(response, never()).setHeader(eq("New-Auth-Token"), any());
         verify(response, never()).setHeader(eq("Access-Control-Expose-Headers"), any());
         verify(filterChain).doFilter(request, response);
+        verify(jwtService, never()).getTokenMaisRecente(any());
     }
 
     @Test
@@ -175,4 +171,8 @@ class TokenResponseFilterTest {
         verify(response, never()).setHeader(eq("New-Auth-Token"), any());
         verify(response, never()).setHeader(eq("Access-Control-Expose-Headers"), any());
     }
-} 
\ No newline at end of file
+
+    private static Jwt jwt(String token) {
+        return Jwt.withTokenValue(token).header("alg", "RS256").claim("userId", 1L).build();
+    }
+}
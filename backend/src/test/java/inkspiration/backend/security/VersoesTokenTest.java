@@ -0,0 +1,81 @@
+package inkspiration.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import inkspiration.backend.dto.VersaoTokenDTO;
+import inkspiration.backend.repository.UsuarioRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VersoesToken - Testes Unitários")
+class VersoesTokenTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    private VersoesToken versoesToken;
+
+    @BeforeEach
+    void setUp() {
+        versoesToken = new VersoesToken(usuarioRepository);
+    }
+
+    @Test
+    @DisplayName("Deve informar o token atual para tokens de versões anteriores consultando o banco uma vez")
+    void deveInformarTokenAtualComCache() {
+        when(usuarioRepository.findVersaoToken(1L)).thenReturn(Optional.of(new VersaoTokenDTO(3, "atual")));
+
+        assertEquals(Optional.of("atual"), versoesToken.tokenMaisRecente(1L, 2));
+        assertEquals(Optional.of("atual"), versoesToken.tokenMaisRecente(1L, 0));
+        assertTrue(versoesToken.tokenMaisRecente(1L, 3).isEmpty());
+
+        verify(usuarioRepository, times(1)).findVersaoToken(1L);
+    }
+
+    @Test
+    @DisplayName("Deve reler a versão depois de descartada")
+    void deveRelerAposDescarte() {
+        when(usuarioRepository.findVersaoToken(1L))
+            .thenReturn(Optional.of(new VersaoTokenDTO(1, "primeiro")))
+            .thenReturn(Optional.of(new VersaoTokenDTO(2, "segundo")));
+
+        assertTrue(versoesToken.tokenMaisRecente(1L, 1).isEmpty());
+        versoesToken.descartar(1L);
+
+        assertEquals(Optional.of("segundo"), versoesToken.tokenMaisRecente(1L, 1));
+        verify(usuarioRepository, times(2)).findVersaoToken(1L);
+    }
+
+    @Test
+    @DisplayName("Deve reler a versão quando o token da requisição é mais novo que o cache")
+    void deveRelerQuandoTokenMaisNovoQueCache() {
+        when(usuarioRepository.findVersaoToken(1L))
+            .thenReturn(Optional.of(new VersaoTokenDTO(1, "primeiro")))
+            .thenReturn(Optional.of(new VersaoTokenDTO(2, "segundo")));
+
+        versoesToken.tokenMaisRecente(1L, 1);
+        assertTrue(versoesToken.tokenMaisRecente(1L, 2).isEmpty());
+        assertEquals(Optional.of("segundo"), versoesToken.tokenMaisRecente(1L, 1));
+
+        verify(usuarioRepository, times(2)).findVersaoToken(1L);
+    }
+
+    @Test
+    @DisplayName("Não deve informar token quando o usuário não tem token atual ou não existe")
+    void naoDeveInformarSemTokenAtual() {
+        when(usuarioRepository.findVersaoToken(1L)).thenReturn(Optional.of(new VersaoTokenDTO(4, null)));
+        when(usuarioRepository.findVersaoToken(2L)).thenReturn(Optional.empty());
+
+        assertTrue(versoesToken.tokenMaisRecente(1L, 0).isEmpty());
+        assertTrue(versoesToken.tokenMaisRecente(2L, 0).isEmpty());
+    }
+}
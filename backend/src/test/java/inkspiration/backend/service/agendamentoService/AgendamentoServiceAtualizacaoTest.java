@@ -100,9 +100,9 @@ class AgendamentoServiceAtualizacaoTest {
         LocalDateTime dtInicio = LocalDate.now().plusDays(3).atTime(15, 0);
         
         when(agendamentoRepository.findById(id)).thenReturn(Optional.of(agendamento));
-        when(agendamentoRepository.findByUsuario(usuario)).thenReturn(Arrays.asList());
+        when(agendamentoRepository.existsConflitoUsuarioExceto(any(), any(), any(), any())).thenReturn(false);
         when(disponibilidadeService.isProfissionalDisponivel(any(), any(), any())).thenReturn(true);
-        when(agendamentoRepository.findByProfissionalAndPeriod(any(), any(), any())).thenReturn(Arrays.asList());
+        when(agendamentoRepository.existsConflitoProfissionalExceto(any(), any(), any(), any())).thenReturn(false);
         when(agendamentoRepository.save(any(Agendamento.class))).thenReturn(agendamento);
         
         // When
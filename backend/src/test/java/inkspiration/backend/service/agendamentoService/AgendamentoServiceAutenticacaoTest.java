@@ -125,7 +125,7 @@ class AgendamentoServiceAutenticacaoTest {
         
         when(usuarioRepository.findById(1L)).thenReturn(Optional.of(usuario));
         when(profissionalRepository.findById(1L)).thenReturn(Optional.of(profissional));
-        when(agendamentoRepository.findByUsuario(usuario)).thenReturn(Arrays.asList());
+        when(agendamentoRepository.existsConflitoUsuario(any(), any(), any())).thenReturn(false);
         when(disponibilidadeService.isProfissionalDisponivel(any(), any(), any())).thenReturn(true);
         when(agendamentoRepository.existsConflitingSchedule(any(), any(), any())).thenReturn(false);
         when(agendamentoRepository.save(any())).thenReturn(agendamento);
@@ -204,9 +204,9 @@ class AgendamentoServiceAutenticacaoTest {
         request.setDtInicio(LocalDate.now().plusDays(3).atTime(15, 0));
         
         when(agendamentoRepository.findById(id)).thenReturn(Optional.of(agendamento));
-        when(agendamentoRepository.findByUsuario(usuario)).thenReturn(Arrays.asList());
+        when(agendamentoRepository.existsConflitoUsuarioExceto(any(), any(), any(), any())).thenReturn(false);
         when(disponibilidadeService.isProfissionalDisponivel(any(), any(), any())).thenReturn(true);
-        when(agendamentoRepository.findByProfissionalAndPeriod(any(), any(), any())).thenReturn(Arrays.asList());
+        when(agendamentoRepository.existsConflitoProfissionalExceto(any(), any(), any(), any())).thenReturn(false);
         when(agendamentoRepository.save(any())).thenReturn(agendamento);
         
         // When
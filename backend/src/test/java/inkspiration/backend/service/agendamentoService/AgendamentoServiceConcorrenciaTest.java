@@ -0,0 +1,172 @@
+package inkspiration.backend.service.agendamentoService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import inkspiration.backend.entities.Agendamento;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.exception.agendamento.HorarioConflitanteException;
+import inkspiration.backend.repository.AgendamentoRepository;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.UsuarioRepository;
+import inkspiration.backend.service.AgendamentoService;
+import inkspiration.backend.service.AvaliacaoService;
+import inkspiration.backend.service.DisponibilidadeService;
+import inkspiration.backend.util.UsuariosTeste;
+
+/**
+ * Dispara marcações simultâneas para o mesmo horário, divididas entre duas instâncias do serviço
+ * (como dois nós da aplicação, cada um com suas travas locais), e garante que cada profissional
+ * termina com um único agendamento.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("AgendamentoService - Marcações concorrentes")
+class AgendamentoServiceConcorrenciaTest {
+
+    private static final UsuariosTeste USUARIOS = new UsuariosTeste("concorrencia", 200000000);
+
+    private static final int CLIENTES_POR_PROFISSIONAL = 16;
+
+    @Autowired
+    private AgendamentoRepository agendamentoRepository;
+
+    @Autowired
+    private ProfissionalRepository profissionalRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transacao;
+    private List<AgendamentoService> instancias;
+    private List<Profissional> profissionais;
+    private List<List<Usuario>> clientes;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transacao = new TransactionTemplate(transactionManager);
+
+        DisponibilidadeService disponibilidadeService = mock(DisponibilidadeService.class);
+        when(disponibilidadeService.isProfissionalDisponivel(any(), any(), any())).thenReturn(true);
+        instancias = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            instancias.add(new AgendamentoService(agendamentoRepository, profissionalRepository, usuarioRepository,
+                disponibilidadeService, mock(AvaliacaoService.class)));
+        }
+
+        profissionais = new ArrayList<>();
+        clientes = new ArrayList<>();
+        int indice = 0;
+        for (int p = 0; p < 2; p++) {
+            Profissional profissional = new Profissional();
+            profissional.setUsuario(criarUsuario(UserRole.ROLE_PROF.getRole(), indice++));
+            profissional.setTiposServicoStr("{\"TATUAGEM_PEQUENA\":100}");
+            profissionais.add(profissionalRepository.save(profissional));
+
+            List<Usuario> clientesDoProfissional = new ArrayList<>();
+            for (int c = 0; c < CLIENTES_POR_PROFISSIONAL; c++) {
+                clientesDoProfissional.add(criarUsuario(UserRole.ROLE_USER.getRole(), indice++));
+            }
+            clientes.add(clientesDoProfissional);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        agendamentoRepository.deleteAll();
+        profissionalRepository.deleteAll();
+        usuarioRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Não deve gravar dois agendamentos no mesmo horário do profissional")
+    void naoDeveGravarAgendamentosDuplicados() throws Exception {
+        LocalDateTime horario = LocalDate.now().plusDays(3).atTime(14, 0);
+        int total = profissionais.size() * CLIENTES_POR_PROFISSIONAL;
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(total);
+
+        List<Future<Boolean>> resultados = new ArrayList<>();
+        try {
+            for (int p = 0; p < profissionais.size(); p++) {
+                Long idProfissional = profissionais.get(p).getIdProfissional();
+                for (int c = 0; c < CLIENTES_POR_PROFISSIONAL; c++) {
+                    Long idUsuario = clientes.get(p).get(c).getIdUsuario();
+                    AgendamentoService servico = instancias.get(c % instancias.size());
+                    Callable<Boolean> marcacao = () -> {
+                        largada.await();
+                        try {
+                            transacao.execute(status -> {
+                                try {
+                                    return servico.criarAgendamento(idUsuario, idProfissional, "pequena",
+                                        "Tatuagem concorrente", horario, new BigDecimal("150.00"));
+                                } catch (RuntimeException e) {
+                                    throw e;
+                                } catch (Exception e) {
+                                    throw new IllegalStateException(e);
+                                }
+                            });
+                            return true;
+                        } catch (HorarioConflitanteException e) {
+                            return false;
+                        }
+                    };
+                    resultados.add(executor.submit(marcacao));
+                }
+            }
+            largada.countDown();
+
+            int sucessos = 0;
+            for (Future<Boolean> resultado : resultados) {
+                if (resultado.get(60, TimeUnit.SECONDS)) {
+                    sucessos++;
+                }
+            }
+            assertEquals(profissionais.size(), sucessos);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Profissional profissional : profissionais) {
+            List<Agendamento> gravados = agendamentoRepository.findByProfissionalAndPeriod(
+                profissional.getIdProfissional(), horario.minusHours(1), horario.plusHours(3));
+            assertEquals(1, gravados.size());
+        }
+    }
+
+    private Usuario criarUsuario(String role, int indice) {
+        String nome = "Cliente " + (char) ('A' + indice % 26) + (char) ('a' + indice / 26);
+        return usuarioRepository.save(USUARIOS.novo(nome, role, indice));
+    }
+}
@@ -0,0 +1,171 @@
+package inkspiration.backend.service.agendamentoService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import inkspiration.backend.entities.Agendamento;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.StatusAgendamento;
+import inkspiration.backend.enums.TipoServico;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.repository.AgendamentoRepository;
+import inkspiration.backend.util.UsuariosTeste;
+
+/**
+ * Garante que as consultas de conflito por faixa de horário (H2) coincidem com a
+ * verificação de sobreposição feita em memória sobre todos os agendamentos.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@DisplayName("AgendamentoService - Conflitos de horário consultados no banco")
+class AgendamentoServiceConflitosBancoTest {
+
+    private static final UsuariosTeste USUARIOS = new UsuariosTeste("usuario", 100000000);
+
+    private static final LocalDateTime BASE = LocalDate.now().plusDays(10).atStartOfDay();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AgendamentoRepository agendamentoRepository;
+
+    private Usuario cliente;
+    private Usuario outroCliente;
+    private Profissional profissional;
+    private Profissional outroProfissional;
+
+    @BeforeEach
+    void setUp() {
+        cliente = criarUsuario("Cliente", UserRole.ROLE_USER.getRole(), 1);
+        outroCliente = criarUsuario("Outro Cliente", UserRole.ROLE_USER.getRole(), 2);
+        profissional = criarProfissional(criarUsuario("Profissional", UserRole.ROLE_PROF.getRole(), 3));
+        outroProfissional = criarProfissional(criarUsuario("Outro Profissional", UserRole.ROLE_PROF.getRole(), 4));
+
+        Random random = new Random(5);
+        StatusAgendamento[] status = StatusAgendamento.values();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime inicio = BASE.plusMinutes(30L * random.nextInt(20 * 48));
+            criarAgendamento(
+                random.nextBoolean() ? cliente : outroCliente,
+                random.nextBoolean() ? profissional : outroProfissional,
+                inicio, inicio.plusHours(1 + random.nextInt(4)).minusSeconds(1),
+                status[random.nextInt(status.length)]);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve usar semântica de sobreposição e ignorar agendamentos cancelados")
+    void deveUsarSemanticaDeSobreposicao() {
+        // Fora do intervalo dos agendamentos aleatórios
+        LocalDateTime inicio = BASE.plusDays(30).withHour(10);
+        Agendamento existente = criarAgendamento(cliente, profissional,
+            inicio, inicio.plusHours(4).minusSeconds(1), StatusAgendamento.AGENDADO);
+        criarAgendamento(outroCliente, outroProfissional,
+            inicio, inicio.plusHours(4).minusSeconds(1), StatusAgendamento.CANCELADO);
+        entityManager.flush();
+
+        Long idProfissional = profissional.getIdProfissional();
+        // Agendamento contido no período consultado: a antiga consulta com BETWEEN não o encontrava
+        assertTrue(agendamentoRepository.existsConflitingSchedule(idProfissional, inicio.minusHours(1), inicio.plusHours(6)));
+        assertTrue(agendamentoRepository.existsConflitingSchedule(idProfissional, inicio.plusHours(1), inicio.plusHours(2)));
+        // Terminar quando o agendamento começa, ou começar quando ele termina, não é conflito
+        assertFalse(agendamentoRepository.existsConflitingSchedule(idProfissional, inicio.minusHours(2), inicio));
+        assertFalse(agendamentoRepository.existsConflitingSchedule(idProfissional, inicio.plusHours(4).minusSeconds(1), inicio.plusHours(5)));
+        assertTrue(agendamentoRepository.existsConflitoUsuario(cliente.getIdUsuario(), inicio, inicio.plusHours(1)));
+        assertFalse(agendamentoRepository.existsConflitoUsuarioExceto(
+            cliente.getIdUsuario(), inicio, inicio.plusHours(1), existente.getIdAgendamento()));
+        assertFalse(agendamentoRepository.existsConflitoProfissionalExceto(
+            idProfissional, inicio, inicio.plusHours(1), existente.getIdAgendamento()));
+
+        // Cancelados não bloqueiam a agenda
+        assertFalse(agendamentoRepository.existsConflitoUsuario(outroCliente.getIdUsuario(), inicio, inicio.plusHours(1)));
+        assertFalse(agendamentoRepository.existsConflitingSchedule(outroProfissional.getIdProfissional(), inicio, inicio.plusHours(1)));
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a verificação em memória para períodos aleatórios")
+    void deveCoincidirComVerificacaoEmMemoria() {
+        List<Agendamento> todos = agendamentoRepository.findAll();
+        Random random = new Random(17);
+
+        for (int i = 0; i < 300; i++) {
+            LocalDateTime inicio = BASE.plusMinutes(15L * random.nextInt(20 * 96));
+            LocalDateTime fim = inicio.plusMinutes(30L * (1 + random.nextInt(12))).minusSeconds(1);
+            Long ignorado = todos.get(random.nextInt(todos.size())).getIdAgendamento();
+            Long idUsuario = cliente.getIdUsuario();
+            Long idProfissional = profissional.getIdProfissional();
+
+            assertEquals(conflitoEmMemoria(idUsuario, null, inicio, fim, null),
+                agendamentoRepository.existsConflitoUsuario(idUsuario, inicio, fim));
+            assertEquals(conflitoEmMemoria(idUsuario, null, inicio, fim, ignorado),
+                agendamentoRepository.existsConflitoUsuarioExceto(idUsuario, inicio, fim, ignorado));
+            assertEquals(conflitoEmMemoria(null, idProfissional, inicio, fim, null),
+                agendamentoRepository.existsConflitingSchedule(idProfissional, inicio, fim));
+            assertEquals(conflitoEmMemoria(null, idProfissional, inicio, fim, ignorado),
+                agendamentoRepository.existsConflitoProfissionalExceto(idProfissional, inicio, fim, ignorado));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices compostos por período")
+    void deveCriarIndicesCompostos() {
+        @SuppressWarnings("unchecked")
+        List<String> indices = entityManager.getEntityManager().createNativeQuery(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE LOWER(TABLE_NAME) = 'agendamento'")
+            .getResultList();
+        assertTrue(indices.contains("idx_agendamento_usuario_periodo"));
+        assertTrue(indices.contains("idx_agendamento_profissional_periodo"));
+    }
+
+    private boolean conflitoEmMemoria(Long idUsuario, Long idProfissional,
+                                      LocalDateTime inicio, LocalDateTime fim, Long ignorado) {
+        return agendamentoRepository.findAll().stream()
+            .filter(a -> idUsuario == null || a.getUsuario().getIdUsuario().equals(idUsuario))
+            .filter(a -> idProfissional == null || a.getProfissional().getIdProfissional().equals(idProfissional))
+            .filter(a -> ignorado == null || !a.getIdAgendamento().equals(ignorado))
+            .filter(a -> a.getStatus() != StatusAgendamento.CANCELADO)
+            .anyMatch(a -> a.getDtInicio().isBefore(fim) && a.getDtFim().isAfter(inicio));
+    }
+
+    private Agendamento criarAgendamento(Usuario usuario, Profissional profissional,
+                                         LocalDateTime inicio, LocalDateTime fim, StatusAgendamento status) {
+        Agendamento agendamento = new Agendamento();
+        agendamento.setUsuario(usuario);
+        agendamento.setProfissional(profissional);
+        agendamento.setTipoServico(TipoServico.TATUAGEM_PEQUENA);
+        agendamento.setDescricao("Tatuagem de teste");
+        agendamento.setValor(new BigDecimal("150.00"));
+        agendamento.setDtInicio(inicio);
+        agendamento.setDtFim(fim);
+        agendamento.setStatus(status);
+        return entityManager.persist(agendamento);
+    }
+
+    private Profissional criarProfissional(Usuario usuario) {
+        Profissional profissional = new Profissional();
+        profissional.setUsuario(usuario);
+        profissional.setTiposServicoStr("{\"TATUAGEM_PEQUENA\":100}");
+        return entityManager.persist(profissional);
+    }
+
+    private Usuario criarUsuario(String nome, String role, int indice) {
+        return entityManager.persist(USUARIOS.novo(nome, role, indice));
+    }
+}
@@ -0,0 +1,155 @@
+package inkspiration.backend.service.agendamentoService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import inkspiration.backend.dto.AgendamentoCompletoDTO;
+import inkspiration.backend.entities.Agendamento;
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.StatusAgendamento;
+import inkspiration.backend.enums.TipoServico;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.repository.AgendamentoRepository;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.UsuarioRepository;
+import inkspiration.backend.service.AgendamentoService;
+import inkspiration.backend.service.AvaliacaoService;
+import inkspiration.backend.service.DisponibilidadeService;
+import inkspiration.backend.util.UsuariosTeste;
+
+/**
+ * Conta, pelas estatísticas do Hibernate, as consultas feitas para montar uma página do histórico:
+ * cliente, profissional e o usuário do profissional vêm na mesma consulta da página.
+ */
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("AgendamentoService - Histórico sem consultas por linha")
+class AgendamentoServiceHistoricoBancoTest {
+
+    private static final UsuariosTeste USUARIOS = new UsuariosTeste("historico", 400000000);
+
+    private static final int PROFISSIONAIS = 6;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AgendamentoRepository agendamentoRepository;
+
+    @Autowired
+    private ProfissionalRepository profissionalRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    private AgendamentoService agendamentoService;
+    private Statistics estatisticas;
+    private Usuario cliente;
+    private Usuario usuarioProfissional;
+
+    @BeforeEach
+    void setUp() {
+        agendamentoService = new AgendamentoService(agendamentoRepository, profissionalRepository, usuarioRepository,
+            mock(DisponibilidadeService.class), mock(AvaliacaoService.class));
+        estatisticas = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+
+        cliente = criarUsuario("Cliente Historico", UserRole.ROLE_USER.getRole(), 0);
+        LocalDateTime inicio = LocalDateTime.now().minusDays(30);
+        Profissional primeiro = null;
+        for (int i = 1; i <= PROFISSIONAIS; i++) {
+            Usuario usuario = criarUsuario(nomeProfissional(i), UserRole.ROLE_PROF.getRole(), i);
+            Profissional profissional = new Profissional();
+            profissional.setUsuario(usuario);
+            profissional.setEndereco(criarEndereco());
+            entityManager.persist(profissional);
+            criarAgendamento(cliente, profissional, inicio.plusDays(i));
+            if (i == 1) {
+                usuarioProfissional = usuario;
+                primeiro = profissional;
+            } else {
+                // Os demais profissionais também são clientes do primeiro
+                criarAgendamento(usuario, primeiro, inicio.plusDays(10 + i));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve montar a página de agendamentos passados do cliente com número fixo de consultas")
+    void deveListarAgendamentosPassadosSemConsultaPorLinha() {
+        estatisticas.clear();
+
+        Page<AgendamentoCompletoDTO> pagina = agendamentoService.listarAgendamentosPassados(
+            cliente.getIdUsuario(), PageRequest.of(0, 10));
+
+        assertEquals(PROFISSIONAIS, pagina.getContent().size());
+        assertEquals(nomeProfissional(PROFISSIONAIS), pagina.getContent().get(0).getNomeProfissional());
+        // Usuário logado e a página; a contagem só é feita quando a página vem cheia
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve montar a página de atendimentos passados do profissional com número fixo de consultas")
+    void deveListarAtendimentosPassadosSemConsultaPorLinha() {
+        estatisticas.clear();
+
+        Page<AgendamentoCompletoDTO> pagina = agendamentoService.listarAtendimentosPassados(
+            usuarioProfissional.getIdUsuario(), PageRequest.of(0, 10));
+
+        assertEquals(PROFISSIONAIS, pagina.getContent().size());
+        assertTrue(pagina.getContent().stream().allMatch(a -> nomeProfissional(1).equals(a.getNomeProfissional())));
+        // Usuário logado, seu profissional, o endereço do profissional e a página
+        assertEquals(4, estatisticas.getPrepareStatementCount());
+    }
+
+    private void criarAgendamento(Usuario usuario, Profissional profissional, LocalDateTime inicio) {
+        Agendamento agendamento = new Agendamento();
+        agendamento.setUsuario(usuario);
+        agendamento.setProfissional(profissional);
+        agendamento.setTipoServico(TipoServico.TATUAGEM_PEQUENA);
+        agendamento.setDescricao("Sessão");
+        agendamento.setValor(new BigDecimal("150.00"));
+        agendamento.setDtInicio(inicio);
+        agendamento.setDtFim(inicio.plusHours(2));
+        agendamento.setStatus(StatusAgendamento.CONCLUIDO);
+        entityManager.persist(agendamento);
+    }
+
+    private Endereco criarEndereco() {
+        Endereco endereco = new Endereco();
+        endereco.setCep("01234567");
+        endereco.setRua("Rua das Flores");
+        endereco.setNumero("123");
+        endereco.setBairro("Centro");
+        endereco.setCidade("São Paulo");
+        endereco.setEstado("SP");
+        return entityManager.persist(endereco);
+    }
+
+    private static String nomeProfissional(int indice) {
+        return "Profissional " + (char) ('A' + indice);
+    }
+
+    private Usuario criarUsuario(String nome, String role, int indice) {
+        return entityManager.persist(USUARIOS.novo(nome, role, indice));
+    }
+}
@@ -0,0 +1,153 @@
+package inkspiration.backend.service.agendamentoService;
+
+import inkspiration.backend.service.AgendamentoService;
+import inkspiration.backend.service.AvaliacaoService;
+import inkspiration.backend.service.DisponibilidadeService;
+import inkspiration.backend.repository.AgendamentoRepository;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.UsuarioRepository;
+import inkspiration.backend.entities.Agendamento;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.dto.AgendamentoCompletoDTO;
+import inkspiration.backend.dto.AvaliacaoDTO;
+import inkspiration.backend.enums.TipoServico;
+import inkspiration.backend.enums.StatusAgendamento;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@DisplayName("AgendamentoService - Páginas de histórico enriquecidas em lote")
+class AgendamentoServiceHistoricoTest {
+
+    @Mock
+    private AgendamentoRepository agendamentoRepository;
+
+    @Mock
+    private ProfissionalRepository profissionalRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private DisponibilidadeService disponibilidadeService;
+
+    @Mock
+    private AvaliacaoService avaliacaoService;
+
+    @InjectMocks
+    private AgendamentoService agendamentoService;
+
+    private Usuario cliente;
+    private Usuario usuarioProfissional;
+    private Profissional profissional;
+    private List<Agendamento> pagina;
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        cliente = new Usuario();
+        cliente.setIdUsuario(1L);
+        usuarioProfissional = new Usuario();
+        usuarioProfissional.setIdUsuario(2L);
+        profissional = new Profissional();
+        profissional.setIdProfissional(1L);
+        profissional.setUsuario(usuarioProfissional);
+
+        // Ids 1-4: agendados que já terminaram; 5-8: concluídos; 9-10: cancelados
+        pagina = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            Agendamento agendamento = new Agendamento();
+            agendamento.setIdAgendamento(id);
+            agendamento.setUsuario(cliente);
+            agendamento.setProfissional(profissional);
+            agendamento.setTipoServico(TipoServico.TATUAGEM_PEQUENA);
+            agendamento.setDescricao("Agendamento " + id);
+            agendamento.setDtInicio(LocalDateTime.now().minusDays(id).minusHours(2));
+            agendamento.setDtFim(LocalDateTime.now().minusDays(id));
+            agendamento.setValor(new BigDecimal("150.00"));
+            agendamento.setStatus(id <= 4 ? StatusAgendamento.AGENDADO
+                : id <= 8 ? StatusAgendamento.CONCLUIDO : StatusAgendamento.CANCELADO);
+            pagina.add(agendamento);
+        }
+
+        when(usuarioRepository.findById(1L)).thenReturn(Optional.of(cliente));
+        when(usuarioRepository.findById(2L)).thenReturn(Optional.of(usuarioProfissional));
+        when(profissionalRepository.findByUsuario(usuarioProfissional)).thenReturn(Optional.of(profissional));
+        when(agendamentoRepository.findByUsuarioAndDtFimBeforeOrderByDtInicioDesc(eq(cliente), any(), eq(pageable)))
+            .thenReturn(new PageImpl<>(pagina, pageable, 10));
+        when(agendamentoRepository.findByProfissionalAndDtFimBeforeOrderByDtInicioDesc(eq(profissional), any(), eq(pageable)))
+            .thenReturn(new PageImpl<>(pagina, pageable, 10));
+        when(avaliacaoService.buscarAvaliacoesPorAgendamentos(any())).thenReturn(Map.of(
+            2L, new AvaliacaoDTO(20L, "Ótimo trabalho", 5, 2L),
+            6L, new AvaliacaoDTO(60L, "Muito bom", 4, 6L)));
+    }
+
+    @Test
+    @DisplayName("Deve montar a página do cliente com uma consulta de avaliações e um único UPDATE")
+    void deveMontarPaginaDoClienteEmLote() {
+        Page<AgendamentoCompletoDTO> resultado = agendamentoService.listarAgendamentosPassados(1L, pageable);
+
+        verify(agendamentoRepository).concluirAgendamentos(List.of(1L, 2L, 3L, 4L));
+        verify(agendamentoRepository, never()).save(any());
+        verify(avaliacaoService, times(1)).buscarAvaliacoesPorAgendamentos(
+            List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L));
+        verify(avaliacaoService, never()).podeAvaliar(anyLong());
+        verify(avaliacaoService, never()).buscarAvaliacaoPorAgendamento(anyLong());
+
+        List<AgendamentoCompletoDTO> dtos = resultado.getContent();
+        assertEquals(10, dtos.size());
+        for (AgendamentoCompletoDTO dto : dtos) {
+            long id = dto.getIdAgendamento();
+            boolean avaliado = id == 2 || id == 6;
+            assertEquals(!avaliado && id <= 8, dto.getPodeAvaliar(), "id=" + id);
+            assertEquals(avaliado, dto.getIdAvaliacao() != null, "id=" + id);
+        }
+        assertEquals(StatusAgendamento.CONCLUIDO, dtos.get(0).getStatus());
+        assertEquals(5, dtos.get(1).getRatingAvaliacao());
+        assertEquals("Muito bom", dtos.get(5).getDescricaoAvaliacao());
+    }
+
+    @Test
+    @DisplayName("Profissional deve ver as avaliações mas não pode avaliar os próprios atendimentos")
+    void profissionalNaoDeveAvaliar() {
+        Page<AgendamentoCompletoDTO> resultado = agendamentoService.listarAtendimentosPassados(2L, pageable);
+
+        verify(avaliacaoService, times(1)).buscarAvaliacoesPorAgendamentos(any());
+        assertTrue(resultado.getContent().stream().noneMatch(AgendamentoCompletoDTO::getPodeAvaliar));
+        assertEquals(60L, resultado.getContent().get(5).getIdAvaliacao());
+    }
+
+    @Test
+    @DisplayName("Não deve permitir avaliar quando a consulta de avaliações falha")
+    void naoDevePermitirAvaliarQuandoConsultaFalha() {
+        when(avaliacaoService.buscarAvaliacoesPorAgendamentos(any())).thenThrow(new RuntimeException("falha"));
+
+        Page<AgendamentoCompletoDTO> resultado = agendamentoService.listarAgendamentosPassados(1L, pageable);
+
+        assertEquals(10, resultado.getContent().size());
+        assertTrue(resultado.getContent().stream().noneMatch(AgendamentoCompletoDTO::getPodeAvaliar));
+    }
+}
@@ -0,0 +1,202 @@
+package inkspiration.backend.service.agendamentoService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import inkspiration.backend.dto.ResumoRelatorioDTO;
+import inkspiration.backend.entities.Agendamento;
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.StatusAgendamento;
+import inkspiration.backend.enums.TipoServico;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.relatorio.FormatoRelatorio;
+import inkspiration.backend.repository.AgendamentoRepository;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.UsuarioRepository;
+import inkspiration.backend.service.AgendamentoService;
+import inkspiration.backend.service.AvaliacaoService;
+import inkspiration.backend.service.DisponibilidadeService;
+import inkspiration.backend.util.UsuariosTeste;
+
+/**
+ * Gera os relatórios contra o banco (H2) e confere que as linhas chegam à saída sem que nenhuma
+ * entidade fique no contexto de persistência durante a escrita.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@DisplayName("AgendamentoService - Relatórios lidos do banco sob demanda")
+class AgendamentoServiceRelatorioBancoTest {
+
+    private static final UsuariosTeste USUARIOS = new UsuariosTeste("relatorio", 300000000);
+
+    private static final int AGENDAMENTOS_NO_ANO = 1200;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AgendamentoRepository agendamentoRepository;
+
+    @Autowired
+    private ProfissionalRepository profissionalRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    private AgendamentoService agendamentoService;
+    private Usuario cliente;
+    private Usuario usuarioProfissional;
+    private Profissional profissional;
+
+    @BeforeEach
+    void setUp() {
+        agendamentoService = new AgendamentoService(agendamentoRepository, profissionalRepository, usuarioRepository,
+            mock(DisponibilidadeService.class), mock(AvaliacaoService.class));
+
+        cliente = criarUsuario("Cliente Relatorio", UserRole.ROLE_USER.getRole(), 1);
+        usuarioProfissional = criarUsuario("Profissional Relatorio", UserRole.ROLE_PROF.getRole(), 2);
+        profissional = new Profissional();
+        profissional.setUsuario(usuarioProfissional);
+        profissional.setTiposServicoStr("{\"TATUAGEM_PEQUENA\":100}");
+        profissional.setEndereco(criarEndereco());
+        entityManager.persist(profissional);
+
+        LocalDateTime inicioDoAno = LocalDate.of(2024, 1, 1).atTime(10, 0);
+        for (int i = 0; i < AGENDAMENTOS_NO_ANO; i++) {
+            criarAgendamento(inicioDoAno.plusHours(7L * i), StatusAgendamento.CONCLUIDO, "Sessão " + i);
+            if (i % 100 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                cliente = entityManager.find(Usuario.class, cliente.getIdUsuario());
+                profissional = entityManager.find(Profissional.class, profissional.getIdProfissional());
+            }
+        }
+        // Fora dos relatórios: outro status e outro ano
+        criarAgendamento(LocalDate.of(2024, 3, 5).atTime(9, 0), StatusAgendamento.CANCELADO, "Cancelado");
+        criarAgendamento(LocalDate.of(2023, 3, 5).atTime(9, 0), StatusAgendamento.CONCLUIDO, "Outro ano");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve escrever o CSV do ano linha a linha sem manter entidades em memória")
+    void deveEscreverCsvSemManterEntidades() throws Exception {
+        SaidaMonitorada saida = new SaidaMonitorada();
+
+        agendamentoService.gerarRelatorioAgendamentos(cliente.getIdUsuario(), 2024, FormatoRelatorio.CSV, saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(AGENDAMENTOS_NO_ANO + 1, linhas.length);
+        assertTrue(linhas[0].startsWith("\uFEFFId;Data;Horário;Profissional;Serviço;Local;Descrição;Valor"));
+        assertTrue(linhas[1].contains("Profissional Relatorio;Tatuagem Pequena;Rua das Flores, 123 - Centro - São Paulo/SP - CEP: 01234567"));
+        assertTrue(linhas[1].endsWith(";150,00"));
+        assertEquals(0, saida.maiorQuantidadeDeEntidades);
+    }
+
+    @Test
+    @DisplayName("Deve calcular os totais no banco e gerar o PDF do mês")
+    void deveGerarPdfDoMes() throws Exception {
+        ResumoRelatorioDTO resumo = agendamentoRepository.resumirRelatorioPorProfissional(
+            profissional.getIdProfissional(), StatusAgendamento.CONCLUIDO, 2024, 2);
+        long esperado = agendamentoRepository.findAll().stream()
+            .filter(a -> a.getStatus() == StatusAgendamento.CONCLUIDO)
+            .filter(a -> a.getDtInicio().getYear() == 2024 && a.getDtInicio().getMonthValue() == 2)
+            .count();
+        assertTrue(esperado > 0);
+        assertEquals(esperado, resumo.getQuantidade());
+        assertEquals(0, new BigDecimal("150.00").multiply(BigDecimal.valueOf(esperado)).compareTo(resumo.getValorTotal()));
+        entityManager.clear();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        agendamentoService.gerarRelatorioAtendimentos(usuarioProfissional.getIdUsuario(), 2024, 2, FormatoRelatorio.PDF, saida);
+
+        byte[] pdf = saida.toByteArray();
+        assertEquals("%PDF", new String(pdf, 0, 4, StandardCharsets.ISO_8859_1));
+        assertTrue(new String(pdf, pdf.length - 6, 6, StandardCharsets.ISO_8859_1).contains("%%EOF"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar relatório sem agendamentos concluídos no período")
+    void deveRecusarRelatorioVazio() {
+        Exception exception = assertThrows(Exception.class, () -> agendamentoService.gerarRelatorioAgendamentos(
+            cliente.getIdUsuario(), 2022, FormatoRelatorio.CSV, new ByteArrayOutputStream()));
+        assertEquals("Nenhum agendamento concluído encontrado para o ano 2022", exception.getMessage());
+    }
+
+    /**
+     * Registra o maior número de entidades gerenciadas observado a cada escrita na saída.
+     */
+    private class SaidaMonitorada extends ByteArrayOutputStream {
+        private int maiorQuantidadeDeEntidades;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            registrar();
+            super.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            registrar();
+            super.write(b);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            registrar();
+        }
+
+        private void registrar() {
+            int entidades = entityManager.getEntityManager().unwrap(SessionImplementor.class)
+                .getPersistenceContext().getNumberOfManagedEntities();
+            maiorQuantidadeDeEntidades = Math.max(maiorQuantidadeDeEntidades, entidades);
+        }
+    }
+
+    private void criarAgendamento(LocalDateTime inicio, StatusAgendamento status, String descricao) {
+        Agendamento agendamento = new Agendamento();
+        agendamento.setUsuario(cliente);
+        agendamento.setProfissional(profissional);
+        agendamento.setTipoServico(TipoServico.TATUAGEM_PEQUENA);
+        agendamento.setDescricao(descricao);
+        agendamento.setValor(new BigDecimal("150.00"));
+        agendamento.setDtInicio(inicio);
+        agendamento.setDtFim(inicio.plusHours(2));
+        agendamento.setStatus(status);
+        entityManager.persist(agendamento);
+    }
+
+    private Endereco criarEndereco() {
+        Endereco endereco = new Endereco();
+        endereco.setCep("01234567");
+        endereco.setRua("Rua das Flores");
+        endereco.setNumero("123");
+        endereco.setBairro("Centro");
+        endereco.setCidade("São Paulo");
+        endereco.setEstado("SP");
+        return entityManager.persist(endereco);
+    }
+
+    private Usuario criarUsuario(String nome, String role, int indice) {
+        return entityManager.persist(USUARIOS.novo(nome, role, indice));
+    }
+}
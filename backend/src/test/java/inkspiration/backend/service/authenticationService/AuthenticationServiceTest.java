@@ -29,6 +29,7 @@ import inkspiration.backend.exception.authentication.UserNotFoundException;
 import inkspiration.backend.repository.TokenRevogadoRepository;
 import inkspiration.backend.security.AuthenticationService;
 import inkspiration.backend.security.JwtService;
+import inkspiration.backend.security.RegistroTokensRevogados;
 import inkspiration.backend.service.TwoFactorAuthService;
 import inkspiration.backend.service.UsuarioService;
 
@@ -44,6 +45,9 @@ class AuthenticationServiceTest {
     @Mock
     private TokenRevogadoRepository tokenRevogadoRepository;
 
+    @Mock
+    private RegistroTokensRevogados registroTokensRevogados;
+
     @Mock
     private AuthenticationManager authenticationManager;
 
@@ -94,7 +98,7 @@ class AuthenticationServiceTest {
             .thenReturn(usuario);
         when(twoFactorAuthService.isTwoFactorEnabled(usuario.getIdUsuario()))
             .thenReturn(false);
-        doReturn("token").when(jwtService).generateToken(any(Authentication.class), anyBoolean());
+        doReturn("token").when(usuarioService).atualizarToken(eq(usuario), any(Authentication.class), anyBoolean());
 
         // Act
         String token = authenticationService.login(loginDTO);
@@ -105,7 +109,7 @@ class AuthenticationServiceTest {
         verify(authenticationManager).authenticate(any(Authentication.class));
         verify(usuarioService).buscarPorCpf(loginDTO.getCpf());
         verify(twoFactorAuthService).isTwoFactorEnabled(usuario.getIdUsuario());
-        verify(jwtService).generateToken(any(Authentication.class), anyBoolean());
+        verify(usuarioService).atualizarToken(eq(usuario), any(Authentication.class), anyBoolean());
     }
 
     @Test
@@ -122,7 +126,7 @@ class AuthenticationServiceTest {
             .thenReturn(true);
         when(twoFactorAuthService.validateCode(usuario.getIdUsuario(), loginDTO.getTwoFactorCode()))
             .thenReturn(true);
-        doReturn("token").when(jwtService).generateToken(any(Authentication.class), anyBoolean());
+        doReturn("token").when(usuarioService).atualizarToken(eq(usuario), any(Authentication.class), anyBoolean());
 
         // Act
         String token = authenticationService.login(loginDTO);
@@ -316,7 +320,7 @@ class AuthenticationServiceTest {
     void deveVerificarSeTokenEstaRevogado() {
         // Arrange
         String token = "token";
-        when(tokenRevogadoRepository.existsByToken(token))
+        when(registroTokensRevogados.contem(token))
             .thenReturn(true);
 
         // Act
@@ -324,6 +328,7 @@ class AuthenticationServiceTest {
 
         // Assert
         assertTrue(isRevoked);
-        verify(tokenRevogadoRepository).existsByToken(token);
+        verify(registroTokensRevogados).contem(token);
+        verifyNoInteractions(tokenRevogadoRepository);
     }
 } 
\ No newline at end of file
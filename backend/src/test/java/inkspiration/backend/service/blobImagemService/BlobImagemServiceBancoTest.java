@@ -0,0 +1,223 @@
+package inkspiration.backend.service.blobImagemService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import inkspiration.backend.armazenamento.ArmazenamentoBlobLocal;
+import inkspiration.backend.armazenamento.ConteudoImagem;
+import inkspiration.backend.armazenamento.ImagemArquivo;
+import inkspiration.backend.armazenamento.ProcessadorVariantes;
+import inkspiration.backend.armazenamento.VarianteImagem;
+import inkspiration.backend.dto.ImagemDTO;
+import inkspiration.backend.entities.BlobImagem;
+import inkspiration.backend.entities.Imagem;
+import inkspiration.backend.entities.Portfolio;
+import inkspiration.backend.repository.BlobImagemRepository;
+import inkspiration.backend.repository.ImagemRepository;
+import inkspiration.backend.repository.PortfolioRepository;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.scheduler.LimpezaBlobsScheduler;
+import inkspiration.backend.service.BlobImagemService;
+import inkspiration.backend.service.ImagemService;
+import inkspiration.backend.service.PortfolioService;
+
+/**
+ * Contagem de referências do conteúdo das imagens sobre o banco H2 e um armazenamento local
+ * em diretório temporário: uploads iguais compartilham o conteúdo, remoções liberam referências
+ * e a limpeza só apaga o que ficou órfão.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@DisplayName("BlobImagemService - Conteúdo compartilhado por contagem de referências")
+class BlobImagemServiceBancoTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BlobImagemRepository blobImagemRepository;
+
+    @Autowired
+    private ImagemRepository imagemRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private ProfissionalRepository profissionalRepository;
+
+    @TempDir
+    Path diretorio;
+
+    private ArmazenamentoBlobLocal armazenamento;
+    private BlobImagemService blobImagemService;
+    private ImagemService imagemService;
+    private PortfolioService portfolioService;
+    private LimpezaBlobsScheduler limpeza;
+
+    @BeforeEach
+    void setUp() {
+        armazenamento = new ArmazenamentoBlobLocal(diretorio.toString());
+        ProcessadorVariantes processadorVariantes = new ProcessadorVariantes(armazenamento, 1, 10, 10_000);
+        blobImagemService = new BlobImagemService(blobImagemRepository, armazenamento, processadorVariantes,
+            entityManager.getEntityManager());
+        imagemService = new ImagemService(imagemRepository, portfolioRepository, armazenamento,
+            processadorVariantes, blobImagemService);
+        portfolioService = new PortfolioService(portfolioRepository, profissionalRepository, null, blobImagemService);
+        limpeza = new LimpezaBlobsScheduler(blobImagemService, 60, 2);
+    }
+
+    @Test
+    @DisplayName("Deve gravar uma única vez o conteúdo de uploads iguais e contar as referências")
+    void deveCompartilharConteudoIgual() throws IOException {
+        Portfolio portfolio = entityManager.persist(new Portfolio());
+        Portfolio outro = entityManager.persist(new Portfolio());
+        String dataUri = dataUri(gerarPng(3, 3));
+
+        ImagemDTO primeira = imagemService.salvar(dto(portfolio, dataUri));
+        ImagemDTO segunda = imagemService.salvar(dto(outro, dataUri));
+        imagemService.salvar(dto(portfolio, dataUri(gerarPng(4, 4))));
+        String hash = hashDe(primeira);
+
+        assertEquals(hash, hashDe(segunda));
+        assertEquals(2, contagem(hash).getReferencias());
+        assertEquals(2, blobImagemRepository.count());
+
+        ImagemArquivo arquivo = imagemService.abrirConteudoPorHash(hash);
+        assertEquals("image/png", arquivo.getMimeType());
+        try (InputStream entrada = arquivo.getRecurso().getInputStream()) {
+            assertArrayEquals(Base64.getDecoder().decode(dataUri.substring(dataUri.indexOf(',') + 1)), entrada.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve liberar as referências ao apagar imagens e portfólios e só então remover o conteúdo")
+    void deveRemoverConteudoOrfao() throws IOException {
+        Portfolio portfolio = entityManager.persist(new Portfolio());
+        Portfolio outro = entityManager.persist(new Portfolio());
+        String dataUri = dataUri(gerarPng(7, 7));
+        ImagemDTO primeira = imagemService.salvar(dto(portfolio, dataUri));
+        imagemService.salvar(dto(outro, dataUri));
+        String hash = hashDe(primeira);
+        armazenamento.salvar(VarianteImagem.MINIATURA.chave(hash), new byte[] { 1 });
+        entityManager.flush();
+        entityManager.clear();
+
+        imagemService.deletar(primeira.getIdImagem());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, contagem(hash).getReferencias());
+        assertNull(contagem(hash).getSemReferenciasDesde());
+        assertEquals(0, limpeza.limpar(LocalDateTime.now().plusDays(1)));
+
+        portfolioService.deletar(outro.getIdPortfolio());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, contagem(hash).getReferencias());
+        assertNotNull(contagem(hash).getSemReferenciasDesde());
+        // Ainda dentro da carência
+        assertEquals(0, limpeza.limpar(LocalDateTime.now().minusMinutes(60)));
+        assertTrue(armazenamento.existe(hash));
+
+        assertEquals(1, limpeza.limpar(LocalDateTime.now().plusSeconds(1)));
+        assertFalse(armazenamento.existe(hash));
+        assertFalse(armazenamento.existe(VarianteImagem.MINIATURA.chave(hash)));
+        assertFalse(blobImagemRepository.existsById(hash));
+    }
+
+    @Test
+    @DisplayName("Não deve remover conteúdo ainda usado, mesmo com a contagem desatualizada")
+    void naoDeveRemoverConteudoReferenciado() throws IOException {
+        Portfolio portfolio = entityManager.persist(new Portfolio());
+        // Imagem gravada antes da contagem de referências existir
+        byte[] png = gerarPng(5, 5);
+        ConteudoImagem conteudo = ConteudoImagem.deBytes(png, null);
+        armazenamento.salvar(conteudo.getHash(), png);
+        Imagem antiga = new Imagem();
+        antiga.setPortfolio(portfolio);
+        antiga.setHash(conteudo.getHash());
+        antiga.setMimeType(conteudo.getMimeType());
+        entityManager.persist(antiga);
+        entityManager.flush();
+
+        // Um upload igual cria a contagem com 1; ao ser apagado, ela chega a zero
+        ImagemDTO nova = imagemService.salvar(dto(portfolio, dataUri(png)));
+        imagemService.deletar(nova.getIdImagem());
+        assertEquals(0, blobImagemService.registrarExistentes());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, limpeza.limpar(LocalDateTime.now().plusDays(1)));
+        assertTrue(armazenamento.existe(conteudo.getHash()));
+    }
+
+    @Test
+    @DisplayName("Deve criar a contagem do conteúdo gravado antes dela existir")
+    void deveRegistrarConteudoExistente() throws IOException {
+        Portfolio portfolio = entityManager.persist(new Portfolio());
+        ConteudoImagem conteudo = ConteudoImagem.deBytes(gerarPng(6, 6), null);
+        for (int i = 0; i < 3; i++) {
+            Imagem imagem = new Imagem();
+            imagem.setPortfolio(portfolio);
+            imagem.setHash(conteudo.getHash());
+            imagem.setMimeType(conteudo.getMimeType());
+            imagem.setTamanho(conteudo.getTamanho());
+            entityManager.persist(imagem);
+        }
+        entityManager.flush();
+
+        assertEquals(1, blobImagemService.registrarExistentes());
+        assertEquals(0, blobImagemService.registrarExistentes());
+        entityManager.clear();
+
+        BlobImagem blob = contagem(conteudo.getHash());
+        assertEquals(3, blob.getReferencias());
+        assertEquals("image/png", blob.getMimeType());
+    }
+
+    private BlobImagem contagem(String hash) {
+        entityManager.clear();
+        return blobImagemRepository.findById(hash).orElseThrow();
+    }
+
+    private String hashDe(ImagemDTO dto) {
+        return imagemRepository.findById(dto.getIdImagem()).orElseThrow().getHash();
+    }
+
+    private static ImagemDTO dto(Portfolio portfolio, String dataUri) {
+        ImagemDTO dto = new ImagemDTO();
+        dto.setIdPortfolio(portfolio.getIdPortfolio());
+        dto.setImagemBase64(dataUri);
+        return dto;
+    }
+
+    private static String dataUri(byte[] png) {
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(png);
+    }
+
+    private static byte[] gerarPng(int largura, int altura) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB), "png", saida);
+        return saida.toByteArray();
+    }
+}
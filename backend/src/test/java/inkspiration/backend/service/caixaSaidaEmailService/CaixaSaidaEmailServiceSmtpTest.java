@@ -0,0 +1,204 @@
+package inkspiration.backend.service.caixaSaidaEmailService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import inkspiration.backend.entities.EmailSaida;
+import inkspiration.backend.enums.StatusEmail;
+import inkspiration.backend.repository.EmailSaidaRepository;
+import inkspiration.backend.service.CaixaSaidaEmailService;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Caixa de saída sobre o banco H2 e um servidor SMTP local: a requisição só grava a mensagem,
+ * os lotes saem por uma única conexão e as falhas são reagendadas até irem para FALHOU.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CaixaSaidaEmailService - Envio pela caixa de saída")
+class CaixaSaidaEmailServiceSmtpTest {
+
+    private static final long ESPERA_INICIAL_MS = 60_000;
+
+    @Autowired
+    private EmailSaidaRepository emailSaidaRepository;
+
+    private ServidorSmtpLocal smtp;
+    private JavaMailSenderImpl mailSender;
+    private CaixaSaidaEmailService caixaSaida;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        emailSaidaRepository.deleteAll();
+        smtp = new ServidorSmtpLocal();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.getPorta());
+        Properties propriedades = new Properties();
+        propriedades.put("mail.smtp.connectiontimeout", "2000");
+        propriedades.put("mail.smtp.timeout", "2000");
+        mailSender.setJavaMailProperties(propriedades);
+        caixaSaida = new CaixaSaidaEmailService(emailSaidaRepository, mailSender, 1, 10, 3, ESPERA_INICIAL_MS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        caixaSaida.encerrar();
+        smtp.close();
+        emailSaidaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve apenas gravar a mensagem, sem abrir conexão SMTP, fora do worker")
+    void deveGravarSemEnviar() throws Exception {
+        caixaSaida.encerrar();
+
+        caixaSaida.enfileirar(mensagem("ana@email.com", "Código de verificação"));
+
+        EmailSaida email = unico();
+        assertEquals(StatusEmail.PENDENTE, email.getStatus());
+        assertEquals("ana@email.com", email.getDestinatario());
+        assertEquals("Código de verificação", email.getAssunto());
+        assertEquals(0, smtp.getConexoes());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote inteiro por uma única conexão SMTP")
+    void deveEnviarLoteEmUmaConexao() throws Exception {
+        caixaSaida.encerrar();
+        for (int i = 1; i <= 3; i++) {
+            caixaSaida.enfileirar(mensagem("cliente" + i + "@email.com", "Mensagem " + i));
+        }
+
+        assertEquals(3, caixaSaida.enviarLote());
+
+        assertEquals(3, smtp.getMensagens().size());
+        assertEquals(1, smtp.getConexoes());
+        assertTrue(smtp.getMensagens().get(0).contains("Subject: Mensagem"));
+        assertEquals(3, emailSaidaRepository.countByStatus(StatusEmail.ENVIADO));
+        assertTrue(emailSaidaRepository.findAll().stream().allMatch(email -> email.getEnviadoEm() != null));
+        assertEquals(0, caixaSaida.enviarLote());
+    }
+
+    @Test
+    @DisplayName("Deve reagendar com espera exponencial só as mensagens recusadas")
+    void deveReagendarRecusadas() throws Exception {
+        caixaSaida.encerrar();
+        caixaSaida.enfileirar(mensagem("ana@email.com", "Primeira"));
+        smtp.recusarProximas(1);
+
+        LocalDateTime inicio = LocalDateTime.now();
+        caixaSaida.enviarLote();
+
+        EmailSaida email = unico();
+        assertEquals(StatusEmail.PENDENTE, email.getStatus());
+        assertEquals(1, email.getTentativas());
+        assertNotNull(email.getUltimoErro());
+        assertEsperaDe(Duration.ofMillis(ESPERA_INICIAL_MS), inicio, email.getProximaTentativa());
+
+        // Vencida a espera, a nova falha dobra o intervalo
+        vencer(email);
+        smtp.recusarProximas(1);
+        inicio = LocalDateTime.now();
+        caixaSaida.enviarLote();
+
+        email = unico();
+        assertEquals(2, email.getTentativas());
+        assertEsperaDe(Duration.ofMillis(2 * ESPERA_INICIAL_MS), inicio, email.getProximaTentativa());
+
+        vencer(email);
+        caixaSaida.enviarLote();
+        assertEquals(StatusEmail.ENVIADO, unico().getStatus());
+        assertEquals(1, smtp.getMensagens().size());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como FALHOU quando as tentativas se esgotam")
+    void deveMarcarFalhouAposTentativas() throws Exception {
+        caixaSaida.encerrar();
+        caixaSaida.enfileirar(mensagem("ana@email.com", "Sem servidor"));
+        smtp.close();
+
+        for (int i = 0; i < 3; i++) {
+            vencer(unico());
+            caixaSaida.enviarLote();
+        }
+
+        EmailSaida email = unico();
+        assertEquals(StatusEmail.FALHOU, email.getStatus());
+        assertEquals(3, email.getTentativas());
+        assertNotNull(email.getUltimoErro());
+
+        vencer(email);
+        assertEquals(0, caixaSaida.enviarLote());
+    }
+
+    @Test
+    @DisplayName("Não deve enviar mensagem reservada por outro worker")
+    void naoDeveEnviarMensagemReservada() throws Exception {
+        caixaSaida.encerrar();
+        caixaSaida.enfileirar(mensagem("ana@email.com", "Reservada"));
+        LocalDateTime agora = LocalDateTime.now();
+        assertEquals(1, emailSaidaRepository.reservar(unico().getIdEmail(), agora, agora.plusMinutes(5)));
+
+        assertEquals(0, caixaSaida.enviarLote());
+        assertTrue(smtp.getMensagens().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve enviar em segundo plano logo depois de enfileirar")
+    void deveEnviarEmSegundoPlano() throws Exception {
+        caixaSaida.enfileirar(mensagem("ana@email.com", "Assíncrona"));
+
+        long limite = System.currentTimeMillis() + 5_000;
+        while (emailSaidaRepository.countByStatus(StatusEmail.ENVIADO) == 0 && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(1, emailSaidaRepository.countByStatus(StatusEmail.ENVIADO));
+        assertEquals(1, smtp.getMensagens().size());
+    }
+
+    private MimeMessage mensagem(String para, String assunto) throws Exception {
+        MimeMessage mensagem = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mensagem, true, "UTF-8");
+        helper.setFrom("noreply@inkspiration.com");
+        helper.setTo(para);
+        helper.setSubject(assunto);
+        helper.setText("<p>Olá, " + para + "</p>", true);
+        return mensagem;
+    }
+
+    private EmailSaida unico() {
+        List<EmailSaida> emails = emailSaidaRepository.findAll();
+        assertEquals(1, emails.size());
+        return emails.get(0);
+    }
+
+    private void vencer(EmailSaida email) {
+        email.setProximaTentativa(LocalDateTime.now().minusSeconds(1));
+        emailSaidaRepository.save(email);
+    }
+
+    private static void assertEsperaDe(Duration espera, LocalDateTime inicio, LocalDateTime proximaTentativa) {
+        assertFalse(proximaTentativa.isBefore(inicio.plus(espera)), "espera menor que " + espera);
+        assertTrue(proximaTentativa.isBefore(LocalDateTime.now().plus(espera).plusSeconds(1)), "espera maior que " + espera);
+    }
+}
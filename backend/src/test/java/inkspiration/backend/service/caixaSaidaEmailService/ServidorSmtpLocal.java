@@ -0,0 +1,113 @@
+package inkspiration.backend.service.caixaSaidaEmailService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor SMTP mínimo, em memória, para os testes da caixa de saída. Aceita qualquer
+ * remetente e destinatário, guarda o conteúdo de cada DATA e conta as conexões abertas. Pode
+ * recusar as próximas mensagens com um erro temporário (451).
+ */
+class ServidorSmtpLocal implements AutoCloseable {
+
+    private final ServerSocket servidor;
+    private final List<String> mensagens = new CopyOnWriteArrayList<>();
+    private final AtomicInteger conexoes = new AtomicInteger();
+    private final AtomicInteger recusar = new AtomicInteger();
+
+    ServidorSmtpLocal() throws IOException {
+        servidor = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread aceitador = new Thread(this::aceitar, "smtp-local");
+        aceitador.setDaemon(true);
+        aceitador.start();
+    }
+
+    int getPorta() {
+        return servidor.getLocalPort();
+    }
+
+    List<String> getMensagens() {
+        return mensagens;
+    }
+
+    int getConexoes() {
+        return conexoes.get();
+    }
+
+    void recusarProximas(int quantidade) {
+        recusar.set(quantidade);
+    }
+
+    @Override
+    public void close() throws IOException {
+        servidor.close();
+    }
+
+    private void aceitar() {
+        while (!servidor.isClosed()) {
+            try {
+                Socket socket = servidor.accept();
+                conexoes.incrementAndGet();
+                Thread sessao = new Thread(() -> atender(socket), "smtp-local-sessao");
+                sessao.setDaemon(true);
+                sessao.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void atender(Socket socket) {
+        try (socket;
+             BufferedReader entrada = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             Writer saida = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1)) {
+            responder(saida, "220 localhost SMTP local");
+            String linha;
+            while ((linha = entrada.readLine()) != null) {
+                String comando = (linha.length() > 4 ? linha.substring(0, 4) : linha).toUpperCase(Locale.ROOT);
+                switch (comando) {
+                    case "EHLO", "HELO", "RCPT", "RSET", "NOOP" -> responder(saida, "250 OK");
+                    case "MAIL" -> {
+                        if (recusar.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                            responder(saida, "451 4.3.0 Tente novamente mais tarde");
+                        } else {
+                            responder(saida, "250 OK");
+                        }
+                    }
+                    case "DATA" -> {
+                        responder(saida, "354 Termine com <CRLF>.<CRLF>");
+                        StringBuilder mensagem = new StringBuilder();
+                        while ((linha = entrada.readLine()) != null && !linha.equals(".")) {
+                            mensagem.append(linha.startsWith("..") ? linha.substring(1) : linha).append("\r\n");
+                        }
+                        mensagens.add(mensagem.toString());
+                        responder(saida, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        responder(saida, "221 Até mais");
+                        return;
+                    }
+                    default -> responder(saida, "502 Comando não implementado");
+                }
+            }
+        } catch (IOException e) {
+            // conexão encerrada pelo cliente
+        }
+    }
+
+    private static void responder(Writer saida, String resposta) throws IOException {
+        saida.write(resposta + "\r\n");
+        saida.flush();
+    }
+}
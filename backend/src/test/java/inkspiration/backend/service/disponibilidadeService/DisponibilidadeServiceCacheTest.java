@@ -0,0 +1,133 @@
+package inkspiration.backend.service.disponibilidadeService;
+
+import inkspiration.backend.service.DisponibilidadeService;
+import inkspiration.backend.security.AuthorizationService;
+import inkspiration.backend.repository.DisponibilidadeRepository;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.AgendamentoRepository;
+import inkspiration.backend.entities.Disponibilidade;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.enums.TipoServico;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@DisplayName("DisponibilidadeService - Testes do cache de agendas compiladas")
+class DisponibilidadeServiceCacheTest {
+
+    @Mock
+    private DisponibilidadeRepository disponibilidadeRepository;
+
+    @Mock
+    private ProfissionalRepository profissionalRepository;
+
+    @Mock
+    private AgendamentoRepository agendamentoRepository;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @InjectMocks
+    private DisponibilidadeService disponibilidadeService;
+
+    private Profissional profissional;
+    private Disponibilidade disponibilidade;
+
+    // 24/06/2024 é uma segunda-feira
+    private final LocalDate segunda = LocalDate.of(2024, 6, 24);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        profissional = new Profissional();
+        profissional.setIdProfissional(1L);
+
+        disponibilidade = new Disponibilidade();
+        disponibilidade.setProfissional(profissional);
+        disponibilidade.setHrAtendimento("{\"Segunda\":[{\"inicio\":\"08:00\",\"fim\":\"12:00\"}]}");
+
+        when(profissionalRepository.findById(1L)).thenReturn(Optional.of(profissional));
+        when(disponibilidadeRepository.findByProfissional(profissional)).thenReturn(Optional.of(disponibilidade));
+        when(disponibilidadeRepository.save(any(Disponibilidade.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(agendamentoRepository.findByProfissionalAndPeriod(any(), any(), any())).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco novamente para verificações seguintes")
+    void naoDeveConsultarBancoNovamente() throws JsonProcessingException {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(disponibilidadeService.isProfissionalDisponivel(1L, segunda.atTime(9, 0), segunda.atTime(10, 0)));
+            disponibilidadeService.obterHorariosDisponiveis(1L, segunda, TipoServico.TATUAGEM_PEQUENA);
+        }
+
+        verify(profissionalRepository, times(1)).findById(1L);
+        verify(disponibilidadeRepository, times(1)).findByProfissional(profissional);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a agenda em cache ao cadastrar nova disponibilidade")
+    void deveDescartarAgendaAoCadastrar() throws JsonProcessingException {
+        assertFalse(disponibilidadeService.isProfissionalDisponivel(1L, segunda.atTime(14, 0), segunda.atTime(15, 0)));
+
+        Map<String, List<Map<String, String>>> novosHorarios = Map.of(
+            "Segunda", List.of(Map.of("inicio", "13:00", "fim", "18:00")));
+        disponibilidadeService.cadastrarDisponibilidade(1L, novosHorarios);
+
+        assertTrue(disponibilidadeService.isProfissionalDisponivel(1L, segunda.atTime(14, 0), segunda.atTime(15, 0)));
+        assertFalse(disponibilidadeService.isProfissionalDisponivel(1L, segunda.atTime(9, 0), segunda.atTime(10, 0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar a agenda em cache só depois do commit")
+    void deveDescartarAgendaDepoisDoCommit() throws JsonProcessingException {
+        assertFalse(disponibilidadeService.isProfissionalDisponivel(1L, segunda.atTime(14, 0), segunda.atTime(15, 0)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        Map<String, List<Map<String, String>>> novosHorarios = Map.of(
+            "Segunda", List.of(Map.of("inicio", "13:00", "fim", "18:00")));
+        disponibilidadeService.cadastrarDisponibilidade(1L, novosHorarios);
+
+        // Antes do commit, quem consulta continua com a agenda anterior
+        assertFalse(disponibilidadeService.isProfissionalDisponivel(1L, segunda.atTime(14, 0), segunda.atTime(15, 0)));
+
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            sincronizacao.afterCommit();
+        }
+        assertTrue(disponibilidadeService.isProfissionalDisponivel(1L, segunda.atTime(14, 0), segunda.atTime(15, 0)));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar em cache quando a disponibilidade não está cadastrada")
+    void naoDeveGuardarAusenciaEmCache() throws JsonProcessingException {
+        when(disponibilidadeRepository.findByProfissional(profissional)).thenReturn(Optional.empty());
+        assertThrows(RuntimeException.class, () -> disponibilidadeService.obterAgendaSemanal(1L));
+
+        when(disponibilidadeRepository.findByProfissional(profissional)).thenReturn(Optional.of(disponibilidade));
+        assertTrue(disponibilidadeService.obterAgendaSemanal(1L).trabalhaNoDia(segunda.getDayOfWeek()));
+    }
+}
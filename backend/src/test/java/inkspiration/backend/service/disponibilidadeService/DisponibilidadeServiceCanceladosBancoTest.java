@@ -0,0 +1,146 @@
+package inkspiration.backend.service.disponibilidadeService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import inkspiration.backend.entities.Agendamento;
+import inkspiration.backend.entities.Disponibilidade;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.StatusAgendamento;
+import inkspiration.backend.enums.TipoServico;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.repository.AgendamentoRepository;
+import inkspiration.backend.repository.DisponibilidadeRepository;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.service.DisponibilidadeService;
+import inkspiration.backend.util.UsuariosTeste;
+
+/**
+ * Garante, com as consultas reais (H2), que agendamentos cancelados não ocupam
+ * horários na lista do dia nem no calendário.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@DisplayName("DisponibilidadeService - Agendamentos cancelados liberam o horário")
+class DisponibilidadeServiceCanceladosBancoTest {
+
+    private static final UsuariosTeste USUARIOS = new UsuariosTeste("usuario", 100000000);
+
+    private static final String HORARIOS_TODOS_OS_DIAS = "{"
+        + "\"Segunda\":[{\"inicio\":\"08:00\",\"fim\":\"12:00\"}],"
+        + "\"Terça\":[{\"inicio\":\"08:00\",\"fim\":\"12:00\"}],"
+        + "\"Quarta\":[{\"inicio\":\"08:00\",\"fim\":\"12:00\"}],"
+        + "\"Quinta\":[{\"inicio\":\"08:00\",\"fim\":\"12:00\"}],"
+        + "\"Sexta\":[{\"inicio\":\"08:00\",\"fim\":\"12:00\"}],"
+        + "\"Sábado\":[{\"inicio\":\"08:00\",\"fim\":\"12:00\"}],"
+        + "\"Domingo\":[{\"inicio\":\"08:00\",\"fim\":\"12:00\"}]}";
+
+    private static final LocalDate DATA = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AgendamentoRepository agendamentoRepository;
+
+    @Autowired
+    private DisponibilidadeRepository disponibilidadeRepository;
+
+    @Autowired
+    private ProfissionalRepository profissionalRepository;
+
+    private DisponibilidadeService disponibilidadeService;
+    private Usuario cliente;
+    private Profissional profissional;
+
+    @BeforeEach
+    void setUp() {
+        disponibilidadeService = new DisponibilidadeService(
+            disponibilidadeRepository, profissionalRepository, agendamentoRepository, null);
+
+        cliente = criarUsuario("Cliente", UserRole.ROLE_USER.getRole(), 1);
+        profissional = criarProfissional(criarUsuario("Profissional", UserRole.ROLE_PROF.getRole(), 2));
+
+        Disponibilidade disponibilidade = new Disponibilidade();
+        disponibilidade.setProfissional(profissional);
+        disponibilidade.setHrAtendimento(HORARIOS_TODOS_OS_DIAS);
+        entityManager.persist(disponibilidade);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Agendamento cancelado não deve ocupar horários na lista do dia")
+    void agendamentoCanceladoNaoDeveOcuparHorariosDoDia() throws Exception {
+        List<String> livres = disponibilidadeService.obterHorariosDisponiveis(
+            profissional.getIdProfissional(), DATA, TipoServico.TATUAGEM_PEQUENA);
+        assertFalse(livres.isEmpty());
+
+        criarAgendamento(DATA.atTime(8, 0), DATA.atTime(10, 0), StatusAgendamento.CANCELADO);
+        assertEquals(livres, disponibilidadeService.obterHorariosDisponiveis(
+            profissional.getIdProfissional(), DATA, TipoServico.TATUAGEM_PEQUENA));
+
+        criarAgendamento(DATA.atTime(8, 0), DATA.atTime(10, 0), StatusAgendamento.AGENDADO);
+        List<String> comAgendado = disponibilidadeService.obterHorariosDisponiveis(
+            profissional.getIdProfissional(), DATA, TipoServico.TATUAGEM_PEQUENA);
+        assertFalse(comAgendado.contains("08:00"));
+        assertTrue(livres.containsAll(comAgendado));
+    }
+
+    @Test
+    @DisplayName("Agendamento cancelado não deve ocupar horários no calendário")
+    void agendamentoCanceladoNaoDeveOcuparHorariosDoCalendario() throws Exception {
+        Map<String, Map<String, List<String>>> livres = disponibilidadeService.obterCalendarioDisponivel(
+            profissional.getIdProfissional(), DATA, DATA.plusDays(1));
+        assertTrue(livres.get(DATA.toString()).get(TipoServico.TATUAGEM_PEQUENA.getDescricao()).contains("08:00"));
+
+        criarAgendamento(DATA.atTime(8, 0), DATA.atTime(10, 0), StatusAgendamento.CANCELADO);
+        assertEquals(livres, disponibilidadeService.obterCalendarioDisponivel(
+            profissional.getIdProfissional(), DATA, DATA.plusDays(1)));
+
+        criarAgendamento(DATA.atTime(8, 0), DATA.atTime(10, 0), StatusAgendamento.AGENDADO);
+        Map<String, Map<String, List<String>>> comAgendado = disponibilidadeService.obterCalendarioDisponivel(
+            profissional.getIdProfissional(), DATA, DATA.plusDays(1));
+        assertFalse(comAgendado.get(DATA.toString()).get(TipoServico.TATUAGEM_PEQUENA.getDescricao()).contains("08:00"));
+        assertEquals(livres.get(DATA.plusDays(1).toString()), comAgendado.get(DATA.plusDays(1).toString()));
+    }
+
+    private Agendamento criarAgendamento(LocalDateTime inicio, LocalDateTime fim, StatusAgendamento status) {
+        Agendamento agendamento = new Agendamento();
+        agendamento.setUsuario(cliente);
+        agendamento.setProfissional(profissional);
+        agendamento.setTipoServico(TipoServico.TATUAGEM_PEQUENA);
+        agendamento.setDescricao("Tatuagem de teste");
+        agendamento.setValor(new BigDecimal("150.00"));
+        agendamento.setDtInicio(inicio);
+        agendamento.setDtFim(fim);
+        agendamento.setStatus(status);
+        Agendamento salvo = entityManager.persist(agendamento);
+        entityManager.flush();
+        return salvo;
+    }
+
+    private Profissional criarProfissional(Usuario usuario) {
+        Profissional profissional = new Profissional();
+        profissional.setUsuario(usuario);
+        profissional.setTiposServicoStr("{\"TATUAGEM_PEQUENA\":100}");
+        return entityManager.persist(profissional);
+    }
+
+    private Usuario criarUsuario(String nome, String role, int indice) {
+        return entityManager.persist(USUARIOS.novo(nome, role, indice));
+    }
+}
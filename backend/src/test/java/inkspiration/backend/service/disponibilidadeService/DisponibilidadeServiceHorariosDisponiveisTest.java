@@ -518,4 +518,50 @@ class DisponibilidadeServiceHorariosDisponiveisTest {
         assertFalse(horariosDisponiveis.contains("14:00")); 
         assertFalse(horariosDisponiveis.contains("15:00")); 
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve montar o calendário do período com uma única consulta de agendamentos")
+    void deveMontarCalendarioComUmaConsulta() throws JsonProcessingException {
+        
+        Long idProfissional = 1L;
+        LocalDate semanaSeguinte = dataConsulta.plusDays(7);
+        
+        Agendamento agendamento = new Agendamento();
+        agendamento.setDtInicio(semanaSeguinte.atTime(13, 0));
+        agendamento.setDtFim(semanaSeguinte.atTime(15, 0));
+        
+        when(profissionalRepository.findById(idProfissional)).thenReturn(Optional.of(profissional));
+        when(disponibilidadeRepository.findByProfissional(profissional)).thenReturn(Optional.of(disponibilidade));
+        when(agendamentoRepository.findSobrepostosAoPeriodo(eq(idProfissional), any(), any()))
+            .thenReturn(Arrays.asList(agendamento));
+        
+        
+        Map<String, Map<String, List<String>>> calendario = disponibilidadeService.obterCalendarioDisponivel(
+            idProfissional, dataConsulta, dataConsulta.plusDays(13));
+        
+        
+        assertEquals(14, calendario.size());
+        assertEquals(Arrays.asList("08:00", "09:00", "13:00", "14:00", "15:00", "16:00"),
+            calendario.get(dataConsulta.toString()).get("pequena"));
+        assertEquals(Arrays.asList("08:00", "09:00", "16:00"),
+            calendario.get(semanaSeguinte.toString()).get("pequena"));
+        assertEquals(Arrays.asList("13:00", "14:00"), calendario.get(dataConsulta.toString()).get("media"));
+        assertTrue(calendario.get(dataConsulta.toString()).get("sessao").isEmpty());
+        assertTrue(calendario.get(dataConsulta.plusDays(1).toString()).get("pequena").isEmpty());
+        
+        verify(agendamentoRepository, times(1)).findSobrepostosAoPeriodo(
+            idProfissional, dataConsulta.atStartOfDay(), dataConsulta.plusDays(14).atStartOfDay());
+        verify(agendamentoRepository, never()).findByProfissionalAndPeriod(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar calendário com período invertido ou longo demais")
+    void deveRejeitarPeriodoInvalidoNoCalendario() {
+        
+        assertThrows(DisponibilidadeConsultaException.class, () ->
+            disponibilidadeService.obterCalendarioDisponivelComValidacao(1L, dataConsulta, dataConsulta.minusDays(1)));
+        assertThrows(DisponibilidadeConsultaException.class, () ->
+            disponibilidadeService.obterCalendarioDisponivelComValidacao(1L, dataConsulta, dataConsulta.plusDays(62)));
+        verifyNoInteractions(agendamentoRepository);
+    }
+}
@@ -22,9 +22,14 @@ import jakarta.mail.internet.MimeMessage;
 @DisplayName("EmailService - Testes Principais")
 class EmailServiceCoreTest {
 
+    private static final inkspiration.backend.email.ModelosEmail MODELOS = new inkspiration.backend.email.ModelosEmail();
+
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private inkspiration.backend.service.CaixaSaidaEmailService caixaSaidaEmailService;
+
     @Mock
     private MimeMessage mimeMessage;
 
@@ -34,6 +39,7 @@ class EmailServiceCoreTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@inkspiration.com");
+        ReflectionTestUtils.setField(emailService, "modelosEmail", MODELOS);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
     }
 
@@ -51,7 +57,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -62,7 +68,7 @@ class EmailServiceCoreTest {
         String userName = "João Silva";
         String code = "123456";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -118,7 +124,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -129,7 +135,7 @@ class EmailServiceCoreTest {
         String userName = "Pedro Oliveira";
         String code = "987654";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -154,7 +160,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -165,7 +171,7 @@ class EmailServiceCoreTest {
         String userName = "Ana Costa";
         String code = "456789";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -190,7 +196,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -207,7 +213,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -224,7 +230,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -241,7 +247,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -258,7 +264,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -277,7 +283,7 @@ class EmailServiceCoreTest {
         
         
         verify(mailSender, times(4)).createMimeMessage();
-        verify(mailSender, times(3)).send(any(MimeMessage.class)); 
+        verify(caixaSaidaEmailService, times(4)).enfileirar(any(MimeMessage.class));
     }
 
     @Test
@@ -297,7 +303,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -314,7 +320,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -331,7 +337,7 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -351,7 +357,7 @@ class EmailServiceCoreTest {
 
         assertTrue(exception.getMessage().contains("Falha ao enviar email de recuperação"));
         verify(mailSender).createMimeMessage();
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(caixaSaidaEmailService, never()).enfileirar(any(MimeMessage.class));
     }
 
     @Test
@@ -368,6 +374,6 @@ class EmailServiceCoreTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 } 
\ No newline at end of file
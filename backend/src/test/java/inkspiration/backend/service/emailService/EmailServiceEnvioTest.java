@@ -21,9 +21,14 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 @DisplayName("EmailService - Testes de Envio")
 class EmailServiceEnvioTest {
 
+    private static final inkspiration.backend.email.ModelosEmail MODELOS = new inkspiration.backend.email.ModelosEmail();
+
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private inkspiration.backend.service.CaixaSaidaEmailService caixaSaidaEmailService;
+
     @Mock
     private MimeMessage mimeMessage;
 
@@ -34,6 +39,7 @@ class EmailServiceEnvioTest {
     void setUp() {
         
         ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@inkspiration.com");
+        ReflectionTestUtils.setField(emailService, "modelosEmail", MODELOS);
         
         
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
@@ -54,7 +60,7 @@ class EmailServiceEnvioTest {
 
         
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -65,7 +71,7 @@ class EmailServiceEnvioTest {
         String userName = "João Silva";
         String code = "123456";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -121,7 +127,7 @@ class EmailServiceEnvioTest {
 
         
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -132,7 +138,7 @@ class EmailServiceEnvioTest {
         String userName = "Pedro Oliveira";
         String code = "987654";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -157,7 +163,7 @@ class EmailServiceEnvioTest {
 
         
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -168,7 +174,7 @@ class EmailServiceEnvioTest {
         String userName = "Ana Costa";
         String code = "456789";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -192,7 +198,7 @@ class EmailServiceEnvioTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -209,7 +215,7 @@ class EmailServiceEnvioTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -226,7 +232,7 @@ class EmailServiceEnvioTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -243,7 +249,7 @@ class EmailServiceEnvioTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -264,7 +270,7 @@ class EmailServiceEnvioTest {
         
         
         verify(mailSender, times(4)).createMimeMessage();
-        verify(mailSender, times(3)).send(any(MimeMessage.class)); 
+        verify(caixaSaidaEmailService, times(4)).enfileirar(any(MimeMessage.class));
     }
 
     @Test
@@ -283,7 +289,7 @@ class EmailServiceEnvioTest {
 
         
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -301,7 +307,7 @@ class EmailServiceEnvioTest {
 
         
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -319,6 +325,6 @@ class EmailServiceEnvioTest {
 
         
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 } 
\ No newline at end of file
@@ -15,15 +15,22 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.mail.internet.MimeMessage;
+import inkspiration.backend.email.ModelosEmail;
+import inkspiration.backend.service.CaixaSaidaEmailService;
 import inkspiration.backend.service.EmailService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EmailService - Testes com Mocks")
 class EmailServiceMockTest {
 
+    private static final ModelosEmail MODELOS = new ModelosEmail();
+
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private CaixaSaidaEmailService caixaSaidaEmailService;
+
     @Mock
     private MimeMessage mimeMessage;
 
@@ -33,6 +40,7 @@ class EmailServiceMockTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@inkspiration.com");
+        ReflectionTestUtils.setField(emailService, "modelosEmail", MODELOS);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
     }
 
@@ -48,7 +56,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -58,7 +66,7 @@ class EmailServiceMockTest {
         String userName = "João Silva";
         String code = "123456";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             emailService.sendPasswordResetCode(toEmail, userName, code);
@@ -104,7 +112,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -114,7 +122,7 @@ class EmailServiceMockTest {
         String userName = "Pedro Oliveira";
         String code = "987654";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             emailService.sendTwoFactorRecoveryCode(toEmail, userName, code);
@@ -136,7 +144,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -146,7 +154,7 @@ class EmailServiceMockTest {
         String userName = "Ana Costa";
         String code = "456789";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             emailService.sendEmailVerification(toEmail, userName, code);
@@ -168,7 +176,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -183,7 +191,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -198,7 +206,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -213,7 +221,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -228,7 +236,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -246,7 +254,7 @@ class EmailServiceMockTest {
         emailService.sendPasswordResetConfirmation(toEmail, userName);
 
         verify(mailSender, times(4)).createMimeMessage();
-        verify(mailSender, times(3)).send(any(MimeMessage.class));
+        verify(caixaSaidaEmailService, times(4)).enfileirar(any(MimeMessage.class));
     }
 
     @Test
@@ -264,7 +272,7 @@ class EmailServiceMockTest {
 
         assertTrue(exception.getMessage().contains("Falha ao enviar email de recuperação"));
         verify(mailSender).createMimeMessage();
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(caixaSaidaEmailService, never()).enfileirar(any(MimeMessage.class));
     }
 
     @Test
@@ -279,7 +287,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -294,7 +302,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -309,7 +317,7 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -327,6 +335,6 @@ class EmailServiceMockTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 } 
\ No newline at end of file
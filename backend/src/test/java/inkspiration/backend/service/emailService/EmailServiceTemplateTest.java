@@ -17,15 +17,22 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.mail.internet.MimeMessage;
+import inkspiration.backend.email.ModelosEmail;
+import inkspiration.backend.service.CaixaSaidaEmailService;
 import inkspiration.backend.service.EmailService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EmailService - Testes de Templates")
 class EmailServiceTemplateTest {
 
+    private static final ModelosEmail MODELOS = new ModelosEmail();
+
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private CaixaSaidaEmailService caixaSaidaEmailService;
+
     @Mock
     private MimeMessage mimeMessage;
 
@@ -35,6 +42,7 @@ class EmailServiceTemplateTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@inkspiration.com");
+        ReflectionTestUtils.setField(emailService, "modelosEmail", MODELOS);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
     }
 
@@ -50,7 +58,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -80,7 +88,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -95,7 +103,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -111,7 +119,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender, times(3)).createMimeMessage();
-        verify(mailSender, times(3)).send(mimeMessage);
+        verify(caixaSaidaEmailService, times(3)).enfileirar(mimeMessage);
     }
 
     @Test
@@ -128,7 +136,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender, times(4)).createMimeMessage();
-        verify(mailSender, times(4)).send(mimeMessage);
+        verify(caixaSaidaEmailService, times(4)).enfileirar(mimeMessage);
     }
 
     @Test
@@ -146,7 +154,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -165,7 +173,7 @@ class EmailServiceTemplateTest {
         
         
         verify(mailSender, times(4)).createMimeMessage();
-        verify(mailSender, times(3)).send(any(MimeMessage.class)); 
+        verify(caixaSaidaEmailService, times(4)).enfileirar(any(MimeMessage.class));
     }
 
     @Test
@@ -182,7 +190,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender, times(3)).createMimeMessage();
-        verify(mailSender, times(3)).send(mimeMessage);
+        verify(caixaSaidaEmailService, times(3)).enfileirar(mimeMessage);
     }
 
     @Test
@@ -206,7 +214,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender, times(4)).createMimeMessage();
-        verify(mailSender, times(4)).send(mimeMessage);
+        verify(caixaSaidaEmailService, times(4)).enfileirar(mimeMessage);
     }
 
     @Test
@@ -225,7 +233,7 @@ class EmailServiceTemplateTest {
         });
 
         verify(mailSender, times(5)).createMimeMessage();
-        verify(mailSender, times(5)).send(mimeMessage);
+        verify(caixaSaidaEmailService, times(5)).enfileirar(mimeMessage);
     }
 
     @Test
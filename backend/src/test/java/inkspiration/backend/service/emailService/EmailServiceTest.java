@@ -15,15 +15,22 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.mail.internet.MimeMessage;
+import inkspiration.backend.email.ModelosEmail;
+import inkspiration.backend.service.CaixaSaidaEmailService;
 import inkspiration.backend.service.EmailService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EmailService - Testes Completos")
 class EmailServiceTest {
 
+    private static final ModelosEmail MODELOS = new ModelosEmail();
+
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private CaixaSaidaEmailService caixaSaidaEmailService;
+
     @Mock
     private MimeMessage mimeMessage;
 
@@ -33,6 +40,7 @@ class EmailServiceTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@inkspiration.com");
+        ReflectionTestUtils.setField(emailService, "modelosEmail", MODELOS);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
     }
 
@@ -48,7 +56,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -58,7 +66,7 @@ class EmailServiceTest {
         String userName = "João Silva";
         String code = "123456";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             emailService.sendPasswordResetCode(toEmail, userName, code);
@@ -103,7 +111,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -113,7 +121,7 @@ class EmailServiceTest {
         String userName = "Pedro Oliveira";
         String code = "987654";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             emailService.sendTwoFactorRecoveryCode(toEmail, userName, code);
@@ -134,7 +142,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -144,7 +152,7 @@ class EmailServiceTest {
         String userName = "Ana Costa";
         String code = "456789";
         
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Erro de conexão")).when(caixaSaidaEmailService).enfileirar(any(MimeMessage.class));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             emailService.sendEmailVerification(toEmail, userName, code);
@@ -165,7 +173,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -180,7 +188,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -195,7 +203,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -210,7 +218,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -225,7 +233,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -241,7 +249,7 @@ class EmailServiceTest {
         emailService.sendPasswordResetConfirmation(email, nome);
         
         verify(mailSender, times(4)).createMimeMessage();
-        verify(mailSender, times(3)).send(any(MimeMessage.class));
+        verify(caixaSaidaEmailService, times(4)).enfileirar(any(MimeMessage.class));
     }
 
     @Test
@@ -259,7 +267,7 @@ class EmailServiceTest {
 
         assertTrue(exception.getMessage().contains("Falha ao enviar email de recuperação"));
         verify(mailSender).createMimeMessage();
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(caixaSaidaEmailService, never()).enfileirar(any(MimeMessage.class));
     }
 
     @Test
@@ -274,7 +282,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -289,7 +297,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -304,7 +312,7 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 
     @Test
@@ -322,6 +330,6 @@ class EmailServiceTest {
         });
 
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessage);
+        verify(caixaSaidaEmailService).enfileirar(mimeMessage);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,193 @@
+package inkspiration.backend.service.emailVerificationService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import inkspiration.backend.cadastro.CadastrosPendentes;
+import inkspiration.backend.cadastro.CadastrosPendentesMemoria;
+import inkspiration.backend.dto.UsuarioDTO;
+import inkspiration.backend.entities.CadastroPendente;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.exception.UsuarioValidationException;
+import inkspiration.backend.exception.emailverification.EmailVerificationValidacaoException;
+import inkspiration.backend.exception.usuario.InvalidProfileImageException;
+import inkspiration.backend.service.EmailService;
+import inkspiration.backend.service.EmailVerificationService;
+import inkspiration.backend.service.UsuarioService;
+
+/**
+ * Fluxo de cadastro sobre um {@link CadastrosPendentes} compartilhado por duas instâncias do
+ * serviço, como dois nós do backend apontando para a mesma tabela.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailVerificationService - Cadastros pendentes")
+class EmailVerificationServiceCadastroTest {
+
+    private static final String SENHA = "Senha@123";
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private UsuarioService usuarioService;
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private CadastrosPendentes cadastrosPendentes;
+    private EmailVerificationService instanciaA;
+    private EmailVerificationService instanciaB;
+
+    @BeforeEach
+    void setUp() {
+        cadastrosPendentes = new CadastrosPendentesMemoria(100, 1_000_000);
+        instanciaA = novaInstancia();
+        instanciaB = novaInstancia();
+    }
+
+    @Test
+    @DisplayName("Deve guardar o cadastro com a senha codificada e sem texto puro")
+    void deveGuardarSenhaCodificada() {
+        instanciaA.requestEmailVerification(usuarioDTO());
+
+        CadastroPendente pendente = cadastrosPendentes.buscar("ana@email.com").orElseThrow();
+        assertTrue(passwordEncoder.matches(SENHA, pendente.getSenhaCodificada()));
+        assertFalse(pendente.getDados().contains(SENHA));
+        assertTrue(pendente.getDados().contains("Ana Souza"));
+        assertTrue(pendente.getExpiraEm().isAfter(LocalDateTime.now().plusMinutes(14)));
+        verify(emailService).sendEmailVerification("ana@email.com", "Ana Souza", pendente.getCodigo());
+    }
+
+    @Test
+    @DisplayName("Deve criar o usuário em outra instância com a senha já codificada")
+    void deveConfirmarEmOutraInstancia() {
+        Usuario usuario = new Usuario();
+        when(usuarioService.criarComSenhaCodificada(any(UsuarioDTO.class), anyString())).thenReturn(usuario);
+        instanciaA.requestEmailVerification(usuarioDTO());
+        CadastroPendente pendente = cadastrosPendentes.buscar("ana@email.com").orElseThrow();
+
+        assertSame(usuario, instanciaB.verifyEmailAndCreateUser("ana@email.com", pendente.getCodigo()));
+
+        ArgumentCaptor<UsuarioDTO> dto = ArgumentCaptor.forClass(UsuarioDTO.class);
+        verify(usuarioService).criarComSenhaCodificada(dto.capture(), eq(pendente.getSenhaCodificada()));
+        assertEquals("Ana Souza", dto.getValue().getNome());
+        assertEquals("529.982.247-25", dto.getValue().getCpf());
+        assertNull(dto.getValue().getSenha());
+        verify(usuarioService).salvar(usuario);
+        assertTrue(cadastrosPendentes.buscar("ana@email.com").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar o código por outra instância e invalidar o anterior")
+    void deveReenviarEmOutraInstancia() {
+        instanciaA.requestEmailVerification(usuarioDTO());
+        // Código fora do formato gerado, para nunca coincidir com o novo
+        cadastrosPendentes.buscar("ana@email.com").orElseThrow().setCodigo("anterior");
+
+        instanciaB.resendVerificationCode("ana@email.com");
+
+        String novoCodigo = cadastrosPendentes.buscar("ana@email.com").orElseThrow().getCodigo();
+        assertTrue(novoCodigo.matches("\\d{6}"));
+        verify(emailService).sendEmailVerification("ana@email.com", "Ana Souza", novoCodigo);
+        RuntimeException erro = assertThrows(RuntimeException.class,
+            () -> instanciaA.verifyEmailAndCreateUser("ana@email.com", "anterior"));
+        assertEquals("Código de verificação inválido", erro.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recusar senha inválida antes de guardar ou enviar o código")
+    void deveRecusarSenhaInvalida() {
+        doThrow(new UsuarioValidationException.SenhaInvalidaException("Senha fraca"))
+            .when(usuarioService).validarSenha("123");
+        UsuarioDTO dto = usuarioDTO();
+        dto.setSenha("123");
+
+        EmailVerificationValidacaoException erro = assertThrows(EmailVerificationValidacaoException.class,
+            () -> instanciaA.requestEmailVerificationComValidacao(dto));
+
+        assertEquals("Senha fraca", erro.getMessage());
+        assertTrue(cadastrosPendentes.buscar("ana@email.com").isEmpty());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    @DisplayName("Deve recusar foto de perfil fora do limite antes de guardar o cadastro")
+    void deveRecusarFotoDePerfilInvalida() {
+        String foto = "data:image/png;base64,AAAA";
+        doThrow(new InvalidProfileImageException("Imagem muito grande. Tamanho máximo permitido: 5MB"))
+            .when(usuarioService).validarImagemPerfil(foto);
+        UsuarioDTO dto = usuarioDTO();
+        dto.setImagemPerfil(foto);
+
+        EmailVerificationValidacaoException erro = assertThrows(EmailVerificationValidacaoException.class,
+            () -> instanciaA.requestEmailVerificationComValidacao(dto));
+
+        assertEquals("Imagem muito grande. Tamanho máximo permitido: 5MB", erro.getMessage());
+        assertTrue(cadastrosPendentes.buscar("ana@email.com").isEmpty());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o cadastro quando o email não pode ser enviado")
+    void deveDescartarQuandoEnvioFalha() {
+        doThrow(new RuntimeException("SMTP fora")).when(emailService)
+            .sendEmailVerification(eq("ana@email.com"), anyString(), anyString());
+
+        assertThrows(RuntimeException.class, () -> instanciaA.requestEmailVerification(usuarioDTO()));
+
+        assertTrue(cadastrosPendentes.buscar("ana@email.com").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve recusar e remover código expirado")
+    void deveRecusarCodigoExpirado() {
+        instanciaA.requestEmailVerification(usuarioDTO());
+        CadastroPendente pendente = cadastrosPendentes.buscar("ana@email.com").orElseThrow();
+        pendente.setExpiraEm(LocalDateTime.now().minusSeconds(1));
+
+        RuntimeException erro = assertThrows(RuntimeException.class,
+            () -> instanciaB.verifyEmailAndCreateUser("ana@email.com", pendente.getCodigo()));
+
+        assertEquals("Código de verificação expirado", erro.getMessage());
+        assertTrue(cadastrosPendentes.buscar("ana@email.com").isEmpty());
+        verify(usuarioService, never()).criarComSenhaCodificada(any(), any());
+    }
+
+    private EmailVerificationService novaInstancia() {
+        EmailVerificationService service = new EmailVerificationService();
+        ReflectionTestUtils.setField(service, "emailService", emailService);
+        ReflectionTestUtils.setField(service, "usuarioService", usuarioService);
+        ReflectionTestUtils.setField(service, "cadastrosPendentes", cadastrosPendentes);
+        ReflectionTestUtils.setField(service, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(service, "objectMapper", objectMapper);
+        return service;
+    }
+
+    private static UsuarioDTO usuarioDTO() {
+        UsuarioDTO dto = new UsuarioDTO();
+        dto.setNome("Ana Souza");
+        dto.setEmail("ana@email.com");
+        dto.setCpf("529.982.247-25");
+        dto.setDataNascimento("10/05/1990");
+        dto.setTelefone("(11) 98765-4321");
+        dto.setSenha(SENHA);
+        return dto;
+    }
+}
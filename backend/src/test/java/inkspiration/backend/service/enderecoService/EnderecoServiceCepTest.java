@@ -13,8 +13,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestTemplate;
 
+import inkspiration.backend.cep.ClienteViaCep;
+import inkspiration.backend.cep.ResolvedorCep;
 import inkspiration.backend.entities.Endereco;
 import inkspiration.backend.exception.endereco.CepInvalidoException;
+import inkspiration.backend.repository.CepConhecidoRepository;
 import inkspiration.backend.service.EnderecoService;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,11 +27,15 @@ class EnderecoServiceCepTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private CepConhecidoRepository cepConhecidoRepository;
+
     private EnderecoService enderecoService;
 
     @BeforeEach
     void setUp() {
-        enderecoService = new EnderecoService(restTemplate);
+        enderecoService = new EnderecoService(new ResolvedorCep(
+            new ClienteViaCep(restTemplate, "https://viacep.com.br/ws/", 5, 30_000), cepConhecidoRepository, 1000, 1440, 90));
     }
 
     @Test
@@ -15,11 +15,14 @@ import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import inkspiration.backend.cep.ClienteViaCep;
+import inkspiration.backend.cep.ResolvedorCep;
 import inkspiration.backend.entities.Endereco;
 import inkspiration.backend.exception.endereco.CepInvalidoException;
 import inkspiration.backend.exception.endereco.CidadeInvalidaException;
 import inkspiration.backend.exception.endereco.EstadoInvalidoException;
 import inkspiration.backend.exception.endereco.EnderecoValidacaoException;
+import inkspiration.backend.repository.CepConhecidoRepository;
 import inkspiration.backend.service.EnderecoService;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,11 +32,15 @@ class EnderecoServiceExcecaoTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private CepConhecidoRepository cepConhecidoRepository;
+
     private EnderecoService enderecoService;
 
     @BeforeEach
     void setUp() {
-        enderecoService = new EnderecoService(restTemplate);
+        enderecoService = new EnderecoService(new ResolvedorCep(
+            new ClienteViaCep(restTemplate, "https://viacep.com.br/ws/", 5, 30_000), cepConhecidoRepository, 1000, 1440, 90));
     }
 
     
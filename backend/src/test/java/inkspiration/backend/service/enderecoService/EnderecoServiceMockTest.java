@@ -15,7 +15,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestTemplate;
 
+import inkspiration.backend.cep.ClienteViaCep;
+import inkspiration.backend.cep.ResolvedorCep;
 import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.repository.CepConhecidoRepository;
 import inkspiration.backend.service.EnderecoService;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +28,15 @@ class EnderecoServiceMockTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private CepConhecidoRepository cepConhecidoRepository;
+
     private EnderecoService enderecoService;
 
     @BeforeEach
     void setUp() {
-        enderecoService = new EnderecoService(restTemplate);
+        enderecoService = new EnderecoService(new ResolvedorCep(
+            new ClienteViaCep(restTemplate, "https://viacep.com.br/ws/", 5, 30_000), cepConhecidoRepository, 1000, 1440, 90));
     }
 
     @Test
@@ -202,14 +209,12 @@ class EnderecoServiceMockTest {
         
         // Reset do mock
         reset(restTemplate);
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-            .thenReturn(respostaViaCep);
         
         // Act - Segunda chamada
         enderecoService.validarEndereco(endereco);
 
-        // Assert - Apenas a segunda chamada deve ser contabilizada
-        verify(restTemplate, times(1)).getForObject(anyString(), eq(String.class));
+        // Assert - A segunda chamada usa o CEP em cache, sem consultar o ViaCEP
+        verifyNoInteractions(restTemplate);
     }
 
     @Test
@@ -272,12 +277,14 @@ class EnderecoServiceMockTest {
         // Primeira chamada - sucesso
         assertDoesNotThrow(() -> enderecoService.validarEndereco(endereco));
         
-        // Segunda chamada - sucesso com dados diferentes
+        // Segunda chamada - outro CEP, sucesso com dados diferentes
+        endereco.setCep("88137075");
         endereco.setBairro("Outro Bairro");
         endereco.setRua("Outra Rua");
         assertDoesNotThrow(() -> enderecoService.validarEndereco(endereco));
         
-        // Terceira chamada - falha
+        // Terceira chamada - mais um CEP, falha
+        endereco.setCep("88137076");
         assertThrows(RuntimeException.class, () -> enderecoService.validarEndereco(endereco));
         
         verify(restTemplate, times(3)).getForObject(anyString(), eq(String.class));
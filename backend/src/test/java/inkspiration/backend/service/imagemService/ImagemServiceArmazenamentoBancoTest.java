@@ -0,0 +1,259 @@
+package inkspiration.backend.service.imagemService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import inkspiration.backend.armazenamento.ArmazenamentoBlobLocal;
+import inkspiration.backend.armazenamento.ConteudoImagem;
+import inkspiration.backend.armazenamento.ImagemArquivo;
+import inkspiration.backend.armazenamento.ProcessadorVariantes;
+import inkspiration.backend.armazenamento.VarianteImagem;
+import inkspiration.backend.dto.ImagemDTO;
+import inkspiration.backend.dto.PaginaImagensDTO;
+import inkspiration.backend.entities.Imagem;
+import inkspiration.backend.entities.Portfolio;
+import inkspiration.backend.exception.imagem.ImagemSalvamentoException;
+import inkspiration.backend.repository.BlobImagemRepository;
+import inkspiration.backend.repository.ImagemRepository;
+import inkspiration.backend.repository.PortfolioRepository;
+import inkspiration.backend.service.BlobImagemService;
+import inkspiration.backend.service.ImagemService;
+
+/**
+ * Grava imagens no armazenamento local (em diretório temporário) e confere que o banco
+ * guarda apenas os metadados, inclusive para registros migrados do formato base64.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@DisplayName("ImagemService - Conteúdo no armazenamento de blobs")
+class ImagemServiceArmazenamentoBancoTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ImagemRepository imagemRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private BlobImagemRepository blobImagemRepository;
+
+    @TempDir
+    Path diretorio;
+
+    private ArmazenamentoBlobLocal armazenamento;
+    private ImagemService imagemService;
+    private Portfolio portfolio;
+
+    @BeforeEach
+    void setUp() {
+        armazenamento = new ArmazenamentoBlobLocal(diretorio.toString());
+        ProcessadorVariantes processadorVariantes = new ProcessadorVariantes(armazenamento, 1, 10, 10_000);
+        imagemService = new ImagemService(imagemRepository, portfolioRepository, armazenamento, processadorVariantes,
+            new BlobImagemService(blobImagemRepository, armazenamento, processadorVariantes,
+            entityManager.getEntityManager()));
+        portfolio = entityManager.persist(new Portfolio());
+    }
+
+    @Test
+    @DisplayName("Deve gravar os bytes no armazenamento e só os metadados no banco")
+    void deveGravarBytesNoArmazenamento() throws IOException {
+        byte[] png = gerarPng(3, 2);
+        ImagemDTO dto = new ImagemDTO();
+        dto.setIdPortfolio(portfolio.getIdPortfolio());
+        dto.setImagemBase64("data:image/png;base64," + Base64.getEncoder().encodeToString(png));
+
+        ImagemDTO salva = imagemService.salvar(dto);
+        entityManager.flush();
+        entityManager.clear();
+
+        Imagem imagem = imagemRepository.findById(salva.getIdImagem()).orElseThrow();
+        assertNull(imagem.getImagemBase64());
+        assertEquals("image/png", imagem.getMimeType());
+        assertEquals(png.length, imagem.getTamanho());
+        assertEquals(3, imagem.getLargura());
+        assertEquals(2, imagem.getAltura());
+        assertTrue(armazenamento.existe(imagem.getHash()));
+
+        List<ImagemDTO> listadas = imagemService.listarPorPortfolio(portfolio.getIdPortfolio());
+        assertEquals(1, listadas.size());
+        assertNull(listadas.get(0).getImagemBase64());
+        assertEquals("/imagens/" + imagem.getIdImagem() + "/raw", listadas.get(0).getUrl());
+
+        ImagemArquivo arquivo = imagemService.abrirConteudo(imagem.getIdImagem());
+        assertEquals("image/png", arquivo.getMimeType());
+        try (InputStream entrada = arquivo.getRecurso().getInputStream()) {
+            assertArrayEquals(png, entrada.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar upload em bytes e recusar assinaturas fora de PNG e JPEG")
+    void deveGravarUploadEmBytes() throws IOException {
+        byte[] png = gerarPng(5, 3);
+
+        ImagemDTO salva = imagemService.salvarArquivoComValidacao(
+            portfolio.getIdPortfolio(), new ByteArrayInputStream(png), -1);
+
+        assertEquals("image/png", salva.getMimeType());
+        assertEquals(5, salva.getLargura());
+        assertTrue(armazenamento.existe(imagemRepository.findById(salva.getIdImagem()).orElseThrow().getHash()));
+
+        byte[] gif = "GIF89a-nao-permitido".getBytes(StandardCharsets.ISO_8859_1);
+        ImagemSalvamentoException erro = assertThrows(ImagemSalvamentoException.class,
+            () -> imagemService.salvarArquivoComValidacao(portfolio.getIdPortfolio(), new ByteArrayInputStream(gif), gif.length));
+        assertEquals("Erro ao salvar imagem: Formato de imagem inválido. Apenas PNG, JPG, JPEG e JFIF são permitidos",
+            erro.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve gerar as variantes sob demanda quando ainda não existem")
+    void deveGerarVariantesSobDemanda() throws IOException {
+        Imagem imagem = new Imagem();
+        imagem.setPortfolio(portfolio);
+        byte[] png = gerarPng(2000, 1000);
+        String hash = gravarDireto(imagem, png);
+
+        ImagemArquivo miniatura = imagemService.abrirConteudo(imagem.getIdImagem(), VarianteImagem.MINIATURA);
+
+        assertEquals("image/jpeg", miniatura.getMimeType());
+        assertEquals(VarianteImagem.MINIATURA.chave(hash), miniatura.getHash());
+        BufferedImage lida;
+        try (InputStream entrada = miniatura.getRecurso().getInputStream()) {
+            lida = ImageIO.read(entrada);
+        }
+        assertEquals(160, lida.getWidth());
+        assertEquals(80, lida.getHeight());
+        for (VarianteImagem variante : VarianteImagem.values()) {
+            assertTrue(armazenamento.existe(variante.chave(hash)), variante.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver a imagem original quando o formato não pode ser reduzido")
+    void deveDevolverOriginalQuandoNaoHaVariante() throws IOException {
+        Imagem imagem = new Imagem();
+        imagem.setPortfolio(portfolio);
+        // Assinatura WebP: o ImageIO do JDK não lê esse formato
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.ISO_8859_1);
+        String hash = gravarDireto(imagem, webp);
+
+        ImagemArquivo arquivo = imagemService.abrirConteudo(imagem.getIdImagem(), VarianteImagem.MEDIA);
+
+        assertEquals("image/webp", arquivo.getMimeType());
+        assertEquals(hash, arquivo.getHash());
+        assertFalse(arquivo.isImutavel());
+    }
+
+    @Test
+    @DisplayName("Deve migrar as imagens em base64 e manter no formato antigo as que não decodificam")
+    void deveMigrarImagensLegadas() throws IOException {
+        byte[] png = gerarPng(4, 4);
+        Imagem primeira = persistirLegada("data:image/png;base64," + Base64.getEncoder().encodeToString(png));
+        Imagem corrompida = persistirLegada("data:image/png;base64,AAAAA");
+        Imagem terceira = persistirLegada("data:image/png;base64," + Base64.getEncoder().encodeToString(gerarPng(1, 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        Long ultimoId = 0L;
+        int lotes = 0;
+        while ((ultimoId = imagemService.migrarLoteLegado(ultimoId, 2)) != null) {
+            lotes++;
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, lotes);
+        Imagem migrada = imagemRepository.findById(primeira.getIdImagem()).orElseThrow();
+        assertNull(migrada.getImagemBase64());
+        assertEquals(4, migrada.getLargura());
+        try (InputStream entrada = armazenamento.carregar(migrada.getHash()).getInputStream()) {
+            assertArrayEquals(png, entrada.readAllBytes());
+        }
+        assertNotNull(imagemRepository.findById(terceira.getIdImagem()).orElseThrow().getHash());
+        assertTrue(imagemRepository.findById(corrompida.getIdImagem()).orElseThrow().isLegado());
+    }
+
+    @Test
+    @DisplayName("Deve paginar os metadados por cursor sem misturar portfólios")
+    void devePaginarMetadadosPorCursor() throws IOException {
+        Portfolio outro = entityManager.persist(new Portfolio());
+        for (int i = 0; i < 5; i++) {
+            Imagem imagem = new Imagem();
+            imagem.setPortfolio(portfolio);
+            gravarDireto(imagem, gerarPng(i + 1, 1));
+            Imagem alheia = new Imagem();
+            alheia.setPortfolio(outro);
+            gravarDireto(alheia, gerarPng(1, i + 1));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> ids = new ArrayList<>();
+        List<Integer> tamanhosPagina = new ArrayList<>();
+        Long cursor = null;
+        do {
+            PaginaImagensDTO pagina = imagemService.listarPagina(portfolio.getIdPortfolio(), cursor, 2);
+            tamanhosPagina.add(pagina.getImagens().size());
+            for (ImagemDTO imagem : pagina.getImagens()) {
+                assertEquals(portfolio.getIdPortfolio(), imagem.getIdPortfolio());
+                assertEquals("/imagens/" + imagem.getIdImagem() + "/raw", imagem.getUrl());
+                assertNotNull(imagem.getUrlMiniatura());
+                assertEquals("image/png", imagem.getMimeType());
+                ids.add(imagem.getIdImagem());
+            }
+            cursor = pagina.getProximoCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of(2, 2, 1), tamanhosPagina);
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+        assertEquals(5, imagemService.contarPorPortfolio(portfolio.getIdPortfolio()));
+    }
+
+    /**
+     * Grava o conteúdo sem passar por {@code salvar}, para que nenhuma variante seja agendada.
+     */
+    private String gravarDireto(Imagem imagem, byte[] bytes) throws IOException {
+        ConteudoImagem conteudo = ConteudoImagem.deBytes(bytes, null);
+        armazenamento.salvar(conteudo.getHash(), bytes);
+        imagem.setHash(conteudo.getHash());
+        imagem.setMimeType(conteudo.getMimeType());
+        imagem.setTamanho(conteudo.getTamanho());
+        entityManager.persist(imagem);
+        return conteudo.getHash();
+    }
+
+    private Imagem persistirLegada(String base64) {
+        Imagem imagem = new Imagem(base64, portfolio);
+        return entityManager.persist(imagem);
+    }
+
+    private static byte[] gerarPng(int largura, int altura) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB), "png", saida);
+        return saida.toByteArray();
+    }
+}
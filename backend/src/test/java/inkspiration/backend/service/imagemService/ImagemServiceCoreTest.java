@@ -15,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import inkspiration.backend.armazenamento.ArmazenamentoBlob;
+import inkspiration.backend.armazenamento.ProcessadorVariantes;
 import inkspiration.backend.dto.ImagemDTO;
 import inkspiration.backend.entities.Imagem;
 import inkspiration.backend.entities.Portfolio;
@@ -22,6 +24,7 @@ import inkspiration.backend.exception.imagem.ImagemNaoEncontradaException;
 import inkspiration.backend.exception.portfolio.PortfolioNaoEncontradoException;
 import inkspiration.backend.repository.ImagemRepository;
 import inkspiration.backend.repository.PortfolioRepository;
+import inkspiration.backend.service.BlobImagemService;
 import inkspiration.backend.service.ImagemService;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,11 +37,21 @@ class ImagemServiceCoreTest {
     @Mock
     private PortfolioRepository portfolioRepository;
 
+    @Mock
+    private ArmazenamentoBlob armazenamentoBlob;
+
+    @Mock
+    private ProcessadorVariantes processadorVariantes;
+
+    @Mock
+    private BlobImagemService blobImagemService;
+
     private ImagemService imagemService;
 
     @BeforeEach
     void setUp() {
-        imagemService = new ImagemService(imagemRepository, portfolioRepository);
+        imagemService = new ImagemService(imagemRepository, portfolioRepository, armazenamentoBlob, processadorVariantes,
+            blobImagemService);
     }
 
     @Test
@@ -68,7 +81,8 @@ class ImagemServiceCoreTest {
             Imagem imagem = imagens.get(i);
             
             assertEquals(imagem.getIdImagem(), dto.getIdImagem());
-            assertEquals(imagem.getImagemBase64(), dto.getImagemBase64());
+            assertNull(dto.getImagemBase64());
+            assertEquals("/imagens/" + imagem.getIdImagem() + "/raw", dto.getUrl());
             assertEquals(imagem.getPortfolio().getIdPortfolio(), dto.getIdPortfolio());
         }
         
@@ -108,7 +122,8 @@ class ImagemServiceCoreTest {
         
         assertNotNull(resultado);
         assertEquals(imagem.getIdImagem(), resultado.getIdImagem());
-        assertEquals(imagem.getImagemBase64(), resultado.getImagemBase64());
+        assertNull(resultado.getImagemBase64());
+        assertEquals("/imagens/" + idImagem + "/raw", resultado.getUrl());
         assertEquals(imagem.getPortfolio().getIdPortfolio(), resultado.getIdPortfolio());
         
         verify(imagemRepository).findById(idImagem);
@@ -140,7 +155,7 @@ class ImagemServiceCoreTest {
         Portfolio portfolio = criarPortfolio(idPortfolio);
         
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(idPortfolio);
         
         Imagem imagemSalva = criarImagem(1L, dto.getImagemBase64(), portfolio);
@@ -156,7 +171,8 @@ class ImagemServiceCoreTest {
         
         assertNotNull(resultado);
         assertEquals(imagemSalva.getIdImagem(), resultado.getIdImagem());
-        assertEquals(imagemSalva.getImagemBase64(), resultado.getImagemBase64());
+        assertNull(resultado.getImagemBase64());
+        assertEquals("/imagens/1/raw", resultado.getUrl());
         assertEquals(imagemSalva.getPortfolio().getIdPortfolio(), resultado.getIdPortfolio());
         
         verify(portfolioRepository).findById(idPortfolio);
@@ -169,7 +185,7 @@ class ImagemServiceCoreTest {
         
         Long idPortfolio = 999L;
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(idPortfolio);
         
         when(portfolioRepository.findById(idPortfolio))
@@ -240,7 +256,8 @@ class ImagemServiceCoreTest {
 
         
         assertEquals(imagemOriginal.getIdImagem(), resultado.getIdImagem());
-        assertEquals(imagemOriginal.getImagemBase64(), resultado.getImagemBase64());
+        assertNull(resultado.getImagemBase64());
+        assertEquals("image/png", resultado.getMimeType());
         assertEquals(imagemOriginal.getPortfolio().getIdPortfolio(), resultado.getIdPortfolio());
     }
 
@@ -272,9 +289,9 @@ class ImagemServiceCoreTest {
         }
         
         
-        assertTrue(resultado.get(0).getImagemBase64().contains("png"));
-        assertTrue(resultado.get(1).getImagemBase64().contains("jpeg"));
-        assertTrue(resultado.get(2).getImagemBase64().contains("gif"));
+        assertTrue(resultado.get(0).getMimeType().contains("png"));
+        assertTrue(resultado.get(1).getMimeType().contains("jpeg"));
+        assertTrue(resultado.get(2).getMimeType().contains("gif"));
     }
 
     
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import inkspiration.backend.armazenamento.ArmazenamentoBlob;
+import inkspiration.backend.armazenamento.ProcessadorVariantes;
 import inkspiration.backend.dto.ImagemDTO;
 import inkspiration.backend.entities.Imagem;
 import inkspiration.backend.entities.Portfolio;
@@ -23,6 +25,7 @@ import inkspiration.backend.exception.imagem.ImagemSalvamentoException;
 import inkspiration.backend.exception.portfolio.PortfolioNaoEncontradoException;
 import inkspiration.backend.repository.ImagemRepository;
 import inkspiration.backend.repository.PortfolioRepository;
+import inkspiration.backend.service.BlobImagemService;
 import inkspiration.backend.service.ImagemService;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,11 +38,21 @@ class ImagemServiceExcecaoTest {
     @Mock
     private PortfolioRepository portfolioRepository;
 
+    @Mock
+    private ArmazenamentoBlob armazenamentoBlob;
+
+    @Mock
+    private ProcessadorVariantes processadorVariantes;
+
+    @Mock
+    private BlobImagemService blobImagemService;
+
     private ImagemService imagemService;
 
     @BeforeEach
     void setUp() {
-        imagemService = new ImagemService(imagemRepository, portfolioRepository);
+        imagemService = new ImagemService(imagemRepository, portfolioRepository, armazenamentoBlob, processadorVariantes,
+            blobImagemService);
     }
 
     @Test
@@ -85,7 +98,7 @@ class ImagemServiceExcecaoTest {
         
         Long idPortfolio = 999L;
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(idPortfolio);
         
         when(portfolioRepository.findById(idPortfolio))
@@ -110,7 +123,7 @@ class ImagemServiceExcecaoTest {
         Portfolio portfolio = criarPortfolio(idPortfolio);
         
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(idPortfolio);
         
         when(portfolioRepository.findById(idPortfolio))
@@ -200,7 +213,7 @@ class ImagemServiceExcecaoTest {
         Portfolio portfolio = criarPortfolio(idPortfolio);
         
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(idPortfolio);
         
         when(portfolioRepository.findById(idPortfolio))
@@ -249,7 +262,7 @@ class ImagemServiceExcecaoTest {
         Portfolio portfolio = criarPortfolio(idPortfolio);
         
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(idPortfolio);
         
         when(portfolioRepository.findById(idPortfolio))
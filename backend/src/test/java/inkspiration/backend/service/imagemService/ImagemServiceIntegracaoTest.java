@@ -15,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import inkspiration.backend.armazenamento.ArmazenamentoBlob;
+import inkspiration.backend.armazenamento.ProcessadorVariantes;
 import inkspiration.backend.dto.ImagemDTO;
 import inkspiration.backend.entities.Imagem;
 import inkspiration.backend.entities.Portfolio;
@@ -24,6 +26,7 @@ import inkspiration.backend.exception.imagem.ImagemRemocaoException;
 import inkspiration.backend.exception.imagem.ImagemSalvamentoException;
 import inkspiration.backend.repository.ImagemRepository;
 import inkspiration.backend.repository.PortfolioRepository;
+import inkspiration.backend.service.BlobImagemService;
 import inkspiration.backend.service.ImagemService;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,11 +39,21 @@ class ImagemServiceIntegracaoTest {
     @Mock
     private PortfolioRepository portfolioRepository;
 
+    @Mock
+    private ArmazenamentoBlob armazenamentoBlob;
+
+    @Mock
+    private ProcessadorVariantes processadorVariantes;
+
+    @Mock
+    private BlobImagemService blobImagemService;
+
     private ImagemService imagemService;
 
     @BeforeEach
     void setUp() {
-        imagemService = new ImagemService(imagemRepository, portfolioRepository);
+        imagemService = new ImagemService(imagemRepository, portfolioRepository, armazenamentoBlob, processadorVariantes,
+            blobImagemService);
     }
 
     @Test
@@ -49,7 +62,7 @@ class ImagemServiceIntegracaoTest {
         
         Long idPortfolio = 1L;
         Portfolio portfolio = criarPortfolio(idPortfolio);
-        String imagemBase64 = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=";
+        String imagemBase64 = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==";
         
         ImagemDTO dto = new ImagemDTO();
         dto.setImagemBase64(imagemBase64);
@@ -71,7 +84,8 @@ class ImagemServiceIntegracaoTest {
         
         assertNotNull(imagemCriada);
         assertEquals(1L, imagemCriada.getIdImagem());
-        assertEquals(imagemBase64, imagemCriada.getImagemBase64());
+        assertNull(imagemCriada.getImagemBase64());
+        assertEquals("/imagens/1/raw", imagemCriada.getUrl());
         assertEquals(idPortfolio, imagemCriada.getIdPortfolio());
         
         assertEquals(1, imagensDoPortfolio.size());
@@ -164,10 +178,10 @@ class ImagemServiceIntegracaoTest {
         Portfolio portfolio = criarPortfolio(idPortfolio);
         
         List<Imagem> imagensDiferentes = Arrays.asList(
-            criarImagem(1L, "data:image/png;base64,iVBORw0KGgo=", portfolio),
-            criarImagem(2L, "data:image/jpeg;base64,/9j/4AAQSkZ=", portfolio),
-            criarImagem(3L, "data:image/gif;base64,R0lGODlhAQA=", portfolio),
-            criarImagem(4L, "data:image/webp;base64,UklGRiIA=", portfolio)
+            criarImagemArmazenada(1L, "image/png", portfolio),
+            criarImagemArmazenada(2L, "image/jpeg", portfolio),
+            criarImagemArmazenada(3L, "image/gif", portfolio),
+            criarImagemArmazenada(4L, "image/webp", portfolio)
         );
         
         when(imagemRepository.findByPortfolioIdPortfolio(idPortfolio))
@@ -180,10 +194,11 @@ class ImagemServiceIntegracaoTest {
         assertEquals(4, resultado.size());
         
         
-        assertTrue(resultado.stream().anyMatch(img -> img.getImagemBase64().contains("png")));
-        assertTrue(resultado.stream().anyMatch(img -> img.getImagemBase64().contains("jpeg")));
-        assertTrue(resultado.stream().anyMatch(img -> img.getImagemBase64().contains("gif")));
-        assertTrue(resultado.stream().anyMatch(img -> img.getImagemBase64().contains("webp")));
+        assertTrue(resultado.stream().anyMatch(img -> img.getMimeType().contains("png")));
+        assertTrue(resultado.stream().anyMatch(img -> img.getMimeType().contains("jpeg")));
+        assertTrue(resultado.stream().anyMatch(img -> img.getMimeType().contains("gif")));
+        assertTrue(resultado.stream().anyMatch(img -> img.getMimeType().contains("webp")));
+        assertTrue(resultado.stream().allMatch(img -> img.getImagemBase64() == null && img.getUrl() != null));
     }
 
     @Test
@@ -194,7 +209,7 @@ class ImagemServiceIntegracaoTest {
         Portfolio portfolio = criarPortfolio(idPortfolio);
         
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(idPortfolio);
         
         when(portfolioRepository.findById(idPortfolio))
@@ -217,6 +232,15 @@ class ImagemServiceIntegracaoTest {
         return portfolio;
     }
 
+    private Imagem criarImagemArmazenada(Long id, String mimeType, Portfolio portfolio) {
+        Imagem imagem = new Imagem();
+        imagem.setIdImagem(id);
+        imagem.setHash(String.format("%064d", id));
+        imagem.setMimeType(mimeType);
+        imagem.setPortfolio(portfolio);
+        return imagem;
+    }
+
     private Imagem criarImagem(Long id, String base64, Portfolio portfolio) {
         Imagem imagem = new Imagem();
         imagem.setIdImagem(id);
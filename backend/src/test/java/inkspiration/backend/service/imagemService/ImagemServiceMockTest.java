@@ -16,11 +16,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import inkspiration.backend.armazenamento.ArmazenamentoBlob;
+import inkspiration.backend.armazenamento.ProcessadorVariantes;
 import inkspiration.backend.dto.ImagemDTO;
 import inkspiration.backend.entities.Imagem;
 import inkspiration.backend.entities.Portfolio;
 import inkspiration.backend.repository.ImagemRepository;
 import inkspiration.backend.repository.PortfolioRepository;
+import inkspiration.backend.service.BlobImagemService;
 import inkspiration.backend.service.ImagemService;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,11 +36,21 @@ class ImagemServiceMockTest {
     @Mock
     private PortfolioRepository portfolioRepository;
 
+    @Mock
+    private ArmazenamentoBlob armazenamentoBlob;
+
+    @Mock
+    private ProcessadorVariantes processadorVariantes;
+
+    @Mock
+    private BlobImagemService blobImagemService;
+
     private ImagemService imagemService;
 
     @BeforeEach
     void setUp() {
-        imagemService = new ImagemService(imagemRepository, portfolioRepository);
+        imagemService = new ImagemService(imagemRepository, portfolioRepository, armazenamentoBlob, processadorVariantes,
+            blobImagemService);
     }
 
     @Test
@@ -86,7 +99,7 @@ class ImagemServiceMockTest {
         Portfolio portfolio = criarPortfolio(idPortfolio);
         
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(idPortfolio);
         
         Imagem imagemSalva = criarImagem(1L, dto.getImagemBase64(), portfolio);
@@ -107,11 +120,11 @@ class ImagemServiceMockTest {
 
     @Test
     @DisplayName("Deve capturar entidade correta ao salvar")
-    void deveCapturaEntidadeCorretaAoSalvar() {
+    void deveCapturaEntidadeCorretaAoSalvar() throws Exception {
         
         Long idPortfolio = 1L;
         Portfolio portfolio = criarPortfolio(idPortfolio);
-        String imagemBase64 = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=";
+        String imagemBase64 = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==";
         
         ImagemDTO dto = new ImagemDTO();
         dto.setImagemBase64(imagemBase64);
@@ -133,8 +146,12 @@ class ImagemServiceMockTest {
         verify(imagemRepository).save(imagemCaptor.capture());
         
         Imagem imagemCapturada = imagemCaptor.getValue();
-        assertEquals(imagemBase64, imagemCapturada.getImagemBase64());
+        assertNull(imagemCapturada.getImagemBase64());
+        assertEquals("image/png", imagemCapturada.getMimeType());
+        assertEquals(19L, imagemCapturada.getTamanho());
+        assertEquals(64, imagemCapturada.getHash().length());
         assertEquals(portfolio, imagemCapturada.getPortfolio());
+        verify(blobImagemService).adquirir(argThat(conteudo -> conteudo.getHash().equals(imagemCapturada.getHash())));
     }
 
     @Test
@@ -256,10 +273,10 @@ class ImagemServiceMockTest {
         when(portfolioRepository.findById(anyLong()))
             .thenReturn(Optional.of(criarPortfolio(1L)));
         when(imagemRepository.save(any(Imagem.class)))
-            .thenReturn(criarImagem(1L, "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=", criarPortfolio(1L)));
+            .thenReturn(criarImagem(1L, "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==", criarPortfolio(1L)));
 
         ImagemDTO dto = new ImagemDTO();
-        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA=");
+        dto.setImagemBase64("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAA==");
         dto.setIdPortfolio(1L);
 
         
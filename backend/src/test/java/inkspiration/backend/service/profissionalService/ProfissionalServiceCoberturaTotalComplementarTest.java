@@ -20,12 +20,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import inkspiration.backend.dto.ProfissionalCriacaoDTO;
 import inkspiration.backend.entities.Endereco;
@@ -232,7 +235,7 @@ class ProfissionalServiceCoberturaTotalComplementarTest {
         profissional.setPortfolio(portfolio);
 
         List<Profissional> profissionais = Arrays.asList(profissional);
-        when(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole())).thenReturn(profissionais);
+        when(profissionalRepository.findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class))).thenReturn(new PageImpl<>(profissionais));
 
         Pageable pageable = PageRequest.of(0, 10);
         String searchTerm = "João";
@@ -249,7 +252,7 @@ class ProfissionalServiceCoberturaTotalComplementarTest {
         assertNotNull(resultado);
         assertEquals(1, resultado.getContent().size());
         assertEquals("João", resultado.getContent().get(0).getUsuario().getNome());
-        verify(profissionalRepository).findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole());
+        verify(profissionalRepository).findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class));
     }
 
     @Test
@@ -322,18 +325,18 @@ class ProfissionalServiceCoberturaTotalComplementarTest {
     }
 
     @Test
-    @DisplayName("Deve ordenar profissionais por melhor avaliação corretamente")
+    @DisplayName("Deve preservar a ordenação por melhor avaliação retornada pelo banco")
     void deveOrdenarProfissionaisPorMelhorAvaliacao() {
-        // Arrange
+        // Arrange - a ordenação é aplicada pela consulta; o service não deve reordenar
         List<Profissional> profissionais = new ArrayList<>();
         
-        Profissional profissional1 = criarProfissionalComNota("4.5");
-        Profissional profissional2 = criarProfissionalComNota("5.0");
+        Profissional profissional1 = criarProfissionalComNota("5.0");
+        Profissional profissional2 = criarProfissionalComNota("4.5");
         Profissional profissional3 = criarProfissionalComNota("3.8");
         
         profissionais.addAll(Arrays.asList(profissional1, profissional2, profissional3));
         
-        when(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole())).thenReturn(profissionais);
+        when(profissionalRepository.findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class))).thenReturn(new PageImpl<>(profissionais));
         
         Pageable pageable = PageRequest.of(0, 10);
         String sortBy = "melhorAvaliacao";
@@ -344,6 +347,7 @@ class ProfissionalServiceCoberturaTotalComplementarTest {
 
         // Assert
         List<Profissional> profissionaisOrdenados = resultado.getContent();
+        assertEquals(3, resultado.getTotalElements());
         assertEquals(new BigDecimal("5.0"), profissionaisOrdenados.get(0).getNota());
         assertEquals(new BigDecimal("4.5"), profissionaisOrdenados.get(1).getNota());
         assertEquals(new BigDecimal("3.8"), profissionaisOrdenados.get(2).getNota());
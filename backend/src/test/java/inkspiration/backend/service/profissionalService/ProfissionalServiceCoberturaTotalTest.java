@@ -24,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import inkspiration.backend.dto.ImagemDTO;
+import inkspiration.backend.dto.PaginaImagensDTO;
 import inkspiration.backend.dto.PortfolioDTO;
 import inkspiration.backend.dto.ProfissionalDTO;
 import inkspiration.backend.entities.Disponibilidade;
@@ -90,6 +91,8 @@ class ProfissionalServiceCoberturaTotalTest {
         
         lenient().doNothing().when(authorizationService).requireUserAccessOrAdmin(anyLong());
         lenient().when(enderecoRepository.findById(anyLong())).thenReturn(Optional.of(endereco));
+        lenient().when(imagemService.listarPagina(anyLong(), isNull(), anyInt()))
+            .thenReturn(new PaginaImagensDTO(Collections.emptyList(), null));
     }
 
     @Test
@@ -123,7 +126,8 @@ class ProfissionalServiceCoberturaTotalTest {
         
         verify(authorizationService).requireUserAccessOrAdmin(idUsuario);
         verify(profissionalRepository, times(2)).findByUsuario_IdUsuario(idUsuario);
-        verify(imagemService, times(2)).listarPorPortfolio(any());
+        verify(imagemService).listarPorPortfolio(any());
+        verify(imagemService).listarPagina(1L, null, ImagemService.TAMANHO_PAGINA_PADRAO);
         verify(disponibilidadeService).cadastrarDisponibilidade(any(), any());
     }
 
@@ -165,7 +169,6 @@ class ProfissionalServiceCoberturaTotalTest {
         when(profissionalRepository.save(any())).thenReturn(profissional);
         when(profissionalRepository.findById(any())).thenReturn(Optional.of(profissional));
         when(portfolioService.converterParaDto(any())).thenReturn(criarPortfolioDTO());
-        when(imagemService.listarPorPortfolio(any())).thenReturn(Collections.emptyList());
         when(disponibilidadeService.obterDisponibilidade(any())).thenReturn(Collections.emptyMap());
 
         // Act
@@ -228,7 +231,6 @@ class ProfissionalServiceCoberturaTotalTest {
         when(profissionalRepository.save(any())).thenReturn(profissional);
         when(profissionalRepository.findById(any())).thenReturn(Optional.of(profissional));
         when(portfolioService.converterParaDto(any())).thenReturn(criarPortfolioDTO());
-        when(imagemService.listarPorPortfolio(any())).thenReturn(Collections.emptyList());
         when(disponibilidadeService.obterDisponibilidade(any())).thenReturn(Collections.emptyMap());
         when(disponibilidadeService.cadastrarDisponibilidade(any(), any())).thenReturn(new Disponibilidade());
 
@@ -271,8 +273,9 @@ class ProfissionalServiceCoberturaTotalTest {
     void deveMontarProfissionalCompletoComTodosOsDados() throws JsonProcessingException {
         // Arrange
         when(portfolioService.converterParaDto(portfolio)).thenReturn(criarPortfolioDTO());
-        when(imagemService.listarPorPortfolio(portfolio.getIdPortfolio()))
-            .thenReturn(Arrays.asList(criarImagemDTO()));
+        when(imagemService.listarPagina(portfolio.getIdPortfolio(), null, ImagemService.TAMANHO_PAGINA_PADRAO))
+            .thenReturn(new PaginaImagensDTO(Arrays.asList(criarImagemDTO()), 1L));
+        when(imagemService.contarPorPortfolio(portfolio.getIdPortfolio())).thenReturn(13L);
         when(disponibilidadeService.obterDisponibilidade(profissional.getIdProfissional()))
             .thenReturn(criarDisponibilidades());
 
@@ -313,11 +316,14 @@ class ProfissionalServiceCoberturaTotalTest {
         
         // Verificar outros campos
         assertTrue(resultado.containsKey("portfolio"));
-        assertTrue(resultado.containsKey("imagens"));
+        assertEquals(1, ((List<?>) resultado.get("imagens")).size());
+        assertEquals(13L, resultado.get("totalImagens"));
+        assertEquals(1L, resultado.get("proximoCursorImagens"));
         assertTrue(resultado.containsKey("disponibilidades"));
         assertTrue(resultado.containsKey("tiposServico"));
         assertTrue(resultado.containsKey("precosServicos"));
         assertTrue(resultado.containsKey("tiposServicoPrecos"));
+        verify(imagemService, never()).listarPorPortfolio(any());
     }
 
     @Test
@@ -370,7 +376,6 @@ class ProfissionalServiceCoberturaTotalTest {
     void deveTratarExcecaoAoObterDisponibilidades() throws JsonProcessingException {
         // Arrange
         when(portfolioService.converterParaDto(any())).thenReturn(criarPortfolioDTO());
-        when(imagemService.listarPorPortfolio(any())).thenReturn(Collections.emptyList());
         when(disponibilidadeService.obterDisponibilidade(any()))
             .thenThrow(new RuntimeException("Erro ao buscar disponibilidades"));
 
@@ -480,7 +485,6 @@ class ProfissionalServiceCoberturaTotalTest {
         when(profissionalRepository.save(any())).thenReturn(profissional);
         when(profissionalRepository.findById(any())).thenReturn(Optional.of(profissional));
         when(portfolioService.converterParaDto(any())).thenReturn(criarPortfolioDTO());
-        when(imagemService.listarPorPortfolio(any())).thenReturn(Collections.emptyList());
         when(disponibilidadeService.obterDisponibilidade(any())).thenReturn(Collections.emptyMap());
 
         // Act
@@ -506,7 +510,6 @@ class ProfissionalServiceCoberturaTotalTest {
         when(profissionalRepository.save(any())).thenReturn(profissional);
         when(profissionalRepository.findById(any())).thenReturn(Optional.of(profissional));
         when(portfolioService.converterParaDto(any())).thenReturn(criarPortfolioDTO());
-        when(imagemService.listarPorPortfolio(any())).thenReturn(Collections.emptyList());
         when(disponibilidadeService.obterDisponibilidade(any())).thenReturn(Collections.emptyMap());
 
         // Act
@@ -0,0 +1,252 @@
+package inkspiration.backend.service.profissionalService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import inkspiration.backend.entities.Endereco;
+import inkspiration.backend.entities.Portfolio;
+import inkspiration.backend.entities.Profissional;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.repository.AvaliacaoRepository;
+import inkspiration.backend.repository.EnderecoRepository;
+import inkspiration.backend.repository.ProfissionalRepository;
+import inkspiration.backend.repository.UsuarioRepository;
+import inkspiration.backend.search.ProfissionalGeoIndex;
+import inkspiration.backend.search.ProfissionalSearchIndex;
+import inkspiration.backend.security.AuthorizationService;
+import inkspiration.backend.service.DisponibilidadeService;
+import inkspiration.backend.service.EnderecoService;
+import inkspiration.backend.service.ImagemService;
+import inkspiration.backend.service.PortfolioService;
+import inkspiration.backend.service.ProfissionalService;
+import inkspiration.backend.service.UsuarioService;
+import inkspiration.backend.util.UsuariosTeste;
+
+/**
+ * Garante que a filtragem no banco (H2) retorna exatamente o mesmo resultado
+ * da antiga implementação em memória de listarComFiltros.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@DisplayName("ProfissionalService - Filtros executados no banco")
+class ProfissionalServiceFiltrosBancoTest {
+
+    private static final UsuariosTeste USUARIOS = new UsuariosTeste("profissional", 100000000);
+
+    private static final String[] NOMES = {
+        "João Silva", "Maria Santos", "Pedro Oliveira", "ana Souza", "Ana Souza", "Álvaro Lima",
+        "Alberto Rocha", "Beatriz Costa", "Carlos Pereira", "Joana Martins", "Lucas Almeida", "Marina Dias"
+    };
+    private static final String[][] CIDADES = {
+        {"São Paulo", "SP"}, {"Rio de Janeiro", "RJ"}, {"Belo Horizonte", "MG"}, {"Santos", "SP"}, {"Curitiba", "PR"}
+    };
+    private static final String[] ESPECIALIDADES = {
+        "Realismo, Blackwork", "Old School", "Fineline e Aquarela", "realismo", null, "Tribal_100%"
+    };
+    private static final String[] NOTAS = { "5.0", "4.5", "4.5", null, "3.0", "0.0", "4.8", "2.5" };
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProfissionalRepository profissionalRepository;
+
+    private ProfissionalService profissionalService;
+
+    @BeforeEach
+    void setUp() {
+        profissionalService = new ProfissionalService(profissionalRepository,
+            mock(UsuarioRepository.class), mock(EnderecoRepository.class), mock(PortfolioService.class),
+            mock(UsuarioService.class), mock(DisponibilidadeService.class), mock(AuthorizationService.class),
+            mock(ImagemService.class), mock(EnderecoService.class), mock(AvaliacaoRepository.class),
+            mock(ProfissionalSearchIndex.class), mock(ProfissionalGeoIndex.class));
+
+        for (int i = 0; i < 48; i++) {
+            String role = i % 11 == 7 ? UserRole.ROLE_DELETED.getRole() : UserRole.ROLE_PROF.getRole();
+            Usuario usuario = criarUsuario(NOMES[i % NOMES.length], role, i);
+
+            Endereco endereco = null;
+            if (i % 13 != 5) {
+                String[] cidade = CIDADES[i % CIDADES.length];
+                endereco = criarEndereco(cidade[0], cidade[1]);
+            }
+
+            Portfolio portfolio = null;
+            if (i % 9 != 4) {
+                portfolio = new Portfolio();
+                portfolio.setEspecialidade(ESPECIALIDADES[i % ESPECIALIDADES.length]);
+                entityManager.persist(portfolio);
+            }
+
+            Profissional profissional = new Profissional();
+            profissional.setUsuario(usuario);
+            profissional.setEndereco(endereco);
+            profissional.setPortfolio(portfolio);
+            String nota = NOTAS[i % NOTAS.length];
+            profissional.setNota(nota != null ? new BigDecimal(nota) : null);
+            profissional.setTiposServicoStr("{\"TATUAGEM_PEQUENA\":100}");
+            entityManager.persist(profissional);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve retornar os mesmos resultados da filtragem em memória")
+    void deveRetornarMesmosResultadosDaFiltragemEmMemoria() {
+        String[] buscas = { null, "ANA", "%" };
+        String[] locais = { null, "são paulo", ", rj" };
+        double[] notas = { 0, 4.5 };
+        String[][] especialidades = { null, {"realismo"}, {"old school", "FINELINE"}, {"_100%"}, {""} };
+        String[] ordenacoes = { "melhorAvaliacao", "maisRecente", "maisAntigo", "relevancia", null };
+
+        for (String busca : buscas) {
+            for (String local : locais) {
+                for (double nota : notas) {
+                    for (String[] especialidade : especialidades) {
+                        for (String ordenacao : ordenacoes) {
+                            compararComImplementacaoEmMemoria(busca, local, nota, especialidade, ordenacao, 7);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve paginar com contagem total feita no banco")
+    void devePaginarComContagemNoBanco() {
+        Page<Profissional> primeira = profissionalService.listarComFiltros(
+            PageRequest.of(0, 4), null, "sp", 0, null, "melhorAvaliacao");
+        Page<Profissional> ultima = profissionalService.listarComFiltros(
+            PageRequest.of(primeira.getTotalPages() - 1, 4), null, "sp", 0, null, "melhorAvaliacao");
+
+        List<Profissional> esperado = filtrarEmMemoria(null, "sp", 0, null, "melhorAvaliacao");
+        assertEquals(esperado.size(), primeira.getTotalElements());
+        assertEquals(4, primeira.getContent().size());
+        assertFalse(ultima.hasNext());
+        assertEquals(esperado.get(esperado.size() - 1).getIdProfissional(),
+            ultima.getContent().get(ultima.getContent().size() - 1).getIdProfissional());
+        assertFalse(primeira.getContent().get(0).getTiposServicoPrecos().isEmpty());
+    }
+
+    private void compararComImplementacaoEmMemoria(String busca, String local, double nota,
+                                                   String[] especialidades, String ordenacao, int tamanho) {
+        List<Long> esperado = filtrarEmMemoria(busca, local, nota, especialidades, ordenacao).stream()
+            .map(Profissional::getIdProfissional)
+            .collect(Collectors.toList());
+
+        int paginas = Math.max(1, (esperado.size() + tamanho - 1) / tamanho);
+        List<Long> obtido = new ArrayList<>();
+        for (int pagina = 0; pagina < paginas; pagina++) {
+            Page<Profissional> page = profissionalService.listarComFiltros(
+                PageRequest.of(pagina, tamanho), busca, local, nota, especialidades, ordenacao);
+            assertEquals(esperado.size(), page.getTotalElements());
+            page.getContent().forEach(p -> obtido.add(p.getIdProfissional()));
+        }
+
+        String cenario = String.format("busca=%s local=%s nota=%s especialidades=%s ordenacao=%s",
+            busca, local, nota, especialidades == null ? null : String.join("|", especialidades), ordenacao);
+        assertEquals(esperado, obtido, cenario);
+    }
+
+    /**
+     * Cópia da antiga implementação em memória, usada como referência.
+     */
+    private List<Profissional> filtrarEmMemoria(String searchTerm, String locationTerm, double minRating,
+                                                String[] selectedSpecialties, String sortBy) {
+        List<Profissional> todos = new ArrayList<>(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole()));
+        todos.sort(Comparator.comparing(Profissional::getIdProfissional));
+
+        List<Profissional> filtrados = todos.stream()
+            .filter(profissional -> {
+                if (searchTerm != null && !searchTerm.trim().isEmpty()) {
+                    String nome = profissional.getUsuario() != null ? profissional.getUsuario().getNome() : "";
+                    if (!nome.toLowerCase().contains(searchTerm.toLowerCase())) {
+                        return false;
+                    }
+                }
+                if (locationTerm != null && !locationTerm.trim().isEmpty()) {
+                    String location = "";
+                    if (profissional.getEndereco() != null) {
+                        location = profissional.getEndereco().getCidade() + ", " + profissional.getEndereco().getEstado();
+                    }
+                    if (!location.toLowerCase().contains(locationTerm.toLowerCase())) {
+                        return false;
+                    }
+                }
+                if (minRating > 0) {
+                    double rating = profissional.getNota() != null ? profissional.getNota().doubleValue() : 0.0;
+                    if (rating < minRating) {
+                        return false;
+                    }
+                }
+                if (selectedSpecialties != null && selectedSpecialties.length > 0) {
+                    String especialidades = "";
+                    if (profissional.getPortfolio() != null && profissional.getPortfolio().getEspecialidade() != null) {
+                        especialidades = profissional.getPortfolio().getEspecialidade().toLowerCase();
+                    }
+                    boolean hasSpecialty = false;
+                    for (String specialty : selectedSpecialties) {
+                        if (especialidades.contains(specialty.toLowerCase())) {
+                            hasSpecialty = true;
+                            break;
+                        }
+                    }
+                    if (!hasSpecialty) {
+                        return false;
+                    }
+                }
+                return true;
+            })
+            .collect(Collectors.toList());
+
+        Comparator<Profissional> porNota = (a, b) -> {
+            double ratingA = a.getNota() != null ? a.getNota().doubleValue() : 0.0;
+            double ratingB = b.getNota() != null ? b.getNota().doubleValue() : 0.0;
+            return Double.compare(ratingB, ratingA);
+        };
+        if ("melhorAvaliacao".equals(sortBy)) {
+            filtrados.sort(porNota);
+        } else if ("maisRecente".equals(sortBy)) {
+            filtrados.sort((a, b) -> Long.compare(b.getIdProfissional(), a.getIdProfissional()));
+        } else if ("maisAntigo".equals(sortBy)) {
+            filtrados.sort((a, b) -> Long.compare(a.getIdProfissional(), b.getIdProfissional()));
+        } else {
+            filtrados.sort(porNota.thenComparing((a, b) -> a.getUsuario().getNome().compareToIgnoreCase(b.getUsuario().getNome())));
+        }
+        return filtrados;
+    }
+
+    private Endereco criarEndereco(String cidade, String estado) {
+        Endereco endereco = new Endereco();
+        endereco.setCep("01001000");
+        endereco.setRua("Rua Teste");
+        endereco.setBairro("Centro");
+        endereco.setNumero("100");
+        endereco.setCidade(cidade);
+        endereco.setEstado(estado);
+        return entityManager.persist(endereco);
+    }
+
+    private Usuario criarUsuario(String nome, String role, int indice) {
+        return entityManager.persist(USUARIOS.novo(nome, role, indice));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import inkspiration.backend.dto.PortfolioDTO;
 import inkspiration.backend.dto.ProfissionalCriacaoDTO;
@@ -158,8 +160,7 @@ class ProfissionalServiceIntegracaoTest {
         profissionais.get(1).getUsuario().setNome("Maria Santos");
         profissionais.get(2).getUsuario().setNome("Pedro Oliveira");
         
-        when(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole()))
-            .thenReturn(profissionais);
+        when(profissionalRepository.findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class))).thenReturn(new PageImpl<>(profissionais));
 
         
         Page<Profissional> resultado = profissionalService.listarComFiltros(
@@ -173,7 +174,7 @@ class ProfissionalServiceIntegracaoTest {
 
         
         assertNotNull(resultado);
-        verify(profissionalRepository).findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole());
+        verify(profissionalRepository).findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class));
     }
 
     @Test
@@ -10,12 +10,15 @@ import java.util.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import inkspiration.backend.entities.*;
 import inkspiration.backend.enums.TipoServico;
@@ -65,7 +68,7 @@ class ProfissionalServiceListagemTest {
         String[] selectedSpecialties = {"TATUAGEM_PEQUENA"};
         String sortBy = "melhorAvaliacao";
 
-        when(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole())).thenReturn(Collections.emptyList());
+        when(profissionalRepository.findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
 
         // Act
         Page<Profissional> resultado = profissionalService.listarComFiltros(
@@ -74,7 +77,7 @@ class ProfissionalServiceListagemTest {
         // Assert
         assertNotNull(resultado);
         assertTrue(resultado.getContent().isEmpty());
-        verify(profissionalRepository).findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole());
+        verify(profissionalRepository).findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class));
     }
 
     @Test
@@ -99,7 +102,7 @@ class ProfissionalServiceListagemTest {
         profissional.setPortfolio(portfolio);
 
         List<Profissional> profissionais = Arrays.asList(profissional);
-        when(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole())).thenReturn(profissionais);
+        when(profissionalRepository.findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class))).thenReturn(new PageImpl<>(profissionais));
 
         Pageable pageable = PageRequest.of(0, 10);
         String searchTerm = "João";
@@ -116,7 +119,7 @@ class ProfissionalServiceListagemTest {
         assertNotNull(resultado);
         assertEquals(1, resultado.getContent().size());
         assertEquals("João", resultado.getContent().get(0).getUsuario().getNome());
-        verify(profissionalRepository).findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole());
+        verify(profissionalRepository).findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class));
     }
 
     @Test
@@ -142,7 +145,7 @@ class ProfissionalServiceListagemTest {
         profissionalAtivo.setUsuario(usuarioAtivo);
         
         List<Profissional> profissionaisAtivos = Arrays.asList(profissionalAtivo);
-        when(profissionalRepository.findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole())).thenReturn(profissionaisAtivos);
+        when(profissionalRepository.findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class))).thenReturn(new PageImpl<>(profissionaisAtivos));
         
         // Act
         Page<Profissional> resultado = profissionalService.listarComFiltros(
@@ -153,6 +156,6 @@ class ProfissionalServiceListagemTest {
         assertEquals(1, resultado.getContent().size());
         assertEquals("Maria Ativa", resultado.getContent().get(0).getUsuario().getNome());
         assertEquals(UserRole.ROLE_PROF.getRole(), resultado.getContent().get(0).getUsuario().getRole());
-        verify(profissionalRepository).findByUsuarioRoleNot(UserRole.ROLE_DELETED.getRole());
+        verify(profissionalRepository).findAll(ArgumentMatchers.<Specification<Profissional>>any(), any(Pageable.class));
     }
 } 
\ No newline at end of file
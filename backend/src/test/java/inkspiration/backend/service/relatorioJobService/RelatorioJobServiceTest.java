@@ -0,0 +1,227 @@
+package inkspiration.backend.service.relatorioJobService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import inkspiration.backend.exception.relatorio.RelatorioFilaCheiaException;
+import inkspiration.backend.exception.relatorio.RelatorioJobIndisponivelException;
+import inkspiration.backend.exception.relatorio.RelatorioJobLimiteException;
+import inkspiration.backend.exception.relatorio.RelatorioJobNaoEncontradoException;
+import inkspiration.backend.relatorio.FormatoRelatorio;
+import inkspiration.backend.relatorio.RelatorioJob;
+import inkspiration.backend.relatorio.StatusRelatorioJob;
+import inkspiration.backend.relatorio.TipoRelatorio;
+import inkspiration.backend.service.AgendamentoService;
+import inkspiration.backend.service.RelatorioJobService;
+
+@DisplayName("RelatorioJobService - Fila de relatórios em segundo plano")
+class RelatorioJobServiceTest {
+
+    @TempDir
+    Path diretorio;
+
+    private AgendamentoService agendamentoService;
+    private RelatorioJobService relatorioJobService;
+    private final CountDownLatch liberar = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        agendamentoService = mock(AgendamentoService.class);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write(("agendamentos " + invocation.getArgument(1)).getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(agendamentoService).gerarRelatorioAgendamentos(anyLong(), anyInt(), any(), any());
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(4);
+            out.write("atendimentos".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(agendamentoService).gerarRelatorioAtendimentos(anyLong(), anyInt(), anyInt(), any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        liberar.countDown();
+        if (relatorioJobService != null) {
+            relatorioJobService.encerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar o arquivo em segundo plano reaproveitando a renderização do AgendamentoService")
+    void deveGerarArquivoEmSegundoPlano() throws Exception {
+        relatorioJobService = criarServico(2, 10, 2, 30);
+
+        RelatorioJob job = relatorioJobService.solicitar(1L, TipoRelatorio.AGENDAMENTOS, FormatoRelatorio.PDF, 2024, 7);
+        aguardarConclusao(job);
+
+        RelatorioJob concluido = relatorioJobService.buscarConcluido(job.getIdJob(), 1L);
+        assertEquals(StatusRelatorioJob.CONCLUIDO, concluido.getStatus());
+        assertNull(concluido.getMes());
+        assertEquals("agendamentos-2024.pdf", concluido.getNomeArquivo());
+        assertEquals("agendamentos 2024", Files.readString(concluido.getArquivo()));
+        assertEquals(diretorio, concluido.getArquivo().getParent());
+        verify(agendamentoService).gerarRelatorioAgendamentos(eq(1L), eq(2024), eq(FormatoRelatorio.PDF), any());
+    }
+
+    @Test
+    @DisplayName("Deve atender pedidos iguais em andamento com o mesmo job")
+    void deveDeduplicarPedidosEmAndamento() throws Exception {
+        relatorioJobService = criarServico(1, 10, 2, 30);
+        bloquearAtendimentos();
+
+        RelatorioJob primeiro = relatorioJobService.solicitar(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 6);
+        RelatorioJob repetido = relatorioJobService.solicitar(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 6);
+        RelatorioJob outroFormato = relatorioJobService.solicitar(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.CSV, 2024, 6);
+
+        assertSame(primeiro, repetido);
+        assertNotEquals(primeiro.getIdJob(), outroFormato.getIdJob());
+
+        liberar.countDown();
+        aguardarConclusao(primeiro);
+        aguardarConclusao(outroFormato);
+        verify(agendamentoService, times(1)).gerarRelatorioAtendimentos(eq(2L), eq(2024), eq(6), eq(FormatoRelatorio.PDF), any());
+
+        // Depois de concluído, um novo pedido gera outro arquivo
+        RelatorioJob novo = relatorioJobService.solicitar(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 6);
+        assertNotEquals(primeiro.getIdJob(), novo.getIdJob());
+    }
+
+    @Test
+    @DisplayName("Deve limitar os pedidos em andamento por usuário")
+    void deveLimitarPedidosPorUsuario() throws Exception {
+        relatorioJobService = criarServico(1, 10, 2, 30);
+        bloquearAtendimentos();
+
+        relatorioJobService.solicitar(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 1);
+        relatorioJobService.solicitar(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 2);
+
+        assertThrows(RelatorioJobLimiteException.class, () ->
+            relatorioJobService.solicitar(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 3));
+        assertNotNull(relatorioJobService.solicitar(3L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 3));
+    }
+
+    @Test
+    @DisplayName("Deve recusar pedidos quando a fila está cheia")
+    void deveRecusarQuandoFilaCheia() throws Exception {
+        relatorioJobService = criarServico(1, 1, 5, 30);
+        CountDownLatch processando = bloquearAtendimentos();
+
+        relatorioJobService.solicitar(2L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 1);
+        assertTrue(processando.await(5, TimeUnit.SECONDS));
+        RelatorioJob naFila = relatorioJobService.solicitar(3L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 1);
+
+        assertThrows(RelatorioFilaCheiaException.class, () ->
+            relatorioJobService.solicitar(4L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 1));
+        assertEquals(StatusRelatorioJob.PENDENTE, naFila.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha e não deixar arquivo parcial")
+    void deveRegistrarFalha() throws Exception {
+        relatorioJobService = criarServico(1, 10, 2, 30);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(3).write(1);
+            throw new Exception("Nenhum agendamento concluído encontrado para o ano 2020");
+        }).when(agendamentoService).gerarRelatorioAgendamentos(anyLong(), eq(2020), any(), any());
+
+        RelatorioJob job = relatorioJobService.solicitar(1L, TipoRelatorio.AGENDAMENTOS, FormatoRelatorio.PDF, 2020, null);
+        aguardarConclusao(job);
+
+        assertEquals(StatusRelatorioJob.FALHOU, job.getStatus());
+        assertEquals("Nenhum agendamento concluído encontrado para o ano 2020", job.getErro());
+        assertThrows(RelatorioJobIndisponivelException.class, () -> relatorioJobService.buscarConcluido(job.getIdJob(), 1L));
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve apagar os arquivos expirados")
+    void deveApagarArquivosExpirados() throws Exception {
+        relatorioJobService = criarServico(1, 10, 2, 0);
+
+        RelatorioJob job = relatorioJobService.solicitar(1L, TipoRelatorio.AGENDAMENTOS, FormatoRelatorio.CSV, 2024, null);
+        aguardarConclusao(job);
+        assertTrue(Files.exists(job.getArquivo()));
+
+        assertEquals(1, relatorioJobService.limparExpirados());
+        assertFalse(Files.exists(job.getArquivo()));
+        assertThrows(RelatorioJobNaoEncontradoException.class, () -> relatorioJobService.buscar(job.getIdJob(), 1L));
+    }
+
+    @Test
+    @DisplayName("Não deve expor jobs de outros usuários nem aceitar pedidos inválidos")
+    void naoDeveExporJobsDeOutrosUsuarios() throws Exception {
+        relatorioJobService = criarServico(1, 10, 2, 30);
+
+        RelatorioJob job = relatorioJobService.solicitar(1L, TipoRelatorio.AGENDAMENTOS, FormatoRelatorio.PDF, 2024, null);
+        aguardarConclusao(job);
+
+        assertThrows(RelatorioJobNaoEncontradoException.class, () -> relatorioJobService.buscar(job.getIdJob(), 2L));
+        assertThrows(RelatorioJobNaoEncontradoException.class, () -> relatorioJobService.buscar("inexistente", 1L));
+        assertThrows(IllegalArgumentException.class, () ->
+            relatorioJobService.solicitar(1L, TipoRelatorio.ATENDIMENTOS, FormatoRelatorio.PDF, 2024, 13));
+        assertThrows(IllegalArgumentException.class, () ->
+            relatorioJobService.solicitar(1L, TipoRelatorio.AGENDAMENTOS, FormatoRelatorio.PDF, null, null));
+    }
+
+    @Test
+    @DisplayName("Deve apagar ao iniciar apenas os arquivos de jobs anteriores")
+    void deveApagarApenasArquivosDeJobsAoIniciar() throws Exception {
+        Path pdfAntigo = Files.writeString(diretorio.resolve("3f2b8c1e-0d4a-4b6e-9a7f-1c2d3e4f5a6b.pdf"), "x");
+        Path csvAntigo = Files.writeString(diretorio.resolve("3f2b8c1e-0d4a-4b6e-9a7f-1c2d3e4f5a6c.csv"), "x");
+        Path outroArquivo = Files.writeString(diretorio.resolve("outro.txt"), "x");
+        Path outroPdf = Files.writeString(diretorio.resolve("manual.pdf"), "x");
+
+        relatorioJobService = criarServico(1, 10, 2, 30);
+
+        assertFalse(Files.exists(pdfAntigo));
+        assertFalse(Files.exists(csvAntigo));
+        assertTrue(Files.exists(outroArquivo));
+        assertTrue(Files.exists(outroPdf));
+    }
+
+    private RelatorioJobService criarServico(int workers, int capacidadeFila, int limitePorUsuario, long ttlMinutos) {
+        return new RelatorioJobService(agendamentoService, workers, capacidadeFila, limitePorUsuario, ttlMinutos, diretorio.toString());
+    }
+
+    /**
+     * Faz os relatórios de atendimentos esperarem a liberação do teste; o latch retornado
+     * é liberado quando o primeiro começa a ser processado.
+     */
+    private CountDownLatch bloquearAtendimentos() throws Exception {
+        CountDownLatch processando = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processando.countDown();
+            liberar.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(agendamentoService).gerarRelatorioAtendimentos(anyLong(), anyInt(), anyInt(), any(), any());
+        return processando;
+    }
+
+    private static void aguardarConclusao(RelatorioJob job) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (job.getStatus().isEmAndamento() && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertFalse(job.getStatus().isEmAndamento(), "job não terminou");
+    }
+}
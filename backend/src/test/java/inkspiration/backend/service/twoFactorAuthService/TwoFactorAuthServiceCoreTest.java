@@ -19,6 +19,7 @@ import inkspiration.backend.repository.UsuarioRepository;
 import inkspiration.backend.repository.TwoFactorRecoveryCodeRepository;
 import inkspiration.backend.service.EmailService;
 import inkspiration.backend.service.TwoFactorAuthService;
+import inkspiration.backend.security.ContextoAutenticacao;
 import inkspiration.backend.security.JwtService;
 
 import com.warrenstrange.googleauth.GoogleAuthenticator;
@@ -43,6 +44,9 @@ class TwoFactorAuthServiceCoreTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private ContextoAutenticacao contextoAutenticacao;
+
     @InjectMocks
     private TwoFactorAuthService twoFactorAuthService;
 
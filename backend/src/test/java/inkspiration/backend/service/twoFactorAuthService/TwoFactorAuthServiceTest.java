@@ -19,11 +19,14 @@ import inkspiration.backend.repository.UsuarioRepository;
 import inkspiration.backend.repository.TwoFactorRecoveryCodeRepository;
 import inkspiration.backend.service.EmailService;
 import inkspiration.backend.service.TwoFactorAuthService;
+import inkspiration.backend.security.ContextoAutenticacao;
 import inkspiration.backend.security.JwtService;
 import inkspiration.backend.exception.twofactor.*;
 
 import com.warrenstrange.googleauth.GoogleAuthenticator;
 
+import org.springframework.security.oauth2.jwt.Jwt;
+
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
@@ -44,6 +47,9 @@ class TwoFactorAuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private ContextoAutenticacao contextoAutenticacao;
+
     @InjectMocks
     private TwoFactorAuthService twoFactorAuthService;
 
@@ -476,6 +482,21 @@ class TwoFactorAuthServiceTest {
         assertTrue(resultado);
     }
 
+    @Test
+    @DisplayName("Deve usar o token já decodificado na requisição sem decodificá-lo de novo")
+    void deveUsarTokenDecodificadoNaRequisicao() {
+        Jwt jwt = Jwt.withTokenValue(TOKEN).header("alg", "RS256").claim("userId", USER_ID).build();
+        when(contextoAutenticacao.getJwt()).thenReturn(jwt);
+        usuario.setTwoFactorEnabled(true);
+        when(usuarioRepository.findById(USER_ID))
+            .thenReturn(Optional.of(usuario));
+
+        boolean resultado = twoFactorAuthService.obterStatusTwoFactorComValidacao(AUTH_HEADER);
+
+        assertTrue(resultado);
+        verifyNoInteractions(jwtService);
+    }
+
     @Test
     @DisplayName("Deve validar código com validação JWT")
     void deveValidarCodigoComValidacaoJWT() {
@@ -29,6 +29,8 @@ import inkspiration.backend.repository.TokenRevogadoRepository;
 import inkspiration.backend.repository.UsuarioRepository;
 import inkspiration.backend.security.AuthorizationService;
 import inkspiration.backend.security.JwtService;
+import inkspiration.backend.security.RegistroTokensRevogados;
+import inkspiration.backend.service.BlobImagemService;
 import inkspiration.backend.service.EnderecoService;
 import inkspiration.backend.service.UsuarioService;
 
@@ -57,12 +59,18 @@ class UsuarioServiceCoreTest {
     @Mock
     private TokenRevogadoRepository tokenRevogadoRepository;
 
+    @Mock
+    private RegistroTokensRevogados registroTokensRevogados;
+
     @Mock
     private AuthorizationService authorizationService;
 
     @Mock
     private EnderecoService enderecoService;
 
+    @Mock
+    private BlobImagemService blobImagemService;
+
     @InjectMocks
     private UsuarioService usuarioService;
 
@@ -199,6 +207,7 @@ class UsuarioServiceCoreTest {
         // Assert
         verify(usuarioRepository).findById(idUsuario);
         verify(tokenRevogadoRepository).save(any());
+        verify(registroTokensRevogados).registrar("token123456789");
         verify(usuarioRepository).save(any(Usuario.class));
     }
 
@@ -239,6 +248,7 @@ class UsuarioServiceCoreTest {
         // Assert
         verify(usuarioRepository).findById(idUsuario);
         verify(tokenRevogadoRepository).save(any());
+        verify(registroTokensRevogados).registrar("token123456789");
         verify(usuarioRepository).delete(usuario);
     }
 
@@ -279,12 +289,15 @@ class UsuarioServiceCoreTest {
     }
 
     @Test
-    @DisplayName("Deve atualizar foto de perfil")
+    @DisplayName("Deve atualizar foto de perfil no armazenamento de blobs e liberar a anterior")
     void deveAtualizarFotoPerfil() {
         // Arrange
         Long idUsuario = 1L;
-        String imagemBase64 = "base64image";
+        byte[] png = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0 };
+        String imagemBase64 = "data:image/png;base64," + java.util.Base64.getEncoder().encodeToString(png);
+        String hashAnterior = "a".repeat(64);
         Usuario usuario = criarUsuarioMock();
+        usuario.setImagemPerfilHash(hashAnterior);
         
         when(usuarioRepository.findById(idUsuario)).thenReturn(Optional.of(usuario));
         when(usuarioRepository.save(any(Usuario.class))).thenReturn(usuario);
@@ -295,6 +308,10 @@ class UsuarioServiceCoreTest {
         // Assert
         verify(usuarioRepository).findById(idUsuario);
         verify(usuarioRepository).save(any(Usuario.class));
+        verify(blobImagemService).adquirir(argThat(conteudo -> conteudo.getHash().equals(usuario.getImagemPerfilHash())));
+        verify(blobImagemService).liberar(hashAnterior);
+        assertNull(usuario.getImagemPerfilLegada());
+        assertEquals("/imagens/conteudo/" + usuario.getImagemPerfilHash(), usuario.getImagemPerfil());
     }
 
     @Test
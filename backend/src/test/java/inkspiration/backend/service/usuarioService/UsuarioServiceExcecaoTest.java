@@ -27,6 +27,8 @@ import inkspiration.backend.repository.TokenRevogadoRepository;
 import inkspiration.backend.repository.UsuarioRepository;
 import inkspiration.backend.security.AuthorizationService;
 import inkspiration.backend.security.JwtService;
+import inkspiration.backend.security.RegistroTokensRevogados;
+import inkspiration.backend.service.BlobImagemService;
 import inkspiration.backend.service.EnderecoService;
 import inkspiration.backend.service.UsuarioService;
 
@@ -52,12 +54,18 @@ class UsuarioServiceExcecaoTest {
     @Mock
     private TokenRevogadoRepository tokenRevogadoRepository;
 
+    @Mock
+    private RegistroTokensRevogados registroTokensRevogados;
+
     @Mock
     private AuthorizationService authorizationService;
 
     @Mock
     private EnderecoService enderecoService;
 
+    @Mock
+    private BlobImagemService blobImagemService;
+
     @InjectMocks
     private UsuarioService usuarioService;
 
@@ -347,6 +355,22 @@ class UsuarioServiceExcecaoTest {
         assertEquals("Imagem não fornecida", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Deve recusar foto de perfil acima de 5MB ou fora de PNG e JPG sem guardá-la")
+    void deveRecusarFotoDePerfilInvalidaNaValidacao() {
+        String grande = "data:image/png;base64," + "A".repeat(7_200_000);
+        String gif = "data:image/gif;base64,R0lGODlhAQABAAAAACw=";
+
+        InvalidProfileImageException tamanho = assertThrows(
+            InvalidProfileImageException.class, () -> usuarioService.validarImagemPerfil(grande));
+        InvalidProfileImageException formato = assertThrows(
+            InvalidProfileImageException.class, () -> usuarioService.validarImagemPerfil(gif));
+
+        assertEquals("Imagem muito grande. Tamanho máximo permitido: 5MB", tamanho.getMessage());
+        assertEquals("Formato de imagem inválido. Apenas PNG e JPG são permitidos", formato.getMessage());
+        verifyNoInteractions(blobImagemService);
+    }
+
     @Test
     @DisplayName("Deve lançar exceção ao validar token com token vazio")
     void deveLancarExcecaoAoValidarTokenComTokenVazio() {
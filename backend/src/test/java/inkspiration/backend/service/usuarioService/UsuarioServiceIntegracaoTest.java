@@ -29,6 +29,8 @@ import inkspiration.backend.repository.TokenRevogadoRepository;
 import inkspiration.backend.repository.UsuarioRepository;
 import inkspiration.backend.security.AuthorizationService;
 import inkspiration.backend.security.JwtService;
+import inkspiration.backend.security.RegistroTokensRevogados;
+import inkspiration.backend.service.BlobImagemService;
 import inkspiration.backend.service.EnderecoService;
 import inkspiration.backend.service.UsuarioService;
 
@@ -57,12 +59,18 @@ class UsuarioServiceIntegracaoTest {
     @Mock
     private TokenRevogadoRepository tokenRevogadoRepository;
 
+    @Mock
+    private RegistroTokensRevogados registroTokensRevogados;
+
     @Mock
     private AuthorizationService authorizationService;
 
     @Mock
     private EnderecoService enderecoService;
 
+    @Mock
+    private BlobImagemService blobImagemService;
+
     @InjectMocks
     private UsuarioService usuarioService;
 
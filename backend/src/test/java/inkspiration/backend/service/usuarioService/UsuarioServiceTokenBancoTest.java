@@ -0,0 +1,90 @@
+package inkspiration.backend.service.usuarioService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import inkspiration.backend.dto.VersaoTokenDTO;
+import inkspiration.backend.entities.Usuario;
+import inkspiration.backend.enums.UserRole;
+import inkspiration.backend.repository.UsuarioRepository;
+import inkspiration.backend.security.JwtService;
+import inkspiration.backend.service.UsuarioService;
+
+/**
+ * Gravação do token atual com a sua versão sobre o banco H2, incluindo a disputa com um token
+ * gravado por outra instância entre a leitura da versão e a gravação.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("UsuarioService - Token atual e versão gravados no banco")
+class UsuarioServiceTokenBancoTest {
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    private final JwtService jwtService = mock(JwtService.class);
+    private UsuarioService usuarioService;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository.deleteAll();
+        usuarioService = new UsuarioService(usuarioRepository, null, null, jwtService, null, null, null, null, null, null);
+        when(jwtService.generateToken(any(), any(), anyInt()))
+            .thenAnswer(invocacao -> "token-v" + invocacao.getArgument(2));
+
+        usuario = new Usuario();
+        usuario.setNome("Ana Souza");
+        usuario.setCpf("52998224725");
+        usuario.setEmail("ana@email.com");
+        usuario.setDataNascimento(LocalDate.of(1990, 1, 1));
+        usuario.setTelefone("(11) 91234-5678");
+        usuario.setRole(UserRole.ROLE_USER.getRole());
+        usuario = usuarioRepository.save(usuario);
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada token com a versão do seu claim")
+    void deveGravarTokenComVersaoDoClaim() {
+        assertEquals("token-v1", usuarioService.atualizarToken(usuario, null, false));
+        assertEquals("token-v2", usuarioService.atualizarToken(usuario, null, false));
+
+        VersaoTokenDTO gravado = usuarioRepository.findVersaoToken(usuario.getIdUsuario()).orElseThrow();
+        assertEquals(2, gravado.getVersao());
+        assertEquals("token-v2", gravado.getToken());
+        assertEquals(2, usuario.getVersaoToken());
+        verify(jwtService, times(2)).tokenAtualAlterado(usuario.getIdUsuario());
+    }
+
+    @Test
+    @DisplayName("Deve gerar o token na versão seguinte quando outro login grava a mesma versão antes")
+    void deveUsarVersaoSeguinteQuandoOutroLoginGravaAntes() {
+        Long idUsuario = usuario.getIdUsuario();
+        when(jwtService.generateToken(any(), any(), eq(1))).thenAnswer(invocacao -> {
+            // Outra instância grava o seu token na versão 1 depois da leitura da versão
+            assertEquals(1, usuarioRepository.gravarTokenAtual(idUsuario, "outra-instancia", 1));
+            return "token-v1";
+        });
+
+        assertEquals("token-v2", usuarioService.atualizarToken(usuario, null, true));
+
+        VersaoTokenDTO gravado = usuarioRepository.findVersaoToken(idUsuario).orElseThrow();
+        assertEquals(2, gravado.getVersao());
+        assertEquals("token-v2", gravado.getToken());
+        verify(jwtService).generateToken(null, true, 1);
+        verify(jwtService).generateToken(null, true, 2);
+    }
+}
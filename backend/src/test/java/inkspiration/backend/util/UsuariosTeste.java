@@ -0,0 +1,59 @@
+package inkspiration.backend.util;
+
+import java.time.LocalDate;
+
+import inkspiration.backend.entities.Usuario;
+
+/**
+ * Usuários válidos para os testes que gravam no banco. Cada classe de teste usa um prefixo de
+ * email e uma base de CPF próprios, para não colidir com o que outra classe tenha deixado gravado
+ * no mesmo contexto.
+ */
+public final class UsuariosTeste {
+
+    private final String prefixoEmail;
+    private final int baseCpf;
+
+    public UsuariosTeste(String prefixoEmail, int baseCpf) {
+        this.prefixoEmail = prefixoEmail;
+        this.baseCpf = baseCpf;
+    }
+
+    /**
+     * Usuário ainda não gravado, com CPF e email únicos para o índice.
+     */
+    public Usuario novo(String nome, String role, int indice) {
+        Usuario usuario = new Usuario();
+        usuario.setNome(nome);
+        usuario.setCpf(cpf(baseCpf + indice * 7919));
+        usuario.setEmail(prefixoEmail + indice + "@teste.com");
+        usuario.setDataNascimento(LocalDate.of(1990, 1, 1));
+        usuario.setTelefone("(11) 91234-5678");
+        usuario.setRole(role);
+        return usuario;
+    }
+
+    /**
+     * CPF com os dígitos verificadores calculados a partir dos nove primeiros.
+     */
+    public static String cpf(int base) {
+        int[] digitos = new int[11];
+        String texto = String.format("%09d", base);
+        for (int i = 0; i < 9; i++) {
+            digitos[i] = texto.charAt(i) - '0';
+        }
+        for (int d = 9; d <= 10; d++) {
+            int soma = 0;
+            for (int i = 0; i < d; i++) {
+                soma += digitos[i] * (d + 1 - i);
+            }
+            int digito = 11 - (soma % 11);
+            digitos[d] = digito >= 10 ? 0 : digito;
+        }
+        StringBuilder cpf = new StringBuilder();
+        for (int digito : digitos) {
+            cpf.append(digito);
+        }
+        return cpf.toString();
+    }
+}
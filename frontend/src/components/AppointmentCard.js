@@ -11,6 +11,7 @@ import { ptBR } from 'date-fns/locale';
 import DefaultUser from '../../assets/default_user.png';
 import { formatCurrency } from '../utils/formatters';
 import ImageWithAlt from './ui/ImageWithAlt';
+import { resolveImageUri } from '../utils/imageUri';
 
 const AppointmentCard = ({ appointment, onPress, isProfessional = false }) => {
   const getStatusStyle = (status) => {
@@ -111,7 +112,7 @@ const AppointmentCard = ({ appointment, onPress, isProfessional = false }) => {
         <View style={styles.leftContent}>
           {!isProfessional && (
             <ImageWithAlt
-              source={{ uri: appointment.imagemPerfilProfissional }}
+              source={{ uri: resolveImageUri(appointment.imagemPerfilProfissional) }}
               alt={`Foto de perfil do tatuador ${appointment.nomeProfissional}`}
               style={styles.artistImage}
               resizeMode="cover"
@@ -18,6 +18,7 @@ import toastConfig from '../config/toastConfig';
 import AvaliacaoService from '../services/AvaliacaoService';
 import RatingModal from './RatingModal';
 import ImageWithAlt from './ui/ImageWithAlt';
+import { resolveImageUri } from '../utils/imageUri';
 
 
 const AppointmentDetailsModal = ({ visible, appointment, onClose, onEdit, onCancel, onRefresh, isProfessional = false, showEditButton = true, showCancelButton = true }) => {
@@ -151,7 +152,7 @@ const AppointmentDetailsModal = ({ visible, appointment, onClose, onEdit, onCanc
                 <View style={styles.artistInfo}>
                   {!isProfessional && (
                     <ImageWithAlt
-                      source={{ uri: appointment.imagemPerfilProfissional }}
+                      source={{ uri: resolveImageUri(appointment.imagemPerfilProfissional) }}
                       alt={`Foto de perfil do tatuador ${appointment.nomeProfissional}`}
                       style={styles.artistImage}
                       resizeMode="cover"
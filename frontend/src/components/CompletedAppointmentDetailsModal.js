@@ -16,6 +16,7 @@ import { formatCurrency } from '../utils/formatters';
 import AvaliacaoService from '../services/AvaliacaoService';
 import RatingModal from './RatingModal';
 import ImageWithAlt from './ui/ImageWithAlt';
+import { resolveImageUri } from '../utils/imageUri';
 
 const CompletedAppointmentDetailsModal = ({ visible, appointment, onClose, onRefresh, isProfessional = false }) => {
   const [isRatingModalVisible, setIsRatingModalVisible] = useState(false);
@@ -130,7 +131,7 @@ const CompletedAppointmentDetailsModal = ({ visible, appointment, onClose, onRef
                 <View style={styles.artistInfo}>
                   {!isProfessional && (
                     <ImageWithAlt
-                      source={{ uri: appointment.imagemPerfilProfissional }}
+                      source={{ uri: resolveImageUri(appointment.imagemPerfilProfissional) }}
                       alt={`Foto de perfil do tatuador ${appointment.nomeProfissional}`}
                       style={styles.artistImage}
                       resizeMode="cover"
@@ -1,6 +1,8 @@
 import { useState, useEffect } from 'react';
 import * as ImagePicker from 'expo-image-picker';
 import ApiService from '../../../services/ApiService';
+import { API_CONFIG } from '../../../config/apiConfig';
+import { resolveImageUri } from '../../../utils/imageUri';
 import toastHelper from '../../../utils/toastHelper';
 import { editProfileMessages } from '../messages';
 
@@ -73,7 +75,7 @@ const useProfessionalData = (userData) => {
     biography: '',
     portfolioImages: [],
     profileImage: userData?.imagemPerfil ? {
-      uri: userData.imagemPerfil,
+      uri: resolveImageUri(userData.imagemPerfil),
       base64: userData.imagemPerfil,
       type: 'image/jpeg',
       name: 'profile.jpg'
@@ -206,13 +208,14 @@ const useProfessionalData = (userData) => {
           workHours,
           biography: portfolio?.descricao || '',
           portfolioImages: (imagens || []).map(img => ({
-            uri: img.imagemBase64 || img.imagem,
+            idImagem: img.idImagem,
+            uri: img.url ? `${API_CONFIG.BASE_URL}${img.url}` : (img.imagemBase64 || img.imagem),
             base64: img.imagemBase64 || img.imagem,
             type: 'image/jpeg',
             name: `portfolio_${img.idImagem || Date.now()}.jpg`
           })),
           profileImage: userData?.imagemPerfil ? {
-            uri: userData.imagemPerfil,
+            uri: resolveImageUri(userData.imagemPerfil),
             base64: userData.imagemPerfil,
             type: 'image/jpeg',
             name: 'profile.jpg'
@@ -288,9 +291,10 @@ const useProfessionalData = (userData) => {
       const requestData = {
         profissional: {},
         portfolio: portfolioData,
-        imagens: professionalFormData.portfolioImages.map(img => ({
-          imagemBase64: img.base64
-        })),
+        // Imagens já salvas vão só com o id; o conteúdo fica no servidor
+        imagens: professionalFormData.portfolioImages.map(img => (
+          img.base64 ? { imagemBase64: img.base64 } : { idImagem: img.idImagem }
+        )),
         disponibilidades,
         tiposServico: tiposServicoSelecionados,
         precosServicos: precosFormatados
@@ -505,7 +509,7 @@ const useProfessionalData = (userData) => {
       setProfessionalFormData(prev => ({
         ...prev,
         profileImage: {
-          uri: userData.imagemPerfil,
+          uri: resolveImageUri(userData.imagemPerfil),
           base64: userData.imagemPerfil,
           type: 'image/jpeg',
           name: 'profile.jpg'
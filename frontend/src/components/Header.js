@@ -17,6 +17,7 @@ import toastHelper from '../utils/toastHelper';
 import textUtils from '../utils/textUtils';
 import { headerMessages } from './header/messages';
 import ImageWithAlt from './ui/ImageWithAlt';
+import { resolveImageUri } from '../utils/imageUri';
 
 const Header = () => {
   const navigation = useNavigation();
@@ -292,7 +293,7 @@ const Header = () => {
                   <View style={styles.avatar}>
                     {userData?.imagemPerfil ? (
                       <ImageWithAlt 
-                        source={{ uri: userData.imagemPerfil }} 
+                        source={{ uri: resolveImageUri(userData.imagemPerfil) }} 
                         style={styles.avatarImage}
                         alt={`Foto de perfil de ${userData.nome}`}
                         accessibilityLabel={`Foto de perfil de ${userData.nome}`}
@@ -21,6 +21,7 @@ import Button from '../components/ui/Button';
 import Card from '../components/ui/Card';
 import Badge from '../components/ui/Badge';
 import Avatar from '../components/ui/Avatar';
+import { resolveImageUri } from '../utils/imageUri';
 import Modal from '../components/ui/Modal';
 import Pagination from '../components/common/Pagination';
 
@@ -212,7 +213,7 @@ const AdminUsersScreen = () => {
         <View style={isMobile ? styles.userContentMobile : styles.userContent}>
           <View style={styles.userInfo}>
             <Avatar
-              source={user.imagemPerfil}
+              source={resolveImageUri(user.imagemPerfil)}
               fallback={getInitials(user.nome)}
               size={48}
               style={styles.avatar}
@@ -24,6 +24,8 @@ import { artistMessages } from '../components/common/messages';
 import Pagination from '../components/common/Pagination';
 import DefaultUser from '../../assets/default_user.png'
 import ImageWithAlt from '../components/ui/ImageWithAlt';
+import { API_CONFIG } from '../config/apiConfig';
+import { resolveImageUri } from '../utils/imageUri';
 
 const Tabs = ({ tabs, activeTab, onTabChange }) => {
   return (
@@ -69,7 +71,7 @@ const Card = ({ children, style }) => {
 
 const PortfolioItem = ({ image, onPress, isMobile }) => {
   const processBase64Image = (base64String) => {    
-    if (base64String.startsWith('data:image/')) {
+    if (base64String.startsWith('data:image/') || base64String.startsWith('http')) {
       return base64String;
     }
     return `data:image/jpeg;base64,${base64String}`;
@@ -225,6 +227,27 @@ const ArtistScreen = ({ route }) => {
     }
   }, [artist, isLoading, navigation]);
 
+  const toPortfolioImage = (img) => ({
+    id: String(img.idImagem),
+    imagemUrl: img.url ? `${API_CONFIG.BASE_URL}${img.url}` : img.imagemBase64,
+    idImagem: img.idImagem,
+    idPortfolio: img.idPortfolio
+  });
+
+  const loadRemainingPortfolioImages = async (idPortfolio, cursor) => {
+    try {
+      let nextCursor = cursor;
+      while (nextCursor) {
+        const page = await ProfessionalService.getPortfolioImagesPage(idPortfolio, nextCursor);
+        const images = (page.imagens || []).map(toPortfolioImage);
+        setPortfolioImages(prev => [...prev, ...images]);
+        nextCursor = page.proximoCursor;
+      }
+    } catch (error) {
+      // Mantém as imagens já carregadas
+    }
+  };
+
   const loadArtistData = async (reviewsPage = 0) => {
     try {
       setIsLoading(true);
@@ -249,14 +272,7 @@ const ArtistScreen = ({ route }) => {
       const transformedData = ProfessionalService.transformCompleteProfessionalData(professionalData);
       
       // Processar imagens do portfólio
-      const processedImages = professionalData.imagens ? professionalData.imagens.map((img, index) => {
-        return {
-          id: index.toString(),
-          imagemBase64: img.imagemBase64,
-          idImagem: img.idImagem,
-          idPortfolio: img.idPortfolio
-        };
-      }) : [];
+      const processedImages = professionalData.imagens ? professionalData.imagens.map(toPortfolioImage) : [];
       
       // Buscar preços dos serviços
       const servicesWithPrices = await AgendamentoService.buscarTiposServicoPorProfissional(artistId);
@@ -281,7 +297,7 @@ const ArtistScreen = ({ route }) => {
       const processedReviews = avaliacoes.content.map(avaliacao => ({
         id: avaliacao.idAvaliacao?.toString() || Math.random().toString(),
         userName: avaliacao.nomeCliente || 'Cliente',
-        userImage: avaliacao.imagemCliente || 'https://via.placeholder.com/40',
+        userImage: resolveImageUri(avaliacao.imagemCliente) || 'https://via.placeholder.com/40',
         rating: avaliacao.rating || 5,
         comment: avaliacao.descricao || '',
         date: new Date().toLocaleDateString('pt-BR'),
@@ -316,6 +332,11 @@ const ArtistScreen = ({ route }) => {
       });
       
       setPortfolioImages(processedImages);
+
+      // A resposta traz só a primeira página de imagens; o restante é buscado em seguida
+      if (professionalData.proximoCursorImagens && professionalData.portfolio?.idPortfolio) {
+        loadRemainingPortfolioImages(professionalData.portfolio.idPortfolio, professionalData.proximoCursorImagens);
+      }
     } catch (error) {
       toastHelper.showError(artistMessages.errors.loadProfile);
       navigation.navigate('Home');
@@ -343,7 +364,7 @@ const ArtistScreen = ({ route }) => {
       const processedReviews = avaliacoes.content.map(avaliacao => ({
         id: avaliacao.idAvaliacao?.toString() || Math.random().toString(),
         userName: avaliacao.nomeCliente || 'Cliente',
-        userImage: avaliacao.imagemCliente || 'https://via.placeholder.com/40',
+        userImage: resolveImageUri(avaliacao.imagemCliente) || 'https://via.placeholder.com/40',
         rating: avaliacao.rating || 5,
         comment: avaliacao.descricao || '',
         date: new Date().toLocaleDateString('pt-BR'),
@@ -448,7 +469,7 @@ const ArtistScreen = ({ route }) => {
             portfolioImages.map((image, index) => (
               <PortfolioItem 
                 key={index} 
-                image={image.imagemBase64 || DefaultUser} 
+                image={image.imagemUrl || DefaultUser} 
                 onPress={handleImagePress}
                 isMobile={isMobile}
               />
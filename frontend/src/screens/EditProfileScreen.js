@@ -5,6 +5,7 @@ import * as ImagePicker from 'expo-image-picker';
 import * as formatters from '../utils/formatters';
 import { useAuth } from '../context/AuthContext';
 import toastHelper from '../utils/toastHelper';
+import { resolveImageUri } from '../utils/imageUri';
 
 import PersonalForm from '../components/forms/PersonalForm';
 import AddressForm from '../components/forms/AddressForm';
@@ -176,7 +177,7 @@ const EditProfileScreen = () => {
       // Carregar foto de perfil se disponível
       if (userData.imagemPerfil) {
         setProfileImage({
-          uri: userData.imagemPerfil,
+          uri: resolveImageUri(userData.imagemPerfil),
           base64: userData.imagemPerfil,
           type: 'image/jpeg',
           name: 'profile.jpg'
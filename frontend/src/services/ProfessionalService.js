@@ -1,5 +1,6 @@
 import ApiService from './ApiService';
 import PublicApiService from './PublicApiService';
+import { resolveImageUri } from '../utils/imageUri';
 
 class ProfessionalService {
 
@@ -44,11 +45,26 @@ class ProfessionalService {
     }
   }
 
+  async getPortfolioImagesPage(idPortfolio, cursor = null) {
+    const params = new URLSearchParams();
+    if (cursor != null) {
+      params.append('cursor', cursor);
+    }
+    return await PublicApiService.get(`/portfolio/${idPortfolio}/imagens?${params.toString()}`);
+  }
+
   async getProfessionalImages(id) {
     try {
-      // Usar o endpoint completo e extrair apenas as imagens
+      // O endpoint completo traz só a primeira página; as demais vêm do portfólio
       const response = await PublicApiService.get(`/profissional/completo/${id}`);
-      return response.imagens || [];
+      const imagens = [...(response.imagens || [])];
+      let cursor = response.proximoCursorImagens;
+      while (cursor && response.portfolio?.idPortfolio) {
+        const pagina = await this.getPortfolioImagesPage(response.portfolio.idPortfolio, cursor);
+        imagens.push(...(pagina.imagens || []));
+        cursor = pagina.proximoCursor;
+      }
+      return imagens;
     } catch (error) {
       // console.error('Erro ao buscar imagens do profissional:', error);
       throw error;
@@ -124,7 +140,7 @@ class ProfessionalService {
         location: endereco 
           ? `${endereco.cidade}, ${endereco.estado}`
           : 'Localização não informada',
-        coverImage: usuario?.imagemPerfil || 
+        coverImage: resolveImageUri(usuario?.imagemPerfil) || 
         'https://hebbkx1anhila5yf.public.blob.vercel-storage.com/image-VEjAdaIDHE3fmR3mSKry3Fh8WoF0J3.png',
         // Dados adicionais do backend
         experience: portfolio?.experiencia,
@@ -152,7 +168,7 @@ class ProfessionalService {
           : professional.usuario?.endereco
           ? `${professional.usuario.endereco.cidade}, ${professional.usuario.endereco.estado}`
           : 'Localização não informada',
-        coverImage: professional.usuario?.imagemPerfil || 
+        coverImage: resolveImageUri(professional.usuario?.imagemPerfil) || 
         'https://hebbkx1anhila5yf.public.blob.vercel-storage.com/image-VEjAdaIDHE3fmR3mSKry3Fh8WoF0J3.png',
         // Dados adicionais do backend
         experience: professional.portfolio?.experiencia,
@@ -181,7 +197,7 @@ class ProfessionalService {
       location: endereco 
         ? `${endereco.cidade}, ${endereco.estado}`
         : 'Localização não informada',
-      coverImage: usuario?.imagemPerfil || 
+      coverImage: resolveImageUri(usuario?.imagemPerfil) || 
       'https://hebbkx1anhila5yf.public.blob.vercel-storage.com/image-VEjAdaIDHE3fmR3mSKry3Fh8WoF0J3.png',
       // Dados adicionais do backend
       experience: portfolio?.experiencia || 'Não informado',
@@ -0,0 +1,6 @@
+import { API_CONFIG } from '../config/apiConfig';
+
+// Imagens guardadas no servidor chegam como caminho relativo (ex.: /imagens/conteudo/<hash>);
+// data URIs e URLs completas são devolvidas sem alteração
+export const resolveImageUri = (uri) =>
+  typeof uri === 'string' && uri.startsWith('/') ? `${API_CONFIG.BASE_URL}${uri}` : uri;